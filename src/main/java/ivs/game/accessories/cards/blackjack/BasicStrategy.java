@@ -0,0 +1,280 @@
+package ivs.game.accessories.cards.blackjack;
+
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+
+/**
+ * An immutable blackjack playing chart, looked up by the player's total and the dealer's upcard.
+ * <p>
+ * Card values are 2 to 10 for number and face cards and 11 for an ace, so upcards range from 2 to 11.
+ * The chart has three parts:
+ * <ul>
+ *     <li>hard totals from 4 to 21, for hands without an ace counted as 11;</li>
+ *     <li>soft totals from 12 to 21, for hands with an ace counted as 11;</li>
+ *     <li>pair splits, by the value of the paired cards; pairs that are not split are played by their total.</li>
+ * </ul>
+ * Charts are built with a {@link Builder}; {@link #standard()} provides the common multi-deck chart.
+ * <p>
+ * Thread safety: Instances are immutable and can be shared between simulation workers.
+ */
+public final class BasicStrategy {
+
+    /** Lowest card value, a Two */
+    public static final int MIN_VALUE = 2;
+
+    /** Highest card value, an Ace */
+    public static final int ACE = 11;
+
+    /** Lowest hard total in the chart */
+    public static final int MIN_HARD = 4;
+
+    /** Lowest soft total in the chart */
+    public static final int MIN_SOFT = 12;
+
+    /** Highest total in the chart */
+    public static final int MAX_TOTAL = 21;
+
+    private static final int COLUMNS = ACE + 1;
+    private static final BlackjackAction[] ACTIONS = BlackjackAction.values();
+
+    private static final BasicStrategy STANDARD = standardChart();
+
+    // Action ordinals indexed by total * COLUMNS + upcard
+    private final byte[] hard;
+    private final byte[] soft;
+    // Split decisions indexed by pair value * COLUMNS + upcard
+    private final boolean[] splits;
+
+    private BasicStrategy(Builder builder) {
+        this.hard = builder.hard.clone();
+        this.soft = builder.soft.clone();
+        this.splits = builder.splits.clone();
+    }
+
+    /**
+     * Returns the basic strategy for four to eight decks where the dealer stands on soft 17,
+     * doubling after a split is allowed and late surrender is offered.
+     * Where a rule is not in effect, the chart falls back as described by {@link BlackjackAction}.
+     *
+     * @return the standard chart
+     */
+    public static BasicStrategy standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Creates a builder whose chart hits below 17 hard and 18 soft, stands otherwise and never splits.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder initialized with this chart.
+     *
+     * @return a new builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Returns the action for a hard total.
+     *
+     * @param total   the hard total, 4 to 21
+     * @param upcard  the dealer's upcard value, 2 to 11
+     * @return the action
+     * @throws IllegalArgumentException if the total or upcard is out of range
+     */
+    public BlackjackAction hard(int total, int upcard) {
+        validate(total, MIN_HARD, upcard);
+        return ACTIONS[hard[total * COLUMNS + upcard]];
+    }
+
+    /**
+     * Returns the action for a soft total.
+     *
+     * @param total   the soft total, 12 to 21
+     * @param upcard  the dealer's upcard value, 2 to 11
+     * @return the action
+     * @throws IllegalArgumentException if the total or upcard is out of range
+     */
+    public BlackjackAction soft(int total, int upcard) {
+        validate(total, MIN_SOFT, upcard);
+        return ACTIONS[soft[total * COLUMNS + upcard]];
+    }
+
+    /**
+     * Checks whether a pair should be split.
+     *
+     * @param value   the value of each paired card, 2 to 11
+     * @param upcard  the dealer's upcard value, 2 to 11
+     * @return true if the pair should be split when splitting is allowed
+     * @throws IllegalArgumentException if the value or upcard is out of range
+     */
+    public boolean split(int value, int upcard) {
+        validateCard(value, "Pair value");
+        validateCard(upcard, "Upcard");
+        return splits[value * COLUMNS + upcard];
+    }
+
+    // Unchecked lookups for the simulation loop
+    byte hardOrdinal(int total, int upcard) {
+        return hard[total * COLUMNS + upcard];
+    }
+
+    byte softOrdinal(int total, int upcard) {
+        return soft[total * COLUMNS + upcard];
+    }
+
+    boolean splitUnchecked(int value, int upcard) {
+        return splits[value * COLUMNS + upcard];
+    }
+
+    private static void validate(int total, int minTotal, int upcard) {
+        Validate.inclusiveBetween(minTotal, MAX_TOTAL, total, "Total must be between %d and %d", minTotal, MAX_TOTAL);
+        validateCard(upcard, "Upcard");
+    }
+
+    private static void validateCard(int value, String name) {
+        Validate.inclusiveBetween(MIN_VALUE, ACE, value, "%s must be between %d and %d", name, MIN_VALUE, ACE);
+    }
+
+    private static BasicStrategy standardChart() {
+        BlackjackAction h = BlackjackAction.HIT;
+        BlackjackAction s = BlackjackAction.STAND;
+        BlackjackAction d = BlackjackAction.DOUBLE_OR_HIT;
+        BlackjackAction ds = BlackjackAction.DOUBLE_OR_STAND;
+        BlackjackAction rh = BlackjackAction.SURRENDER_OR_HIT;
+
+        Builder builder = builder()
+                .hard(MIN_HARD, 8, MIN_VALUE, ACE, h)
+                .hard(9, 9, MIN_VALUE, ACE, h)
+                .hard(9, 9, 3, 6, d)
+                .hard(10, 10, MIN_VALUE, 9, d)
+                .hard(11, 11, MIN_VALUE, 10, d)
+                .hard(12, 12, 4, 6, s)
+                .hard(13, 16, MIN_VALUE, 6, s)
+                .hard(15, 15, 10, 10, rh)
+                .hard(16, 16, 9, ACE, rh)
+                .soft(13, 14, 5, 6, d)
+                .soft(15, 16, 4, 6, d)
+                .soft(17, 17, 3, 6, d)
+                .soft(18, 18, MIN_VALUE, 8, s)
+                .soft(18, 18, 3, 6, ds)
+                .soft(18, 18, 9, ACE, h)
+                .split(2, 3, MIN_VALUE, 7, true)
+                .split(4, 4, 5, 6, true)
+                .split(6, 6, MIN_VALUE, 6, true)
+                .split(7, 7, MIN_VALUE, 7, true)
+                .split(8, 8, MIN_VALUE, ACE, true)
+                .split(9, 9, MIN_VALUE, 6, true)
+                .split(9, 9, 8, 9, true)
+                .split(ACE, ACE, MIN_VALUE, ACE, true);
+        return builder.build();
+    }
+
+    /**
+     * Builder for {@link BasicStrategy}. Ranges of totals, pair values and upcards are inclusive.
+     */
+    public static final class Builder {
+        private final byte[] hard;
+        private final byte[] soft;
+        private final boolean[] splits;
+
+        private Builder() {
+            this.hard = new byte[(MAX_TOTAL + 1) * COLUMNS];
+            this.soft = new byte[(MAX_TOTAL + 1) * COLUMNS];
+            this.splits = new boolean[COLUMNS * COLUMNS];
+            hard(MIN_HARD, 16, MIN_VALUE, ACE, BlackjackAction.HIT);
+            hard(17, MAX_TOTAL, MIN_VALUE, ACE, BlackjackAction.STAND);
+            soft(MIN_SOFT, 17, MIN_VALUE, ACE, BlackjackAction.HIT);
+            soft(18, MAX_TOTAL, MIN_VALUE, ACE, BlackjackAction.STAND);
+        }
+
+        private Builder(BasicStrategy strategy) {
+            this.hard = strategy.hard.clone();
+            this.soft = strategy.soft.clone();
+            this.splits = strategy.splits.clone();
+        }
+
+        /**
+         * Sets the action for a range of hard totals against a range of upcards.
+         *
+         * @param fromTotal  the lowest hard total
+         * @param toTotal    the highest hard total
+         * @param fromUpcard the lowest upcard value
+         * @param toUpcard   the highest upcard value
+         * @param action     the action
+         * @return this builder
+         * @throws IllegalArgumentException if a range is out of bounds or inverted
+         */
+        public Builder hard(int fromTotal, int toTotal, int fromUpcard, int toUpcard, @NonNull BlackjackAction action) {
+            fill(hard, fromTotal, toTotal, MIN_HARD, fromUpcard, toUpcard, action);
+            return this;
+        }
+
+        /**
+         * Sets the action for a range of soft totals against a range of upcards.
+         *
+         * @param fromTotal  the lowest soft total
+         * @param toTotal    the highest soft total
+         * @param fromUpcard the lowest upcard value
+         * @param toUpcard   the highest upcard value
+         * @param action     the action
+         * @return this builder
+         * @throws IllegalArgumentException if a range is out of bounds or inverted
+         */
+        public Builder soft(int fromTotal, int toTotal, int fromUpcard, int toUpcard, @NonNull BlackjackAction action) {
+            fill(soft, fromTotal, toTotal, MIN_SOFT, fromUpcard, toUpcard, action);
+            return this;
+        }
+
+        /**
+         * Sets whether a range of pairs is split against a range of upcards.
+         *
+         * @param fromValue  the lowest pair value
+         * @param toValue    the highest pair value
+         * @param fromUpcard the lowest upcard value
+         * @param toUpcard   the highest upcard value
+         * @param split      true to split
+         * @return this builder
+         * @throws IllegalArgumentException if a range is out of bounds or inverted
+         */
+        public Builder split(int fromValue, int toValue, int fromUpcard, int toUpcard, boolean split) {
+            validateRange(fromValue, toValue, MIN_VALUE, ACE, "Pair value");
+            validateRange(fromUpcard, toUpcard, MIN_VALUE, ACE, "Upcard");
+            for (int value = fromValue; value <= toValue; value++) {
+                Arrays.fill(splits, value * COLUMNS + fromUpcard, value * COLUMNS + toUpcard + 1, split);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the chart.
+         *
+         * @return a new basic strategy
+         */
+        public BasicStrategy build() {
+            return new BasicStrategy(this);
+        }
+
+        private static void fill(byte[] table, int fromTotal, int toTotal, int minTotal,
+                                 int fromUpcard, int toUpcard, BlackjackAction action) {
+            validateRange(fromTotal, toTotal, minTotal, MAX_TOTAL, "Total");
+            validateRange(fromUpcard, toUpcard, MIN_VALUE, ACE, "Upcard");
+            for (int total = fromTotal; total <= toTotal; total++) {
+                Arrays.fill(table, total * COLUMNS + fromUpcard, total * COLUMNS + toUpcard + 1, (byte) action.ordinal());
+            }
+        }
+
+        private static void validateRange(int from, int to, int min, int max, String name) {
+            Validate.isTrue(min <= from && from <= to && to <= max,
+                    "%s range must satisfy %d <= from <= to <= %d", name, min, max);
+        }
+    }
+}
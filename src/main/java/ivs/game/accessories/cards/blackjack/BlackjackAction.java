@@ -0,0 +1,40 @@
+package ivs.game.accessories.cards.blackjack;
+
+/**
+ * Playing decisions of a {@link BasicStrategy} chart for hard and soft totals.
+ * <p>
+ * Doubling and surrendering are only allowed in some situations, so those actions name the decision
+ * taken when they are not allowed. Splitting is decided separately from the pair chart.
+ */
+public enum BlackjackAction {
+
+    /**
+     * Take another card.
+     */
+    HIT,
+
+    /**
+     * Take no more cards.
+     */
+    STAND,
+
+    /**
+     * Double the bet and take exactly one card, or hit if doubling is not allowed.
+     */
+    DOUBLE_OR_HIT,
+
+    /**
+     * Double the bet and take exactly one card, or stand if doubling is not allowed.
+     */
+    DOUBLE_OR_STAND,
+
+    /**
+     * Give up half the bet, or hit if surrendering is not allowed.
+     */
+    SURRENDER_OR_HIT,
+
+    /**
+     * Give up half the bet, or stand if surrendering is not allowed.
+     */
+    SURRENDER_OR_STAND
+}
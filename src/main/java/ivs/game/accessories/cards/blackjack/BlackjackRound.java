@@ -0,0 +1,215 @@
+package ivs.game.accessories.cards.blackjack;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Plays single-box blackjack rounds with a unit bet, following the rules and a basic strategy chart.
+ * <p>
+ * Hands are kept in preallocated primitive arrays, so a round does not allocate.
+ * <p>
+ * Thread safety: Not thread-safe; every simulation worker owns its round.
+ */
+final class BlackjackRound {
+
+    private static final int BLACKJACK = 21;
+    private static final int DEALER_STANDS = 17;
+    private static final int SOFT_BONUS = 10;
+
+    private static final byte HIT = (byte) BlackjackAction.HIT.ordinal();
+    private static final byte STAND = (byte) BlackjackAction.STAND.ordinal();
+    private static final byte DOUBLE_OR_HIT = (byte) BlackjackAction.DOUBLE_OR_HIT.ordinal();
+    private static final byte DOUBLE_OR_STAND = (byte) BlackjackAction.DOUBLE_OR_STAND.ordinal();
+    private static final byte SURRENDER_OR_HIT = (byte) BlackjackAction.SURRENDER_OR_HIT.ordinal();
+    private static final byte SURRENDER_OR_STAND = (byte) BlackjackAction.SURRENDER_OR_STAND.ordinal();
+
+    private final BlackjackRules rules;
+    private final BasicStrategy strategy;
+
+    // Per-hand state: total with aces counted as 1, ace present, card count, first two card values, bet
+    private final int[] hardTotals;
+    private final boolean[] aces;
+    private final int[] cardCounts;
+    private final int[] firstCards;
+    private final int[] secondCards;
+    private final int[] bets;
+    private final boolean[] fromSplit;
+    private int handCount;
+
+    // Units wagered in the last round, including doubles and splits
+    private int wagered;
+
+    BlackjackRound(BlackjackRules rules, BasicStrategy strategy) {
+        this.rules = rules;
+        this.strategy = strategy;
+        int hands = rules.getMaxSplitHands();
+        this.hardTotals = new int[hands];
+        this.aces = new boolean[hands];
+        this.cardCounts = new int[hands];
+        this.firstCards = new int[hands];
+        this.secondCards = new int[hands];
+        this.bets = new int[hands];
+        this.fromSplit = new boolean[hands];
+    }
+
+    /**
+     * Plays one round.
+     *
+     * @param cards supplies the value of the next card from the shoe, 2 to 11
+     * @return the player's net result in units of the initial bet
+     */
+    double play(IntSupplier cards) {
+        int first = cards.getAsInt();
+        int upcard = cards.getAsInt();
+        int second = cards.getAsInt();
+        int hole = cards.getAsInt();
+        wagered = 1;
+
+        boolean dealerBlackjack = upcard + hole == BLACKJACK;
+        if (first + second == BLACKJACK) {
+            return dealerBlackjack ? 0 : rules.getBlackjackPayout();
+        }
+        if (dealerBlackjack) {
+            return -1;
+        }
+
+        handCount = 1;
+        startHand(0, first, false);
+        addCard(0, second);
+        if (rules.isLateSurrender() && wantsSurrender(upcard)) {
+            return -0.5;
+        }
+
+        boolean live = false;
+        for (int hand = 0; hand < handCount; hand++) {
+            playHand(hand, upcard, cards);
+            live |= hardTotals[hand] <= BLACKJACK;
+        }
+        if (!live) {
+            return -sumBets();
+        }
+
+        int dealerHard = (upcard == BasicStrategy.ACE ? 1 : upcard) + (hole == BasicStrategy.ACE ? 1 : hole);
+        boolean dealerAce = upcard == BasicStrategy.ACE || hole == BasicStrategy.ACE;
+        int dealerTotal = total(dealerHard, dealerAce);
+        while (dealerTotal < DEALER_STANDS
+                || (dealerTotal == DEALER_STANDS && rules.isDealerHitsSoft17() && isSoft(dealerHard, dealerAce))) {
+            int card = cards.getAsInt();
+            dealerHard += card == BasicStrategy.ACE ? 1 : card;
+            dealerAce |= card == BasicStrategy.ACE;
+            dealerTotal = total(dealerHard, dealerAce);
+        }
+
+        int net = 0;
+        for (int hand = 0; hand < handCount; hand++) {
+            int playerTotal = total(hardTotals[hand], aces[hand]);
+            if (playerTotal > BLACKJACK) {
+                net -= bets[hand];
+            } else if (dealerTotal > BLACKJACK || playerTotal > dealerTotal) {
+                net += bets[hand];
+            } else if (playerTotal < dealerTotal) {
+                net -= bets[hand];
+            }
+        }
+        return net;
+    }
+
+    int getWagered() {
+        return wagered;
+    }
+
+    private boolean wantsSurrender(int upcard) {
+        int first = firstCards[0];
+        if (first == secondCards[0] && rules.getMaxSplitHands() > 1 && strategy.splitUnchecked(first, upcard)) {
+            return false;
+        }
+        byte action = action(0, upcard);
+        return action == SURRENDER_OR_HIT || action == SURRENDER_OR_STAND;
+    }
+
+    private void playHand(int hand, int upcard, IntSupplier cards) {
+        if (cardCounts[hand] == 1) {
+            addCard(hand, cards.getAsInt());
+        }
+        while (true) {
+            int first = firstCards[hand];
+            if (cardCounts[hand] == 2 && first == secondCards[hand] && canSplit(hand)
+                    && strategy.splitUnchecked(first, upcard)) {
+                startHand(handCount++, first, true);
+                startHand(hand, first, true);
+                wagered++;
+                addCard(hand, cards.getAsInt());
+                continue;
+            }
+            if (fromSplit[hand] && first == BasicStrategy.ACE && !rules.isHitSplitAces()) {
+                return;
+            }
+            if (total(hardTotals[hand], aces[hand]) >= BLACKJACK) {
+                return;
+            }
+            byte action = action(hand, upcard);
+            if (action == DOUBLE_OR_HIT || action == DOUBLE_OR_STAND) {
+                if (cardCounts[hand] == 2 && (!fromSplit[hand] || rules.isDoubleAfterSplit())) {
+                    bets[hand] = 2;
+                    wagered++;
+                    addCard(hand, cards.getAsInt());
+                    return;
+                }
+                action = action == DOUBLE_OR_HIT ? HIT : STAND;
+            } else if (action == SURRENDER_OR_HIT) {
+                action = HIT;
+            } else if (action == SURRENDER_OR_STAND) {
+                action = STAND;
+            }
+            if (action == STAND) {
+                return;
+            }
+            addCard(hand, cards.getAsInt());
+        }
+    }
+
+    private boolean canSplit(int hand) {
+        return handCount < rules.getMaxSplitHands()
+                && (firstCards[hand] != BasicStrategy.ACE || !fromSplit[hand] || rules.isResplitAces());
+    }
+
+    private byte action(int hand, int upcard) {
+        int hard = hardTotals[hand];
+        return isSoft(hard, aces[hand])
+                ? strategy.softOrdinal(hard + SOFT_BONUS, upcard)
+                : strategy.hardOrdinal(hard, upcard);
+    }
+
+    private void startHand(int hand, int card, boolean split) {
+        hardTotals[hand] = card == BasicStrategy.ACE ? 1 : card;
+        aces[hand] = card == BasicStrategy.ACE;
+        cardCounts[hand] = 1;
+        firstCards[hand] = card;
+        bets[hand] = 1;
+        fromSplit[hand] = split;
+    }
+
+    private void addCard(int hand, int card) {
+        if (cardCounts[hand] == 1) {
+            secondCards[hand] = card;
+        }
+        hardTotals[hand] += card == BasicStrategy.ACE ? 1 : card;
+        aces[hand] |= card == BasicStrategy.ACE;
+        cardCounts[hand]++;
+    }
+
+    private int sumBets() {
+        int sum = 0;
+        for (int hand = 0; hand < handCount; hand++) {
+            sum += bets[hand];
+        }
+        return sum;
+    }
+
+    private static boolean isSoft(int hard, boolean ace) {
+        return ace && hard + SOFT_BONUS <= BLACKJACK;
+    }
+
+    private static int total(int hard, boolean ace) {
+        return isSoft(hard, ace) ? hard + SOFT_BONUS : hard;
+    }
+}
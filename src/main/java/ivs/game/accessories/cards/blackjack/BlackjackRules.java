@@ -0,0 +1,197 @@
+package ivs.game.accessories.cards.blackjack;
+
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.CutCardCalculator;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Table rules of a blackjack game simulated by {@link BlackjackSimulator}.
+ * <p>
+ * The shoe holds {@link #getDeckCount()} copies of {@link DeckTemplate#FULL} and is reshuffled once the cut card,
+ * placed by {@link #getCutCardCalculator()}, is out. The dealer always checks for blackjack before the player acts,
+ * and insurance is never taken.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+@Getter
+public final class BlackjackRules {
+
+    private final int deckCount;
+    private final boolean dealerHitsSoft17;
+    private final double blackjackPayout;
+    private final boolean doubleAfterSplit;
+    private final int maxSplitHands;
+    private final boolean resplitAces;
+    private final boolean hitSplitAces;
+    private final boolean lateSurrender;
+    private final CutCardCalculator cutCardCalculator;
+
+    private BlackjackRules(Builder builder) {
+        this.deckCount = builder.deckCount;
+        this.dealerHitsSoft17 = builder.dealerHitsSoft17;
+        this.blackjackPayout = builder.blackjackPayout;
+        this.doubleAfterSplit = builder.doubleAfterSplit;
+        this.maxSplitHands = builder.maxSplitHands;
+        this.resplitAces = builder.resplitAces;
+        this.hitSplitAces = builder.hitSplitAces;
+        this.lateSurrender = builder.lateSurrender;
+        this.cutCardCalculator = builder.cutCardCalculator;
+    }
+
+    /**
+     * Returns the default rules, see {@link Builder}.
+     *
+     * @return the default rules
+     */
+    public static BlackjackRules defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a builder with the default rules.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link BlackjackRules}.
+     * <p>
+     * By default the game uses six decks with the cut card placed by a default {@link CutCardCalculator},
+     * the dealer stands on soft 17, blackjack pays 3:2, doubling after a split is allowed, hands can be split
+     * up to four hands, split aces receive one card each and cannot be resplit, and surrender is not offered.
+     */
+    public static final class Builder {
+        private int deckCount = 6;
+        private boolean dealerHitsSoft17;
+        private double blackjackPayout = 1.5;
+        private boolean doubleAfterSplit = true;
+        private int maxSplitHands = 4;
+        private boolean resplitAces;
+        private boolean hitSplitAces;
+        private boolean lateSurrender;
+        private CutCardCalculator cutCardCalculator = new CutCardCalculator();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of decks in the shoe.
+         *
+         * @param deckCount the number of decks
+         * @return this builder
+         * @throws IllegalArgumentException if deckCount is not positive
+         */
+        public Builder deckCount(int deckCount) {
+            Validate.isTrue(deckCount > 0, "Deck count must be positive");
+            this.deckCount = deckCount;
+            return this;
+        }
+
+        /**
+         * Sets whether the dealer hits soft 17.
+         *
+         * @param dealerHitsSoft17 true if the dealer hits soft 17
+         * @return this builder
+         */
+        public Builder dealerHitsSoft17(boolean dealerHitsSoft17) {
+            this.dealerHitsSoft17 = dealerHitsSoft17;
+            return this;
+        }
+
+        /**
+         * Sets the payout of a player blackjack per unit bet, for example 1.5 for 3:2 or 1.2 for 6:5.
+         *
+         * @param blackjackPayout the blackjack payout
+         * @return this builder
+         * @throws IllegalArgumentException if the payout is negative
+         */
+        public Builder blackjackPayout(double blackjackPayout) {
+            Validate.isTrue(blackjackPayout >= 0, "Blackjack payout cannot be negative");
+            this.blackjackPayout = blackjackPayout;
+            return this;
+        }
+
+        /**
+         * Sets whether a hand created by a split can be doubled.
+         *
+         * @param doubleAfterSplit true if doubling after a split is allowed
+         * @return this builder
+         */
+        public Builder doubleAfterSplit(boolean doubleAfterSplit) {
+            this.doubleAfterSplit = doubleAfterSplit;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hands a player can have after splitting; 1 disables splitting.
+         *
+         * @param maxSplitHands the maximum number of hands
+         * @return this builder
+         * @throws IllegalArgumentException if maxSplitHands is not positive
+         */
+        public Builder maxSplitHands(int maxSplitHands) {
+            Validate.isTrue(maxSplitHands > 0, "Max split hands must be positive");
+            this.maxSplitHands = maxSplitHands;
+            return this;
+        }
+
+        /**
+         * Sets whether a pair of aces formed after splitting aces can be split again.
+         *
+         * @param resplitAces true if aces can be resplit
+         * @return this builder
+         */
+        public Builder resplitAces(boolean resplitAces) {
+            this.resplitAces = resplitAces;
+            return this;
+        }
+
+        /**
+         * Sets whether hands created by splitting aces can take more than one card.
+         *
+         * @param hitSplitAces true if split aces can be hit
+         * @return this builder
+         */
+        public Builder hitSplitAces(boolean hitSplitAces) {
+            this.hitSplitAces = hitSplitAces;
+            return this;
+        }
+
+        /**
+         * Sets whether the player can surrender the first two cards after the dealer checked for blackjack.
+         *
+         * @param lateSurrender true if late surrender is offered
+         * @return this builder
+         */
+        public Builder lateSurrender(boolean lateSurrender) {
+            this.lateSurrender = lateSurrender;
+            return this;
+        }
+
+        /**
+         * Sets the calculator placing the cut card. Simulation workers copy its settings and draw positions
+         * with their own random generators.
+         *
+         * @param cutCardCalculator the cut-card calculator
+         * @return this builder
+         */
+        public Builder cutCardCalculator(@NonNull CutCardCalculator cutCardCalculator) {
+            this.cutCardCalculator = cutCardCalculator;
+            return this;
+        }
+
+        /**
+         * Builds the rules.
+         *
+         * @return new blackjack rules
+         */
+        public BlackjackRules build() {
+            return new BlackjackRules(this);
+        }
+    }
+}
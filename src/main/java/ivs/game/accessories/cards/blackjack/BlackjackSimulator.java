@@ -0,0 +1,155 @@
+package ivs.game.accessories.cards.blackjack;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.CutCardCalculator;
+import ivs.game.accessories.cards.gamedeck.cardshoe.MultiDeckCardShoe;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntSupplier;
+
+/**
+ * Simulates flat-bet blackjack played with a {@link BasicStrategy} to measure the house edge of a rule set.
+ * <p>
+ * The rounds are split evenly over the workers of a {@link ForkJoinPool}. Every worker owns a
+ * {@link MultiDeckCardShoe} built from {@link DeckTemplate#FULL}, a cut-card calculator with the rules' settings
+ * and a {@link SplittableRandom} split from the seed, so workers share no mutable state and a run is
+ * reproducible for a given seed and pool parallelism. Workers keep primitive totals that are merged at the end.
+ * <p>
+ * The shoe is reshuffled between rounds once the cut card is out; if a round empties the shoe, it is reshuffled
+ * in the middle of the round.
+ * <p>
+ * Thread safety: Instances are immutable apart from the pool and can run simulations from several threads.
+ */
+public final class BlackjackSimulator {
+
+    // Blackjack value of every standard card ID: 2-9 by rank, 10 for tens and faces, 11 for aces
+    private static final int[] VALUES = new int[CardId.CARD_COUNT];
+
+    static {
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            int rankId = CardId.getRankId(id);
+            VALUES[id] = rankId == RankId.ACE ? BasicStrategy.ACE : Math.min(10, rankId + 2);
+        }
+    }
+
+    @Getter
+    private final BlackjackRules rules;
+    @Getter
+    private final BasicStrategy strategy;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator running on the common pool.
+     *
+     * @param rules    the table rules
+     * @param strategy the playing chart
+     * @throws NullPointerException if rules or strategy is null
+     */
+    public BlackjackSimulator(@NonNull BlackjackRules rules, @NonNull BasicStrategy strategy) {
+        this(rules, strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator running on the given pool.
+     *
+     * @param rules    the table rules
+     * @param strategy the playing chart
+     * @param pool     the pool running the workers
+     * @throws NullPointerException if any argument is null
+     */
+    public BlackjackSimulator(@NonNull BlackjackRules rules, @NonNull BasicStrategy strategy,
+                              @NonNull ForkJoinPool pool) {
+        this.rules = rules;
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates the given number of rounds.
+     *
+     * @param rounds the number of rounds to play
+     * @param seed   the seed of the workers' random generators
+     * @return the statistics of all rounds
+     * @throws IllegalArgumentException if rounds is negative
+     */
+    public SimulationResult simulate(long rounds, long seed) {
+        Validate.isTrue(rounds >= 0, "Rounds cannot be negative");
+        SplittableRandom root = new SplittableRandom(seed);
+        int workers = pool.getParallelism();
+        List<Worker> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(new Worker(rounds / workers + (i < rounds % workers ? 1 : 0), root.split()));
+        }
+        return pool.invoke(new RecursiveTask<>() {
+            @Override
+            protected SimulationResult compute() {
+                SimulationResult result = new SimulationResult(0, 0, 0, 0, 0, 0);
+                for (Worker worker : ForkJoinTask.invokeAll(tasks)) {
+                    result = result.merge(worker.join());
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Plays a share of the rounds with its own shoe and generator.
+     */
+    @SuppressWarnings("serial") // Never serialized; only run in a ForkJoinPool
+    private final class Worker extends RecursiveTask<SimulationResult> {
+        private final long rounds;
+        private final SplittableRandom random;
+
+        Worker(long rounds, SplittableRandom random) {
+            this.rounds = rounds;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            CutCardCalculator template = rules.getCutCardCalculator();
+            MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, rules.getDeckCount())
+                    .random(random)
+                    .cutCardCalculator(new CutCardCalculator(template.getBasePercent(),
+                            template.getDeviationPercent(), template.getDistribution(), random))
+                    .build();
+            BlackjackRound round = new BlackjackRound(rules, strategy);
+            // Shoes played to a reshuffle and the cards dealt from them
+            long[] shoes = new long[2];
+            IntSupplier cards = () -> {
+                if (shoe.isEmpty()) {
+                    shoes[0]++;
+                    shoes[1] += shoe.getCapacity();
+                    shoe.reshuffle();
+                }
+                return VALUES[shoe.drawId()];
+            };
+
+            long wagered = 0;
+            double net = 0;
+            double netSquares = 0;
+            for (long i = 0; i < rounds; i++) {
+                if (shoe.isCutCardOut()) {
+                    shoes[0]++;
+                    shoes[1] += shoe.getCapacity() - shoe.size();
+                    shoe.reshuffle();
+                }
+                double result = round.play(cards);
+                wagered += round.getWagered();
+                net += result;
+                netSquares += result * result;
+            }
+            return new SimulationResult(rounds, wagered, net, netSquares, shoes[0], shoes[1]);
+        }
+    }
+}
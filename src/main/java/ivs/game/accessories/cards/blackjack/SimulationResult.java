@@ -0,0 +1,128 @@
+package ivs.game.accessories.cards.blackjack;
+
+import lombok.Getter;
+
+/**
+ * Statistics of a blackjack simulation, in units of the initial bet per round.
+ * <p>
+ * The house edge is the player's expected loss per round relative to the initial bet. Confidence intervals use
+ * the normal approximation, which is accurate for the millions of rounds a simulation normally runs.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+@Getter
+public final class SimulationResult {
+
+    // 95% two-sided normal quantile
+    private static final double CONFIDENCE_Z = 1.96;
+
+    private final long rounds;
+    private final long wagered;
+    private final double net;
+    private final double netSquares;
+    // Shoes played to a reshuffle, and the cards dealt from them
+    private final long shoes;
+    private final long shoeCards;
+
+    SimulationResult(long rounds, long wagered, double net, double netSquares, long shoes, long shoeCards) {
+        this.rounds = rounds;
+        this.wagered = wagered;
+        this.net = net;
+        this.netSquares = netSquares;
+        this.shoes = shoes;
+        this.shoeCards = shoeCards;
+    }
+
+    /**
+     * Combines the statistics of two independent simulations.
+     *
+     * @param other the other result
+     * @return the combined result
+     */
+    SimulationResult merge(SimulationResult other) {
+        return new SimulationResult(rounds + other.rounds, wagered + other.wagered,
+                net + other.net, netSquares + other.netSquares, shoes + other.shoes, shoeCards + other.shoeCards);
+    }
+
+    /**
+     * Returns the mean number of cards dealt from a shoe before it was reshuffled.
+     *
+     * @return the cards dealt per shoe, or 0 if no shoe was reshuffled
+     */
+    public double getCardsPerShoe() {
+        return shoes == 0 ? 0 : (double) shoeCards / shoes;
+    }
+
+    /**
+     * Returns the house edge: the player's mean loss per round in units of the initial bet.
+     *
+     * @return the house edge, positive when the house wins
+     */
+    public double getHouseEdge() {
+        return rounds == 0 ? 0 : -net / rounds;
+    }
+
+    /**
+     * Returns the player's mean loss per unit wagered, including doubles and splits.
+     *
+     * @return the loss per unit wagered
+     */
+    public double getLossPerWagered() {
+        return wagered == 0 ? 0 : -net / wagered;
+    }
+
+    /**
+     * Returns the sample variance of the net result of a round.
+     *
+     * @return the variance per round
+     */
+    public double getVariance() {
+        if (rounds < 2) {
+            return 0;
+        }
+        double mean = net / rounds;
+        return Math.max(0, (netSquares - rounds * mean * mean) / (rounds - 1));
+    }
+
+    /**
+     * Returns the standard deviation of the net result of a round.
+     *
+     * @return the standard deviation per round
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the standard error of the house edge.
+     *
+     * @return the standard error
+     */
+    public double getStandardError() {
+        return rounds == 0 ? Double.POSITIVE_INFINITY : Math.sqrt(getVariance() / rounds);
+    }
+
+    /**
+     * Returns the lower bound of the 95% confidence interval of the house edge.
+     *
+     * @return the lower bound
+     */
+    public double getHouseEdgeLow() {
+        return getHouseEdge() - CONFIDENCE_Z * getStandardError();
+    }
+
+    /**
+     * Returns the upper bound of the 95% confidence interval of the house edge.
+     *
+     * @return the upper bound
+     */
+    public double getHouseEdgeHigh() {
+        return getHouseEdge() + CONFIDENCE_Z * getStandardError();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationResult(rounds=%d, houseEdge=%.5f, 95%% CI=[%.5f, %.5f], sd=%.4f)",
+                rounds, getHouseEdge(), getHouseEdgeLow(), getHouseEdgeHigh(), getStandardDeviation());
+    }
+}
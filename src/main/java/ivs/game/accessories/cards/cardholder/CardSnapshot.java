@@ -0,0 +1,240 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.Suit;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable view of the cards of a {@link SnapshotCardHolder} at one point in time.
+ * <p>
+ * The snapshot is a card ID array in insertion order plus a {@link CardMask} of the distinct cards.
+ * Presence and count queries are answered from the mask alone unless the snapshot holds duplicate cards,
+ * and no query except those returning cards, lists or streams allocates.
+ * <p>
+ * Thread safety: Instances are immutable and can be read by any number of threads.
+ */
+public final class CardSnapshot implements CardViewer {
+
+    private final int[] ids;
+    @Getter
+    private final long mask;
+    @Getter
+    private final long version;
+    private final boolean duplicates;
+    private final Comparator<PlayingCard> cardComparator;
+
+    CardSnapshot(int[] ids, long version, Comparator<PlayingCard> cardComparator) {
+        long bits = CardMask.EMPTY;
+        for (int id : ids) {
+            bits |= 1L << id;
+        }
+        this.ids = ids;
+        this.mask = bits;
+        this.version = version;
+        this.duplicates = CardMask.size(bits) != ids.length;
+        this.cardComparator = cardComparator;
+    }
+
+    /**
+     * Returns the ID of the card at the given position in insertion order.
+     *
+     * @param index the position of the card
+     * @return the card ID
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Copies the card IDs, in insertion order, into the given array.
+     *
+     * @param destination the array to copy into; must hold at least {@link #size()} elements
+     * @throws NullPointerException     if destination is null
+     * @throws IllegalArgumentException if destination is too small
+     */
+    public void copyIds(@NonNull int[] destination) {
+        Validate.isTrue(destination.length >= ids.length, "Destination too small (required: %d, available: %d)",
+                ids.length, destination.length);
+        System.arraycopy(ids, 0, destination, 0, ids.length);
+    }
+
+    // Card IDs of this snapshot; never modified
+    int[] ids() {
+        return ids;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    @Override
+    public boolean contains(@NonNull PlayingCard card) {
+        return (mask & (1L << card.getId())) != 0;
+    }
+
+    @Override
+    public boolean containsAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        for (PlayingCard card : cards) {
+            if (!contains(card)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsSuit(@NonNull Suit suit) {
+        return (mask & CardMask.suit(suit.getId())) != 0;
+    }
+
+    @Override
+    public boolean containsRank(@NonNull Rank rank) {
+        return (mask & CardMask.rank(rank.getId())) != 0;
+    }
+
+    @Override
+    public boolean containsJoker() {
+        return (mask & CardMask.ALL_JOKERS) != 0;
+    }
+
+    @Override
+    public int countSuit(@NonNull Suit suit) {
+        return count(CardMask.suit(suit.getId()));
+    }
+
+    @Override
+    public int countRank(@NonNull Rank rank) {
+        return count(CardMask.rank(rank.getId()));
+    }
+
+    @Override
+    public int countCards(@NonNull PlayingCard card) {
+        return count(1L << card.getId());
+    }
+
+    @Override
+    public int countJoker() {
+        return count(CardMask.ALL_JOKERS);
+    }
+
+    @Override
+    public Optional<PlayingCard> findMin(@NonNull Suit suit) {
+        return suitCards(suit).min(cardComparator);
+    }
+
+    @Override
+    public Optional<PlayingCard> findMax(@NonNull Suit suit) {
+        return suitCards(suit).max(cardComparator);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestLower(@NonNull PlayingCard reference) {
+        return suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) < 0)
+                .max(cardComparator);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestHigher(@NonNull PlayingCard reference) {
+        return suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) > 0)
+                .min(cardComparator);
+    }
+
+    @Override
+    public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
+        long suitMask = CardMask.suit(reference.getSuit().getId());
+        return stream()
+                .filter(card -> (suitMask & (1L << card.getId())) != 0)
+                .filter(card -> cardComparator.compare(card, reference) < 0)
+                .sorted(cardComparator)
+                .toList();
+    }
+
+    @Override
+    public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
+        long suitMask = CardMask.suit(reference.getSuit().getId());
+        return stream()
+                .filter(card -> (suitMask & (1L << card.getId())) != 0)
+                .filter(card -> cardComparator.compare(card, reference) > 0)
+                .sorted(cardComparator)
+                .toList();
+    }
+
+    @Override
+    public Stream<PlayingCard> stream() {
+        return Arrays.stream(ids).mapToObj(PlayingCard::getById);
+    }
+
+    @Override
+    public CardSummary getSummary() {
+        return StandardCardSummary.of(stream().toList());
+    }
+
+    /**
+     * Returns an iterator over the cards in insertion order. The iterator does not support removal.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<PlayingCard> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < ids.length;
+            }
+
+            @Override
+            public PlayingCard next() {
+                if (index >= ids.length) {
+                    throw new NoSuchElementException();
+                }
+                return PlayingCard.getById(ids[index++]);
+            }
+        };
+    }
+
+    // Number of cards whose ID is in the given mask, counting duplicates
+    private int count(long selection) {
+        if (!duplicates) {
+            return CardMask.size(mask & selection);
+        }
+        int count = 0;
+        for (int id : ids) {
+            if ((selection & (1L << id)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Distinct cards of the suit in this snapshot
+    private Stream<PlayingCard> suitCards(Suit suit) {
+        return IntStream.of(CardMask.toIds(mask & CardMask.suit(suit.getId())))
+                .mapToObj(PlayingCard::getById);
+    }
+}
@@ -0,0 +1,255 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.event.CardEventOp;
+import ivs.game.accessories.cards.event.CardEventSink;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorator for any {@link CardHolder} that reports every modification to a {@link CardEventSink}.
+ * <p>
+ * Every card the wrapped holder takes in or gives up produces one {@link CardEventOp#ADD} or
+ * {@link CardEventOp#REMOVE} event, and {@link #clear()} produces a single {@link CardEventOp#CLEAR} event. Modifications made to the wrapped
+ * holder directly, or through its iterator, are not reported, so the wrapped holder should only be
+ * modified through the decorator. Read operations are delegated unchanged.
+ * <p>
+ * Emitting an event does not allocate. Bulk operations compare the card counts of the wrapped holder before and
+ * after delegating; with {@link CardEventSink#NO_OP} they skip this and the decorator only adds a delegating call.
+ * <p>
+ * Thread safety: Same as the wrapped holder; the sink is called on the modifying thread.
+ */
+public class EventCardHolder implements CardHolder {
+
+    private final CardHolder delegate;
+    @Getter
+    private final int source;
+    private volatile CardEventSink sink;
+
+    // Per-ID counts before and after a bulk operation, reused to avoid allocation
+    private final int[] before = new int[CardId.ID_SPACE_SIZE];
+    private final int[] after = new int[CardId.ID_SPACE_SIZE];
+
+    /**
+     * Wraps a holder.
+     *
+     * @param delegate the holder to observe
+     * @param source   the ID reported as the source of every event
+     * @param sink     the sink receiving the events
+     * @throws NullPointerException if delegate or sink is null
+     */
+    public EventCardHolder(@NonNull CardHolder delegate, int source, @NonNull CardEventSink sink) {
+        this.delegate = delegate;
+        this.source = source;
+        this.sink = sink;
+    }
+
+    /**
+     * Replaces the event sink; use {@link CardEventSink#NO_OP} to disable events.
+     *
+     * @param sink the new sink
+     * @throws NullPointerException if sink is null
+     */
+    public void setSink(@NonNull CardEventSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public boolean add(@NonNull PlayingCard card) {
+        CardEventSink target = sink;
+        boolean added = delegate.add(card);
+        if (added) {
+            target.accept(source, CardEventOp.ADD, card.getId());
+        }
+        return added;
+    }
+
+    /**
+     * Adds all cards in the given collection and reports one event per card the wrapped holder took in,
+     * in the order of the collection.
+     *
+     * @param cards the collection of cards to add
+     * @return {@code true} if the cardholder changed as a result
+     */
+    @Override
+    public boolean addAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        CardEventSink target = sink;
+        if (target == CardEventSink.NO_OP) {
+            return delegate.addAll(cards);
+        }
+        countCards(before);
+        boolean changed = delegate.addAll(cards);
+        if (changed) {
+            countCards(after);
+            for (PlayingCard card : cards) {
+                int id = card.getId();
+                if (before[id] < after[id]) {
+                    before[id]++;
+                    target.accept(source, CardEventOp.ADD, id);
+                }
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean remove(@NonNull PlayingCard card) {
+        CardEventSink target = sink;
+        boolean removed = delegate.remove(card);
+        if (removed) {
+            target.accept(source, CardEventOp.REMOVE, card.getId());
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all cards present in the given collection and reports one event per copy removed.
+     *
+     * @param cards the collection of cards to remove
+     * @return {@code true} if the cardholder changed as a result
+     */
+    @Override
+    public boolean removeAll(@NonNull Collection<? extends PlayingCard> cards) {
+        CardEventSink target = sink;
+        if (target == CardEventSink.NO_OP) {
+            return delegate.removeAll(cards);
+        }
+        countCards(before);
+        boolean changed = delegate.removeAll(cards);
+        if (changed) {
+            countCards(after);
+            for (int id = 0; id < before.length; id++) {
+                for (int copy = after[id]; copy < before[id]; copy++) {
+                    target.accept(source, CardEventOp.REMOVE, id);
+                }
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        CardEventSink target = sink;
+        delegate.clear();
+        target.accept(source, CardEventOp.CLEAR, CardEventOp.NO_CARD);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean contains(@NonNull PlayingCard card) {
+        return delegate.contains(card);
+    }
+
+    @Override
+    public boolean containsAll(@NonNull Collection<? extends PlayingCard> cards) {
+        return delegate.containsAll(cards);
+    }
+
+    @Override
+    public boolean containsSuit(@NonNull Suit suit) {
+        return delegate.containsSuit(suit);
+    }
+
+    @Override
+    public boolean containsRank(@NonNull Rank rank) {
+        return delegate.containsRank(rank);
+    }
+
+    @Override
+    public boolean containsJoker() {
+        return delegate.containsJoker();
+    }
+
+    @Override
+    public int countSuit(@NonNull Suit suit) {
+        return delegate.countSuit(suit);
+    }
+
+    @Override
+    public int countRank(@NonNull Rank rank) {
+        return delegate.countRank(rank);
+    }
+
+    @Override
+    public int countCards(@NonNull PlayingCard card) {
+        return delegate.countCards(card);
+    }
+
+    @Override
+    public int countJoker() {
+        return delegate.countJoker();
+    }
+
+    @Override
+    public Optional<PlayingCard> findMin(@NonNull Suit suit) {
+        return delegate.findMin(suit);
+    }
+
+    @Override
+    public Optional<PlayingCard> findMax(@NonNull Suit suit) {
+        return delegate.findMax(suit);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestLower(@NonNull PlayingCard reference) {
+        return delegate.findClosestLower(reference);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestHigher(@NonNull PlayingCard reference) {
+        return delegate.findClosestHigher(reference);
+    }
+
+    @Override
+    public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
+        return delegate.getAllLowerOfSuit(reference);
+    }
+
+    @Override
+    public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
+        return delegate.getAllHigherOfSuit(reference);
+    }
+
+    @Override
+    public Stream<PlayingCard> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public CardSummary getSummary() {
+        return delegate.getSummary();
+    }
+
+    @Override
+    public Iterator<PlayingCard> iterator() {
+        return delegate.iterator();
+    }
+
+    private void countCards(int[] counts) {
+        Arrays.fill(counts, 0);
+        for (PlayingCard card : delegate) {
+            counts[card.getId()]++;
+        }
+    }
+}
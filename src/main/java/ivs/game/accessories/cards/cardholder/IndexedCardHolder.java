@@ -0,0 +1,384 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.ordering.CompiledCardComparator;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A mutable container for playing cards that keeps a per-suit index ordered by its comparator.
+ * <p>
+ * Like {@link StandardCardHolder}, the holder keeps its cards in insertion order for iteration. In addition,
+ * it keeps for every suit a 13-bit mask of the cards held, with bit positions ordered by the compiled card
+ * comparator, and a count per card ID. Minimum, maximum and closest-card queries are answered with a mask
+ * intersection and a single bit scan, range queries iterate the mask in order, and counting and
+ * {@link #contains(PlayingCard)} take constant time.
+ * <p>
+ * Every standard card added must be supported by the comparator. Cards of a suit that compare equal are
+ * returned in card ID order by range queries, and any one of them may be returned by closest-card queries.
+ * <p>
+ * This class does not allow {@code null} cards. All card operations will validate their arguments.
+ * <p>
+ * Thread safety: This implementation is not thread-safe. If multiple threads access an
+ * {@code IndexedCardHolder} concurrently and at least one of the threads modifies it,
+ * external synchronization is required.
+ */
+public class IndexedCardHolder implements CardHolder {
+
+    private final List<PlayingCard> cards = new ArrayList<>();
+    private final SuitOrderIndex index;
+
+    // Number of copies held per card ID
+    private final int[] counts = new int[CardId.ID_SPACE_SIZE];
+    // Positions held per suit, see SuitOrderIndex
+    private final int[] suitMasks = new int[SuitId.SUIT_COUNT];
+    private final int[] suitCounts = new int[SuitId.SUIT_COUNT];
+    private final int[] rankCounts = new int[RankId.RANK_COUNT];
+    private int jokerCount;
+
+    /**
+     * Constructs an empty cardholder ordering cards with the given compiled comparator.
+     *
+     * @param cardComparator compiled comparator for ordering the cards in this cardholder
+     * @throws NullPointerException if {@code cardComparator} is {@code null}
+     */
+    public IndexedCardHolder(@NonNull CompiledCardComparator cardComparator) {
+        this.index = new SuitOrderIndex(cardComparator);
+    }
+
+    /**
+     * Adds a single card to this cardholder.
+     *
+     * @param card the card to add
+     * @return {@code true} if the card was added (i.e., the cardholder changed as a result)
+     * @throws IllegalArgumentException if the card is a standard card not supported by the comparator
+     */
+    @Override
+    public boolean add(@NonNull PlayingCard card) {
+        validateSupported(card);
+        cards.add(card);
+        onAdd(card.getId());
+        return true;
+    }
+
+    /**
+     * Adds all cards from the given collection to this cardholder.
+     *
+     * @param cards the collection of cards to add
+     * @return {@code true} if the cardholder changed as a result
+     * @throws IllegalArgumentException if the collection contains nulls or unsupported standard cards
+     */
+    @Override
+    public boolean addAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        cards.forEach(this::validateSupported);
+        for (PlayingCard card : cards) {
+            this.cards.add(card);
+            onAdd(card.getId());
+        }
+        return !cards.isEmpty();
+    }
+
+    /**
+     * Removes a single card from this cardholder, if present.
+     *
+     * @param card the card to remove
+     * @return {@code true} if the card was removed
+     */
+    @Override
+    public boolean remove(@NonNull PlayingCard card) {
+        if (counts[card.getId()] == 0) {
+            return false;
+        }
+        cards.remove(card);
+        onRemove(card.getId());
+        return true;
+    }
+
+    /**
+     * Removes all cards that are present in the given collection from this cardholder.
+     *
+     * @param cards the collection of cards to remove
+     * @return {@code true} if the cardholder changed as a result
+     */
+    @Override
+    public boolean removeAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        boolean[] removed = new boolean[CardId.ID_SPACE_SIZE];
+        for (PlayingCard card : cards) {
+            removed[card.getId()] = counts[card.getId()] > 0;
+        }
+        boolean changed = false;
+        Iterator<PlayingCard> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (removed[iterator.next().getId()]) {
+                iterator.remove();
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Removes all cards from this cardholder.
+     */
+    @Override
+    public void clear() {
+        cards.clear();
+        Arrays.fill(counts, 0);
+        Arrays.fill(suitMasks, 0);
+        Arrays.fill(suitCounts, 0);
+        Arrays.fill(rankCounts, 0);
+        jokerCount = 0;
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    @Override
+    public boolean contains(@NonNull PlayingCard card) {
+        return counts[card.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        for (PlayingCard card : cards) {
+            if (counts[card.getId()] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsSuit(@NonNull Suit suit) {
+        return suitCounts[suit.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsRank(@NonNull Rank rank) {
+        return rankCounts[rank.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsJoker() {
+        return jokerCount > 0;
+    }
+
+    @Override
+    public int countSuit(@NonNull Suit suit) {
+        return suitCounts[suit.getId()];
+    }
+
+    @Override
+    public int countRank(@NonNull Rank rank) {
+        return rankCounts[rank.getId()];
+    }
+
+    @Override
+    public int countCards(@NonNull PlayingCard card) {
+        return counts[card.getId()];
+    }
+
+    @Override
+    public int countJoker() {
+        return jokerCount;
+    }
+
+    /**
+     * Returns the lowest card of the specified suit in this holder, if present.
+     *
+     * @param suit the suit to search for
+     * @return an {@code Optional} containing the minimal card of the specified suit, or empty if none
+     */
+    @Override
+    public Optional<PlayingCard> findMin(@NonNull Suit suit) {
+        return lowest(suit.getId(), suitMasks[suit.getId()]);
+    }
+
+    /**
+     * Returns the highest card of the specified suit in this holder, if present.
+     *
+     * @param suit the suit to search for
+     * @return an {@code Optional} containing the maximal card of the specified suit, or empty if none
+     */
+    @Override
+    public Optional<PlayingCard> findMax(@NonNull Suit suit) {
+        return highest(suit.getId(), suitMasks[suit.getId()]);
+    }
+
+    /**
+     * Finds the greatest card of the same suit that is strictly less than the given reference card.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return an {@code Optional} containing the greatest lower card of the same suit, or empty if none found
+     * @throws IllegalArgumentException if the reference card is not supported by the comparator
+     */
+    @Override
+    public Optional<PlayingCard> findClosestLower(@NonNull PlayingCard reference) {
+        int suitId = reference.getSuit().getId();
+        return highest(suitId, suitMasks[suitId] & index.lowerMask(validateSupported(reference)));
+    }
+
+    /**
+     * Finds the smallest card of the same suit that is strictly greater than the given reference card.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return an {@code Optional} containing the smallest higher card of the same suit, or empty if none found
+     * @throws IllegalArgumentException if the reference card is not supported by the comparator
+     */
+    @Override
+    public Optional<PlayingCard> findClosestHigher(@NonNull PlayingCard reference) {
+        int suitId = reference.getSuit().getId();
+        return lowest(suitId, suitMasks[suitId] & index.higherMask(validateSupported(reference)));
+    }
+
+    /**
+     * Returns all cards of the same suit that are strictly less than the given reference card, in ascending order.
+     * The cards are not removed from the holder.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return a list of all strictly lower cards of the same suit; never null, may be empty
+     * @throws IllegalArgumentException if the reference card is not supported by the comparator
+     */
+    @Override
+    public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
+        int suitId = reference.getSuit().getId();
+        return collect(suitId, suitMasks[suitId] & index.lowerMask(validateSupported(reference)));
+    }
+
+    /**
+     * Returns all cards of the same suit that are strictly greater than the given reference card, in ascending order.
+     * The cards are not removed from the holder.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return a list of all strictly higher cards of the same suit; never null, may be empty
+     * @throws IllegalArgumentException if the reference card is not supported by the comparator
+     */
+    @Override
+    public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
+        int suitId = reference.getSuit().getId();
+        return collect(suitId, suitMasks[suitId] & index.higherMask(validateSupported(reference)));
+    }
+
+    @Override
+    public Stream<PlayingCard> stream() {
+        return cards.stream();
+    }
+
+    @Override
+    public CardSummary getSummary() {
+        return StandardCardSummary.of(cards);
+    }
+
+    /**
+     * Returns an iterator over the cards in insertion order. Removal through the iterator keeps the index up to date.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<PlayingCard> iterator() {
+        Iterator<PlayingCard> delegate = cards.iterator();
+        return new Iterator<>() {
+            private PlayingCard last;
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public PlayingCard next() {
+                last = delegate.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                delegate.remove();
+                onRemove(last.getId());
+            }
+        };
+    }
+
+    private Optional<PlayingCard> lowest(int suitId, int mask) {
+        if (mask == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(PlayingCard.getById(index.cardId(suitId, Integer.numberOfTrailingZeros(mask))));
+    }
+
+    private Optional<PlayingCard> highest(int suitId, int mask) {
+        if (mask == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(PlayingCard.getById(index.cardId(suitId, 31 - Integer.numberOfLeadingZeros(mask))));
+    }
+
+    // Cards of the masked positions in ascending order, with every copy held
+    private List<PlayingCard> collect(int suitId, int mask) {
+        List<PlayingCard> result = new ArrayList<>(Integer.bitCount(mask));
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            int cardId = index.cardId(suitId, Integer.numberOfTrailingZeros(remaining));
+            PlayingCard card = PlayingCard.getById(cardId);
+            for (int copy = 0; copy < counts[cardId]; copy++) {
+                result.add(card);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    // Returns the card ID after checking that a standard card has a position in the index
+    private int validateSupported(PlayingCard card) {
+        int id = card.getId();
+        Validate.isTrue(card.isJoker() || index.position(id) != SuitOrderIndex.NO_POSITION, "Unsupported card: %s", card);
+        return id;
+    }
+
+    private void onAdd(int id) {
+        counts[id]++;
+        if (id > CardId.MAX_CARD) {
+            jokerCount++;
+            return;
+        }
+        int suitId = CardId.getSuitId(id);
+        suitMasks[suitId] |= 1 << index.position(id);
+        suitCounts[suitId]++;
+        rankCounts[CardId.getRankId(id)]++;
+    }
+
+    private void onRemove(int id) {
+        counts[id]--;
+        if (id > CardId.MAX_CARD) {
+            jokerCount--;
+            return;
+        }
+        int suitId = CardId.getSuitId(id);
+        if (counts[id] == 0) {
+            suitMasks[suitId] &= ~(1 << index.position(id));
+        }
+        suitCounts[suitId]--;
+        rankCounts[CardId.getRankId(id)]--;
+    }
+}
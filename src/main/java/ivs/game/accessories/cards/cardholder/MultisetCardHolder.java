@@ -0,0 +1,453 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.Suit;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A mutable multiset of playing cards backed by one counter per card ID, for large multi-deck hands,
+ * discard piles and trays.
+ * <p>
+ * Adding, removing, counting and {@link #contains(PlayingCard)} take constant time regardless of the number of
+ * cards held. Suit queries examine at most the 13 cards of the suit.
+ * <p>
+ * By default the holder does not remember the order in which cards were added: iteration returns the cards
+ * in ascending card ID order, every copy of a card in a row. A holder created with
+ * {@link #insertionOrdered(Comparator)} additionally keeps the insertion order for iteration; in that mode
+ * removing a card takes time linear in the number of cards held.
+ * <p>
+ * This class does not allow {@code null} cards. All card operations will validate their arguments.
+ * <p>
+ * Thread safety: This implementation is not thread-safe. If multiple threads access a
+ * {@code MultisetCardHolder} concurrently and at least one of the threads modifies it,
+ * external synchronization is required.
+ */
+public class MultisetCardHolder implements CardHolder {
+
+    private final Comparator<PlayingCard> cardComparator;
+
+    // Number of copies held per card ID
+    private final int[] counts = new int[CardId.ID_SPACE_SIZE];
+    private final int[] suitCounts = new int[SuitId.SUIT_COUNT];
+    private final int[] rankCounts = new int[RankId.RANK_COUNT];
+    private int jokerCount;
+    private int total;
+    // Cards in insertion order, or null if the order is not kept
+    private final List<PlayingCard> order;
+    // Incremented on every modification, for fail-fast iteration
+    private int modCount;
+
+    /**
+     * Constructs an empty cardholder iterating in card ID order and using the specified card comparator
+     * for ordering queries.
+     *
+     * @param cardComparator comparator for ordering the cards in this cardholder
+     * @throws NullPointerException if {@code cardComparator} is {@code null}
+     */
+    public MultisetCardHolder(@NonNull Comparator<PlayingCard> cardComparator) {
+        this(cardComparator, false);
+    }
+
+    private MultisetCardHolder(Comparator<PlayingCard> cardComparator, boolean keepOrder) {
+        this.cardComparator = cardComparator;
+        this.order = keepOrder ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Creates an empty cardholder that iterates in insertion order.
+     *
+     * @param cardComparator comparator for ordering the cards in this cardholder
+     * @return a new cardholder keeping the insertion order
+     * @throws NullPointerException if {@code cardComparator} is {@code null}
+     */
+    public static MultisetCardHolder insertionOrdered(@NonNull Comparator<PlayingCard> cardComparator) {
+        return new MultisetCardHolder(cardComparator, true);
+    }
+
+    /**
+     * Returns {@code true} if this holder iterates in insertion order.
+     *
+     * @return {@code true} if the insertion order is kept
+     */
+    public boolean isInsertionOrdered() {
+        return order != null;
+    }
+
+    /**
+     * Adds a single card to this cardholder.
+     *
+     * @param card the card to add
+     * @return always {@code true}
+     */
+    @Override
+    public boolean add(@NonNull PlayingCard card) {
+        increment(card.getId(), 1);
+        if (order != null) {
+            order.add(card);
+        }
+        return true;
+    }
+
+    /**
+     * Adds the given number of copies of a card to this cardholder.
+     *
+     * @param card   the card to add
+     * @param copies the number of copies to add
+     * @throws IllegalArgumentException if copies is negative
+     */
+    public void add(@NonNull PlayingCard card, int copies) {
+        Validate.isTrue(copies >= 0, "Copies cannot be negative");
+        increment(card.getId(), copies);
+        if (order != null) {
+            for (int i = 0; i < copies; i++) {
+                order.add(card);
+            }
+        }
+    }
+
+    /**
+     * Adds all cards from the given collection to this cardholder.
+     *
+     * @param cards the collection of cards to add
+     * @return {@code true} if the cardholder changed as a result
+     */
+    @Override
+    public boolean addAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        for (PlayingCard card : cards) {
+            add(card);
+        }
+        return !cards.isEmpty();
+    }
+
+    /**
+     * Removes a single copy of a card from this cardholder, if present.
+     *
+     * @param card the card to remove
+     * @return {@code true} if the card was removed
+     */
+    @Override
+    public boolean remove(@NonNull PlayingCard card) {
+        if (counts[card.getId()] == 0) {
+            return false;
+        }
+        increment(card.getId(), -1);
+        if (order != null) {
+            order.remove(card);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all copies of every card that is present in the given collection from this cardholder.
+     *
+     * @param cards the collection of cards to remove
+     * @return {@code true} if the cardholder changed as a result
+     */
+    @Override
+    public boolean removeAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        boolean changed = false;
+        for (PlayingCard card : cards) {
+            int id = card.getId();
+            if (counts[id] > 0) {
+                increment(id, -counts[id]);
+                changed = true;
+            }
+        }
+        if (changed && order != null) {
+            order.removeIf(card -> counts[card.getId()] == 0);
+        }
+        return changed;
+    }
+
+    /**
+     * Removes all cards from this cardholder.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(suitCounts, 0);
+        Arrays.fill(rankCounts, 0);
+        jokerCount = 0;
+        total = 0;
+        if (order != null) {
+            order.clear();
+        }
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return total;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    @Override
+    public boolean contains(@NonNull PlayingCard card) {
+        return counts[card.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        for (PlayingCard card : cards) {
+            if (counts[card.getId()] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsSuit(@NonNull Suit suit) {
+        return suitCounts[suit.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsRank(@NonNull Rank rank) {
+        return rankCounts[rank.getId()] > 0;
+    }
+
+    @Override
+    public boolean containsJoker() {
+        return jokerCount > 0;
+    }
+
+    @Override
+    public int countSuit(@NonNull Suit suit) {
+        return suitCounts[suit.getId()];
+    }
+
+    @Override
+    public int countRank(@NonNull Rank rank) {
+        return rankCounts[rank.getId()];
+    }
+
+    @Override
+    public int countCards(@NonNull PlayingCard card) {
+        return counts[card.getId()];
+    }
+
+    @Override
+    public int countJoker() {
+        return jokerCount;
+    }
+
+    /**
+     * Returns the lowest card of the specified suit in this holder, if present.
+     *
+     * @param suit the suit to search for
+     * @return an {@code Optional} containing the minimal card of the specified suit, or empty if none
+     */
+    @Override
+    public Optional<PlayingCard> findMin(@NonNull Suit suit) {
+        return suitCards(suit).min(cardComparator);
+    }
+
+    /**
+     * Returns the highest card of the specified suit in this holder, if present.
+     *
+     * @param suit the suit to search for
+     * @return an {@code Optional} containing the maximal card of the specified suit, or empty if none
+     */
+    @Override
+    public Optional<PlayingCard> findMax(@NonNull Suit suit) {
+        return suitCards(suit).max(cardComparator);
+    }
+
+    /**
+     * Finds the greatest card of the same suit that is strictly less than the given reference card.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return an {@code Optional} containing the greatest lower card of the same suit, or empty if none found
+     */
+    @Override
+    public Optional<PlayingCard> findClosestLower(@NonNull PlayingCard reference) {
+        return suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) < 0)
+                .max(cardComparator);
+    }
+
+    /**
+     * Finds the smallest card of the same suit that is strictly greater than the given reference card.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return an {@code Optional} containing the smallest higher card of the same suit, or empty if none found
+     */
+    @Override
+    public Optional<PlayingCard> findClosestHigher(@NonNull PlayingCard reference) {
+        return suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) > 0)
+                .min(cardComparator);
+    }
+
+    /**
+     * Returns all cards of the same suit that are strictly less than the given reference card, sorted.
+     * Every copy of a card is included.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return a list of all strictly lower cards of the same suit; never null, may be empty
+     */
+    @Override
+    public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
+        return withCopies(suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) < 0)
+                .sorted(cardComparator));
+    }
+
+    /**
+     * Returns all cards of the same suit that are strictly greater than the given reference card, sorted.
+     * Every copy of a card is included.
+     *
+     * @param reference the card to compare with (its suit will be used)
+     * @return a list of all strictly higher cards of the same suit; never null, may be empty
+     */
+    @Override
+    public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
+        return withCopies(suitCards(reference.getSuit())
+                .filter(card -> cardComparator.compare(card, reference) > 0)
+                .sorted(cardComparator));
+    }
+
+    @Override
+    public Stream<PlayingCard> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public CardSummary getSummary() {
+        return StandardCardSummary.of(stream().toList());
+    }
+
+    /**
+     * Returns an iterator over the cards, in insertion order if the holder keeps it, otherwise in card ID order.
+     * The iterator supports removal and is fail-fast.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<PlayingCard> iterator() {
+        return order != null ? new OrderedIterator() : new CountingIterator();
+    }
+
+    // Distinct cards of the suit currently held
+    private Stream<PlayingCard> suitCards(Suit suit) {
+        return Arrays.stream(CardId.getCardIdsInSuitAndRankRange(suit.getId(), RankId.MIN_RANK, RankId.MAX_RANK))
+                .filter(id -> counts[id] > 0)
+                .mapToObj(PlayingCard::getById);
+    }
+
+    private List<PlayingCard> withCopies(Stream<PlayingCard> distinctCards) {
+        List<PlayingCard> result = new ArrayList<>();
+        distinctCards.forEach(card -> {
+            for (int copy = 0; copy < counts[card.getId()]; copy++) {
+                result.add(card);
+            }
+        });
+        return List.copyOf(result);
+    }
+
+    private void increment(int id, int delta) {
+        counts[id] += delta;
+        total += delta;
+        if (id > CardId.MAX_CARD) {
+            jokerCount += delta;
+        } else {
+            suitCounts[CardId.getSuitId(id)] += delta;
+            rankCounts[CardId.getRankId(id)] += delta;
+        }
+        modCount++;
+    }
+
+    // Iterates the counters in card ID order
+    private final class CountingIterator implements Iterator<PlayingCard> {
+        private int id = -1;
+        private int copiesLeft;
+        private int returned = 0;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return returned < total;
+        }
+
+        @Override
+        public PlayingCard next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (copiesLeft == 0) {
+                copiesLeft = counts[++id];
+            }
+            copiesLeft--;
+            returned++;
+            canRemove = true;
+            return PlayingCard.getById(id);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            increment(id, -1);
+            returned--;
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    // Iterates the insertion order, keeping the counters up to date on removal
+    private final class OrderedIterator implements Iterator<PlayingCard> {
+        private final Iterator<PlayingCard> delegate = order.iterator();
+        private PlayingCard last;
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public PlayingCard next() {
+            last = delegate.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            delegate.remove();
+            increment(last.getId(), -1);
+        }
+    }
+}
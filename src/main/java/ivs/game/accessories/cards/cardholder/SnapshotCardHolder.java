@@ -0,0 +1,230 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.Suit;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A cardholder that can be read by any number of threads while one thread modifies it.
+ * <p>
+ * Every modification builds a new immutable {@link CardSnapshot} (a card ID array plus a bitmask) and
+ * publishes it through a volatile field. All {@link CardViewer} methods read the latest published snapshot,
+ * so readers never block and never see a partially applied modification. A reader that needs several
+ * consistent queries should take {@link #getSnapshot()} once and query the snapshot.
+ * <p>
+ * Modifications copy the card IDs and are therefore linear in the number of cards held; this holder is
+ * meant for hands and piles that are read much more often than they change. Iterators and streams reflect
+ * the snapshot at the time they were created, and iterators do not support removal.
+ * <p>
+ * This class does not allow {@code null} cards. All card operations will validate their arguments.
+ * <p>
+ * Thread safety: Reads are thread-safe and lock-free. Modifications are synchronized on the holder,
+ * so concurrent writers are serialized.
+ */
+public class SnapshotCardHolder implements CardHolder {
+
+    private final Comparator<PlayingCard> cardComparator;
+    private volatile CardSnapshot snapshot;
+
+    /**
+     * Constructs an empty cardholder using the specified card comparator for ordering.
+     *
+     * @param cardComparator comparator for ordering the cards in this cardholder; must not be {@code null}
+     * @throws NullPointerException if {@code cardComparator} is {@code null}
+     */
+    public SnapshotCardHolder(@NonNull Comparator<PlayingCard> cardComparator) {
+        this.cardComparator = cardComparator;
+        this.snapshot = new CardSnapshot(new int[0], 0, cardComparator);
+    }
+
+    /**
+     * Returns the latest published snapshot of this holder.
+     *
+     * @return an immutable snapshot of the cards
+     */
+    public CardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public synchronized boolean add(@NonNull PlayingCard card) {
+        int[] ids = snapshot.ids();
+        int[] updated = Arrays.copyOf(ids, ids.length + 1);
+        updated[ids.length] = card.getId();
+        publish(updated);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        if (cards.isEmpty()) {
+            return false;
+        }
+        int[] ids = snapshot.ids();
+        int[] updated = Arrays.copyOf(ids, ids.length + cards.size());
+        int i = ids.length;
+        for (PlayingCard card : cards) {
+            updated[i++] = card.getId();
+        }
+        publish(updated);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(@NonNull PlayingCard card) {
+        int[] ids = snapshot.ids();
+        int id = card.getId();
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                int[] updated = new int[ids.length - 1];
+                System.arraycopy(ids, 0, updated, 0, i);
+                System.arraycopy(ids, i + 1, updated, i, ids.length - i - 1);
+                publish(updated);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized boolean removeAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, StandardCardHolder.CONTAIN_NULL_ELEMENTS);
+        long removed = 0L;
+        for (PlayingCard card : cards) {
+            removed |= 1L << card.getId();
+        }
+        long filter = removed;
+        int[] ids = snapshot.ids();
+        int[] updated = Arrays.stream(ids).filter(id -> (filter & (1L << id)) == 0).toArray();
+        if (updated.length == ids.length) {
+            return false;
+        }
+        publish(updated);
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        publish(new int[0]);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    @Override
+    public boolean contains(@NonNull PlayingCard card) {
+        return snapshot.contains(card);
+    }
+
+    @Override
+    public boolean containsAll(@NonNull Collection<? extends PlayingCard> cards) {
+        return snapshot.containsAll(cards);
+    }
+
+    @Override
+    public boolean containsSuit(@NonNull Suit suit) {
+        return snapshot.containsSuit(suit);
+    }
+
+    @Override
+    public boolean containsRank(@NonNull Rank rank) {
+        return snapshot.containsRank(rank);
+    }
+
+    @Override
+    public boolean containsJoker() {
+        return snapshot.containsJoker();
+    }
+
+    @Override
+    public int countSuit(@NonNull Suit suit) {
+        return snapshot.countSuit(suit);
+    }
+
+    @Override
+    public int countRank(@NonNull Rank rank) {
+        return snapshot.countRank(rank);
+    }
+
+    @Override
+    public int countCards(@NonNull PlayingCard card) {
+        return snapshot.countCards(card);
+    }
+
+    @Override
+    public int countJoker() {
+        return snapshot.countJoker();
+    }
+
+    @Override
+    public Optional<PlayingCard> findMin(@NonNull Suit suit) {
+        return snapshot.findMin(suit);
+    }
+
+    @Override
+    public Optional<PlayingCard> findMax(@NonNull Suit suit) {
+        return snapshot.findMax(suit);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestLower(@NonNull PlayingCard reference) {
+        return snapshot.findClosestLower(reference);
+    }
+
+    @Override
+    public Optional<PlayingCard> findClosestHigher(@NonNull PlayingCard reference) {
+        return snapshot.findClosestHigher(reference);
+    }
+
+    @Override
+    public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
+        return snapshot.getAllLowerOfSuit(reference);
+    }
+
+    @Override
+    public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
+        return snapshot.getAllHigherOfSuit(reference);
+    }
+
+    @Override
+    public Stream<PlayingCard> stream() {
+        return snapshot.stream();
+    }
+
+    @Override
+    public CardSummary getSummary() {
+        return snapshot.getSummary();
+    }
+
+    /**
+     * Returns an iterator over the cards of the current snapshot. The iterator does not support removal.
+     *
+     * @return an Iterator.
+     */
+    @Override
+    public Iterator<PlayingCard> iterator() {
+        return snapshot.iterator();
+    }
+
+    private void publish(int[] ids) {
+        snapshot = new CardSnapshot(ids, snapshot.getVersion() + 1, cardComparator);
+    }
+}
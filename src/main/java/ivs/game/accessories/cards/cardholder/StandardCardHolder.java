@@ -3,10 +3,13 @@ package ivs.game.accessories.cards.cardholder;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.core.type.Rank;
 import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.ordering.CardSorter;
+import ivs.game.accessories.cards.ordering.CompiledCardComparator;
 import lombok.NonNull;
 import org.apache.commons.lang3.Validate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -22,6 +25,9 @@ import java.util.stream.Stream;
  * adding, removing, and querying cards, as well as various utility and search operations.
  * <p>
  * This class does not allow {@code null} cards. All card operations will validate their arguments.
+ * <p>
+ * If the card comparator is a {@link CompiledCardComparator}, sorted results are produced
+ * with a linear-time {@link CardSorter}.
  *
  * <p>
  * Thread safety: This implementation is not thread-safe. If multiple threads access a
@@ -34,6 +40,8 @@ public class StandardCardHolder implements CardHolder {
 
     private final List<PlayingCard> cards = new ArrayList<>();
     private final Comparator<PlayingCard> cardComparator;
+    // Linear-time sorter for compiled comparators, or null
+    private final CardSorter cardSorter;
 
     /**
      * Constructs an empty cardholder using the specified card comparator for ordering.
@@ -43,6 +51,7 @@ public class StandardCardHolder implements CardHolder {
      */
     public StandardCardHolder(@NonNull Comparator<PlayingCard> cardComparator) {
         this.cardComparator = cardComparator;
+        this.cardSorter = cardComparator instanceof CompiledCardComparator compiled ? new CardSorter(compiled) : null;
     }
 
     /**
@@ -299,12 +308,13 @@ public class StandardCardHolder implements CardHolder {
     @Override
     public List<PlayingCard> getAllLowerOfSuit(@NonNull PlayingCard reference) {
         Suit suit = reference.getSuit();
-        return cards.stream()
+        PlayingCard[] matching = cards.stream()
                 .filter(card -> !card.isJoker())
                 .filter(card -> card.getSuit() == suit)
                 .filter(card -> cardComparator.compare(card, reference) < 0)
-                .sorted(cardComparator)
-                .toList();
+                .toArray(PlayingCard[]::new);
+        sort(matching);
+        return List.of(matching);
     }
 
     /**
@@ -317,12 +327,22 @@ public class StandardCardHolder implements CardHolder {
     @Override
     public List<PlayingCard> getAllHigherOfSuit(@NonNull PlayingCard reference) {
         Suit suit = reference.getSuit();
-        return cards.stream()
+        PlayingCard[] matching = cards.stream()
                 .filter(card -> !card.isJoker())
                 .filter(card -> card.getSuit() == suit)
                 .filter(card -> cardComparator.compare(card, reference) > 0)
-                .sorted(cardComparator)
-                .toList();
+                .toArray(PlayingCard[]::new);
+        sort(matching);
+        return List.of(matching);
+    }
+
+    // Stable sort with the card comparator
+    private void sort(PlayingCard[] cards) {
+        if (cardSorter != null) {
+            cardSorter.sort(cards);
+        } else {
+            Arrays.sort(cards, cardComparator);
+        }
     }
 
     /**
@@ -0,0 +1,76 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.ordering.CompiledCardComparator;
+
+import java.util.Arrays;
+
+/**
+ * Package-private lookup tables mapping standard cards to bit positions within their suit,
+ * in the order of a {@link CompiledCardComparator}.
+ * <p>
+ * Within every suit, cards get positions 0 to 12 ordered by their sort key (ties by card ID), so a set of
+ * cards of one suit is a 13-bit mask whose lowest bit is the lowest card. For every card the tables also hold
+ * the masks of positions that compare strictly lower and strictly higher, which turns closest-card queries
+ * into a mask intersection and a bit scan.
+ * <p>
+ * Instances are immutable.
+ */
+final class SuitOrderIndex {
+
+    static final int NO_POSITION = -1;
+
+    // Position of every card ID within its suit, or NO_POSITION for jokers and unsupported cards
+    private final int[] positions = new int[CardId.ID_SPACE_SIZE];
+    // Card ID at every position, per suit
+    private final int[][] cardIds = new int[SuitId.SUIT_COUNT][CardId.CARDS_PER_SUIT];
+    // Positions of the same suit comparing strictly lower / higher, per card ID
+    private final int[] lowerMasks = new int[CardId.ID_SPACE_SIZE];
+    private final int[] higherMasks = new int[CardId.ID_SPACE_SIZE];
+
+    SuitOrderIndex(CompiledCardComparator comparator) {
+        Arrays.fill(positions, NO_POSITION);
+        for (int suitId = SuitId.MIN_SUIT; suitId <= SuitId.MAX_SUIT; suitId++) {
+            Integer[] suitCards = Arrays.stream(CardId.getCardIdsInSuitAndRankRange(suitId, RankId.MIN_RANK, RankId.MAX_RANK))
+                    .filter(id -> comparator.getKey(id) != CompiledCardComparator.NO_KEY)
+                    .boxed()
+                    .sorted((id1, id2) -> comparator.getKey(id1) != comparator.getKey(id2)
+                            ? Integer.compare(comparator.getKey(id1), comparator.getKey(id2))
+                            : Integer.compare(id1, id2))
+                    .toArray(Integer[]::new);
+
+            for (int position = 0; position < suitCards.length; position++) {
+                positions[suitCards[position]] = position;
+                cardIds[suitId][position] = suitCards[position];
+            }
+            for (int id : suitCards) {
+                for (int other : suitCards) {
+                    int bit = 1 << positions[other];
+                    if (comparator.getKey(other) < comparator.getKey(id)) {
+                        lowerMasks[id] |= bit;
+                    } else if (comparator.getKey(other) > comparator.getKey(id)) {
+                        higherMasks[id] |= bit;
+                    }
+                }
+            }
+        }
+    }
+
+    int position(int cardId) {
+        return positions[cardId];
+    }
+
+    int cardId(int suitId, int position) {
+        return cardIds[suitId][position];
+    }
+
+    int lowerMask(int cardId) {
+        return lowerMasks[cardId];
+    }
+
+    int higherMask(int cardId) {
+        return higherMasks[cardId];
+    }
+}
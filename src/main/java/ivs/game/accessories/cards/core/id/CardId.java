@@ -23,6 +23,16 @@ public final class CardId {
     /** The total number of cards in a standard deck */
     public static final int CARD_COUNT = MAX_CARD - MIN_CARD + 1;
 
+    /**
+     * The size of the shared ID space of standard cards and jokers (0 to 55).
+     * Joker IDs from {@link JokerId} directly follow the card IDs, so any card or joker ID
+     * can be used as an index into an array of this size.
+     */
+    public static final int ID_SPACE_SIZE = JokerId.MAX_JOKER + 1;
+
+    /** A value that is not a card or joker ID, returned where no card is available */
+    public static final int NO_CARD = -1;
+
     private static final String INVALID_RANK_RANGE_MESSAGE = "Invalid rank range: from %d to %d";
 
     /**
@@ -0,0 +1,157 @@
+package ivs.game.accessories.cards.core.id;
+
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A utility class for sets of distinct cards represented as {@code long} bitmasks.
+ * Bit {@code i} of a mask is set if the card or joker with ID {@code i} is in the set, so a mask
+ * covers the whole ID space of {@link CardId#ID_SPACE_SIZE} IDs.
+ * <p>
+ * Because card IDs are grouped by suit, the cards of one suit occupy 13 consecutive bits starting at
+ * {@code suitId * 13}, with the Two as the lowest bit.
+ */
+@UtilityClass
+public final class CardMask {
+
+    /** The empty set */
+    public static final long EMPTY = 0L;
+
+    /** All 52 standard cards */
+    public static final long ALL_CARDS = (1L << CardId.CARD_COUNT) - 1;
+
+    /** All jokers */
+    public static final long ALL_JOKERS = ((1L << JokerId.JOKER_COUNT) - 1) << JokerId.MIN_JOKER;
+
+    /** All standard cards and jokers */
+    public static final long ALL = ALL_CARDS | ALL_JOKERS;
+
+    private static final String INVALID_ID_MESSAGE = "Invalid card or joker ID: %d";
+
+    private static final long SUIT_BITS = (1L << CardId.CARDS_PER_SUIT) - 1;
+    // Mask of the four cards of every rank, indexed by rank ID
+    private static final long[] RANK_MASKS = new long[RankId.RANK_COUNT];
+
+    static {
+        for (int rankId = RankId.MIN_RANK; rankId <= RankId.MAX_RANK; rankId++) {
+            for (int suitId = SuitId.MIN_SUIT; suitId <= SuitId.MAX_SUIT; suitId++) {
+                RANK_MASKS[rankId] |= 1L << CardId.getCardId(rankId, suitId);
+            }
+        }
+    }
+
+    /**
+     * Returns the mask containing only the given card or joker.
+     *
+     * @param id the card or joker ID
+     * @return the single-card mask
+     * @throws IllegalArgumentException if the ID is outside the card ID space
+     */
+    public static long of(int id) {
+        validate(id);
+        return 1L << id;
+    }
+
+    /**
+     * Returns the mask containing the given cards and jokers.
+     *
+     * @param ids the card or joker IDs
+     * @return the mask of the given IDs
+     * @throws IllegalArgumentException if any ID is outside the card ID space
+     */
+    public static long of(int... ids) {
+        long mask = EMPTY;
+        for (int id : ids) {
+            mask |= of(id);
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether the mask contains the given card or joker.
+     *
+     * @param mask the mask
+     * @param id   the card or joker ID
+     * @return true if the ID is in the mask
+     * @throws IllegalArgumentException if the ID is outside the card ID space
+     */
+    public static boolean contains(long mask, int id) {
+        return (mask & of(id)) != 0;
+    }
+
+    /**
+     * Returns the number of cards and jokers in the mask.
+     *
+     * @param mask the mask
+     * @return the number of set bits
+     */
+    public static int size(long mask) {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Returns the mask of all 13 cards of the given suit.
+     *
+     * @param suitId the suit ID
+     * @return the suit mask
+     * @throws IllegalArgumentException if the suit ID is invalid
+     */
+    public static long suit(int suitId) {
+        SuitId.validate(suitId);
+        return SUIT_BITS << (suitId * CardId.CARDS_PER_SUIT);
+    }
+
+    /**
+     * Returns the mask of all 4 cards of the given rank.
+     *
+     * @param rankId the rank ID
+     * @return the rank mask
+     * @throws IllegalArgumentException if the rank ID is invalid
+     */
+    public static long rank(int rankId) {
+        RankId.validate(rankId);
+        return RANK_MASKS[rankId];
+    }
+
+    /**
+     * Returns the 13 bits of the given suit shifted down to bits 0-12, indexed by rank ID.
+     *
+     * @param mask   the mask
+     * @param suitId the suit ID
+     * @return the rank bits of the suit
+     * @throws IllegalArgumentException if the suit ID is invalid
+     */
+    public static int suitRanks(long mask, int suitId) {
+        SuitId.validate(suitId);
+        return (int) ((mask >>> (suitId * CardId.CARDS_PER_SUIT)) & SUIT_BITS);
+    }
+
+    /**
+     * Returns the lowest ID in the mask.
+     *
+     * @param mask the mask
+     * @return the lowest ID, or -1 if the mask is empty
+     */
+    public static int first(long mask) {
+        return mask == EMPTY ? -1 : Long.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Returns the IDs in the mask in ascending order.
+     *
+     * @param mask the mask
+     * @return an array of IDs
+     */
+    public static int[] toIds(long mask) {
+        int[] ids = new int[Long.bitCount(mask)];
+        int i = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            ids[i++] = Long.numberOfTrailingZeros(remaining);
+        }
+        return ids;
+    }
+
+    private static void validate(int id) {
+        Validate.isTrue(id >= 0 && id < CardId.ID_SPACE_SIZE, INVALID_ID_MESSAGE, id);
+    }
+}
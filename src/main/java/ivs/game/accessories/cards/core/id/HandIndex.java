@@ -0,0 +1,284 @@
+package ivs.game.accessories.cards.core.id;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+
+/**
+ * Combinatorial (colexicographic) indexing of card sets drawn from a deck of standard cards.
+ * <p>
+ * The deck consists of every suit's cards within a rank range, for example Two to Ace for the 52-card deck
+ * or Six to Ace for the 36-card deck. Its cards are numbered 0 to {@code deckSize - 1} in ascending card ID
+ * order, and a set of {@code k} cards with positions {@code p1 < p2 < ... < pk} receives the colex index
+ * {@code C(p1, 1) + C(p2, 2) + ... + C(pk, k)}. The indexes of all {@code k}-card sets are exactly
+ * {@code 0} to {@code C(deckSize, k) - 1}, so they can address a dense lookup table.
+ * <p>
+ * Suit-isomorphic hands, which differ only by a permutation of suits, can be collapsed with
+ * {@link #canonicalMask(long)}: it orders the per-suit rank patterns and reassigns them to the suits in
+ * ascending suit ID order, so every member of an isomorphism class maps to the same canonical set.
+ * <p>
+ * Binomial coefficients are precomputed once, and no method except the ones returning arrays allocates.
+ * <p>
+ * Thread safety: Instances are immutable and can be shared between threads.
+ */
+public final class HandIndex {
+
+    /** Index over the 52-card deck, Two to Ace */
+    public static final HandIndex STANDARD_52 = new HandIndex(RankId.MIN_RANK, RankId.MAX_RANK);
+
+    /** Index over the 36-card deck, Six to Ace */
+    public static final HandIndex SHORT_36 = new HandIndex(RankId.SIX, RankId.MAX_RANK);
+
+    private static final int NO_POSITION = -1;
+
+    // BINOMIAL[n][k] = C(n, k) for 0 <= k <= n <= 52, zero for k > n
+    private static final long[][] BINOMIAL = new long[CardId.CARD_COUNT + 1][CardId.CARD_COUNT + 1];
+
+    static {
+        for (int n = 0; n <= CardId.CARD_COUNT; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    @Getter
+    private final int minRank;
+    @Getter
+    private final int maxRank;
+    @Getter
+    private final int deckSize;
+    @Getter
+    private final long deckMask;
+
+    // Deck position of every card ID, or NO_POSITION for cards outside the deck
+    private final int[] positions = new int[CardId.ID_SPACE_SIZE];
+    // Card ID at every deck position
+    private final int[] cardIds;
+
+    private HandIndex(int minRank, int maxRank) {
+        this.minRank = minRank;
+        this.maxRank = maxRank;
+        Arrays.fill(positions, NO_POSITION);
+        long mask = CardMask.EMPTY;
+        for (int suitId = SuitId.MIN_SUIT; suitId <= SuitId.MAX_SUIT; suitId++) {
+            for (int rankId = minRank; rankId <= maxRank; rankId++) {
+                mask |= 1L << CardId.getCardId(rankId, suitId);
+            }
+        }
+        this.deckMask = mask;
+        this.deckSize = CardMask.size(mask);
+        this.cardIds = CardMask.toIds(mask);
+        for (int position = 0; position < cardIds.length; position++) {
+            positions[cardIds[position]] = position;
+        }
+    }
+
+    /**
+     * Returns the index over the deck of all suits' cards within the given rank range.
+     *
+     * @param minRank the lowest rank ID in the deck
+     * @param maxRank the highest rank ID in the deck
+     * @return the hand index for the deck
+     * @throws IllegalArgumentException if a rank ID is invalid or minRank is greater than maxRank
+     */
+    public static HandIndex ofRankRange(int minRank, int maxRank) {
+        RankId.validate(minRank);
+        RankId.validate(maxRank);
+        Validate.isTrue(minRank <= maxRank, "Min rank cannot be greater than max rank");
+        if (minRank == STANDARD_52.minRank && maxRank == STANDARD_52.maxRank) {
+            return STANDARD_52;
+        }
+        if (minRank == SHORT_36.minRank && maxRank == SHORT_36.maxRank) {
+            return SHORT_36;
+        }
+        return new HandIndex(minRank, maxRank);
+    }
+
+    /**
+     * Returns the binomial coefficient {@code C(n, k)}.
+     *
+     * @param n the number of elements, between 0 and 52
+     * @param k the number of chosen elements
+     * @return the number of k-element subsets, or 0 if k is negative or greater than n
+     * @throws IllegalArgumentException if n is outside 0-52
+     */
+    public static long binomial(int n, int k) {
+        Validate.isTrue(n >= 0 && n <= CardId.CARD_COUNT, "n must be between 0 and %d", CardId.CARD_COUNT);
+        return k < 0 || k > n ? 0 : BINOMIAL[n][k];
+    }
+
+    /**
+     * Returns the number of distinct k-card sets of this deck, which is also the size of a dense table indexed
+     * by {@link #index(long)} for k-card sets.
+     *
+     * @param k the number of cards
+     * @return {@code C(deckSize, k)}, or 0 if k is negative or greater than the deck size
+     */
+    public long combinations(int k) {
+        return k < 0 || k > deckSize ? 0 : BINOMIAL[deckSize][k];
+    }
+
+    /**
+     * Checks whether the card is part of this deck.
+     *
+     * @param cardId the card or joker ID
+     * @return true if the card is in the deck
+     */
+    public boolean inDeck(int cardId) {
+        return cardId >= 0 && cardId < CardId.ID_SPACE_SIZE && positions[cardId] != NO_POSITION;
+    }
+
+    /**
+     * Returns the colex index of a card set given as a mask.
+     *
+     * @param mask the card set; every card must be in this deck
+     * @return the colex index among the sets of the same size
+     * @throws IllegalArgumentException if the mask contains a card outside the deck
+     */
+    public long index(long mask) {
+        Validate.isTrue((mask & ~deckMask) == 0, "Mask contains cards outside the deck");
+        long index = 0;
+        int k = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            index += BINOMIAL[positions[Long.numberOfTrailingZeros(remaining)]][++k];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the colex index of a card set given as card IDs in strictly ascending order.
+     *
+     * @param sortedIds the card IDs in ascending order, without duplicates
+     * @return the colex index among the sets of the same size
+     * @throws NullPointerException     if sortedIds is null
+     * @throws IllegalArgumentException if the IDs are not strictly ascending or a card is outside the deck
+     */
+    public long index(@NonNull int... sortedIds) {
+        long index = 0;
+        int previous = NO_POSITION;
+        for (int k = 0; k < sortedIds.length; k++) {
+            int id = sortedIds[k];
+            Validate.isTrue(inDeck(id), "Card ID not in deck: %d", id);
+            int position = positions[id];
+            Validate.isTrue(position > previous, "Card IDs must be strictly ascending");
+            index += BINOMIAL[position][k + 1];
+            previous = position;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the k-card set with the given colex index as a mask.
+     *
+     * @param index the colex index, between 0 and {@code combinations(k) - 1}
+     * @param k     the number of cards
+     * @return the card set
+     * @throws IllegalArgumentException if k or the index is out of range
+     */
+    public long unrankMask(long index, int k) {
+        validateRank(index, k);
+        long mask = CardMask.EMPTY;
+        long remaining = index;
+        int position = deckSize;
+        for (int i = k; i > 0; i--) {
+            position = largestPosition(remaining, i, position);
+            remaining -= BINOMIAL[position][i];
+            mask |= 1L << cardIds[position];
+        }
+        return mask;
+    }
+
+    /**
+     * Writes the card IDs of the k-card set with the given colex index, in ascending order, into the array.
+     *
+     * @param index       the colex index, between 0 and {@code combinations(k) - 1}
+     * @param k           the number of cards
+     * @param destination the array receiving the IDs; must hold at least k elements
+     * @throws NullPointerException     if destination is null
+     * @throws IllegalArgumentException if k or the index is out of range, or destination is too small
+     */
+    public void unrank(long index, int k, @NonNull int[] destination) {
+        validateRank(index, k);
+        Validate.isTrue(destination.length >= k, "Destination too small (required: %d, available: %d)",
+                k, destination.length);
+        long remaining = index;
+        int position = deckSize;
+        for (int i = k; i > 0; i--) {
+            position = largestPosition(remaining, i, position);
+            remaining -= BINOMIAL[position][i];
+            destination[i - 1] = cardIds[position];
+        }
+    }
+
+    /**
+     * Returns the canonical member of the suit isomorphism class of a card set.
+     * <p>
+     * The 13-bit rank patterns of the four suits are sorted in descending numeric order and assigned to
+     * suits 0 to 3. Two sets map to the same canonical set exactly when one is a suit permutation of the other.
+     * Because every suit of this deck covers the same ranks, the result is in this deck whenever the input is.
+     *
+     * @param mask the card set; every card must be in this deck
+     * @return the canonical card set
+     * @throws IllegalArgumentException if the mask contains a card outside the deck
+     */
+    public long canonicalMask(long mask) {
+        Validate.isTrue((mask & ~deckMask) == 0, "Mask contains cards outside the deck");
+        int a = CardMask.suitRanks(mask, 0);
+        int b = CardMask.suitRanks(mask, 1);
+        int c = CardMask.suitRanks(mask, 2);
+        int d = CardMask.suitRanks(mask, 3);
+        // Sorting network for four values, descending
+        int high1 = Math.max(a, b);
+        int low1 = Math.min(a, b);
+        int high2 = Math.max(c, d);
+        int low2 = Math.min(c, d);
+        int middle1 = Math.min(high1, high2);
+        int middle2 = Math.max(low1, low2);
+        return Math.max(high1, high2)
+                | ((long) Math.max(middle1, middle2) << CardId.CARDS_PER_SUIT)
+                | ((long) Math.min(middle1, middle2) << (2 * CardId.CARDS_PER_SUIT))
+                | ((long) Math.min(low1, low2) << (3 * CardId.CARDS_PER_SUIT));
+    }
+
+    /**
+     * Checks whether the card set is the canonical member of its suit isomorphism class.
+     *
+     * @param mask the card set; every card must be in this deck
+     * @return true if {@link #canonicalMask(long)} returns the same set
+     * @throws IllegalArgumentException if the mask contains a card outside the deck
+     */
+    public boolean isCanonical(long mask) {
+        return canonicalMask(mask) == mask;
+    }
+
+    /**
+     * Returns the colex index of the canonical member of the card set's suit isomorphism class.
+     * All suit permutations of a set share this index, so a table indexed by it needs one entry per class.
+     * The indexes are not dense: only indexes of canonical sets are used.
+     *
+     * @param mask the card set; every card must be in this deck
+     * @return the colex index of the canonical set
+     * @throws IllegalArgumentException if the mask contains a card outside the deck
+     */
+    public long canonicalIndex(long mask) {
+        return index(canonicalMask(mask));
+    }
+
+    private void validateRank(long index, int k) {
+        Validate.isTrue(k >= 0 && k <= deckSize, "Card count must be between 0 and %d", deckSize);
+        Validate.isTrue(index >= 0 && index < BINOMIAL[deckSize][k], "Index out of range: %d", index);
+    }
+
+    // Largest position below the limit whose C(position, k) does not exceed the remaining index
+    private static int largestPosition(long remaining, int k, int limit) {
+        int position = limit - 1;
+        while (BINOMIAL[position][k] > remaining) {
+            position--;
+        }
+        return position;
+    }
+}
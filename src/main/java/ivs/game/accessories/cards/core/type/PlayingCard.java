@@ -1,5 +1,7 @@
 package ivs.game.accessories.cards.core.type;
 
+import ivs.game.accessories.cards.core.id.JokerId;
+
 /**
  * Represents a playing card in a standard deck.
  * The interface is sealed and permits only two implementations:
@@ -53,4 +55,16 @@ public sealed interface PlayingCard permits StandardCard, JokerCard {
      * @return true if this is a joker card, false otherwise
      */
     boolean isJoker();
-}
\ No newline at end of file
+
+    /**
+     * Returns the card associated with the given ID, which may be either a standard card ID
+     * or a joker ID.
+     *
+     * @param id the card or joker ID to look up
+     * @return the {@link StandardCard} or {@link JokerCard} constant for the given ID
+     * @throws IllegalArgumentException if the ID is neither a valid card ID nor a valid joker ID
+     */
+    static PlayingCard getById(int id) {
+        return JokerId.isValid(id) ? JokerCard.getById(id) : StandardCard.getById(id);
+    }
+}
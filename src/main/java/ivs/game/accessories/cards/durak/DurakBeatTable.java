@@ -0,0 +1,131 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Precomputed Durak beating rules for one trump suit on the {@link DeckTemplate#SHORT} deck.
+ * <p>
+ * A card is beaten by a higher card of its own suit, or by any trump if it is not a trump itself.
+ * For every card the table stores the {@link CardMask} of all cards that beat it, so beating queries are
+ * a single mask operation. One shared table exists per trump suit, see {@link #forTrump(int)}.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+public final class DurakBeatTable {
+
+    /** Returned when no card qualifies */
+    public static final int NO_CARD = CardId.NO_CARD;
+
+    /** Cards of the 36-card deck */
+    public static final long DECK = DeckTemplate.SHORT.getMask();
+
+    private static final DurakBeatTable[] TABLES = new DurakBeatTable[SuitId.SUIT_COUNT];
+
+    static {
+        for (int suitId = SuitId.MIN_SUIT; suitId <= SuitId.MAX_SUIT; suitId++) {
+            TABLES[suitId] = new DurakBeatTable(suitId);
+        }
+    }
+
+    @Getter
+    private final int trump;
+    @Getter
+    private final long trumpMask;
+    // Mask of the cards beating every card ID; empty for cards outside the deck
+    private final long[] beaters = new long[CardId.CARD_COUNT];
+
+    private DurakBeatTable(int trump) {
+        this.trump = trump;
+        this.trumpMask = CardMask.suit(trump) & DECK;
+        for (int id : CardMask.toIds(DECK)) {
+            long suit = CardMask.suit(CardId.getSuitId(id));
+            long higher = suit & DECK & -(1L << (id + 1));
+            beaters[id] = CardId.getSuitId(id) == trump ? higher : higher | trumpMask;
+        }
+    }
+
+    /**
+     * Returns the table for the given trump suit.
+     *
+     * @param trump the trump suit ID
+     * @return the shared table
+     * @throws IllegalArgumentException if the suit ID is invalid
+     */
+    public static DurakBeatTable forTrump(int trump) {
+        SuitId.validate(trump);
+        return TABLES[trump];
+    }
+
+    /**
+     * Checks whether a card is a trump.
+     *
+     * @param cardId the card ID
+     * @return true if the card belongs to the trump suit
+     */
+    public boolean isTrump(int cardId) {
+        return (trumpMask & (1L << cardId)) != 0;
+    }
+
+    /**
+     * Returns all cards of the deck that beat the given card.
+     *
+     * @param cardId the attacking card ID
+     * @return the mask of beating cards
+     * @throws IllegalArgumentException if the card is not in the 36-card deck
+     */
+    public long beaters(int cardId) {
+        validate(cardId);
+        return beaters[cardId];
+    }
+
+    /**
+     * Checks whether one card beats another.
+     *
+     * @param attackCard  the attacking card ID
+     * @param defenseCard the defending card ID
+     * @return true if the defending card beats the attacking card
+     * @throws IllegalArgumentException if a card is not in the 36-card deck
+     */
+    public boolean canBeat(int attackCard, int defenseCard) {
+        validate(defenseCard);
+        return (beaters(attackCard) & (1L << defenseCard)) != 0;
+    }
+
+    /**
+     * Checks whether a hand can beat the given card.
+     *
+     * @param attackCard the attacking card ID
+     * @param hand       the defender's hand as a card mask
+     * @return true if the hand holds a beating card
+     * @throws IllegalArgumentException if the card is not in the 36-card deck
+     */
+    public boolean canBeat(int attackCard, long hand) {
+        return (beaters(attackCard) & hand) != 0;
+    }
+
+    /**
+     * Returns the cheapest card of the hand that beats the given card: the lowest higher card of the same suit,
+     * or, if there is none, the lowest trump.
+     *
+     * @param attackCard the attacking card ID
+     * @param hand       the defender's hand as a card mask
+     * @return the beating card ID, or {@link #NO_CARD} if the hand cannot beat the card
+     * @throws IllegalArgumentException if the card is not in the 36-card deck
+     */
+    public int minimalBeater(int attackCard, long hand) {
+        long candidates = beaters(attackCard) & hand;
+        long sameSuit = candidates & ~trumpMask;
+        long chosen = sameSuit != 0 ? sameSuit : candidates;
+        return chosen == 0 ? NO_CARD : Long.numberOfTrailingZeros(chosen);
+    }
+
+    private static void validate(int cardId) {
+        Validate.isTrue(cardId >= 0 && cardId < CardId.CARD_COUNT && (DECK & (1L << cardId)) != 0,
+                "Card not in the 36-card deck: %d", cardId);
+    }
+}
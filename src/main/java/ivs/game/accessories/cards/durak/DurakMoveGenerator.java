@@ -0,0 +1,191 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Generates legal Durak moves from hands given as {@link CardMask} masks.
+ * <p>
+ * Every kind of move is available as a mask of the playable cards, and as card IDs written into a caller-supplied
+ * {@code int[]} buffer in ascending order. Neither form allocates, which suits bots and self-play that generate
+ * moves in tight loops. Taking the cards and ending an attack are always possible and are not generated.
+ * <p>
+ * Rules:
+ * <ul>
+ *     <li>The first attack of a bout may be any card; later attacks must match the rank of a card on the table.</li>
+ *     <li>At most {@link DurakTable#MAX_PAIRS} cards are attacked in a bout, and the open attacks may not
+ *     outnumber the cards in the defender's hand.</li>
+ *     <li>A defense must beat the attacking card, see {@link DurakBeatTable}.</li>
+ *     <li>When transfers are enabled, a defender who has not covered any card may add a card of the attacked rank
+ *     if all attacking cards share that rank and the next player holds enough cards to face the larger attack.</li>
+ * </ul>
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+public final class DurakMoveGenerator {
+
+    private static final int RANK_PATTERNS = 1 << RankId.RANK_COUNT;
+    // Mask of all deck cards whose rank is in the pattern, indexed by 13-bit rank pattern
+    private static final long[] CARDS_OF_RANKS = new long[RANK_PATTERNS];
+
+    static {
+        for (int pattern = 1; pattern < RANK_PATTERNS; pattern++) {
+            int rankId = Integer.numberOfTrailingZeros(pattern);
+            CARDS_OF_RANKS[pattern] = CARDS_OF_RANKS[pattern & (pattern - 1)]
+                    | (CardMask.rank(rankId) & DurakBeatTable.DECK);
+        }
+    }
+
+    @Getter
+    private final DurakBeatTable beatTable;
+    @Getter
+    private final boolean transfers;
+
+    /**
+     * Creates a move generator.
+     *
+     * @param trump     the trump suit ID
+     * @param transfers true to allow transfers
+     * @throws IllegalArgumentException if the suit ID is invalid
+     */
+    public DurakMoveGenerator(int trump, boolean transfers) {
+        this.beatTable = DurakBeatTable.forTrump(trump);
+        this.transfers = transfers;
+    }
+
+    /**
+     * Returns the cards the attacker may add to the table.
+     *
+     * @param hand              the attacker's hand
+     * @param table             the current bout
+     * @param defenderHandSize  the number of cards in the defender's hand
+     * @return the mask of playable cards
+     * @throws NullPointerException if table is null
+     */
+    public long attackMask(long hand, @NonNull DurakTable table, int defenderHandSize) {
+        if (table.getAttackCount() >= DurakTable.MAX_PAIRS || table.getOpenCount() >= defenderHandSize) {
+            return CardMask.EMPTY;
+        }
+        return table.isEmpty() ? hand & DurakBeatTable.DECK : hand & CARDS_OF_RANKS[table.getRankMask()];
+    }
+
+    /**
+     * Returns the cards the defender may use to beat an attacking card.
+     *
+     * @param hand       the defender's hand
+     * @param attackCard the attacking card ID
+     * @return the mask of beating cards
+     * @throws IllegalArgumentException if the card is not in the 36-card deck
+     */
+    public long defenseMask(long hand, int attackCard) {
+        return beatTable.beaters(attackCard) & hand;
+    }
+
+    /**
+     * Returns the cards the defender may use to transfer the bout.
+     *
+     * @param hand                 the defender's hand
+     * @param table                the current bout
+     * @param nextDefenderHandSize the number of cards in the hand of the player the bout would pass to
+     * @return the mask of transferring cards, empty if transfers are disabled or not allowed
+     * @throws NullPointerException if table is null
+     */
+    public long transferMask(long hand, @NonNull DurakTable table, int nextDefenderHandSize) {
+        int ranks = table.getRankMask();
+        if (!transfers || table.isEmpty() || table.getBeatenCount() > 0 || (ranks & (ranks - 1)) != 0
+                || table.getAttackCount() >= DurakTable.MAX_PAIRS
+                || table.getAttackCount() + 1 > nextDefenderHandSize) {
+            return CardMask.EMPTY;
+        }
+        return hand & CARDS_OF_RANKS[ranks];
+    }
+
+    /**
+     * Writes the attacking moves into the buffer, see {@link #attackMask}.
+     *
+     * @param hand             the attacker's hand
+     * @param table            the current bout
+     * @param defenderHandSize the number of cards in the defender's hand
+     * @param out              the buffer receiving card IDs
+     * @return the number of moves written
+     * @throws NullPointerException     if table or out is null
+     * @throws IllegalArgumentException if the buffer is too small
+     */
+    public int attacks(long hand, @NonNull DurakTable table, int defenderHandSize, @NonNull int[] out) {
+        return write(attackMask(hand, table, defenderHandSize), out);
+    }
+
+    /**
+     * Writes the defending moves against one attacking card into the buffer, see {@link #defenseMask}.
+     *
+     * @param hand       the defender's hand
+     * @param attackCard the attacking card ID
+     * @param out        the buffer receiving card IDs
+     * @return the number of moves written
+     * @throws NullPointerException     if out is null
+     * @throws IllegalArgumentException if the card is not in the deck or the buffer is too small
+     */
+    public int defenses(long hand, int attackCard, @NonNull int[] out) {
+        return write(defenseMask(hand, attackCard), out);
+    }
+
+    /**
+     * Writes the transferring moves into the buffer, see {@link #transferMask}.
+     *
+     * @param hand                 the defender's hand
+     * @param table                the current bout
+     * @param nextDefenderHandSize the number of cards in the hand of the player the bout would pass to
+     * @param out                  the buffer receiving card IDs
+     * @return the number of moves written
+     * @throws NullPointerException     if table or out is null
+     * @throws IllegalArgumentException if the buffer is too small
+     */
+    public int transfers(long hand, @NonNull DurakTable table, int nextDefenderHandSize, @NonNull int[] out) {
+        return write(transferMask(hand, table, nextDefenderHandSize), out);
+    }
+
+    /**
+     * Checks whether the defender can cover every open attack, each with a different card.
+     *
+     * @param hand  the defender's hand
+     * @param table the current bout
+     * @return true if all open attacks can be beaten
+     * @throws NullPointerException if table is null
+     */
+    public boolean canBeatAll(long hand, @NonNull DurakTable table) {
+        return canBeatFrom(hand, table, 0);
+    }
+
+    // Backtracking over the open attacks; at most six levels with few candidates each
+    private boolean canBeatFrom(long hand, DurakTable table, int pair) {
+        int next = pair;
+        while (next < table.getAttackCount() && table.getDefense(next) != DurakBeatTable.NO_CARD) {
+            next++;
+        }
+        if (next == table.getAttackCount()) {
+            return true;
+        }
+        long candidates = beatTable.beaters(table.getAttack(next)) & hand;
+        while (candidates != 0) {
+            long bit = Long.lowestOneBit(candidates);
+            if (canBeatFrom(hand & ~bit, table, next + 1)) {
+                return true;
+            }
+            candidates &= ~bit;
+        }
+        return false;
+    }
+
+    private static int write(long moves, int[] out) {
+        int count = Long.bitCount(moves);
+        Validate.isTrue(out.length >= count, "Buffer too small (required: %d, available: %d)", count, out.length);
+        int i = 0;
+        for (long remaining = moves; remaining != 0; remaining &= remaining - 1) {
+            out[i++] = Long.numberOfTrailingZeros(remaining);
+        }
+        return count;
+    }
+}
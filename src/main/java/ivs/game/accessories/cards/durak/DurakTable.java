@@ -0,0 +1,151 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The cards of one Durak bout: up to {@link #MAX_PAIRS} attacking cards, each possibly covered by a defending card.
+ * <p>
+ * Besides the pairs, the table keeps the mask of all cards on it and the 13-bit mask of their ranks, which is
+ * all the move generator needs to find the cards that may be added. The table does not check the Durak rules;
+ * {@link DurakMoveGenerator} produces the legal moves.
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ */
+public final class DurakTable {
+
+    /** Maximum number of attacking cards in a bout */
+    public static final int MAX_PAIRS = 6;
+
+    private final int[] attacks = new int[MAX_PAIRS];
+    private final int[] defenses = new int[MAX_PAIRS];
+    @Getter
+    private int attackCount;
+    @Getter
+    private int beatenCount;
+    @Getter
+    private long cardMask;
+    @Getter
+    private int rankMask;
+
+    /**
+     * Adds an attacking card.
+     *
+     * @param cardId the card ID
+     * @throws IllegalArgumentException if the card is not a standard card, is already on the table,
+     *                                  or the table is full
+     */
+    public void attack(int cardId) {
+        CardId.validate(cardId);
+        Validate.isTrue(attackCount < MAX_PAIRS, "Table is full");
+        Validate.isTrue((cardMask & (1L << cardId)) == 0, "Card already on the table: %d", cardId);
+        attacks[attackCount] = cardId;
+        defenses[attackCount] = DurakBeatTable.NO_CARD;
+        attackCount++;
+        add(cardId);
+    }
+
+    /**
+     * Covers an attacking card.
+     *
+     * @param pair   the index of the attacking card
+     * @param cardId the defending card ID
+     * @throws IllegalArgumentException if the index is out of range, the card is already covered,
+     *                                  or the defending card is invalid or already on the table
+     */
+    public void defend(int pair, int cardId) {
+        CardId.validate(cardId);
+        Validate.isTrue(pair >= 0 && pair < attackCount, "Invalid pair index: %d", pair);
+        Validate.isTrue(defenses[pair] == DurakBeatTable.NO_CARD, "Card already covered: %d", attacks[pair]);
+        Validate.isTrue((cardMask & (1L << cardId)) == 0, "Card already on the table: %d", cardId);
+        defenses[pair] = cardId;
+        beatenCount++;
+        add(cardId);
+    }
+
+    /**
+     * Adds a transferring card as a new attack, which passes the bout on to the next player.
+     * The attacking cards stay on the table.
+     *
+     * @param cardId the transferring card ID
+     * @throws IllegalArgumentException if a card was already covered or the card cannot be added as an attack
+     */
+    public void transfer(int cardId) {
+        Validate.isTrue(beatenCount == 0, "Cannot transfer after a card was covered");
+        attack(cardId);
+    }
+
+    /**
+     * Returns the attacking card of a pair.
+     *
+     * @param pair the pair index
+     * @return the attacking card ID
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getAttack(int pair) {
+        checkIndex(pair);
+        return attacks[pair];
+    }
+
+    /**
+     * Returns the defending card of a pair.
+     *
+     * @param pair the pair index
+     * @return the defending card ID, or {@link DurakBeatTable#NO_CARD} if the attack is not covered
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getDefense(int pair) {
+        checkIndex(pair);
+        return defenses[pair];
+    }
+
+    /**
+     * Returns the number of attacking cards not yet covered.
+     *
+     * @return the number of open attacks
+     */
+    public int getOpenCount() {
+        return attackCount - beatenCount;
+    }
+
+    /**
+     * Checks whether the table holds no cards.
+     *
+     * @return true if no card was played in this bout
+     */
+    public boolean isEmpty() {
+        return attackCount == 0;
+    }
+
+    /**
+     * Checks whether every attacking card is covered.
+     *
+     * @return true if there is no open attack
+     */
+    public boolean isAllBeaten() {
+        return beatenCount == attackCount;
+    }
+
+    /**
+     * Removes all cards, ending the bout.
+     */
+    public void clear() {
+        attackCount = 0;
+        beatenCount = 0;
+        cardMask = CardMask.EMPTY;
+        rankMask = 0;
+    }
+
+    private void add(int cardId) {
+        cardMask |= 1L << cardId;
+        rankMask |= 1 << CardId.getRankId(cardId);
+    }
+
+    private void checkIndex(int pair) {
+        if (pair < 0 || pair >= attackCount) {
+            throw new IndexOutOfBoundsException("Invalid pair index: " + pair);
+        }
+    }
+}
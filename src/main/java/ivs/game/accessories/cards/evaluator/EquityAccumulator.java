@@ -0,0 +1,80 @@
+package ivs.game.accessories.cards.evaluator;
+
+/**
+ * Per-worker showdown totals of an equity query, kept in primitive arrays.
+ * <p>
+ * Thread safety: Not thread-safe; each worker owns its accumulator and results are combined with {@link #merge}.
+ */
+final class EquityAccumulator {
+
+    long trials;
+    final long[] wins;
+    final long[] ties;
+    final double[] equity;
+    final double[] equitySquares;
+
+    // Hand values of the current showdown, reused between trials
+    private final int[] values;
+
+    EquityAccumulator(int players) {
+        this.wins = new long[players];
+        this.ties = new long[players];
+        this.equity = new double[players];
+        this.equitySquares = new double[players];
+        this.values = new int[players];
+    }
+
+    /**
+     * Evaluates one showdown and records its outcome.
+     *
+     * @param hands the hole cards of every player
+     * @param board the five board cards
+     */
+    void showdown(long[] hands, long board) {
+        int best = -1;
+        int winners = 0;
+        for (int i = 0; i < hands.length; i++) {
+            int value = PokerHandEvaluator.evaluateUnchecked(hands[i] | board);
+            values[i] = value;
+            if (value > best) {
+                best = value;
+                winners = 1;
+            } else if (value == best) {
+                winners++;
+            }
+        }
+        double share = 1.0 / winners;
+        for (int i = 0; i < hands.length; i++) {
+            if (values[i] == best) {
+                if (winners == 1) {
+                    wins[i]++;
+                } else {
+                    ties[i]++;
+                }
+                equity[i] += share;
+                equitySquares[i] += share * share;
+            }
+        }
+        trials++;
+    }
+
+    void merge(EquityAccumulator other) {
+        trials += other.trials;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            ties[i] += other.ties[i];
+            equity[i] += other.equity[i];
+            equitySquares[i] += other.equitySquares[i];
+        }
+    }
+
+    // Standard error of the mean equity of a player
+    double standardError(int player) {
+        if (trials < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double mean = equity[player] / trials;
+        double variance = Math.max(0, equitySquares[player] / trials - mean * mean);
+        return Math.sqrt(variance / (trials - 1));
+    }
+}
@@ -0,0 +1,394 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.HandIndex;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes the showdown equity of two or more Texas Hold'em style hands or ranges.
+ * <p>
+ * Every player holds two cards from a {@link HandRange}, and the board is completed to five cards from the
+ * {@link DeckTemplate#FULL} deck minus the known board cards, dead cards and the players' hands. All valid deals,
+ * that is, non-overlapping hands from the ranges together with a board completion, are equally likely.
+ * <p>
+ * {@link #exhaustive} enumerates every valid deal, splitting the board completions over a {@link ForkJoinPool}.
+ * {@link #sample} draws random deals on every worker with its own {@link SplittableRandom} split from the seed,
+ * and can stop early once the estimate is precise enough. Workers accumulate results in primitive arrays and
+ * the totals are merged at the end of every task.
+ * <p>
+ * Thread safety: Instances are stateless apart from the pool and can run queries from several threads.
+ */
+public final class EquityCalculator {
+
+    /** Number of cards on a complete board */
+    public static final int BOARD_CARDS = 5;
+
+    /** Minimum number of players */
+    public static final int MIN_PLAYERS = 2;
+
+    /** Maximum number of players */
+    public static final int MAX_PLAYERS = 10;
+
+    // 95% two-sided normal quantile
+    private static final double CONFIDENCE_Z = 1.96;
+    private static final int MAX_DEAL_ATTEMPTS = 10_000;
+    // Leaf tasks per worker in exhaustive queries
+    private static final int TASKS_PER_WORKER = 16;
+
+    private static final long DECK = DeckTemplate.FULL.getMask();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a calculator running on the common pool.
+     */
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a calculator running on the given pool.
+     *
+     * @param pool the pool running the queries
+     * @throws NullPointerException if pool is null
+     */
+    public EquityCalculator(@NonNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Computes the exact equity by enumerating every valid deal.
+     *
+     * @param ranges the range of every player
+     * @param board  the known board cards, up to five
+     * @param dead   cards known to be out of play
+     * @return the exact result
+     * @throws NullPointerException     if ranges is null
+     * @throws IllegalArgumentException if the query is invalid or admits no valid deal
+     */
+    public EquityResult exhaustive(@NonNull List<HandRange> ranges, long board, long dead) {
+        return exhaustive(ranges, board, dead, EquityProgressListener.NONE);
+    }
+
+    /**
+     * Computes the exact equity by enumerating every valid deal, reporting completed boards to the listener.
+     *
+     * @param ranges   the range of every player
+     * @param board    the known board cards, up to five
+     * @param dead     cards known to be out of play
+     * @param listener the listener receiving progress from the worker threads
+     * @return the exact result
+     * @throws NullPointerException     if ranges or listener is null
+     * @throws IllegalArgumentException if the query is invalid or admits no valid deal
+     */
+    public EquityResult exhaustive(@NonNull List<HandRange> ranges, long board, long dead,
+                                   @NonNull EquityProgressListener listener) {
+        Query query = new Query(ranges, board, dead);
+        long total = HandIndex.binomial(query.available.length, query.missing);
+        long leafSize = Math.max(1, total / ((long) pool.getParallelism() * TASKS_PER_WORKER));
+        EquityAccumulator result = pool.invoke(
+                new EnumerationTask(query, 0, total, leafSize, new Progress(total, listener)));
+        Validate.isTrue(result.trials > 0, "Ranges and board admit no valid deal");
+        return new EquityResult(result, true);
+    }
+
+    /**
+     * Estimates the equity by sampling random deals.
+     *
+     * @param ranges  the range of every player
+     * @param board   the known board cards, up to five
+     * @param dead    cards known to be out of play
+     * @param options the sampling settings
+     * @return the estimated result
+     * @throws NullPointerException     if ranges or options is null
+     * @throws IllegalArgumentException if the query is invalid or admits no valid deal
+     * @throws IllegalStateException    if the ranges conflict so often that no deal can be drawn
+     */
+    public EquityResult sample(@NonNull List<HandRange> ranges, long board, long dead,
+                               @NonNull SamplingOptions options) {
+        Query query = new Query(ranges, board, dead);
+        Validate.isTrue(query.hasValidDeal(), "Ranges and board admit no valid deal");
+
+        SplittableRandom root = new SplittableRandom(options.getSeed());
+        int workers = pool.getParallelism();
+        List<SamplingTask> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(new SamplingTask(query, root.split()));
+        }
+
+        EquityAccumulator total = new EquityAccumulator(query.ranges.length);
+        while (total.trials < options.getMaxTrials()) {
+            long round = Math.min(options.getBatchSize(), options.getMaxTrials() - total.trials);
+            for (int i = 0; i < workers; i++) {
+                tasks.get(i).prepare(round / workers + (i < round % workers ? 1 : 0));
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+            for (SamplingTask task : tasks) {
+                total.merge(task.accumulator);
+            }
+            options.getProgressListener().onProgress(total.trials, options.getMaxTrials());
+            if (options.getTargetMargin() > 0 && withinMargin(total, options.getTargetMargin())) {
+                break;
+            }
+        }
+        return new EquityResult(total, false);
+    }
+
+    /**
+     * Returns the mask of the given cards, a convenience for building queries.
+     *
+     * @param cards the cards
+     * @return the mask of the cards
+     * @throws NullPointerException if a card is null
+     */
+    public static long mask(@NonNull PlayingCard... cards) {
+        long mask = CardMask.EMPTY;
+        for (PlayingCard card : cards) {
+            Validate.notNull(card, "Cards cannot contain null elements");
+            mask |= 1L << card.getId();
+        }
+        return mask;
+    }
+
+    private static boolean withinMargin(EquityAccumulator accumulator, double margin) {
+        for (int i = 0; i < accumulator.wins.length; i++) {
+            if (CONFIDENCE_Z * accumulator.standardError(i) > margin) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validated query: ranges without blocked hands, the known board and the cards left for the board.
+     */
+    private static final class Query {
+        final HandRange[] ranges;
+        final long board;
+        final int missing;
+        final int[] available;
+
+        Query(List<HandRange> ranges, long board, long dead) {
+            Validate.isTrue(ranges.size() >= MIN_PLAYERS && ranges.size() <= MAX_PLAYERS,
+                    "Player count must be between %d and %d", MIN_PLAYERS, MAX_PLAYERS);
+            Validate.noNullElements(ranges, "Ranges cannot contain null elements");
+            Validate.isTrue((board & ~DECK) == 0 && (dead & ~DECK) == 0, "Board and dead cards must be standard cards");
+            Validate.isTrue(Long.bitCount(board) <= BOARD_CARDS, "Board cannot have more than %d cards", BOARD_CARDS);
+            Validate.isTrue((board & dead) == 0, "Board and dead cards cannot overlap");
+
+            long blocked = board | dead;
+            this.ranges = new HandRange[ranges.size()];
+            for (int i = 0; i < this.ranges.length; i++) {
+                this.ranges[i] = ranges.get(i).without(blocked);
+                Validate.isTrue(this.ranges[i].size() > 0, "Range of player %d has no available hand", i);
+            }
+            this.board = board;
+            this.missing = BOARD_CARDS - Long.bitCount(board);
+            this.available = CardMask.toIds(DECK & ~blocked);
+            Validate.isTrue(available.length >= missing + HandRange.HOLE_CARDS * this.ranges.length,
+                    "Not enough cards for %d players", this.ranges.length);
+        }
+
+        boolean hasValidDeal() {
+            return findDeal(0, CardMask.EMPTY);
+        }
+
+        private boolean findDeal(int player, long used) {
+            if (player == ranges.length) {
+                return true;
+            }
+            HandRange range = ranges[player];
+            for (int i = 0; i < range.size(); i++) {
+                long hand = range.get(i);
+                if ((hand & used) == 0 && findDeal(player + 1, used | hand)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Shared progress counter of an exhaustive query.
+     */
+    private static final class Progress {
+        final long total;
+        final EquityProgressListener listener;
+        final AtomicLong completed = new AtomicLong();
+
+        Progress(long total, EquityProgressListener listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        void add(long boards) {
+            listener.onProgress(completed.addAndGet(boards), total);
+        }
+    }
+
+    /**
+     * Enumerates the board completions with colex indexes in [from, to) and every valid hand assignment for each.
+     */
+    @SuppressWarnings("serial") // Never serialized; only run in a ForkJoinPool
+    private static final class EnumerationTask extends RecursiveTask<EquityAccumulator> {
+        private final Query query;
+        private final long from;
+        private final long to;
+        private final long leafSize;
+        private final Progress progress;
+
+        EnumerationTask(Query query, long from, long to, long leafSize, Progress progress) {
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.progress = progress;
+        }
+
+        @Override
+        protected EquityAccumulator compute() {
+            if (to - from > leafSize) {
+                long middle = (from + to) >>> 1;
+                EnumerationTask left = new EnumerationTask(query, from, middle, leafSize, progress);
+                left.fork();
+                EquityAccumulator result = new EnumerationTask(query, middle, to, leafSize, progress).compute();
+                result.merge(left.join());
+                return result;
+            }
+            EquityAccumulator accumulator = new EquityAccumulator(query.ranges.length);
+            long[] hands = new long[query.ranges.length];
+            int[] positions = new int[query.missing];
+            unrank(from, positions);
+            for (long index = from; index < to; index++) {
+                long board = query.board;
+                for (int position : positions) {
+                    board |= 1L << query.available[position];
+                }
+                deal(accumulator, hands, 0, board, board);
+                next(positions);
+            }
+            progress.add(to - from);
+            return accumulator;
+        }
+
+        private void deal(EquityAccumulator accumulator, long[] hands, int player, long used, long board) {
+            if (player == hands.length) {
+                accumulator.showdown(hands, board);
+                return;
+            }
+            HandRange range = query.ranges[player];
+            for (int i = 0; i < range.size(); i++) {
+                long hand = range.get(i);
+                if ((hand & used) == 0) {
+                    hands[player] = hand;
+                    deal(accumulator, hands, player + 1, used | hand, board);
+                }
+            }
+        }
+
+        // Positions of the combination with the given colex index, ascending
+        private void unrank(long index, int[] positions) {
+            long remaining = index;
+            int position = query.available.length;
+            for (int k = positions.length; k > 0; k--) {
+                do {
+                    position--;
+                } while (HandIndex.binomial(position, k) > remaining);
+                remaining -= HandIndex.binomial(position, k);
+                positions[k - 1] = position;
+            }
+        }
+
+        // Advances the positions to the next combination in colex order
+        private static void next(int[] positions) {
+            for (int i = 0; i < positions.length; i++) {
+                if (i == positions.length - 1 || positions[i] + 1 < positions[i + 1]) {
+                    positions[i]++;
+                    for (int j = 0; j < i; j++) {
+                        positions[j] = j;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws a fixed number of random deals with a worker-owned generator.
+     */
+    @SuppressWarnings("serial") // Never serialized; only run in a ForkJoinPool
+    private static final class SamplingTask extends RecursiveAction {
+        private final Query query;
+        private final SplittableRandom random;
+        private final long[] hands;
+        private EquityAccumulator accumulator;
+        private long trials;
+
+        SamplingTask(Query query, SplittableRandom random) {
+            this.query = query;
+            this.random = random;
+            this.hands = new long[query.ranges.length];
+        }
+
+        void prepare(long trials) {
+            this.trials = trials;
+            this.accumulator = new EquityAccumulator(query.ranges.length);
+            reinitialize();
+        }
+
+        @Override
+        protected void compute() {
+            int[] available = query.available;
+            for (long trial = 0; trial < trials; trial++) {
+                long used = dealHands();
+                long board = query.board;
+                for (int k = 0; k < query.missing; k++) {
+                    long card;
+                    do {
+                        card = 1L << available[random.nextInt(available.length)];
+                    } while ((card & used) != 0);
+                    used |= card;
+                    board |= card;
+                }
+                accumulator.showdown(hands, board);
+            }
+        }
+
+        // Draws non-overlapping hands by rejection, which keeps every valid assignment equally likely
+        private long dealHands() {
+            for (int attempt = 0; attempt < MAX_DEAL_ATTEMPTS; attempt++) {
+                long used = CardMask.EMPTY;
+                int player = 0;
+                while (player < hands.length) {
+                    HandRange range = query.ranges[player];
+                    long hand = range.get(random.nextInt(range.size()));
+                    if ((hand & used) != 0) {
+                        break;
+                    }
+                    hands[player++] = hand;
+                    used |= hand;
+                }
+                if (player == hands.length) {
+                    return used;
+                }
+            }
+            throw new IllegalStateException("Could not deal non-overlapping hands from the ranges");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ivs.game.accessories.cards.evaluator;
+
+/**
+ * Receives progress reports from a running {@link EquityCalculator} query.
+ * <p>
+ * Thread safety: Reports of an exhaustive query come from the worker threads, so implementations must be
+ * thread-safe and fast.
+ */
+@FunctionalInterface
+public interface EquityProgressListener {
+
+    /** A listener that ignores all reports */
+    EquityProgressListener NONE = (completed, total) -> {
+    };
+
+    /**
+     * Reports progress. Units are boards for exhaustive queries and trials for sampling queries.
+     *
+     * @param completed the number of completed units
+     * @param total     the total number of units, or the maximum for sampling queries that may stop early
+     */
+    void onProgress(long completed, long total);
+}
@@ -0,0 +1,100 @@
+package ivs.game.accessories.cards.evaluator;
+
+import lombok.Getter;
+
+/**
+ * The outcome of an {@link EquityCalculator} query.
+ * <p>
+ * Equity is the expected share of the pot: a win counts as 1 and a tie between {@code k} players as
+ * {@code 1/k} for each of them. Exhaustive results are exact and have a standard error of zero.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+public final class EquityResult {
+
+    @Getter
+    private final long trials;
+    @Getter
+    private final boolean exhaustive;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] equity;
+    private final double[] standardErrors;
+
+    EquityResult(EquityAccumulator accumulator, boolean exhaustive) {
+        int players = accumulator.wins.length;
+        this.trials = accumulator.trials;
+        this.exhaustive = exhaustive;
+        this.wins = accumulator.wins.clone();
+        this.ties = accumulator.ties.clone();
+        this.equity = new double[players];
+        this.standardErrors = new double[players];
+        for (int i = 0; i < players; i++) {
+            equity[i] = trials == 0 ? 0 : accumulator.equity[i] / trials;
+            standardErrors[i] = exhaustive ? 0 : accumulator.standardError(i);
+        }
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return equity.length;
+    }
+
+    /**
+     * Returns the equity of a player.
+     *
+     * @param player the player index, in query order
+     * @return the expected pot share, between 0 and 1
+     * @throws IndexOutOfBoundsException if the player index is out of range
+     */
+    public double getEquity(int player) {
+        return equity[player];
+    }
+
+    /**
+     * Returns the fraction of showdowns the player won alone.
+     *
+     * @param player the player index, in query order
+     * @return the win frequency
+     * @throws IndexOutOfBoundsException if the player index is out of range
+     */
+    public double getWinRate(int player) {
+        return trials == 0 ? 0 : (double) wins[player] / trials;
+    }
+
+    /**
+     * Returns the fraction of showdowns the player tied with at least one other player.
+     *
+     * @param player the player index, in query order
+     * @return the tie frequency
+     * @throws IndexOutOfBoundsException if the player index is out of range
+     */
+    public double getTieRate(int player) {
+        return trials == 0 ? 0 : (double) ties[player] / trials;
+    }
+
+    /**
+     * Returns the standard error of the player's equity estimate.
+     *
+     * @param player the player index, in query order
+     * @return the standard error, or 0 for exhaustive results
+     * @throws IndexOutOfBoundsException if the player index is out of range
+     */
+    public double getStandardError(int player) {
+        return standardErrors[player];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("EquityResult(trials=").append(trials)
+                .append(", exhaustive=").append(exhaustive).append(", equity=[");
+        for (int i = 0; i < equity.length; i++) {
+            builder.append(i == 0 ? "" : ", ").append(String.format("%.4f", equity[i]));
+        }
+        return builder.append("])").toString();
+    }
+}
@@ -0,0 +1,35 @@
+package ivs.game.accessories.cards.evaluator;
+
+/**
+ * Poker hand categories, declared from the weakest to the strongest.
+ *
+ * @see PokerHandEvaluator
+ */
+public enum HandCategory {
+    HIGH_CARD,
+    ONE_PAIR,
+    TWO_PAIR,
+    THREE_OF_A_KIND,
+    STRAIGHT,
+    FLUSH,
+    FULL_HOUSE,
+    FOUR_OF_A_KIND,
+    STRAIGHT_FLUSH;
+
+    private static final HandCategory[] VALUES = values();
+
+    /**
+     * Returns the category of a hand value produced by {@link PokerHandEvaluator}.
+     *
+     * @param handValue the hand value
+     * @return the category of the hand
+     * @throws IllegalArgumentException if the value does not encode a category
+     */
+    public static HandCategory of(int handValue) {
+        int ordinal = handValue >>> PokerHandEvaluator.CATEGORY_SHIFT;
+        if (handValue < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("Invalid hand value: " + handValue);
+        }
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,126 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of equally weighted two-card starting hands a player may hold.
+ * <p>
+ * Each hand is stored as a {@link CardMask} of two standard cards. A range with one hand represents
+ * known hole cards.
+ *
+ * @see EquityCalculator
+ */
+public final class HandRange {
+
+    /** Number of hole cards in every hand of a range */
+    public static final int HOLE_CARDS = 2;
+
+    private final long[] hands;
+
+    private HandRange(long[] hands) {
+        this.hands = hands;
+    }
+
+    /**
+     * Creates a range from hand masks. Duplicate hands are kept once.
+     *
+     * @param hands the hands as masks of two standard cards
+     * @return the range
+     * @throws NullPointerException     if hands is null
+     * @throws IllegalArgumentException if hands is empty or a mask is not exactly two standard cards
+     */
+    public static HandRange of(@NonNull long... hands) {
+        Validate.isTrue(hands.length > 0, "Range cannot be empty");
+        for (long hand : hands) {
+            Validate.isTrue((hand & ~CardMask.ALL_CARDS) == 0 && Long.bitCount(hand) == HOLE_CARDS,
+                    "Hand must consist of %d standard cards", HOLE_CARDS);
+        }
+        return new HandRange(Arrays.stream(hands).distinct().toArray());
+    }
+
+    /**
+     * Creates a range holding the single hand made of the given cards.
+     *
+     * @param first  the first card ID
+     * @param second the second card ID
+     * @return the range
+     * @throws IllegalArgumentException if an ID is not a standard card or both IDs are equal
+     */
+    public static HandRange exact(int first, int second) {
+        CardId.validate(first);
+        CardId.validate(second);
+        Validate.isTrue(first != second, "Hand cannot contain duplicate cards");
+        return of(CardMask.of(first, second));
+    }
+
+    /**
+     * Creates a range holding the single hand made of the given cards.
+     *
+     * @param first  the first card
+     * @param second the second card
+     * @return the range
+     * @throws NullPointerException     if a card is null
+     * @throws IllegalArgumentException if a card is a joker or both cards are equal
+     */
+    public static HandRange exact(@NonNull PlayingCard first, @NonNull PlayingCard second) {
+        return exact(first.getId(), second.getId());
+    }
+
+    /**
+     * Creates a range of every hand that can be made from the given cards.
+     *
+     * @param cards the mask of standard cards to choose from
+     * @return the range of all two-card subsets
+     * @throws IllegalArgumentException if the mask holds jokers or fewer than two cards
+     */
+    public static HandRange allOf(long cards) {
+        Validate.isTrue((cards & ~CardMask.ALL_CARDS) == 0, "Cards cannot contain jokers");
+        int[] ids = CardMask.toIds(cards);
+        Validate.isTrue(ids.length >= HOLE_CARDS, "At least %d cards are required", HOLE_CARDS);
+        long[] hands = new long[ids.length * (ids.length - 1) / 2];
+        int count = 0;
+        for (int i = 0; i < ids.length; i++) {
+            for (int j = i + 1; j < ids.length; j++) {
+                hands[count++] = (1L << ids[i]) | (1L << ids[j]);
+            }
+        }
+        return new HandRange(hands);
+    }
+
+    /**
+     * Returns the number of hands in the range.
+     *
+     * @return the number of hands
+     */
+    public int size() {
+        return hands.length;
+    }
+
+    /**
+     * Returns the hand at the given position.
+     *
+     * @param index the position of the hand
+     * @return the hand as a card mask
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long get(int index) {
+        return hands[index];
+    }
+
+    /**
+     * Returns the range without the hands that share a card with the given mask.
+     *
+     * @param blocked the cards that are unavailable
+     * @return this range if no hand is blocked, otherwise a new range, possibly empty
+     */
+    HandRange without(long blocked) {
+        long[] remaining = Arrays.stream(hands).filter(hand -> (hand & blocked) == 0).toArray();
+        return remaining.length == hands.length ? this : new HandRange(remaining);
+    }
+}
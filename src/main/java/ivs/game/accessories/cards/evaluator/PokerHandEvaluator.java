@@ -0,0 +1,228 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Collection;
+
+/**
+ * Ranks poker hands of 5, 6 or 7 standard cards by the best 5-card hand they contain.
+ * <p>
+ * A hand value is an {@code int} where a greater value means a stronger hand and equal values mean a tie.
+ * Bits 20 and above hold the {@link HandCategory} ordinal, and bits 0-19 hold up to five tie-breaking
+ * rank IDs, four bits each, from the most significant one down; unused positions are zero.
+ * For example, two pair of kings and fives with an ace kicker is
+ * {@code TWO_PAIR << 20 | KING << 16 | FIVE << 12 | ACE << 8}.
+ * <p>
+ * Hands are evaluated from the 13-bit rank patterns of the four suits with two tables of 8192 entries,
+ * built once when the class is loaded: the highest straight in a rank pattern and the five highest ranks
+ * of a rank pattern. Pairs, trips and quads are found with bitwise operations on the suit patterns,
+ * so an evaluation performs no allocation and no loop over cards.
+ * <p>
+ * Thread safety: All methods are stateless and can be called from any thread.
+ */
+@UtilityClass
+public final class PokerHandEvaluator {
+
+    /** Bit position of the category ordinal in a hand value */
+    public static final int CATEGORY_SHIFT = 20;
+
+    /** Smallest number of cards in an evaluated hand */
+    public static final int MIN_CARDS = 5;
+
+    /** Largest number of cards in an evaluated hand */
+    public static final int MAX_CARDS = 7;
+
+    private static final int PATTERN_COUNT = 1 << CardId.CARDS_PER_SUIT;
+    private static final int NO_STRAIGHT = -1;
+    // Ace, Two, Three, Four and Five
+    private static final int WHEEL = (1 << RankId.ACE) | 0b1111;
+
+    // Rank ID of the highest straight card in every rank pattern, or NO_STRAIGHT
+    private static final int[] STRAIGHTS = new int[PATTERN_COUNT];
+    // Up to five highest rank IDs of every rank pattern, packed four bits each from bit 16 down
+    private static final int[] TOP_FIVE = new int[PATTERN_COUNT];
+
+    static {
+        for (int pattern = 0; pattern < PATTERN_COUNT; pattern++) {
+            STRAIGHTS[pattern] = highestStraight(pattern);
+            int packed = 0;
+            int shift = 16;
+            for (int rankId = RankId.MAX_RANK; rankId >= RankId.MIN_RANK && shift >= 0; rankId--) {
+                if ((pattern & (1 << rankId)) != 0) {
+                    packed |= rankId << shift;
+                    shift -= 4;
+                }
+            }
+            TOP_FIVE[pattern] = packed;
+        }
+    }
+
+    /**
+     * Evaluates a hand given as a card mask.
+     *
+     * @param mask the cards of the hand, see {@link CardMask}
+     * @return the hand value
+     * @throws IllegalArgumentException if the mask holds jokers or fewer than 5 or more than 7 cards
+     */
+    public static int evaluate(long mask) {
+        int size = Long.bitCount(mask);
+        Validate.isTrue((mask & ~CardMask.ALL_CARDS) == 0, "Hand cannot contain jokers");
+        Validate.isTrue(size >= MIN_CARDS && size <= MAX_CARDS,
+                "Hand must contain %d to %d cards (actual: %d)", MIN_CARDS, MAX_CARDS, size);
+        return evaluateUnchecked(mask);
+    }
+
+    /**
+     * Evaluates a hand given as card IDs.
+     *
+     * @param cardIds the card IDs of the hand, in any order
+     * @return the hand value
+     * @throws NullPointerException     if cardIds is null
+     * @throws IllegalArgumentException if an ID is not a standard card, an ID is repeated,
+     *                                  or there are fewer than 5 or more than 7 cards
+     */
+    public static int evaluate(@NonNull int... cardIds) {
+        long mask = CardMask.EMPTY;
+        for (int id : cardIds) {
+            CardId.validate(id);
+            mask |= 1L << id;
+        }
+        Validate.isTrue(Long.bitCount(mask) == cardIds.length, "Hand cannot contain duplicate cards");
+        return evaluate(mask);
+    }
+
+    /**
+     * Evaluates a hand given as cards.
+     *
+     * @param cards the cards of the hand
+     * @return the hand value
+     * @throws NullPointerException     if cards is null
+     * @throws IllegalArgumentException if the collection contains nulls, jokers or duplicates,
+     *                                  or there are fewer than 5 or more than 7 cards
+     */
+    public static int evaluate(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, "Cards cannot contain null elements");
+        int[] ids = new int[cards.size()];
+        int i = 0;
+        for (PlayingCard card : cards) {
+            ids[i++] = card.getId();
+        }
+        return evaluate(ids);
+    }
+
+    /**
+     * Returns the category of a hand value.
+     *
+     * @param handValue the hand value
+     * @return the category
+     * @throws IllegalArgumentException if the value does not encode a category
+     */
+    public static HandCategory category(int handValue) {
+        return HandCategory.of(handValue);
+    }
+
+    // Evaluates a mask already known to hold 5 to 7 standard cards
+    static int evaluateUnchecked(long mask) {
+        int spades = CardMask.suitRanks(mask, SuitId.SPADES);
+        int clubs = CardMask.suitRanks(mask, SuitId.CLUBS);
+        int diamonds = CardMask.suitRanks(mask, SuitId.DIAMONDS);
+        int hearts = CardMask.suitRanks(mask, SuitId.HEARTS);
+
+        // With at most 7 cards a flush excludes quads and full houses, so it only loses to a straight flush
+        int flush = flushPattern(spades, clubs, diamonds, hearts);
+        if (flush != 0) {
+            int straight = STRAIGHTS[flush];
+            if (straight != NO_STRAIGHT) {
+                return value(HandCategory.STRAIGHT_FLUSH, straight << 16);
+            }
+            return value(HandCategory.FLUSH, TOP_FIVE[flush]);
+        }
+
+        int all = spades | clubs | diamonds | hearts;
+        int quads = spades & clubs & diamonds & hearts;
+        if (quads != 0) {
+            int kicker = TOP_FIVE[all & ~quads] >>> 16;
+            return value(HandCategory.FOUR_OF_A_KIND, (TOP_FIVE[quads] & 0xF0000) | kicker << 12);
+        }
+
+        int atLeastTwo = (spades & clubs) | (spades & diamonds) | (spades & hearts)
+                | (clubs & diamonds) | (clubs & hearts) | (diamonds & hearts);
+        int trips = (spades & clubs & diamonds) | (spades & clubs & hearts)
+                | (spades & diamonds & hearts) | (clubs & diamonds & hearts);
+        int pairs = atLeastTwo & ~trips;
+
+        if (trips != 0) {
+            int topTrips = Integer.highestOneBit(trips);
+            int pairCandidates = (trips & ~topTrips) | pairs;
+            if (pairCandidates != 0) {
+                int pair = TOP_FIVE[pairCandidates] >>> 16;
+                return value(HandCategory.FULL_HOUSE, rankBits(topTrips) | pair << 12);
+            }
+        }
+
+        int straight = STRAIGHTS[all];
+        if (straight != NO_STRAIGHT) {
+            return value(HandCategory.STRAIGHT, straight << 16);
+        }
+
+        if (trips != 0) {
+            int kickers = TOP_FIVE[all & ~trips] >>> 12;
+            return value(HandCategory.THREE_OF_A_KIND, rankBits(trips) | kickers << 8);
+        }
+        if (pairs != 0) {
+            int topPair = Integer.highestOneBit(pairs);
+            int otherPairs = pairs & ~topPair;
+            if (otherPairs != 0) {
+                int secondPair = Integer.highestOneBit(otherPairs);
+                int kicker = TOP_FIVE[all & ~topPair & ~secondPair] >>> 16;
+                return value(HandCategory.TWO_PAIR, rankBits(topPair) | rankBits(secondPair) >>> 4 | kicker << 8);
+            }
+            int kickers = TOP_FIVE[all & ~topPair] >>> 8;
+            return value(HandCategory.ONE_PAIR, rankBits(topPair) | kickers << 4);
+        }
+        return value(HandCategory.HIGH_CARD, TOP_FIVE[all]);
+    }
+
+    // Rank pattern of the suit holding five or more cards, or 0 if there is none
+    private static int flushPattern(int spades, int clubs, int diamonds, int hearts) {
+        if (Integer.bitCount(spades) >= MIN_CARDS) {
+            return spades;
+        }
+        if (Integer.bitCount(clubs) >= MIN_CARDS) {
+            return clubs;
+        }
+        if (Integer.bitCount(diamonds) >= MIN_CARDS) {
+            return diamonds;
+        }
+        if (Integer.bitCount(hearts) >= MIN_CARDS) {
+            return hearts;
+        }
+        return 0;
+    }
+
+    // Rank ID of a single-rank pattern in the most significant tie-break position
+    private static int rankBits(int singleRank) {
+        return Integer.numberOfTrailingZeros(singleRank) << 16;
+    }
+
+    private static int value(HandCategory category, int tieBreak) {
+        return category.ordinal() << CATEGORY_SHIFT | tieBreak;
+    }
+
+    private static int highestStraight(int pattern) {
+        for (int top = RankId.ACE; top >= RankId.SIX; top--) {
+            int window = 0b11111 << (top - 4);
+            if ((pattern & window) == window) {
+                return top;
+            }
+        }
+        return (pattern & WHEEL) == WHEEL ? RankId.FIVE : NO_STRAIGHT;
+    }
+}
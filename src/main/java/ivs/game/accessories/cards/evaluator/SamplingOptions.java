@@ -0,0 +1,148 @@
+package ivs.game.accessories.cards.evaluator;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Settings of a Monte Carlo query of {@link EquityCalculator}.
+ * <p>
+ * Sampling runs in rounds of {@link #getBatchSize()} trials spread over the pool's workers. After every round
+ * the progress listener is called and, if a target margin is set, sampling stops once the 95% confidence
+ * interval of every player's equity is within that margin.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+@Getter
+public final class SamplingOptions {
+
+    /** Default maximum number of trials */
+    public static final long DEFAULT_MAX_TRIALS = 1_000_000;
+
+    /** Default number of trials per round */
+    public static final int DEFAULT_BATCH_SIZE = 20_000;
+
+    /** Margin value that disables early stopping */
+    public static final double NO_TARGET_MARGIN = 0;
+
+    private final long maxTrials;
+    private final int batchSize;
+    private final double targetMargin;
+    private final long seed;
+    private final EquityProgressListener progressListener;
+
+    private SamplingOptions(Builder builder) {
+        this.maxTrials = builder.maxTrials;
+        this.batchSize = builder.batchSize;
+        this.targetMargin = builder.targetMargin;
+        this.seed = builder.seed;
+        this.progressListener = builder.progressListener;
+    }
+
+    /**
+     * Creates options with default settings and a seed taken from the system clock.
+     *
+     * @return default options
+     */
+    public static SamplingOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a builder with default settings.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link SamplingOptions}.
+     * <p>
+     * By default sampling runs {@link #DEFAULT_MAX_TRIALS} trials in rounds of {@link #DEFAULT_BATCH_SIZE},
+     * does not stop early, reports no progress and is seeded from the system clock.
+     */
+    public static final class Builder {
+        private long maxTrials = DEFAULT_MAX_TRIALS;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private double targetMargin = NO_TARGET_MARGIN;
+        private long seed = System.nanoTime();
+        private EquityProgressListener progressListener = EquityProgressListener.NONE;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of trials.
+         *
+         * @param maxTrials the maximum number of trials
+         * @return this builder
+         * @throws IllegalArgumentException if maxTrials is not positive
+         */
+        public Builder maxTrials(long maxTrials) {
+            Validate.isTrue(maxTrials > 0, "Max trials must be positive");
+            this.maxTrials = maxTrials;
+            return this;
+        }
+
+        /**
+         * Sets the number of trials per round; smaller rounds check the stop condition and report progress
+         * more often.
+         *
+         * @param batchSize the number of trials per round
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder batchSize(int batchSize) {
+            Validate.isTrue(batchSize > 0, "Batch size must be positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the half-width of the 95% confidence interval at which sampling stops.
+         *
+         * @param targetMargin the margin in equity units, or {@link #NO_TARGET_MARGIN} to disable early stopping
+         * @return this builder
+         * @throws IllegalArgumentException if targetMargin is negative
+         */
+        public Builder targetMargin(double targetMargin) {
+            Validate.isTrue(targetMargin >= 0, "Target margin cannot be negative");
+            this.targetMargin = targetMargin;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the random generators. With the same seed and pool parallelism, a query
+         * produces the same result.
+         *
+         * @param seed the seed
+         * @return this builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the listener notified after every round.
+         *
+         * @param progressListener the listener
+         * @return this builder
+         */
+        public Builder progressListener(@NonNull EquityProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Builds the options.
+         *
+         * @return new sampling options
+         */
+        public SamplingOptions build() {
+            return new SamplingOptions(this);
+        }
+    }
+}
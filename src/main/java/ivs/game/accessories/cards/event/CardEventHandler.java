@@ -0,0 +1,18 @@
+package ivs.game.accessories.cards.event;
+
+/**
+ * Consumes events drained from a {@link CardEventRingBuffer}.
+ */
+@FunctionalInterface
+public interface CardEventHandler {
+
+    /**
+     * Handles one event.
+     *
+     * @param sequence the sequence number of the event; gaps indicate dropped events
+     * @param source   the ID of the component that emitted the event
+     * @param op       the operation code, see {@link CardEventOp}
+     * @param cardId   the card or joker ID, or {@link CardEventOp#NO_CARD}
+     */
+    void onEvent(long sequence, int source, int op, int cardId);
+}
@@ -0,0 +1,45 @@
+package ivs.game.accessories.cards.event;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import lombok.experimental.UtilityClass;
+
+/**
+ * A utility class that contains the operation codes of card events.
+ */
+@UtilityClass
+public final class CardEventOp {
+
+    /** A card was added to a holder */
+    public static final int ADD = 1;
+    /** A card was removed from a holder */
+    public static final int REMOVE = 2;
+    /** All cards were removed from a holder; the card ID is {@link #NO_CARD} */
+    public static final int CLEAR = 3;
+    /** A card was drawn from a deck or shoe */
+    public static final int DRAW = 4;
+    /** The top card of a deck or shoe was looked at */
+    public static final int PEEK = 5;
+    /** The bottom card of a deck was looked at */
+    public static final int PEEK_BOTTOM = 6;
+
+    /** Card ID of events that do not refer to a single card */
+    public static final int NO_CARD = CardId.NO_CARD;
+
+    /**
+     * Returns a readable name of an operation code, for logging.
+     *
+     * @param op the operation code
+     * @return the name of the operation, or {@code "UNKNOWN(op)"} for unknown codes
+     */
+    public static String name(int op) {
+        return switch (op) {
+            case ADD -> "ADD";
+            case REMOVE -> "REMOVE";
+            case CLEAR -> "CLEAR";
+            case DRAW -> "DRAW";
+            case PEEK -> "PEEK";
+            case PEEK_BOTTOM -> "PEEK_BOTTOM";
+            default -> "UNKNOWN(" + op + ")";
+        };
+    }
+}
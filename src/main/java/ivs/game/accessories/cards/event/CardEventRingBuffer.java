@@ -0,0 +1,121 @@
+package ivs.game.accessories.cards.event;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer, single-consumer ring buffer of card events.
+ * <p>
+ * The producer thread emits events through {@link #accept(int, int, int)}, which stores the event in
+ * preallocated arrays and never allocates or blocks. A consumer thread calls {@link #drain(CardEventHandler, int)}
+ * to process the stored events in batches.
+ * <p>
+ * Every event receives a sequence number, including events that are dropped because the buffer is full;
+ * the consumer can detect the loss from gaps in the sequence, and {@link #getDroppedCount()} reports the total.
+ * <p>
+ * Thread safety: At most one thread may emit events and at most one thread may drain them at any time.
+ * Components emitting from different threads need separate buffers.
+ */
+public final class CardEventRingBuffer implements CardEventSink {
+
+    @Getter
+    private final int capacity;
+    private final int mask;
+
+    // Sequence number and packed source, op and card ID of every slot
+    private final long[] sequences;
+    private final long[] events;
+
+    // Producer-side state
+    private long writePosition;
+    private long nextSequence;
+    private long consumedCache;
+
+    // Positions shared between producer and consumer
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a ring buffer with the given capacity.
+     *
+     * @param capacity the number of events the buffer can hold; must be a positive power of two
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    public CardEventRingBuffer(int capacity) {
+        Validate.isTrue(capacity > 0 && Integer.bitCount(capacity) == 1, "Capacity must be a positive power of two");
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.sequences = new long[capacity];
+        this.events = new long[capacity];
+    }
+
+    /**
+     * Stores an event, or drops it if the buffer is full. Must only be called by the producer thread.
+     *
+     * @param source the ID of the component that emitted the event
+     * @param op     the operation code, see {@link CardEventOp}
+     * @param cardId the card or joker ID, or {@link CardEventOp#NO_CARD}
+     */
+    @Override
+    public void accept(int source, int op, int cardId) {
+        long sequence = nextSequence++;
+        long position = writePosition;
+        if (position - consumedCache >= capacity) {
+            consumedCache = consumed.getAcquire();
+            if (position - consumedCache >= capacity) {
+                dropped.setRelease(dropped.getPlain() + 1);
+                return;
+            }
+        }
+        int slot = (int) position & mask;
+        sequences[slot] = sequence;
+        events[slot] = ((long) source << 32) | ((long) (op & 0xFFFF) << 16) | (cardId & 0xFFFF);
+        writePosition = position + 1;
+        published.setRelease(position + 1);
+    }
+
+    /**
+     * Passes up to {@code maxEvents} stored events to the handler in emission order and frees their slots.
+     * Must only be called by the consumer thread.
+     *
+     * @param handler   the handler to pass the events to
+     * @param maxEvents the maximum number of events to drain
+     * @return the number of events drained
+     * @throws NullPointerException     if handler is null
+     * @throws IllegalArgumentException if maxEvents is negative
+     */
+    public int drain(@NonNull CardEventHandler handler, int maxEvents) {
+        Validate.isTrue(maxEvents >= 0, "Max events cannot be negative");
+        long read = consumed.getPlain();
+        int count = (int) Math.min(maxEvents, published.getAcquire() - read);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (read + i) & mask;
+            long event = events[slot];
+            handler.onEvent(sequences[slot], (int) (event >>> 32), (short) (event >>> 16), (short) event);
+        }
+        consumed.setRelease(read + count);
+        return count;
+    }
+
+    /**
+     * Returns the number of events stored and not yet drained.
+     *
+     * @return the number of pending events
+     */
+    public int size() {
+        return (int) (published.getAcquire() - consumed.getAcquire());
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.getAcquire();
+    }
+}
@@ -0,0 +1,29 @@
+package ivs.game.accessories.cards.event;
+
+/**
+ * Receives card events as primitive values.
+ * <p>
+ * Implementations are called on the thread that performs the operation, so they must be fast and should not
+ * allocate. {@link CardEventRingBuffer} stores events for a consumer thread to drain in batches.
+ *
+ * @see CardEventOp
+ */
+@FunctionalInterface
+public interface CardEventSink {
+
+    /**
+     * A sink that ignores all events. Components use it when events are disabled; the call is trivially
+     * inlined by the JIT compiler, so disabled events cost nothing on the hot path.
+     */
+    CardEventSink NO_OP = (source, op, cardId) -> {
+    };
+
+    /**
+     * Receives one event.
+     *
+     * @param source the ID of the component that emitted the event, chosen by the application
+     * @param op     the operation code, see {@link CardEventOp}
+     * @param cardId the card or joker ID, or {@link CardEventOp#NO_CARD}
+     */
+    void accept(int source, int op, int cardId);
+}
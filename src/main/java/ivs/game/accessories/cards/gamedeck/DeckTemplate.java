@@ -1,22 +1,30 @@
 package ivs.game.accessories.cards.gamedeck;
 
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
 import ivs.game.accessories.cards.core.type.JokerCard;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.core.type.Rank;
 import ivs.game.accessories.cards.core.type.StandardCard;
+import lombok.Getter;
 import lombok.NonNull;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Validate;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.IntConsumer;
 
 /**
  * Represents different types of card decks used in various card games.
  * Each deck type contains a specific range of cards.
  * <p>
  * All cards in a deck, including jokers, must be unique (no duplicates allowed).
+ * <p>
+ * Every template computes its cards once, in ascending card ID order, as an ID array, a card mask
+ * (see {@link CardMask}) and an unmodifiable list, so building decks from a template and membership tests
+ * do not recompute the deck.
  */
 public enum DeckTemplate {
 
@@ -63,47 +71,59 @@ public enum DeckTemplate {
      */
     TINY(Rank.NINE, Rank.ACE);
 
-    private static final int DOUBLE_EXTENDED_SIZE = 56;
-    private static final int EXTENDED_SIZE = 54;
-    private static final int FULL_SIZE = 52;
-    private static final int SHORT_SIZE = 36;
-    private static final int SMALL_SIZE = 32;
-    private static final int TINY_SIZE = 24;
-
     private final Rank fromRank;
     private final Rank toRank;
     private final JokerCard[] jokers;
 
+    // Card IDs in ascending order; never modified
+    private final int[] ids;
+    /**
+     * The mask of the cards in this deck type, see {@link CardMask}.
+     */
+    @Getter
+    private final long mask;
+    /**
+     * The cards in this deck type, as an unmodifiable list in ascending card ID order.
+     */
+    @Getter
+    private final List<PlayingCard> cards;
+
     DeckTemplate(Rank fromRank, Rank toRank) {
-        this.fromRank = fromRank;
-        this.toRank = toRank;
-        this.jokers = null;
+        this(fromRank, toRank, (JokerCard[]) null);
     }
 
     DeckTemplate(Rank fromRank, Rank toRank, JokerCard... jokers) {
         this.fromRank = fromRank;
         this.toRank = toRank;
         this.jokers = jokers;
+
+        this.ids = get(fromRank, toRank, jokers).stream()
+                .mapToInt(PlayingCard::getId)
+                .sorted()
+                .toArray();
+        long cardMask = CardMask.EMPTY;
+        PlayingCard[] deck = new PlayingCard[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            cardMask |= 1L << ids[i];
+            deck[i] = PlayingCard.getById(ids[i]);
+        }
+        this.mask = cardMask;
+        this.cards = List.of(deck);
     }
 
     /**
      * Returns a set of cards for this deck type.
+     * The set is a new modifiable copy that iterates in ascending card ID order.
      *
      * @return set of cards in this deck
      */
     public Set<PlayingCard> get() {
-        return switch (this) {
-            case FULL -> get(FULL.fromRank, FULL.toRank);
-            case SHORT -> get(SHORT.fromRank, SHORT.toRank);
-            case SMALL -> get(SMALL.fromRank, SMALL.toRank);
-            case TINY -> get(TINY.fromRank, TINY.toRank);
-            case EXTENDED -> get(EXTENDED.fromRank, EXTENDED.toRank, EXTENDED.jokers);
-            case DOUBLE_EXTENDED -> get(DOUBLE_EXTENDED.fromRank, DOUBLE_EXTENDED.toRank, DOUBLE_EXTENDED.jokers);
-        };
+        return new LinkedHashSet<>(cards);
     }
 
     /**
      * Returns a set of cards for the specified range of ranks, optionally including jokers.
+     * The set iterates over the standard cards in ascending card ID order, followed by the jokers in the given order.
      *
      * @param fromRank the lowest rank to include (inclusive)
      * @param toRank   the highest rank to include (inclusive)
@@ -117,21 +137,20 @@ public enum DeckTemplate {
                 fromRank.getId() <= toRank.getId(),
                 "From rank (%s) cannot be higher than to rank (%s)", fromRank, toRank);
 
-        Stream<PlayingCard> cardStream = StandardCard.stream()
-                .filter(card -> {
-                    int rankId = card.getRank().getId();
-                    return rankId >= fromRank.getId() && rankId <= toRank.getId();
-                }).map(card -> card);
-
-        if (jokers != null && jokers.length > 0) {
-            Set<JokerCard> jokerSet = new java.util.HashSet<>();
+        Set<PlayingCard> cards = new LinkedHashSet<>();
+        for (int id = 0; id < CardId.CARD_COUNT; id++) {
+            int rankId = CardId.getRankId(id);
+            if (rankId >= fromRank.getId() && rankId <= toRank.getId()) {
+                cards.add(PlayingCard.getById(id));
+            }
+        }
+        if (jokers != null) {
             for (int i = 0; i < jokers.length; ++i) {
                 Validate.isTrue(jokers[i] != null, "Null joker at position " + i);
-                Validate.isTrue(jokerSet.add(jokers[i]), "Duplicate joker: " + jokers[i]);
+                Validate.isTrue(cards.add(jokers[i]), "Duplicate joker: " + jokers[i]);
             }
-            cardStream = Stream.concat(cardStream, jokerSet.stream());
         }
-        return cardStream.collect(Collectors.toSet());
+        return cards;
     }
 
     /**
@@ -140,26 +159,48 @@ public enum DeckTemplate {
      * @return number of cards in this deck
      */
     public int getSize() {
-        return switch (this) {
-            case DOUBLE_EXTENDED -> DOUBLE_EXTENDED_SIZE;
-            case EXTENDED -> EXTENDED_SIZE;
-            case FULL -> FULL_SIZE;
-            case SHORT -> SHORT_SIZE;
-            case SMALL -> SMALL_SIZE;
-            case TINY -> TINY_SIZE;
-        };
+        return ids.length;
     }
 
-    public boolean containsCard(@NonNull PlayingCard card) {
-        if (card.isJoker()) {
-            return switch (this) {
-                case FULL, SHORT, SMALL, TINY -> false;
-                case DOUBLE_EXTENDED, EXTENDED -> ArrayUtils.contains(jokers, card);
-            };
+    /**
+     * Returns the IDs of the cards in this deck type.
+     *
+     * @return a new array of the card IDs, in ascending order
+     */
+    public int[] toIdArray() {
+        return ids.clone();
+    }
+
+    /**
+     * Passes the ID of every card in this deck type to the action, in ascending order, without copying.
+     *
+     * @param action the action receiving the card IDs
+     * @throws NullPointerException if action is null
+     */
+    public void forEachId(@NonNull IntConsumer action) {
+        for (int id : ids) {
+            action.accept(id);
         }
-        int cardRankId = card.getRank().getId();
-        int fromRankId = this.fromRank.getId();
-        int toRankId = this.toRank.getId();
-        return fromRankId <= cardRankId && cardRankId <= toRankId;
+    }
+
+    /**
+     * Checks whether this deck type contains the card with the given ID.
+     *
+     * @param id the card or joker ID
+     * @return true if the deck contains the card; false for IDs outside the ID space
+     */
+    public boolean containsId(int id) {
+        return id >= 0 && id < CardId.ID_SPACE_SIZE && (mask & 1L << id) != 0;
+    }
+
+    /**
+     * Checks whether this deck type contains the card.
+     *
+     * @param card the card
+     * @return true if the deck contains the card
+     * @throws NullPointerException if card is null
+     */
+    public boolean containsCard(@NonNull PlayingCard card) {
+        return (mask & 1L << card.getId()) != 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package ivs.game.accessories.cards.gamedeck;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.event.CardEventOp;
+import ivs.game.accessories.cards.event.CardEventSink;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Decorator for any {@link GameDeck} that reports draws and peeks to a {@link CardEventSink}.
+ * <p>
+ * Every card drawn produces one {@link CardEventOp#DRAW} event; {@link #peekTop()} and {@link #peekBottom()}
+ * produce {@link CardEventOp#PEEK} and {@link CardEventOp#PEEK_BOTTOM} events. Operations that fail emit
+ * no event. Emitting an event does not allocate.
+ * <p>
+ * Thread safety: Same as the wrapped deck; the sink is called on the drawing thread.
+ *
+ * @param <C> the type of the playing card
+ */
+public class EventGameDeck<C extends PlayingCard> implements GameDeck<C> {
+
+    private final GameDeck<C> delegate;
+    @Getter
+    private final int source;
+    private volatile CardEventSink sink;
+
+    /**
+     * Wraps a deck.
+     *
+     * @param delegate the deck to observe
+     * @param source   the ID reported as the source of every event
+     * @param sink     the sink receiving the events
+     * @throws NullPointerException if delegate or sink is null
+     */
+    public EventGameDeck(@NonNull GameDeck<C> delegate, int source, @NonNull CardEventSink sink) {
+        this.delegate = delegate;
+        this.source = source;
+        this.sink = sink;
+    }
+
+    /**
+     * Replaces the event sink; use {@link CardEventSink#NO_OP} to disable events.
+     *
+     * @param sink the new sink
+     * @throws NullPointerException if sink is null
+     */
+    public void setSink(@NonNull CardEventSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public C draw() {
+        C card = delegate.draw();
+        sink.accept(source, CardEventOp.DRAW, card.getId());
+        return card;
+    }
+
+    @Override
+    public List<C> draw(int count) {
+        List<C> drawn = delegate.draw(count);
+        CardEventSink target = sink;
+        for (int i = 0; i < drawn.size(); i++) {
+            target.accept(source, CardEventOp.DRAW, drawn.get(i).getId());
+        }
+        return drawn;
+    }
+
+    @Override
+    public C peekBottom() {
+        C card = delegate.peekBottom();
+        sink.accept(source, CardEventOp.PEEK_BOTTOM, card.getId());
+        return card;
+    }
+
+    @Override
+    public C peekTop() {
+        C card = delegate.peekTop();
+        sink.accept(source, CardEventOp.PEEK, card.getId());
+        return card;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public List<C> exportCards() {
+        return delegate.exportCards();
+    }
+}
@@ -1,8 +1,12 @@
 package ivs.game.accessories.cards.gamedeck;
 
+import ivs.game.accessories.cards.core.id.CardId;
 import ivs.game.accessories.cards.core.type.CardExportable;
 import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,6 +35,36 @@ public interface GameDeck<C extends PlayingCard>
      */
     List<C> draw(int count);
 
+    /**
+     * Removes the card from the top of the deck and returns its ID, or returns {@link CardId#NO_CARD} if the deck
+     * is empty. Unlike {@link #draw()}, running out of cards is not an error, so simulations that play
+     * decks to exhaustion do not pay for exceptions.
+     *
+     * @return the ID of the drawn card, or {@link CardId#NO_CARD} if the deck is empty
+     */
+    default int tryDrawId() {
+        return isEmpty() ? CardId.NO_CARD : draw().getId();
+    }
+
+    /**
+     * Removes up to {@code count} cards from the top of the deck and adds them to {@code dest}, in order from
+     * top to bottom. Fewer cards are drawn if the deck runs out; an empty deck is not an error.
+     *
+     * @param count the maximum number of cards to draw
+     * @param dest  the collection receiving the drawn cards
+     * @return the number of cards drawn
+     * @throws NullPointerException     if dest is null
+     * @throws IllegalArgumentException if count is negative
+     */
+    default int drawUpTo(int count, @NonNull Collection<? super C> dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, size());
+        for (int i = 0; i < drawn; i++) {
+            dest.add(draw());
+        }
+        return drawn;
+    }
+
     /**
      * Returns (but does not remove) the card from the bottom of the deck,
      * or {@code null} if the deck is empty.
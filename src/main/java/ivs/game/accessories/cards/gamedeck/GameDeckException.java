@@ -1,16 +1,36 @@
 package ivs.game.accessories.cards.gamedeck;
 
 import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.cardshoe.ImmutableCardShoe;
+import ivs.game.accessories.cards.jfr.DeckFailureEvent;
+import ivs.game.accessories.cards.metrics.DeckFailureCause;
+import ivs.game.accessories.cards.metrics.Metrics;
 
 /**
  * Thrown to indicate that an operation requiring a card could not be completed
  * because the deck is empty.
+ * <p>
+ * In stackless mode the validation methods throw preallocated instances without a stack trace or card counts
+ * in the message, so that code which treats an exhausted deck as a normal event does not pay for creating
+ * exceptions. The mode starts enabled if the system property {@value #STACKLESS_PROPERTY} is {@code true},
+ * and can be switched with {@link #setStackless(boolean)}. Failure-free alternatives such as
+ * {@link GameDeck#tryDrawId()} and {@link GameDeck#drawUpTo(int, java.util.Collection)} avoid exceptions altogether.
  */
 public class GameDeckException extends RuntimeException {
 
+    /** System property that enables stackless mode at startup */
+    public static final String STACKLESS_PROPERTY = "ivs.game.accessories.cards.stacklessExceptions";
+
     private static final String DECK_IS_EMPTY = "DeckTemplate is empty";
     private static final String NOT_ENOUGH_CARDS = "Not enough cards in deck (requested: %d, available: %d)";
 
+    // Shared instances of stackless mode; suppression is disabled, so they carry no per-throw state
+    private static final GameDeckException STACKLESS_EMPTY = new GameDeckException(DECK_IS_EMPTY, false);
+    private static final GameDeckException STACKLESS_NOT_ENOUGH_CARDS =
+            new GameDeckException("Not enough cards in deck", false);
+
+    private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
     /**
      * Constructs a new EmptyDeckException with no detail message.
      */
@@ -46,6 +66,35 @@ public class GameDeckException extends RuntimeException {
         super(cause);
     }
 
+    /**
+     * Constructs a new exception with the specified detail message, optionally without a stack trace.
+     * Exceptions without a stack trace are cheap to create and may be preallocated and rethrown.
+     *
+     * @param message            the detail message
+     * @param writableStackTrace whether the stack trace is filled in; if false, suppression is disabled too
+     */
+    protected GameDeckException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
+
+    /**
+     * Checks whether the validation methods throw preallocated stackless exceptions.
+     *
+     * @return true in stackless mode
+     */
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * Switches stackless mode for all threads.
+     *
+     * @param stackless true to throw preallocated exceptions without stack traces
+     */
+    public static void setStackless(boolean stackless) {
+        GameDeckException.stackless = stackless;
+    }
+
     /**
      * Validates that the specified deck is not empty.
      * <p>
@@ -56,7 +105,7 @@ public class GameDeckException extends RuntimeException {
      */
     public static void validateDeckSize(GameDeck<? extends PlayingCard> deck) {
         if (deck.isEmpty()) {
-            throw new GameDeckException(DECK_IS_EMPTY);
+            throw failure(DeckFailureCause.EMPTY, 1, 0);
         }
     }
 
@@ -72,12 +121,51 @@ public class GameDeckException extends RuntimeException {
      * @throws GameDeckException if the deck is empty, or contains fewer cards than {@code drawCount}
      */
     public static void validateDeckSize(GameDeck<? extends PlayingCard> deck, int drawCount) {
-        int available = deck.size();
+        validateAvailable(deck.size(), drawCount);
+    }
+
+    /**
+     * Validates that the specified shoe is not empty.
+     *
+     * @param shoe the card shoe to validate (must not be null)
+     * @throws GameDeckException if the shoe is empty
+     */
+    public static void validateShoeSize(ImmutableCardShoe<? extends PlayingCard> shoe) {
+        if (shoe.isEmpty()) {
+            throw failure(DeckFailureCause.EMPTY, 1, 0);
+        }
+    }
+
+    /**
+     * Validates that the specified shoe contains at least the required number of cards.
+     *
+     * @param shoe      the card shoe to validate (must not be null)
+     * @param drawCount the number of cards required
+     * @throws GameDeckException if the shoe is empty, or contains fewer cards than {@code drawCount}
+     */
+    public static void validateShoeSize(ImmutableCardShoe<? extends PlayingCard> shoe, int drawCount) {
+        validateAvailable(shoe.size(), drawCount);
+    }
+
+    // Throws if fewer than drawCount cards are available, using the empty-deck message for zero cards.
+    private static void validateAvailable(int available, int drawCount) {
         if (available == 0) {
-            throw new GameDeckException(DECK_IS_EMPTY);
+            throw failure(DeckFailureCause.EMPTY, drawCount, 0);
         }
         if (available < drawCount) {
-            throw new GameDeckException(String.format(NOT_ENOUGH_CARDS, drawCount, available));
+            throw failure(DeckFailureCause.NOT_ENOUGH_CARDS, drawCount, available);
+        }
+    }
+
+    // Reports the failure to the metrics and to JFR, and creates the exception to throw
+    private static GameDeckException failure(DeckFailureCause cause, int requested, int available) {
+        Metrics.get().onDeckFailure(cause);
+        new DeckFailureEvent().commit(cause, requested, available);
+        if (stackless) {
+            return cause == DeckFailureCause.EMPTY ? STACKLESS_EMPTY : STACKLESS_NOT_ENOUGH_CARDS;
         }
+        return new GameDeckException(cause == DeckFailureCause.EMPTY
+                ? DECK_IS_EMPTY
+                : String.format(NOT_ENOUGH_CARDS, requested, available));
     }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package ivs.game.accessories.cards.gamedeck;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.metrics.Metrics;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Game deck with constant-time forking, intended for branching simulations such as game tree search.
+ * <p>
+ * The deck is an array of cards plus the index of its top card. Drawing only advances the index and never
+ * writes to the array, so {@link #fork()} can share the array between decks: a fork costs a few words of
+ * memory, whatever the size of the deck. Operations that reorder cards ({@link #shuffle(RandomGenerator)},
+ * {@link #cut(int)}) copy the remaining cards first if the array may be shared (copy-on-write).
+ * <p>
+ * {@link #restore(PersistentGameDeck)} rewinds a deck to the state of an earlier fork, also in constant time.
+ * A deck only ever writes its own fields: it gives up ownership of its array when it forks, and restoring from
+ * a deck that still owns its array copies the remaining cards instead of sharing them.
+ * <p>
+ * The top card is the first card in the deck; when initializing the deck from a collection,
+ * the first element in the collection becomes the top card.
+ * <p>
+ * Thread safety: This implementation is not thread-safe, but different forks of the same deck
+ * may be used by different threads. A deck passed to {@link #restore(PersistentGameDeck)} must not be modified
+ * while it is being read.
+ *
+ * @param <C> the type of the playing card
+ */
+public class PersistentGameDeck<C extends PlayingCard> implements GameDeck<C> {
+
+    // Cards of the deck, top first; cards before 'top' have been drawn. Never written while shared.
+    private Object[] cards;
+    private int top;
+    // True if no other deck references 'cards', so it may be reordered in place
+    private boolean owned;
+
+    /**
+     * Creates a new deck with the given cards, preserving their order.
+     * The first card in the collection becomes the top of the deck.
+     *
+     * @param cards collection of cards to initialize the deck (top-first order)
+     * @throws NullPointerException     if cards is null
+     * @throws IllegalArgumentException if cards contains null elements
+     */
+    public PersistentGameDeck(@NonNull Collection<C> cards) {
+        Validate.noNullElements(cards, "Cards collection cannot contain null elements");
+        this.cards = cards.toArray();
+        this.top = 0;
+        this.owned = true;
+    }
+
+    private PersistentGameDeck(Object[] cards, int top) {
+        this.cards = cards;
+        this.top = top;
+        this.owned = false;
+    }
+
+    /**
+     * Returns an independent copy of this deck in constant time.
+     * Both decks share their card array until either of them is reordered.
+     *
+     * @return a fork of this deck
+     */
+    public PersistentGameDeck<C> fork() {
+        owned = false;
+        return new PersistentGameDeck<>(cards, top);
+    }
+
+    /**
+     * Resets this deck to the state of the given deck, typically a fork taken earlier.
+     * Takes constant time if the given deck shares its card array, as a fork that has not been reordered does;
+     * otherwise its remaining cards are copied. The given deck is never modified.
+     *
+     * @param snapshot the deck whose state to adopt
+     * @throws NullPointerException if snapshot is null
+     */
+    public void restore(@NonNull PersistentGameDeck<C> snapshot) {
+        if (snapshot == this) {
+            return;
+        }
+        if (snapshot.owned) {
+            // The snapshot may still reorder its array in place, so it cannot be shared
+            this.cards = Arrays.copyOfRange(snapshot.cards, snapshot.top, snapshot.cards.length);
+            this.top = 0;
+            this.owned = true;
+        } else {
+            this.cards = snapshot.cards;
+            this.top = snapshot.top;
+            this.owned = false;
+        }
+    }
+
+    /**
+     * Shuffles the remaining cards in place, copying them first if the card array is shared.
+     *
+     * @param random the random generator to shuffle with
+     * @throws NullPointerException if random is null
+     */
+    public void shuffle(@NonNull RandomGenerator random) {
+        ensureOwned();
+        for (int i = cards.length - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            Object tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+    }
+
+    /**
+     * Cuts the deck: the top {@code count} cards are moved, in order, to the bottom of the deck.
+     * The cards are rotated in place, after copying them if the card array is shared.
+     *
+     * @param count the number of cards to move from top to bottom
+     * @throws IllegalArgumentException if count is negative or greater than the deck size
+     */
+    public void cut(int count) {
+        Validate.isTrue(count >= 0 && count <= size(), "Cut position must be in [0, %d]", size());
+        ensureOwned();
+        Collections.rotate(Arrays.asList(cards).subList(top, cards.length), -count);
+    }
+
+    @Override
+    public C draw() {
+        GameDeckException.validateDeckSize(this);
+        Metrics.get().onDraw(1);
+        return card(top++);
+    }
+
+    @Override
+    public List<C> draw(int count) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        GameDeckException.validateDeckSize(this, count);
+
+        List<C> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            drawn.add(card(top++));
+        }
+        Metrics.get().onDraw(count);
+        return drawn;
+    }
+
+    @Override
+    public int tryDrawId() {
+        if (top == cards.length) {
+            return CardId.NO_CARD;
+        }
+        Metrics.get().onDraw(1);
+        return card(top++).getId();
+    }
+
+    @Override
+    public int drawUpTo(int count, @NonNull Collection<? super C> dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, cards.length - top);
+        for (int i = 0; i < drawn; i++) {
+            dest.add(card(top++));
+        }
+        Metrics.get().onDraw(drawn);
+        return drawn;
+    }
+
+    @Override
+    public C peekBottom() {
+        GameDeckException.validateDeckSize(this);
+        return card(cards.length - 1);
+    }
+
+    @Override
+    public C peekTop() {
+        GameDeckException.validateDeckSize(this);
+        return card(top);
+    }
+
+    @Override
+    public int size() {
+        return cards.length - top;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top == cards.length;
+    }
+
+    @Override
+    public List<C> exportCards() {
+        List<C> exported = new ArrayList<>(size());
+        for (int i = top; i < cards.length; i++) {
+            exported.add(card(i));
+        }
+        return List.copyOf(exported);
+    }
+
+    // Copies the remaining cards into a private array before a reorder
+    private void ensureOwned() {
+        if (!owned) {
+            cards = Arrays.copyOfRange(cards, top, cards.length);
+            top = 0;
+            owned = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private C card(int index) {
+        return (C) cards[index];
+    }
+}
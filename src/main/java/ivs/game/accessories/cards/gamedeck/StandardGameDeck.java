@@ -1,6 +1,8 @@
 package ivs.game.accessories.cards.gamedeck;
 
+import ivs.game.accessories.cards.core.id.CardId;
 import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.metrics.Metrics;
 import lombok.NonNull;
 import org.apache.commons.lang3.Validate;
 
@@ -40,6 +42,7 @@ public class StandardGameDeck<C extends PlayingCard> implements GameDeck<C> {
     /**
      * Copy constructor. Creates a new deck as a shallow copy of another StandardGameDeck.
      * The cards in the new deck will be the same objects as in the original.
+     * The copy takes time proportional to the deck size; {@link PersistentGameDeck#fork()} copies in constant time.
      *
      * @param other the deck to copy
      * @throws NullPointerException if other is null
@@ -51,6 +54,7 @@ public class StandardGameDeck<C extends PlayingCard> implements GameDeck<C> {
     @Override
     public C draw() {
         GameDeckException.validateDeckSize(this);
+        Metrics.get().onDraw(1);
         return deque.pollFirst();
     }
 
@@ -63,6 +67,28 @@ public class StandardGameDeck<C extends PlayingCard> implements GameDeck<C> {
         for (int i = 0; i < count; i++) {
             drawn.add(deque.pollFirst());
         }
+        Metrics.get().onDraw(count);
+        return drawn;
+    }
+
+    @Override
+    public int tryDrawId() {
+        C card = deque.pollFirst();
+        if (card == null) {
+            return CardId.NO_CARD;
+        }
+        Metrics.get().onDraw(1);
+        return card.getId();
+    }
+
+    @Override
+    public int drawUpTo(int count, @NonNull Collection<? super C> dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, deque.size());
+        for (int i = 0; i < drawn; i++) {
+            dest.add(deque.pollFirst());
+        }
+        Metrics.get().onDraw(drawn);
         return drawn;
     }
 
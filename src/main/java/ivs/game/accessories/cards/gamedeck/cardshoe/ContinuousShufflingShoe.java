@@ -0,0 +1,482 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import ivs.game.accessories.cards.jfr.ShoeCreatedEvent;
+import ivs.game.accessories.cards.metrics.Metrics;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A card shoe modelling a continuous shuffling machine (CSM).
+ * <p>
+ * The machine holds its cards on a number of shelves. Cards are delivered from a tray: when the tray is
+ * empty, the contents of a randomly selected non-empty shelf are dropped into it. Discarded cards are
+ * returned to the machine with {@link #discard(PlayingCard)} and placed onto a randomly selected shelf
+ * that is not full, according to the configured {@link ReinsertionPolicy}.
+ * <p>
+ * All state is kept in primitive arrays, and drawing and reinsertion take constant amortized time.
+ * Since cards are returned continuously, the machine has no cut card and {@link #isCutCardOut()}
+ * always returns {@code false}. The composition view reports the cards inside the machine, and its
+ * penetration is the fraction of cards currently dealt; returning a card reverts its running-count tags.
+ * <p>
+ * Only cards that were drawn from this shoe and not yet returned can be discarded back into it.
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ *
+ * <pre>
+ * Example usage:
+ *   ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 6)
+ *           .shelfCount(38)
+ *           .reinsertionPolicy(ReinsertionPolicy.RANDOM_POSITION)
+ *           .build();
+ *   List&lt;PlayingCard&gt; round = csm.draw(10);
+ *   csm.discardAll(round);
+ * </pre>
+ */
+public class ContinuousShufflingShoe implements ObservableCardShoe<PlayingCard> {
+
+    /** Default number of shelves in the machine. */
+    public static final int DEFAULT_SHELF_COUNT = 38;
+
+    @Getter
+    private final DeckTemplate template;
+    @Getter
+    private final int deckCount;
+    @Getter
+    private final ReinsertionPolicy reinsertionPolicy;
+
+    // Shelf contents as a flat array: shelf s occupies [s * shelfCapacity, s * shelfCapacity + shelfSizes[s])
+    private final int[] shelves;
+    private final int[] shelfSizes;
+    @Getter
+    private final int shelfCount;
+    @Getter
+    private final int shelfCapacity;
+
+    // Indices of non-empty shelves and of shelves with free space, with reverse lookups for O(1) removal
+    private final int[] nonEmptyShelves;
+    private final int[] nonEmptyIndex;
+    private int nonEmptyCount;
+    private final int[] openShelves;
+    private final int[] openIndex;
+    private int openCount;
+
+    // Delivery tray; cards in [trayPosition, traySize) are waiting to be dealt, top first
+    private final int[] tray;
+    private int trayPosition;
+    private int traySize;
+
+    // Composition of the cards inside the machine, and cards per ID dealt and not yet returned
+    private final ShoeTracker tracker;
+    private final int[] outstanding = new int[CardId.ID_SPACE_SIZE];
+
+    private final RandomGenerator random;
+
+    private ContinuousShufflingShoe(Builder builder) {
+        ShoeCreatedEvent event = new ShoeCreatedEvent();
+        event.begin();
+        this.template = builder.template;
+        this.deckCount = builder.deckCount;
+        this.reinsertionPolicy = builder.reinsertionPolicy;
+        this.random = builder.random;
+
+        int[] templateIds = builder.template.toIdArray();
+        int capacity = templateIds.length * deckCount;
+
+        this.shelfCount = builder.shelfCount;
+        this.shelfCapacity = builder.shelfCapacity > 0
+                ? builder.shelfCapacity
+                : 2 * ((capacity + shelfCount - 1) / shelfCount);
+        Validate.isTrue((long) shelfCount * shelfCapacity >= capacity,
+                "Shelves cannot hold the shoe: %d shelves of %d cards for %d cards", shelfCount, shelfCapacity, capacity);
+
+        this.shelves = new int[shelfCount * shelfCapacity];
+        this.shelfSizes = new int[shelfCount];
+        this.nonEmptyShelves = new int[shelfCount];
+        this.nonEmptyIndex = new int[shelfCount];
+        this.openShelves = new int[shelfCount];
+        this.openIndex = new int[shelfCount];
+        this.tray = new int[shelfCapacity];
+        for (int shelf = 0; shelf < shelfCount; shelf++) {
+            openShelves[shelf] = shelf;
+            openIndex[shelf] = shelf;
+        }
+        this.openCount = shelfCount;
+
+        int[] allIds = new int[capacity];
+        for (int deck = 0; deck < deckCount; deck++) {
+            System.arraycopy(templateIds, 0, allIds, deck * templateIds.length, templateIds.length);
+        }
+        for (int id : allIds) {
+            insert(id);
+        }
+        this.tracker = new ShoeTracker(allIds, 0, capacity, templateIds.length, builder.countTags);
+        event.commit(getClass(), capacity, StandardCardShoe.NO_CUT_CARD);
+    }
+
+    /**
+     * Creates a builder for a machine loaded with {@code deckCount} copies of the given deck template.
+     *
+     * @param template  the deck template to repeat
+     * @param deckCount the number of decks in the machine (must be positive)
+     * @return a new builder
+     * @throws NullPointerException     if template is null
+     * @throws IllegalArgumentException if deckCount is not positive
+     */
+    public static Builder builder(@NonNull DeckTemplate template, int deckCount) {
+        Validate.isTrue(deckCount > 0, "Deck count must be positive");
+        return new Builder(template, deckCount);
+    }
+
+    /**
+     * Removes the next card from the machine and returns its ID.
+     *
+     * @return the ID of the drawn card
+     * @throws GameDeckException if the machine is empty
+     */
+    public int drawId() {
+        GameDeckException.validateShoeSize(this);
+        fillTray();
+        int id = tray[trayPosition++];
+        tracker.onDraw(id);
+        outstanding[id]++;
+        Metrics.get().onDraw(1);
+        return id;
+    }
+
+    /**
+     * Removes up to {@code count} cards from the machine and stores their IDs in {@code dest}, starting at
+     * index 0. Fewer cards are drawn if the machine runs out; an empty machine is not an error.
+     *
+     * @param count the maximum number of cards to draw
+     * @param dest  the array receiving the card IDs, in delivery order
+     * @return the number of cards drawn
+     * @throws NullPointerException      if dest is null
+     * @throws IllegalArgumentException  if count is negative
+     * @throws IndexOutOfBoundsException if dest is shorter than the number of cards to draw
+     */
+    public int drawUpTo(int count, @NonNull int[] dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, tracker.size());
+        Objects.checkFromIndexSize(0, drawn, dest.length);
+        for (int i = 0; i < drawn; i++) {
+            dest[i] = drawId();
+        }
+        return drawn;
+    }
+
+    /**
+     * Returns, but does not remove, the ID of the next card delivered by the machine.
+     * If the tray is empty, a shelf is dropped into it first.
+     *
+     * @return the ID of the next card
+     * @throws GameDeckException if the machine is empty
+     */
+    public int peekId() {
+        GameDeckException.validateShoeSize(this);
+        fillTray();
+        return tray[trayPosition];
+    }
+
+    /**
+     * Returns a previously drawn card to the machine.
+     *
+     * @param id the ID of the card to return
+     * @throws IllegalArgumentException if no card with this ID is currently dealt from this shoe
+     */
+    public void discardId(int id) {
+        Validate.isTrue(id >= 0 && id < CardId.ID_SPACE_SIZE, "Invalid card ID: %d", id);
+        Validate.isTrue(outstanding[id] > 0, "Card %d was not dealt from this shoe", id);
+        outstanding[id]--;
+        insert(id);
+        tracker.onReturn(id);
+    }
+
+    /**
+     * Returns a previously drawn card to the machine.
+     *
+     * @param card the card to return
+     * @throws IllegalArgumentException if the card is not currently dealt from this shoe
+     */
+    public void discard(@NonNull PlayingCard card) {
+        discardId(card.getId());
+    }
+
+    /**
+     * Returns all given cards to the machine, in iteration order.
+     *
+     * @param cards the cards to return
+     * @throws IllegalArgumentException if any card is not currently dealt from this shoe;
+     *                                  cards before it have already been returned
+     */
+    public void discardAll(@NonNull Collection<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, "Cards cannot contain null elements");
+        for (PlayingCard card : cards) {
+            discardId(card.getId());
+        }
+    }
+
+    /**
+     * Returns the number of cards with the given card or joker ID inside the machine.
+     *
+     * @param id the card or joker ID
+     * @return the number of cards with this ID in the machine
+     * @throws IllegalArgumentException if the ID is not a valid card or joker ID
+     */
+    public int getRemainingCount(int id) {
+        Validate.isTrue(id >= 0 && id < CardId.ID_SPACE_SIZE, "Invalid card ID: %d", id);
+        return tracker.getRemainingCount(id);
+    }
+
+    /**
+     * Returns the number of cards currently dealt from the machine and not yet returned.
+     *
+     * @return the number of cards outside the machine
+     */
+    public int getOutstandingCount() {
+        return tracker.getCapacity() - tracker.size();
+    }
+
+    @Override
+    public ShoeComposition getComposition() {
+        return tracker;
+    }
+
+    @Override
+    public PlayingCard draw() {
+        return PlayingCard.getById(drawId());
+    }
+
+    @Override
+    public List<PlayingCard> draw(int count) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        GameDeckException.validateShoeSize(this, count);
+
+        List<PlayingCard> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            drawn.add(PlayingCard.getById(drawId()));
+        }
+        return drawn;
+    }
+
+    @Override
+    public int tryDrawId() {
+        return isEmpty() ? CardId.NO_CARD : drawId();
+    }
+
+    @Override
+    public PlayingCard peek() {
+        return PlayingCard.getById(peekId());
+    }
+
+    /**
+     * Returns the cards inside the machine: first the cards waiting in the tray in delivery order,
+     * then the contents of each shelf. Shelf order does not predict future delivery order.
+     *
+     * @return immutable list of the cards inside the machine
+     */
+    @Override
+    public List<PlayingCard> exportCards() {
+        List<PlayingCard> cards = new ArrayList<>(size());
+        for (int i = trayPosition; i < traySize; i++) {
+            cards.add(PlayingCard.getById(tray[i]));
+        }
+        for (int shelf = 0; shelf < shelfCount; shelf++) {
+            int base = shelf * shelfCapacity;
+            for (int i = shelfSizes[shelf] - 1; i >= 0; i--) {
+                cards.add(PlayingCard.getById(shelves[base + i]));
+            }
+        }
+        return List.copyOf(cards);
+    }
+
+    @Override
+    public int size() {
+        return tracker.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tracker.size() == 0;
+    }
+
+    /**
+     * A continuous shuffling machine has no cut card.
+     *
+     * @return always {@code false}
+     */
+    @Override
+    public boolean isCutCardOut() {
+        return false;
+    }
+
+    // Places a card onto a random shelf with free space according to the reinsertion policy
+    private void insert(int id) {
+        RandomGenerator rnd = random();
+        int shelf = openShelves[rnd.nextInt(openCount)];
+        int base = shelf * shelfCapacity;
+        int shelfSize = shelfSizes[shelf];
+
+        if (reinsertionPolicy == ReinsertionPolicy.RANDOM_POSITION) {
+            // Appending and swapping with a random slot is equivalent to inserting at a random position
+            int slot = rnd.nextInt(shelfSize + 1);
+            shelves[base + shelfSize] = shelves[base + slot];
+            shelves[base + slot] = id;
+        } else {
+            shelves[base + shelfSize] = id;
+        }
+        shelfSizes[shelf] = shelfSize + 1;
+
+        if (shelfSize == 0) {
+            addShelf(nonEmptyShelves, nonEmptyIndex, nonEmptyCount++, shelf);
+        }
+        if (shelfSize + 1 == shelfCapacity) {
+            openCount = removeShelf(openShelves, openIndex, openCount, shelf);
+        }
+    }
+
+    // Drops a random non-empty shelf into the tray if the tray has been dealt out
+    private void fillTray() {
+        if (trayPosition < traySize) {
+            return;
+        }
+        int shelf = nonEmptyShelves[random().nextInt(nonEmptyCount)];
+        int base = shelf * shelfCapacity;
+        int shelfSize = shelfSizes[shelf];
+
+        // The top of the shelf is delivered first
+        for (int i = 0; i < shelfSize; i++) {
+            tray[i] = shelves[base + shelfSize - 1 - i];
+        }
+        trayPosition = 0;
+        traySize = shelfSize;
+
+        if (shelfSize == shelfCapacity) {
+            addShelf(openShelves, openIndex, openCount++, shelf);
+        }
+        shelfSizes[shelf] = 0;
+        nonEmptyCount = removeShelf(nonEmptyShelves, nonEmptyIndex, nonEmptyCount, shelf);
+    }
+
+    private RandomGenerator random() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    private static void addShelf(int[] list, int[] index, int count, int shelf) {
+        list[count] = shelf;
+        index[shelf] = count;
+    }
+
+    // Swap-removes a shelf from an index list and returns the new list size
+    private static int removeShelf(int[] list, int[] index, int count, int shelf) {
+        int last = list[count - 1];
+        int at = index[shelf];
+        list[at] = last;
+        index[last] = at;
+        return count - 1;
+    }
+
+    /**
+     * Builder for {@link ContinuousShufflingShoe}.
+     * <p>
+     * By default the machine has {@link #DEFAULT_SHELF_COUNT} shelves, each able to hold twice its share
+     * of the cards, uses {@link ReinsertionPolicy#RANDOM_POSITION} and {@link ThreadLocalRandom}.
+     */
+    public static final class Builder {
+        private final DeckTemplate template;
+        private final int deckCount;
+        private int shelfCount = DEFAULT_SHELF_COUNT;
+        private int shelfCapacity;
+        private ReinsertionPolicy reinsertionPolicy = ReinsertionPolicy.RANDOM_POSITION;
+        private RandomGenerator random;
+        private CountTags[] countTags = new CountTags[0];
+
+        private Builder(DeckTemplate template, int deckCount) {
+            this.template = template;
+            this.deckCount = deckCount;
+        }
+
+        /**
+         * Sets the number of shelves in the machine.
+         *
+         * @param shelfCount the number of shelves (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if the count is not positive
+         */
+        public Builder shelfCount(int shelfCount) {
+            Validate.isTrue(shelfCount > 0, "Shelf count must be positive");
+            this.shelfCount = shelfCount;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cards a single shelf can hold.
+         * All shelves together must be able to hold the whole shoe.
+         *
+         * @param shelfCapacity the shelf capacity (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if the capacity is not positive
+         */
+        public Builder shelfCapacity(int shelfCapacity) {
+            Validate.isTrue(shelfCapacity > 0, "Shelf capacity must be positive");
+            this.shelfCapacity = shelfCapacity;
+            return this;
+        }
+
+        /**
+         * Sets where discarded cards are placed inside a shelf.
+         *
+         * @param reinsertionPolicy the reinsertion policy
+         * @return this builder
+         */
+        public Builder reinsertionPolicy(@NonNull ReinsertionPolicy reinsertionPolicy) {
+            this.reinsertionPolicy = reinsertionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the random generator used for shelf selection and reinsertion.
+         *
+         * @param random the random generator
+         * @return this builder
+         */
+        public Builder random(@NonNull RandomGenerator random) {
+            this.random = random;
+            return this;
+        }
+
+        /**
+         * Sets the tag vectors whose running counts are tracked by the machine's composition view.
+         *
+         * @param countTags the tag vectors to track
+         * @return this builder
+         * @throws IllegalArgumentException if any tag vector is null
+         */
+        public Builder countTags(@NonNull CountTags... countTags) {
+            Validate.noNullElements(countTags, "Count tags cannot contain null elements");
+            this.countTags = countTags.clone();
+            return this;
+        }
+
+        /**
+         * Builds the machine and loads all cards onto its shelves.
+         *
+         * @return a new continuous shuffling shoe
+         * @throws IllegalArgumentException if the shelves cannot hold all cards
+         */
+        public ContinuousShufflingShoe build() {
+            return new ContinuousShufflingShoe(this);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+
+/**
+ * A card counting tag vector: an integer weight for every card or joker ID.
+ * <p>
+ * A shoe tracking a tag vector adds the tag of every drawn card to its running count,
+ * see {@link ShoeComposition#getRunningCount(int)}. Running counts always start at zero;
+ * an initial running count of an unbalanced system (such as KO) is left to the caller.
+ * <p>
+ * Instances are immutable.
+ */
+public final class CountTags {
+
+    /** Hi-Lo: 2-6 count +1, 7-9 count 0, ten-valued cards and aces count -1. */
+    public static final CountTags HI_LO = ofRankTags("Hi-Lo", 1, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1, -1);
+
+    /** Knock-Out (KO): 2-7 count +1, 8-9 count 0, ten-valued cards and aces count -1. */
+    public static final CountTags KO = ofRankTags("KO", 1, 1, 1, 1, 1, 1, 0, 0, -1, -1, -1, -1, -1);
+
+    /** Hi-Opt I: 3-6 count +1, 2, 7-9 and aces count 0, ten-valued cards count -1. */
+    public static final CountTags HI_OPT_I = ofRankTags("Hi-Opt I", 0, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1, 0);
+
+    /** Omega II: a level-two count with aces counting 0. */
+    public static final CountTags OMEGA_II = ofRankTags("Omega II", 1, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -2, 0);
+
+    @Getter
+    private final String name;
+    private final int[] tags;
+
+    private CountTags(String name, int[] tags) {
+        this.name = name;
+        this.tags = tags;
+    }
+
+    /**
+     * Creates a tag vector from per-rank tags. Jokers get a zero tag.
+     *
+     * @param name     the name of the counting system
+     * @param rankTags exactly {@link RankId#RANK_COUNT} tags in rank ID order (Two first, Ace last)
+     * @return a new tag vector
+     * @throws NullPointerException     if name or rankTags is null
+     * @throws IllegalArgumentException if the number of tags is not {@link RankId#RANK_COUNT}
+     */
+    public static CountTags ofRankTags(@NonNull String name, @NonNull int... rankTags) {
+        Validate.isTrue(rankTags.length == RankId.RANK_COUNT,
+                "Expected %d rank tags, got %d", RankId.RANK_COUNT, rankTags.length);
+        int[] tags = new int[CardId.ID_SPACE_SIZE];
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            tags[id] = rankTags[CardId.getRankId(id)];
+        }
+        return new CountTags(name, tags);
+    }
+
+    /**
+     * Creates a tag vector from per-card tags, indexed by card or joker ID.
+     * An array of {@link CardId#CARD_COUNT} tags gives jokers a zero tag.
+     *
+     * @param name     the name of the counting system
+     * @param cardTags tags indexed by card ID, either {@link CardId#CARD_COUNT} or {@link CardId#ID_SPACE_SIZE} long
+     * @return a new tag vector
+     * @throws NullPointerException     if name or cardTags is null
+     * @throws IllegalArgumentException if the array has an unexpected length
+     */
+    public static CountTags ofCardTags(@NonNull String name, @NonNull int[] cardTags) {
+        Validate.isTrue(cardTags.length == CardId.CARD_COUNT || cardTags.length == CardId.ID_SPACE_SIZE,
+                "Expected %d or %d card tags, got %d", CardId.CARD_COUNT, CardId.ID_SPACE_SIZE, cardTags.length);
+        return new CountTags(name, Arrays.copyOf(cardTags, CardId.ID_SPACE_SIZE));
+    }
+
+    /**
+     * Returns the tag of the given card or joker ID.
+     *
+     * @param id the card or joker ID
+     * @return the tag of the card
+     * @throws ArrayIndexOutOfBoundsException if the ID is outside the card and joker ID space
+     */
+    public int getTag(int id) {
+        return tags[id];
+    }
+
+    // Shared array access for trackers; never modified
+    int[] tags() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,12 +1,24 @@
 package ivs.game.accessories.cards.gamedeck.cardshoe;
 
 import lombok.Getter;
+import lombok.NonNull;
 import org.apache.commons.lang3.Validate;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility for calculating the cut-card position in a shoe, using a base percent and fluctuation percent.
+ * <p>
+ * Positions are drawn from a {@link CutCardDistribution} around the base position, uniform by default.
+ * Unless a random generator or seed is supplied, positions are drawn with {@link ThreadLocalRandom},
+ * so a single calculator can be shared by many threads without contention. A calculator with its own
+ * generator is reproducible, but should be confined to one thread unless the generator is thread-safe.
+ * <p>
+ * For repeated calculations with the same shoe size, {@link #forShoeSize(int)} returns a
+ * {@link CutCardSampler} with precomputed integer bounds; {@link #calculatePosition(int)} reuses the
+ * sampler of the last shoe size it was called with.
  */
 public class CutCardCalculator {
 
@@ -17,12 +29,18 @@ public class CutCardCalculator {
     private static final double DEFAULT_BASE_PERCENT = 0.80;
     private static final double DEFAULT_DEVIATION_PERCENT = 0.04;
 
-    private final Random random = new Random();
+    // Generator shared by all samplers of this calculator, or null to use ThreadLocalRandom
+    private final RandomGenerator random;
 
     @Getter
     private final double basePercent;
     @Getter
     private final double deviationPercent;
+    @Getter
+    private final CutCardDistribution distribution;
+
+    // Sampler for the most recently used shoe size
+    private volatile CutCardSampler lastSampler;
 
     /**
      * Constructs a calculator with default values.
@@ -40,6 +58,50 @@ public class CutCardCalculator {
      * @throws IllegalArgumentException if arguments are not in [0.0, 1.0]
      */
     public CutCardCalculator(double basePercent, double deviationPercent) {
+        this(basePercent, deviationPercent, CutCardDistribution.UNIFORM);
+    }
+
+    /**
+     * Constructs a calculator with specified base and fluctuation percent and position distribution.
+     *
+     * @param basePercent      base position as a fraction (e.g., 0.80 = 80% from the top)
+     * @param deviationPercent fluctuation as a fraction (e.g., 0.05 = ±5%)
+     * @param distribution     distribution of positions around the base position
+     * @throws IllegalArgumentException if arguments are not in [0.0, 1.0]
+     * @throws NullPointerException     if distribution is null
+     */
+    public CutCardCalculator(double basePercent, double deviationPercent, @NonNull CutCardDistribution distribution) {
+        this(basePercent, deviationPercent, distribution, null);
+    }
+
+    /**
+     * Constructs a calculator drawing positions with a seeded generator, so the sequence of
+     * positions can be replayed.
+     *
+     * @param basePercent      base position as a fraction (e.g., 0.80 = 80% from the top)
+     * @param deviationPercent fluctuation as a fraction (e.g., 0.05 = ±5%)
+     * @param distribution     distribution of positions around the base position
+     * @param seed             the seed of the calculator's generator
+     * @throws IllegalArgumentException if arguments are not in [0.0, 1.0]
+     * @throws NullPointerException     if distribution is null
+     */
+    public CutCardCalculator(double basePercent, double deviationPercent,
+                             @NonNull CutCardDistribution distribution, long seed) {
+        this(basePercent, deviationPercent, distribution, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a calculator drawing positions with the given generator.
+     *
+     * @param basePercent      base position as a fraction (e.g., 0.80 = 80% from the top)
+     * @param deviationPercent fluctuation as a fraction (e.g., 0.05 = ±5%)
+     * @param distribution     distribution of positions around the base position
+     * @param random           the generator to draw positions with, or null to use {@link ThreadLocalRandom}
+     * @throws IllegalArgumentException if arguments are not in [0.0, 1.0]
+     * @throws NullPointerException     if distribution is null
+     */
+    public CutCardCalculator(double basePercent, double deviationPercent,
+                             @NonNull CutCardDistribution distribution, RandomGenerator random) {
         Validate.inclusiveBetween(MIN_PERCENTAGE, MAX_PERCENTAGE, basePercent, "basePercent must be in [0.0, 1.0]");
         Validate.inclusiveBetween(MIN_PERCENTAGE, MAX_PERCENTAGE, deviationPercent, "fluctuationPercent must be in [0.0, 1.0]");
         Validate.isTrue(basePercent - deviationPercent >= MIN_PERCENTAGE,
@@ -49,6 +111,8 @@ public class CutCardCalculator {
 
         this.basePercent = basePercent;
         this.deviationPercent = deviationPercent;
+        this.distribution = distribution;
+        this.random = random;
     }
 
     /**
@@ -56,15 +120,48 @@ public class CutCardCalculator {
      * Returned value is always in [0, shoeSize].
      *
      * @param shoeSize total number of cards in the shoe
-     * @return cut card position (number of cards from the top); when cards left < position, cut card considered "out"
+     * @return cut card position (number of cards from the top); the cut card is "out" once more cards than this
+     *         have been dealt, i.e. when cards left &lt; shoeSize - position
      */
     public int calculatePosition(int shoeSize) {
+        return samplerFor(shoeSize).nextPosition();
+    }
+
+    /**
+     * Fills the given array with independently calculated cut-card positions for the given shoe size.
+     *
+     * @param shoeSize total number of cards in the shoe
+     * @param out      the array to fill
+     * @throws IllegalArgumentException if shoeSize is not positive
+     * @throws NullPointerException     if out is null
+     */
+    public void calculatePositions(int shoeSize, @NonNull int[] out) {
+        samplerFor(shoeSize).nextPositions(out);
+    }
+
+    /**
+     * Returns a sampler for the given shoe size with precomputed integer position bounds.
+     *
+     * @param shoeSize total number of cards in the shoe
+     * @return a sampler drawing positions with this calculator's distribution and generator
+     * @throws IllegalArgumentException if shoeSize is not positive
+     */
+    public CutCardSampler forShoeSize(int shoeSize) {
         Validate.isTrue(shoeSize > 0, "Shoe size must be positive");
 
         int basePosition = (int) Math.round(basePercent * shoeSize);
         int fluctuation = (int) Math.round(deviationPercent * shoeSize);
         int min = Math.max(0, basePosition - fluctuation);
         int max = Math.min(shoeSize, basePosition + fluctuation);
-        return min + random.nextInt(max - min + 1);
+        return new CutCardSampler(shoeSize, basePosition, min, max, distribution, random);
+    }
+
+    private CutCardSampler samplerFor(int shoeSize) {
+        CutCardSampler sampler = lastSampler;
+        if (sampler == null || sampler.getShoeSize() != shoeSize) {
+            sampler = forShoeSize(shoeSize);
+            lastSampler = sampler;
+        }
+        return sampler;
     }
-}
\ No newline at end of file
+}
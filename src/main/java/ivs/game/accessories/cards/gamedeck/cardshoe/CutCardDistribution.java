@@ -0,0 +1,25 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+/**
+ * Distribution of cut-card positions around the base position of a {@link CutCardCalculator}.
+ * <p>
+ * All distributions are limited to the range {@code basePosition ± deviation}.
+ */
+public enum CutCardDistribution {
+
+    /**
+     * Every position in the range is equally likely.
+     */
+    UNIFORM,
+
+    /**
+     * The probability decreases linearly from the base position towards both ends of the range.
+     */
+    TRIANGULAR,
+
+    /**
+     * A normal distribution centred on the base position with a standard deviation of half the
+     * deviation, truncated to the range (i.e. at two standard deviations).
+     */
+    TRUNCATED_NORMAL
+}
@@ -0,0 +1,151 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws cut-card positions for one fixed shoe size.
+ * <p>
+ * Created by {@link CutCardCalculator#forShoeSize(int)}. The position range and, for non-uniform
+ * distributions, an integer alias table are computed once, so drawing a position uses only integer
+ * arithmetic and two random numbers at most.
+ * <p>
+ * Instances are immutable. A sampler without its own random generator uses {@link ThreadLocalRandom}
+ * and is thread-safe; a sampler sharing a generator is as thread-safe as that generator.
+ */
+public final class CutCardSampler {
+
+    // Alias table probabilities are scaled to this integer range
+    private static final int PROBABILITY_SCALE = 1 << 30;
+
+    @Getter
+    private final int shoeSize;
+    @Getter
+    private final int minPosition;
+    @Getter
+    private final int maxPosition;
+
+    // Alias table for non-uniform distributions, or null for the uniform distribution
+    private final int[] thresholds;
+    private final int[] aliases;
+
+    private final RandomGenerator random;
+
+    CutCardSampler(int shoeSize, int basePosition, int minPosition, int maxPosition,
+                   CutCardDistribution distribution, RandomGenerator random) {
+        this.shoeSize = shoeSize;
+        this.minPosition = minPosition;
+        this.maxPosition = maxPosition;
+        this.random = random;
+
+        int width = maxPosition - minPosition + 1;
+        if (distribution == CutCardDistribution.UNIFORM || width == 1) {
+            this.thresholds = null;
+            this.aliases = null;
+        } else {
+            this.thresholds = new int[width];
+            this.aliases = new int[width];
+            buildAliasTable(weights(distribution, basePosition, minPosition, maxPosition), thresholds, aliases);
+        }
+    }
+
+    /**
+     * Draws a cut-card position, counted from the top of the shoe: the number of cards dealt before the cut card.
+     * Shoes that compare against the cards left, such as {@link MultiDeckCardShoe}, use the shoe size minus
+     * this position.
+     *
+     * @return a position in [{@link #getMinPosition()}, {@link #getMaxPosition()}]
+     */
+    public int nextPosition() {
+        return nextPosition(random());
+    }
+
+    /**
+     * Fills the given array with independently drawn cut-card positions.
+     *
+     * @param out the array to fill
+     * @throws NullPointerException if out is null
+     */
+    public void nextPositions(@NonNull int[] out) {
+        RandomGenerator rnd = random();
+        for (int i = 0; i < out.length; i++) {
+            out[i] = nextPosition(rnd);
+        }
+    }
+
+    private int nextPosition(RandomGenerator rnd) {
+        int width = maxPosition - minPosition + 1;
+        int column = rnd.nextInt(width);
+        if (thresholds != null && rnd.nextInt(PROBABILITY_SCALE) >= thresholds[column]) {
+            column = aliases[column];
+        }
+        return minPosition + column;
+    }
+
+    private RandomGenerator random() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+    // Relative weight of every position in the range
+    private static double[] weights(CutCardDistribution distribution, int base, int min, int max) {
+        double[] weights = new double[max - min + 1];
+        int halfWidth = Math.max(base - min, max - base);
+        double sigma = halfWidth / 2.0;
+        for (int position = min; position <= max; position++) {
+            int distance = Math.abs(position - base);
+            weights[position - min] = switch (distribution) {
+                case UNIFORM -> 1.0;
+                case TRIANGULAR -> halfWidth + 1 - distance;
+                case TRUNCATED_NORMAL -> Math.exp(-0.5 * (distance / sigma) * (distance / sigma));
+            };
+        }
+        return weights;
+    }
+
+    // Vose's alias method with integer thresholds
+    private static void buildAliasTable(double[] weights, int[] thresholds, int[] aliases) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = (int) (scaled[less] * PROBABILITY_SCALE);
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            thresholds[column] = PROBABILITY_SCALE;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            thresholds[column] = PROBABILITY_SCALE;
+            aliases[column] = column;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import ivs.game.accessories.cards.jfr.ShoeCreatedEvent;
+import ivs.game.accessories.cards.jfr.ShoeReshuffleEvent;
+import ivs.game.accessories.cards.jfr.ShuffleEvent;
+import ivs.game.accessories.cards.metrics.CardMetrics;
+import ivs.game.accessories.cards.metrics.Metrics;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A multi-deck card shoe that stores its cards as a primitive array of card IDs.
+ * <p>
+ * The shoe is generated directly from a {@link DeckTemplate} repeated {@code deckCount} times,
+ * without building intermediate card collections. Cards are shuffled in place, and a per-ID
+ * table of remaining cards is maintained on every draw, so composition queries such as
+ * {@link #getRemainingCount(int)} take constant time. The full composition, including running counts
+ * for the {@link CountTags} configured on the builder, is available through {@link #getComposition()}.
+ * <p>
+ * {@link #reshuffle()} returns all cards to the shoe and shuffles them again without allocating,
+ * which makes the shoe suitable for long-running simulations.
+ * <p>
+ * {@link #fork()} creates an independent copy that shares the card array with this shoe until either of
+ * them is reshuffled, so forking costs a fixed amount of memory regardless of the number of decks.
+ * <p>
+ * The {@code cutCardPosition} has the same meaning as in {@link StandardCardShoe}: the number of
+ * remaining cards below which the cut card is considered "out".
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ *
+ * <pre>
+ * Example usage:
+ *   MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 8)
+ *           .cutCardCalculator(new CutCardCalculator())
+ *           .build();
+ * </pre>
+ */
+public class MultiDeckCardShoe implements ObservableCardShoe<PlayingCard> {
+
+    @Getter
+    private final DeckTemplate template;
+    @Getter
+    private final int deckCount;
+
+    // Card IDs of the whole shoe; cards in [position, ids.length) are still in the shoe, top first.
+    // Never written while shared with a fork.
+    private int[] ids;
+    // Index of the top card
+    private int position;
+    // True if no fork references 'ids', so it may be shuffled in place
+    private boolean owned = true;
+
+    // Remaining cards per card ID, rank and suit, plus running counts
+    private final ShoeTracker tracker;
+
+    private final RandomGenerator random;
+    private final CutCardCalculator cutCardCalculator;
+
+    // Cut-card position: the remaining number of cards in the shoe at which the cut card is considered "out"
+    @Getter
+    private int cutCardPosition;
+
+    private MultiDeckCardShoe(Builder builder) {
+        ShoeCreatedEvent event = new ShoeCreatedEvent();
+        event.begin();
+        this.template = builder.template;
+        this.deckCount = builder.deckCount;
+        this.random = builder.random;
+        this.cutCardCalculator = builder.cutCardCalculator;
+
+        int[] templateIds = builder.template.toIdArray();
+        this.ids = new int[templateIds.length * deckCount];
+        for (int deck = 0; deck < deckCount; deck++) {
+            System.arraycopy(templateIds, 0, ids, deck * templateIds.length, templateIds.length);
+        }
+        this.tracker = new ShoeTracker(ids, 0, ids.length, templateIds.length, builder.countTags);
+
+        if (builder.shuffled) {
+            shuffle();
+        }
+        this.cutCardPosition = cutCardCalculator != null
+                ? calculateCutCardPosition()
+                : builder.cutCardPosition;
+        event.commit(getClass(), ids.length, cutCardPosition);
+    }
+
+    private MultiDeckCardShoe(MultiDeckCardShoe other) {
+        this.template = other.template;
+        this.deckCount = other.deckCount;
+        this.random = other.random;
+        this.cutCardCalculator = other.cutCardCalculator;
+        this.ids = other.ids;
+        this.position = other.position;
+        this.owned = false;
+        this.tracker = new ShoeTracker(other.tracker);
+        this.cutCardPosition = other.cutCardPosition;
+    }
+
+    /**
+     * Creates a builder for a shoe containing {@code deckCount} copies of the given deck template.
+     *
+     * @param template  the deck template to repeat
+     * @param deckCount the number of decks in the shoe (must be positive)
+     * @return a new builder
+     * @throws NullPointerException     if template is null
+     * @throws IllegalArgumentException if deckCount is not positive
+     */
+    public static Builder builder(@NonNull DeckTemplate template, int deckCount) {
+        Validate.isTrue(deckCount > 0, "Deck count must be positive");
+        return new Builder(template, deckCount);
+    }
+
+    /**
+     * Returns all drawn cards to the shoe and shuffles the whole shoe in place.
+     * The composition and running counts are reset and, if the shoe was built with a {@link CutCardCalculator},
+     * a new cut-card position is calculated.
+     */
+    public void reshuffle() {
+        ShoeReshuffleEvent event = new ShoeReshuffleEvent();
+        event.begin();
+        int dealt = position;
+        int previousCutCardPosition = cutCardPosition;
+        if (!owned) {
+            ids = ids.clone();
+            owned = true;
+        }
+        position = 0;
+        tracker.reset();
+        shuffle();
+        Metrics.get().onReshuffle();
+        if (cutCardCalculator != null) {
+            cutCardPosition = calculateCutCardPosition();
+        }
+        event.commit(ids.length, dealt, previousCutCardPosition);
+    }
+
+    /**
+     * Returns an independent copy of this shoe with the same remaining cards, composition and cut card.
+     * The copy shares the card array with this shoe until either of them is reshuffled; if the shoe
+     * was built with a random generator, the copy shares that generator.
+     *
+     * @return a fork of this shoe
+     */
+    public MultiDeckCardShoe fork() {
+        owned = false;
+        return new MultiDeckCardShoe(this);
+    }
+
+    /**
+     * Removes the top card from the shoe and returns its ID.
+     *
+     * @return the ID of the drawn card
+     * @throws GameDeckException if the shoe is empty
+     */
+    public int drawId() {
+        GameDeckException.validateShoeSize(this);
+        int id = ids[position++];
+        tracker.onDraw(id);
+        Metrics.get().onDraw(1);
+        return id;
+    }
+
+    /**
+     * Removes up to {@code count} cards from the top of the shoe and stores their IDs in {@code dest},
+     * starting at index 0. Fewer cards are drawn if the shoe runs out; an empty shoe is not an error.
+     *
+     * @param count the maximum number of cards to draw
+     * @param dest  the array receiving the card IDs, top card first
+     * @return the number of cards drawn
+     * @throws NullPointerException      if dest is null
+     * @throws IllegalArgumentException  if count is negative
+     * @throws IndexOutOfBoundsException if dest is shorter than the number of cards to draw
+     */
+    public int drawUpTo(int count, @NonNull int[] dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, ids.length - position);
+        Objects.checkFromIndexSize(0, drawn, dest.length);
+        for (int i = 0; i < drawn; i++) {
+            int id = ids[position++];
+            tracker.onDraw(id);
+            dest[i] = id;
+        }
+        Metrics.get().onDraw(drawn);
+        return drawn;
+    }
+
+    /**
+     * Returns, but does not remove, the ID of the top card.
+     *
+     * @return the ID of the next card in the shoe
+     * @throws GameDeckException if the shoe is empty
+     */
+    public int peekId() {
+        GameDeckException.validateShoeSize(this);
+        return ids[position];
+    }
+
+    /**
+     * Returns the number of cards with the given card or joker ID that are still in the shoe.
+     *
+     * @param id the card or joker ID
+     * @return the number of remaining cards with this ID; zero for IDs the template does not contain
+     * @throws IllegalArgumentException if the ID is not a valid card or joker ID
+     */
+    public int getRemainingCount(int id) {
+        Validate.isTrue(id >= 0 && id < CardId.ID_SPACE_SIZE, "Invalid card ID: %d", id);
+        return tracker.getRemainingCount(id);
+    }
+
+    /**
+     * Returns the number of copies of the given card that are still in the shoe.
+     *
+     * @param card the card to count
+     * @return the number of remaining copies of the card
+     */
+    public int getRemainingCount(@NonNull PlayingCard card) {
+        return tracker.getRemainingCount(card.getId());
+    }
+
+    @Override
+    public ShoeComposition getComposition() {
+        return tracker;
+    }
+
+    /**
+     * Returns the total number of cards in a full shoe.
+     *
+     * @return the shoe capacity
+     */
+    public int getCapacity() {
+        return ids.length;
+    }
+
+    @Override
+    public PlayingCard draw() {
+        return PlayingCard.getById(drawId());
+    }
+
+    @Override
+    public List<PlayingCard> draw(int count) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        GameDeckException.validateShoeSize(this, count);
+
+        List<PlayingCard> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = ids[position++];
+            tracker.onDraw(id);
+            drawn.add(PlayingCard.getById(id));
+        }
+        Metrics.get().onDraw(count);
+        return drawn;
+    }
+
+    @Override
+    public int tryDrawId() {
+        if (position == ids.length) {
+            return CardId.NO_CARD;
+        }
+        int id = ids[position++];
+        tracker.onDraw(id);
+        Metrics.get().onDraw(1);
+        return id;
+    }
+
+    @Override
+    public int drawUpTo(int count, @NonNull Collection<? super PlayingCard> dest) {
+        Validate.isTrue(count >= 0, "Count cannot be negative");
+        int drawn = Math.min(count, ids.length - position);
+        for (int i = 0; i < drawn; i++) {
+            int id = ids[position++];
+            tracker.onDraw(id);
+            dest.add(PlayingCard.getById(id));
+        }
+        Metrics.get().onDraw(drawn);
+        return drawn;
+    }
+
+    @Override
+    public PlayingCard peek() {
+        return PlayingCard.getById(peekId());
+    }
+
+    @Override
+    public List<PlayingCard> exportCards() {
+        return Arrays.stream(ids, position, ids.length)
+                .mapToObj(PlayingCard::getById)
+                .toList();
+    }
+
+    @Override
+    public int size() {
+        return ids.length - position;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return position == ids.length;
+    }
+
+    @Override
+    public boolean isCutCardOut() {
+        return size() < cutCardPosition;
+    }
+
+    // Fisher-Yates shuffle of the cards still in the shoe
+    private void shuffle() {
+        CardMetrics metrics = Metrics.get();
+        long start = metrics.isTimed() ? System.nanoTime() : 0;
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        RandomGenerator rnd = random != null ? random : ThreadLocalRandom.current();
+        for (int i = ids.length - 1; i > position; i--) {
+            int j = position + rnd.nextInt(i - position + 1);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        event.commit(ids.length - position, rnd);
+        if (metrics.isTimed()) {
+            metrics.onShuffle(System.nanoTime() - start);
+        }
+    }
+
+    // The calculator measures the cut from the top of the shoe; convert it to a remaining-cards threshold
+    private int calculateCutCardPosition() {
+        return ids.length - cutCardCalculator.calculatePosition(ids.length);
+    }
+
+    /**
+     * Builder for {@link MultiDeckCardShoe}.
+     * <p>
+     * By default the shoe is shuffled, uses {@link ThreadLocalRandom} and has no cut card.
+     */
+    public static final class Builder {
+        private final DeckTemplate template;
+        private final int deckCount;
+        private RandomGenerator random;
+        private CutCardCalculator cutCardCalculator;
+        private int cutCardPosition = StandardCardShoe.NO_CUT_CARD;
+        private boolean shuffled = true;
+        private CountTags[] countTags = new CountTags[0];
+
+        private Builder(DeckTemplate template, int deckCount) {
+            this.template = template;
+            this.deckCount = deckCount;
+        }
+
+        /**
+         * Sets the random generator used for shuffling. The generator is used only by the built shoe,
+         * so a seeded generator makes shuffles reproducible.
+         *
+         * @param random the random generator
+         * @return this builder
+         */
+        public Builder random(@NonNull RandomGenerator random) {
+            this.random = random;
+            return this;
+        }
+
+        /**
+         * Sets a fixed cut-card position (number of remaining cards at which the cut card is out).
+         * Clears any previously set {@link CutCardCalculator}.
+         *
+         * @param cutCardPosition the cut-card position, or {@link StandardCardShoe#NO_CUT_CARD}
+         * @return this builder
+         * @throws IllegalArgumentException if the position is negative
+         */
+        public Builder cutCardPosition(int cutCardPosition) {
+            Validate.isTrue(cutCardPosition >= 0, "Cut-card position cannot be negative");
+            this.cutCardPosition = cutCardPosition;
+            this.cutCardCalculator = null;
+            return this;
+        }
+
+        /**
+         * Sets a calculator used to place the cut card on build and on every reshuffle.
+         * The calculated position is counted from the top of the shoe.
+         *
+         * @param cutCardCalculator the cut-card calculator
+         * @return this builder
+         */
+        public Builder cutCardCalculator(@NonNull CutCardCalculator cutCardCalculator) {
+            this.cutCardCalculator = cutCardCalculator;
+            return this;
+        }
+
+        /**
+         * Sets whether the shoe is shuffled on build. An unshuffled shoe contains the decks in
+         * ascending card ID order.
+         *
+         * @param shuffled {@code true} to shuffle the shoe on build
+         * @return this builder
+         */
+        public Builder shuffled(boolean shuffled) {
+            this.shuffled = shuffled;
+            return this;
+        }
+
+        /**
+         * Sets the tag vectors whose running counts are tracked by the shoe's composition view.
+         * The index of each vector in the view matches its position in the arguments.
+         *
+         * @param countTags the tag vectors to track
+         * @return this builder
+         * @throws IllegalArgumentException if any tag vector is null
+         */
+        public Builder countTags(@NonNull CountTags... countTags) {
+            Validate.noNullElements(countTags, "Count tags cannot contain null elements");
+            this.countTags = countTags.clone();
+            return this;
+        }
+
+        /**
+         * Builds the shoe.
+         *
+         * @return a new multi-deck shoe
+         */
+        public MultiDeckCardShoe build() {
+            return new MultiDeckCardShoe(this);
+        }
+    }
+}
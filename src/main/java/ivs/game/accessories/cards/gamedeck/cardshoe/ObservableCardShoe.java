@@ -0,0 +1,19 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+
+/**
+ * A card shoe that tracks its own composition as cards are drawn.
+ *
+ * @param <C> the type of card in the shoe
+ */
+public interface ObservableCardShoe<C extends PlayingCard> extends CardShoe<C> {
+
+    /**
+     * Returns the live composition view of this shoe.
+     * The same instance is returned on every call.
+     *
+     * @return the composition view
+     */
+    ShoeComposition getComposition();
+}
@@ -0,0 +1,19 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+/**
+ * Defines where a continuous shuffling machine places a discarded card inside the shelf chosen for it.
+ *
+ * @see ContinuousShufflingShoe
+ */
+public enum ReinsertionPolicy {
+
+    /**
+     * The card is inserted at a uniformly random position within the shelf.
+     */
+    RANDOM_POSITION,
+
+    /**
+     * The card is placed on top of the cards already in the shelf.
+     */
+    SHELF_TOP
+}
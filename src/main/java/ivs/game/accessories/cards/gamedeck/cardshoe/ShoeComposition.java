@@ -0,0 +1,101 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+/**
+ * Read-only live view of the composition of a card shoe.
+ * <p>
+ * The view reflects the current state of its shoe: it is updated on every draw and is not a snapshot.
+ * All queries take constant time and do not allocate, so the view can be consulted on every hand.
+ *
+ * @see ObservableCardShoe
+ */
+public interface ShoeComposition {
+
+    /**
+     * Returns the number of cards remaining in the shoe.
+     *
+     * @return the number of cards left
+     */
+    int size();
+
+    /**
+     * Returns the number of cards in the complete shoe.
+     *
+     * @return the shoe capacity
+     */
+    int getCapacity();
+
+    /**
+     * Returns the number of remaining cards with the given card or joker ID.
+     *
+     * @param id the card or joker ID
+     * @return the number of remaining cards with this ID
+     * @throws ArrayIndexOutOfBoundsException if the ID is outside the card and joker ID space
+     */
+    int getRemainingCount(int id);
+
+    /**
+     * Returns the number of remaining standard cards of the given rank.
+     *
+     * @param rankId the rank ID
+     * @return the number of remaining cards of this rank
+     * @throws ArrayIndexOutOfBoundsException if the rank ID is invalid
+     */
+    int getRemainingRankCount(int rankId);
+
+    /**
+     * Returns the number of remaining standard cards of the given suit.
+     *
+     * @param suitId the suit ID
+     * @return the number of remaining cards of this suit
+     * @throws ArrayIndexOutOfBoundsException if the suit ID is invalid
+     */
+    int getRemainingSuitCount(int suitId);
+
+    /**
+     * Returns the number of remaining jokers.
+     *
+     * @return the number of remaining jokers
+     */
+    int getRemainingJokerCount();
+
+    /**
+     * Returns the fraction of the shoe that has been dealt, from 0.0 (full shoe) to 1.0 (empty shoe).
+     *
+     * @return the penetration of the shoe
+     */
+    double getPenetration();
+
+    /**
+     * Returns the number of decks remaining, i.e. the remaining cards divided by the size of one deck.
+     *
+     * @return the number of decks remaining
+     */
+    double getDecksRemaining();
+
+    /**
+     * Returns the number of tag vectors tracked by this view.
+     *
+     * @return the number of running counts
+     */
+    int getRunningCountCount();
+
+    /**
+     * Returns the running count for the tag vector at the given index: the sum of the tags of all
+     * cards dealt since the shoe was last filled.
+     *
+     * @param index the index of the tag vector, in the order the vectors were configured
+     * @return the running count
+     * @throws ArrayIndexOutOfBoundsException if the index is invalid
+     */
+    int getRunningCount(int index);
+
+    /**
+     * Returns the true count for the tag vector at the given index: the running count divided by
+     * the number of decks remaining. Returns 0.0 for an empty shoe.
+     *
+     * @param index the index of the tag vector
+     * @return the true count
+     * @throws ArrayIndexOutOfBoundsException if the index is invalid
+     */
+    double getTrueCount(int index);
+}
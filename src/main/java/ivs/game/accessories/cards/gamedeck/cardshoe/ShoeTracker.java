@@ -0,0 +1,184 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+
+import java.util.Arrays;
+
+/**
+ * Package-private implementation of {@link ShoeComposition} updated by the owning shoe.
+ * <p>
+ * Keeps remaining counts per card ID, rank and suit together with one running count per tag vector,
+ * all updated in constant time per card.
+ */
+final class ShoeTracker implements ShoeComposition {
+
+    private final int[] remaining;
+    private final int[] ranks;
+    private final int[] suits;
+    private int jokers;
+    private int size;
+
+    // Counts of a full shoe, restored by reset(); never modified after construction
+    private final int[] fullCounts;
+    private final int capacity;
+    private final int deckSize;
+
+    private final int[][] tags;
+    private final int[] runningCounts;
+
+    /**
+     * Creates a tracker for a full shoe consisting of the given card IDs.
+     *
+     * @param ids       the card IDs of the full shoe
+     * @param from      the first index in {@code ids} (inclusive)
+     * @param to        the last index in {@code ids} (exclusive)
+     * @param deckSize  the number of cards in one deck, used for the true count
+     * @param countTags the tag vectors to track
+     */
+    ShoeTracker(int[] ids, int from, int to, int deckSize, CountTags[] countTags) {
+        this.remaining = new int[CardId.ID_SPACE_SIZE];
+        this.ranks = new int[RankId.RANK_COUNT];
+        this.suits = new int[SuitId.SUIT_COUNT];
+        this.fullCounts = new int[CardId.ID_SPACE_SIZE];
+        for (int i = from; i < to; i++) {
+            fullCounts[ids[i]]++;
+        }
+        this.capacity = to - from;
+        this.deckSize = deckSize;
+        this.tags = new int[countTags.length][];
+        for (int i = 0; i < countTags.length; i++) {
+            tags[i] = countTags[i].tags();
+        }
+        this.runningCounts = new int[countTags.length];
+        reset();
+    }
+
+    /**
+     * Creates a copy of another tracker. Immutable tables are shared with the original.
+     *
+     * @param other the tracker to copy
+     */
+    ShoeTracker(ShoeTracker other) {
+        this.remaining = other.remaining.clone();
+        this.ranks = other.ranks.clone();
+        this.suits = other.suits.clone();
+        this.jokers = other.jokers;
+        this.size = other.size;
+        this.fullCounts = other.fullCounts;
+        this.capacity = other.capacity;
+        this.deckSize = other.deckSize;
+        this.tags = other.tags;
+        this.runningCounts = other.runningCounts.clone();
+    }
+
+    /**
+     * Restores the counts of a full shoe and zeroes all running counts.
+     */
+    void reset() {
+        System.arraycopy(fullCounts, 0, remaining, 0, fullCounts.length);
+        Arrays.fill(ranks, 0);
+        Arrays.fill(suits, 0);
+        Arrays.fill(runningCounts, 0);
+        jokers = 0;
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            ranks[id % CardId.CARDS_PER_SUIT] += fullCounts[id];
+            suits[id / CardId.CARDS_PER_SUIT] += fullCounts[id];
+        }
+        for (int id = CardId.MAX_CARD + 1; id < CardId.ID_SPACE_SIZE; id++) {
+            jokers += fullCounts[id];
+        }
+        size = capacity;
+    }
+
+    /**
+     * Records a card leaving the shoe.
+     *
+     * @param id the card or joker ID
+     */
+    void onDraw(int id) {
+        update(id, -1);
+        for (int i = 0; i < tags.length; i++) {
+            runningCounts[i] += tags[i][id];
+        }
+    }
+
+    /**
+     * Records a card returning to the shoe, reverting its contribution to the running counts.
+     *
+     * @param id the card or joker ID
+     */
+    void onReturn(int id) {
+        update(id, 1);
+        for (int i = 0; i < tags.length; i++) {
+            runningCounts[i] -= tags[i][id];
+        }
+    }
+
+    private void update(int id, int delta) {
+        remaining[id] += delta;
+        if (id <= CardId.MAX_CARD) {
+            ranks[id % CardId.CARDS_PER_SUIT] += delta;
+            suits[id / CardId.CARDS_PER_SUIT] += delta;
+        } else {
+            jokers += delta;
+        }
+        size += delta;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int getRemainingCount(int id) {
+        return remaining[id];
+    }
+
+    @Override
+    public int getRemainingRankCount(int rankId) {
+        return ranks[rankId];
+    }
+
+    @Override
+    public int getRemainingSuitCount(int suitId) {
+        return suits[suitId];
+    }
+
+    @Override
+    public int getRemainingJokerCount() {
+        return jokers;
+    }
+
+    @Override
+    public double getPenetration() {
+        return capacity == 0 ? 0.0 : (double) (capacity - size) / capacity;
+    }
+
+    @Override
+    public double getDecksRemaining() {
+        return (double) size / deckSize;
+    }
+
+    @Override
+    public int getRunningCountCount() {
+        return runningCounts.length;
+    }
+
+    @Override
+    public int getRunningCount(int index) {
+        return runningCounts[index];
+    }
+
+    @Override
+    public double getTrueCount(int index) {
+        return size == 0 ? 0.0 : runningCounts[index] * (double) deckSize / size;
+    }
+}
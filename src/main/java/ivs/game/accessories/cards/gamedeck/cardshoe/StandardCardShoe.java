@@ -3,6 +3,7 @@ package ivs.game.accessories.cards.gamedeck.cardshoe;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.gamedeck.GameDeck;
 import ivs.game.accessories.cards.gamedeck.StandardGameDeck;
+import ivs.game.accessories.cards.jfr.ShoeCreatedEvent;
 import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.lang3.Validate;
@@ -44,11 +45,14 @@ public class StandardCardShoe<C extends PlayingCard> implements CardShoe<C> {
      * @param cards input cards (top-first order)
      */
     public StandardCardShoe(@NonNull Collection<C> cards, int cutCardPosition) {
+        ShoeCreatedEvent event = new ShoeCreatedEvent();
+        event.begin();
         Validate.noNullElements(cards, "Cards cannot contain null elements");
         Validate.isTrue(cutCardPosition >= 0, "Cut-card position cannot be negative");
 
         this.gameDeck = new StandardGameDeck<>(List.copyOf(cards));
         this.cutCardPosition = cutCardPosition;
+        event.commit(getClass(), gameDeck.size(), cutCardPosition);
     }
 
     /**
@@ -63,7 +67,8 @@ public class StandardCardShoe<C extends PlayingCard> implements CardShoe<C> {
 
     /**
      * Copy constructor for StandardCardShoe.
-     * Performs a shallow copy of cards.
+     * Performs a shallow copy of cards, in time proportional to the shoe size;
+     * {@link MultiDeckCardShoe#fork()} copies in constant time.
      *
      * @param other the shoe to clone
      */
@@ -82,6 +87,16 @@ public class StandardCardShoe<C extends PlayingCard> implements CardShoe<C> {
         return gameDeck.draw(count);
     }
 
+    @Override
+    public int tryDrawId() {
+        return gameDeck.tryDrawId();
+    }
+
+    @Override
+    public int drawUpTo(int count, @NonNull Collection<? super C> dest) {
+        return gameDeck.drawUpTo(count, dest);
+    }
+
     @Override
     public C peek() {
         return gameDeck.peekTop();
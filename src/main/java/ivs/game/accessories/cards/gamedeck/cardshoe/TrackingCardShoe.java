@@ -0,0 +1,110 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.List;
+
+/**
+ * Observable decorator for any {@link CardShoe}, such as {@link StandardCardShoe}.
+ * <p>
+ * The composition of the wrapped shoe is read once on construction; afterwards every card drawn through
+ * this decorator updates the composition view in constant time. Cards drawn from the wrapped shoe directly
+ * are not observed, so the wrapped shoe should only be used through the decorator.
+ * <p>
+ * The capacity of the composition view is the size of the wrapped shoe at construction time.
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ *
+ * <pre>
+ * Example usage:
+ *   TrackingCardShoe&lt;StandardCard&gt; shoe =
+ *           new TrackingCardShoe&lt;&gt;(new StandardCardShoe&lt;&gt;(cards, 52), CountTags.HI_LO);
+ *   double trueCount = shoe.getComposition().getTrueCount(0);
+ * </pre>
+ *
+ * @param <C> the type of card in the shoe
+ */
+public class TrackingCardShoe<C extends PlayingCard> implements ObservableCardShoe<C> {
+
+    private final CardShoe<C> delegate;
+    private final ShoeTracker tracker;
+
+    /**
+     * Wraps a shoe, using a standard 52-card deck as the unit for true counts.
+     *
+     * @param delegate  the shoe to observe
+     * @param countTags the tag vectors to track
+     * @throws NullPointerException     if delegate or countTags is null
+     * @throws IllegalArgumentException if any tag vector is null
+     */
+    public TrackingCardShoe(@NonNull CardShoe<C> delegate, @NonNull CountTags... countTags) {
+        this(delegate, CardId.CARD_COUNT, countTags);
+    }
+
+    /**
+     * Wraps a shoe, using the given deck size as the unit for true counts.
+     *
+     * @param delegate  the shoe to observe
+     * @param deckSize  the number of cards in one deck (must be positive)
+     * @param countTags the tag vectors to track
+     * @throws NullPointerException     if delegate or countTags is null
+     * @throws IllegalArgumentException if deckSize is not positive or any tag vector is null
+     */
+    public TrackingCardShoe(@NonNull CardShoe<C> delegate, int deckSize, @NonNull CountTags... countTags) {
+        Validate.isTrue(deckSize > 0, "Deck size must be positive");
+        Validate.noNullElements(countTags, "Count tags cannot contain null elements");
+
+        int[] ids = delegate.exportCards().stream().mapToInt(PlayingCard::getId).toArray();
+        this.delegate = delegate;
+        this.tracker = new ShoeTracker(ids, 0, ids.length, deckSize, countTags.clone());
+    }
+
+    @Override
+    public ShoeComposition getComposition() {
+        return tracker;
+    }
+
+    @Override
+    public C draw() {
+        C card = delegate.draw();
+        tracker.onDraw(card.getId());
+        return card;
+    }
+
+    @Override
+    public List<C> draw(int count) {
+        List<C> drawn = delegate.draw(count);
+        for (int i = 0; i < drawn.size(); i++) {
+            tracker.onDraw(drawn.get(i).getId());
+        }
+        return drawn;
+    }
+
+    @Override
+    public C peek() {
+        return delegate.peek();
+    }
+
+    @Override
+    public List<C> exportCards() {
+        return delegate.exportCards();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean isCutCardOut() {
+        return delegate.isCutCardOut();
+    }
+}
@@ -6,6 +6,9 @@ import ivs.game.accessories.cards.gamedeck.dealer.CardDealer;
 import ivs.game.accessories.cards.gamedeck.dealer.DealRequest;
 import ivs.game.accessories.cards.gamedeck.dealer.DealResult;
 import ivs.game.accessories.cards.gamedeck.dealer.Recipient;
+import ivs.game.accessories.cards.jfr.DealEvent;
+import ivs.game.accessories.cards.metrics.CardMetrics;
+import ivs.game.accessories.cards.metrics.Metrics;
 import lombok.NonNull;
 
 import java.util.ArrayList;
@@ -26,24 +29,24 @@ public class StandardCardDealer<D extends GameDeck<? extends PlayingCard>, R ext
 
     @Override
     public DealResult<R> deal(@NonNull D deck, @NonNull List<DealRequest<R>> requests) {
+        CardMetrics metrics = Metrics.get();
+        long start = metrics.isTimed() ? System.nanoTime() : 0;
+        DealEvent event = new DealEvent();
+        event.begin();
         Map<R, List<PlayingCard>> allocations = new HashMap<>();
 
+        int cardCount = 0;
         for (DealRequest<R> request : requests) {
             validateCardsLeft(deck, request);
-            List<PlayingCard> requestedCards = getRequestedCards(deck, request);
 
             List<PlayingCard> allocated = allocations.computeIfAbsent(request.getRecipient(), r -> new ArrayList<>());
-            allocated.addAll(requestedCards);
+            cardCount += deck.drawUpTo(request.getAmount(), allocated);
         }
-        return new StandardDealResult<>(allocations);
-    }
-
-    private List<PlayingCard> getRequestedCards(D deck, DealRequest<R> request) {
-        List<PlayingCard> dealt = new ArrayList<>();
-        while (dealt.size() < request.getAmount() && !deck.isEmpty()) {
-            dealt.add(deck.draw());
+        event.commit(allocations.size(), cardCount);
+        if (metrics.isTimed()) {
+            metrics.onDeal(System.nanoTime() - start);
         }
-        return dealt;
+        return new StandardDealResult<>(allocations);
     }
 
     private void validateCardsLeft(D deck, DealRequest<R> request) {
@@ -1,6 +1,9 @@
 package ivs.game.accessories.cards.gamedeck.shuffler;
 
 import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.jfr.ShuffleEvent;
+import ivs.game.accessories.cards.metrics.CardMetrics;
+import ivs.game.accessories.cards.metrics.Metrics;
 import lombok.NonNull;
 
 import java.util.ArrayList;
@@ -25,7 +28,16 @@ class StandardCardShuffler<T extends PlayingCard> implements InPlaceShuffler<T>,
      */
     @Override
     public void shuffleInPlace(@NonNull List<T> cards) {
-        Collections.shuffle(cards, ThreadLocalRandom.current());
+        CardMetrics metrics = Metrics.get();
+        long start = metrics.isTimed() ? System.nanoTime() : 0;
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Collections.shuffle(cards, random);
+        event.commit(cards.size(), random);
+        if (metrics.isTimed()) {
+            metrics.onShuffle(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -38,7 +50,7 @@ class StandardCardShuffler<T extends PlayingCard> implements InPlaceShuffler<T>,
     @Override
     public List<T> shuffleCopy(@NonNull Collection<T> cards) {
         List<T> copy = new ArrayList<>(cards);
-        Collections.shuffle(copy, ThreadLocalRandom.current());
+        shuffleInPlace(copy);
         return copy;
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package ivs.game.accessories.cards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of one deal by a {@link ivs.game.accessories.cards.gamedeck.dealer.CardDealer}.
+ * <p>
+ * Deals shorter than the threshold are not recorded; recordings can lower it to {@code 0 ms} for per-hand
+ * timing. Stack traces are off by default.
+ * <p>
+ * Thread safety: An event instance belongs to the thread that created it.
+ */
+@Name(DealEvent.NAME)
+@Label("Card Deal")
+@Description("Cards were dealt to recipients")
+@Category({"Deckmaster", "Cards"})
+@Threshold("20 us")
+@StackTrace(false)
+public final class DealEvent extends Event {
+
+    /** Event name used in recordings and settings */
+    public static final String NAME = "ivs.game.accessories.cards.Deal";
+
+    @Label("Recipient Count")
+    @Description("Number of recipients that received cards")
+    private int recipientCount;
+
+    @Label("Card Count")
+    @Description("Number of cards dealt")
+    private int cardCount;
+
+    /**
+     * Commits the event if it is enabled and took at least the threshold; call after the deal.
+     *
+     * @param recipientCount the number of recipients
+     * @param cardCount      the number of cards dealt
+     */
+    public void commit(int recipientCount, int cardCount) {
+        if (shouldCommit()) {
+            this.recipientCount = recipientCount;
+            this.cardCount = cardCount;
+            commit();
+        }
+    }
+}
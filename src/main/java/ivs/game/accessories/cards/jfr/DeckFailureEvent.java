@@ -0,0 +1,59 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.metrics.DeckFailureCause;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of a {@link ivs.game.accessories.cards.gamedeck.GameDeckException} thrown because a deck or shoe
+ * held too few cards.
+ * <p>
+ * The event is instant, so the threshold has no effect unless raised. Stack traces are on by default, to find
+ * the caller that drew from an exhausted deck.
+ * <p>
+ * Thread safety: An event instance belongs to the thread that created it.
+ */
+@Name(DeckFailureEvent.NAME)
+@Label("Deck Failure")
+@Description("A GameDeckException was thrown")
+@Category({"Deckmaster", "Cards"})
+@Threshold("0 ms")
+@StackTrace(true)
+public final class DeckFailureEvent extends Event {
+
+    /** Event name used in recordings and settings */
+    public static final String NAME = "ivs.game.accessories.cards.DeckFailure";
+
+    @Label("Cause")
+    @Description("Cause of the failure, see DeckFailureCause")
+    private String cause;
+
+    @Label("Requested")
+    @Description("Number of cards requested")
+    private int requested;
+
+    @Label("Available")
+    @Description("Number of cards available")
+    private int available;
+
+    /**
+     * Commits the event if it is enabled.
+     *
+     * @param cause     the cause
+     * @param requested the number of cards requested
+     * @param available the number of cards available
+     */
+    public void commit(DeckFailureCause cause, int requested, int available) {
+        if (shouldCommit()) {
+            this.cause = cause.name();
+            this.requested = requested;
+            this.available = available;
+            commit();
+        }
+    }
+}
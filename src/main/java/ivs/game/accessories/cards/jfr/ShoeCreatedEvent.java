@@ -0,0 +1,57 @@
+package ivs.game.accessories.cards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of the creation of a card shoe, timed from the start of loading the cards.
+ * <p>
+ * Creations shorter than the threshold are not recorded. Stack traces are on by default, to show which
+ * code creates shoes.
+ * <p>
+ * Thread safety: An event instance belongs to the thread that created it.
+ */
+@Name(ShoeCreatedEvent.NAME)
+@Label("Shoe Created")
+@Description("A card shoe was created")
+@Category({"Deckmaster", "Cards"})
+@Threshold("0 ms")
+@StackTrace(true)
+public final class ShoeCreatedEvent extends Event {
+
+    /** Event name used in recordings and settings */
+    public static final String NAME = "ivs.game.accessories.cards.ShoeCreated";
+
+    @Label("Shoe Type")
+    @Description("Class of the shoe")
+    private String shoeType;
+
+    @Label("Card Count")
+    @Description("Number of cards in the new shoe")
+    private int cardCount;
+
+    @Label("Cut-Card Position")
+    @Description("Remaining cards at which the cut card comes out, 0 for none")
+    private int cutCardPosition;
+
+    /**
+     * Commits the event if it is enabled and took at least the threshold; call when the shoe is ready.
+     *
+     * @param shoeType        the class of the new shoe
+     * @param cardCount       the number of cards in the shoe
+     * @param cutCardPosition the cut-card position
+     */
+    public void commit(Class<?> shoeType, int cardCount, int cutCardPosition) {
+        if (shouldCommit()) {
+            this.shoeType = shoeType.getName();
+            this.cardCount = cardCount;
+            this.cutCardPosition = cutCardPosition;
+            commit();
+        }
+    }
+}
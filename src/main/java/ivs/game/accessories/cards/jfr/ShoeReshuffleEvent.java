@@ -0,0 +1,65 @@
+package ivs.game.accessories.cards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of a shoe returning all its cards and shuffling them again, with the penetration reached before it:
+ * the fraction of the shoe dealt since the previous shuffle.
+ * <p>
+ * Reshuffles shorter than the threshold are not recorded; the default records all of them, since they are rare
+ * and their penetration matters more than their duration. Stack traces are off by default.
+ * <p>
+ * Thread safety: An event instance belongs to the thread that created it.
+ */
+@Name(ShoeReshuffleEvent.NAME)
+@Label("Shoe Reshuffle")
+@Description("A card shoe was reshuffled")
+@Category({"Deckmaster", "Cards"})
+@Threshold("0 ms")
+@StackTrace(false)
+public final class ShoeReshuffleEvent extends Event {
+
+    /** Event name used in recordings and settings */
+    public static final String NAME = "ivs.game.accessories.cards.ShoeReshuffle";
+
+    @Label("Capacity")
+    @Description("Number of cards in the full shoe")
+    private int capacity;
+
+    @Label("Cards Dealt")
+    @Description("Cards dealt since the previous shuffle")
+    private int cardsDealt;
+
+    @Label("Cut-Card Position")
+    @Description("Remaining cards at which the cut card came out, 0 for none")
+    private int cutCardPosition;
+
+    @Label("Penetration")
+    @Description("Fraction of the shoe dealt since the previous shuffle")
+    @Percentage
+    private double penetration;
+
+    /**
+     * Commits the event if it is enabled and took at least the threshold; call after the reshuffle.
+     *
+     * @param capacity        the number of cards in the full shoe
+     * @param cardsDealt      the number of cards dealt before the reshuffle
+     * @param cutCardPosition the cut-card position before the reshuffle
+     */
+    public void commit(int capacity, int cardsDealt, int cutCardPosition) {
+        if (shouldCommit()) {
+            this.capacity = capacity;
+            this.cardsDealt = cardsDealt;
+            this.cutCardPosition = cutCardPosition;
+            this.penetration = capacity == 0 ? 0 : (double) cardsDealt / capacity;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ivs.game.accessories.cards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event of one shuffle of a card list or shoe.
+ * <p>
+ * Shuffles shorter than the threshold are not recorded; recordings can lower it, down to {@code 0 ms}
+ * to time every hand, with {@code Recording.enable(ShuffleEvent.NAME).withThreshold(...)} or a {@code .jfc}
+ * setting. Stack traces are off by default, as the shuffling method is known from the event.
+ * <p>
+ * Thread safety: An event instance belongs to the thread that created it.
+ */
+@Name(ShuffleEvent.NAME)
+@Label("Card Shuffle")
+@Description("A deck or shoe was shuffled")
+@Category({"Deckmaster", "Cards"})
+@Threshold("20 us")
+@StackTrace(false)
+public final class ShuffleEvent extends Event {
+
+    /** Event name used in recordings and settings */
+    public static final String NAME = "ivs.game.accessories.cards.Shuffle";
+
+    @Label("Deck Size")
+    @Description("Number of cards shuffled")
+    private int deckSize;
+
+    @Label("Generator")
+    @Description("Class of the random generator")
+    private String generator;
+
+    /**
+     * Commits the event if it is enabled and took at least the threshold; call after the shuffle.
+     *
+     * @param deckSize  the number of cards shuffled
+     * @param generator the random generator used
+     */
+    public void commit(int deckSize, Object generator) {
+        if (shouldCommit()) {
+            this.deckSize = deckSize;
+            this.generator = generator.getClass().getName();
+            commit();
+        }
+    }
+}
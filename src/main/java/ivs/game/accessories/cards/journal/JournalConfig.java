@@ -0,0 +1,105 @@
+package ivs.game.accessories.cards.journal;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of a {@link JournalWriter}.
+ * <p>
+ * Records are durable once the writer forces them to disk. The writer forces the current segment after every
+ * {@link #getSyncBatchSize()} records, when it rolls over to a new segment, on {@link JournalWriter#sync()}
+ * and on close. Larger batches trade the number of records a power failure may lose for throughput;
+ * a process crash loses nothing, as the records are already in the page cache.
+ * <p>
+ * Thread safety: Instances are immutable.
+ */
+@Getter
+public final class JournalConfig {
+
+    /** Default segment file size, 64 MiB */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /** Smallest allowed segment file size */
+    public static final int MIN_SEGMENT_SIZE = 4096;
+
+    /** Default number of records between forced writes */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 256;
+
+    /** Batch size that disables forced writes by record count */
+    public static final int NO_SYNC_BATCH = 0;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int syncBatchSize;
+
+    private JournalConfig(Builder builder) {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.syncBatchSize = builder.syncBatchSize;
+    }
+
+    /**
+     * Creates a builder with default settings.
+     *
+     * @param directory the directory holding the segment files; created if missing
+     * @return a new builder
+     * @throws NullPointerException if directory is null
+     */
+    public static Builder builder(@NonNull Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Builder for {@link JournalConfig}.
+     * <p>
+     * By default segments are {@link #DEFAULT_SEGMENT_SIZE} bytes and forced to disk every
+     * {@link #DEFAULT_SYNC_BATCH_SIZE} records.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private int syncBatchSize = DEFAULT_SYNC_BATCH_SIZE;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Sets the size of the segment files; a new segment starts when a record does not fit.
+         *
+         * @param segmentSize the segment size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if segmentSize is less than {@link #MIN_SEGMENT_SIZE}
+         */
+        public Builder segmentSize(int segmentSize) {
+            Validate.isTrue(segmentSize >= MIN_SEGMENT_SIZE, "Segment size must be at least %d", MIN_SEGMENT_SIZE);
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of records after which the writer forces the segment to disk.
+         *
+         * @param syncBatchSize the batch size, 1 to force every record, or {@link #NO_SYNC_BATCH}
+         * @return this builder
+         * @throws IllegalArgumentException if syncBatchSize is negative
+         */
+        public Builder syncBatchSize(int syncBatchSize) {
+            Validate.isTrue(syncBatchSize >= 0, "Sync batch size cannot be negative");
+            this.syncBatchSize = syncBatchSize;
+            return this;
+        }
+
+        /**
+         * Builds the settings.
+         *
+         * @return the settings
+         */
+        public JournalConfig build() {
+            return new JournalConfig(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ivs.game.accessories.cards.journal;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a journal written by {@link JournalWriter}.
+ * <p>
+ * The reader maps every segment present when it is opened and sees the records written up to then; it can run
+ * while a writer appends. {@link #forEach} visits all records in sequence order; {@link #forEachOfHand} uses
+ * the segment hand indexes to visit the records of one hand without scanning the journal. Reading stops at
+ * the first damaged record of a segment.
+ * <p>
+ * Thread safety: Instances are immutable and can be shared; every call uses its own {@link JournalRecord}.
+ */
+public final class JournalReader {
+
+    private final List<JournalSegment> segments;
+
+    private JournalReader(List<JournalSegment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Opens the journal in the given directory.
+     *
+     * @param directory the directory holding the segment files
+     * @return the reader
+     * @throws NullPointerException if directory is null
+     * @throws IOException          if the directory or a segment cannot be read
+     */
+    public static JournalReader open(@NonNull Path directory) throws IOException {
+        List<JournalSegment> segments = new ArrayList<>();
+        for (Path path : JournalSegment.list(directory)) {
+            segments.add(JournalSegment.open(path));
+        }
+        return new JournalReader(List.copyOf(segments));
+    }
+
+    /**
+     * Passes every record to the handler in sequence order.
+     *
+     * @param handler the handler
+     * @return the number of records read
+     * @throws NullPointerException if handler is null
+     */
+    public long forEach(@NonNull JournalRecordHandler handler) {
+        JournalRecord record = new JournalRecord();
+        long count = 0;
+        for (JournalSegment segment : segments) {
+            count += segment.forEach(record, handler);
+        }
+        return count;
+    }
+
+    /**
+     * Passes every record of one hand to the handler in sequence order.
+     *
+     * @param handId  the hand ID
+     * @param handler the handler
+     * @return the number of records read
+     * @throws NullPointerException if handler is null
+     */
+    public int forEachOfHand(long handId, @NonNull JournalRecordHandler handler) {
+        JournalRecord record = new JournalRecord();
+        int count = 0;
+        for (JournalSegment segment : segments) {
+            count += segment.forEachOfHand(handId, record, handler);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of segment files.
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the sequence number of the last intact record.
+     *
+     * @return the last sequence number, or -1 if the journal is empty
+     */
+    public long getLastSequence() {
+        long last = -1;
+        for (JournalSegment segment : segments) {
+            last = Math.max(last, segment.getLastSequence());
+        }
+        return last;
+    }
+
+    List<JournalSegment> segments() {
+        return segments;
+    }
+}
@@ -0,0 +1,238 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A view of one journal record, reused by {@link JournalReader} for every record it reads.
+ * <p>
+ * The header fields are available through getters; the payload is decoded on demand by the accessors
+ * of the record's type, see {@link JournalRecordType}.
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ */
+public final class JournalRecord {
+
+    // Size of the recipient ID and card count that start every deal entry
+    private static final int RECIPIENT_HEADER = Integer.BYTES + 1;
+    // Size of the cut-card position and shoe card count that start every snapshot
+    private static final int SHOE_HEADER = Integer.BYTES + Short.BYTES;
+
+    @Getter
+    private long sequence;
+    @Getter
+    private long handId;
+    @Getter
+    private int tableId;
+    @Getter
+    private int type;
+    @Getter
+    private int payloadLength;
+    private ByteBuffer buffer;
+    private int payloadOffset;
+
+    JournalRecord() {
+    }
+
+    void set(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.payloadLength = buffer.getInt(offset + JournalSegment.LENGTH_OFFSET) - JournalSegment.RECORD_HEADER;
+        this.sequence = buffer.getLong(offset + JournalSegment.SEQUENCE_OFFSET);
+        this.handId = buffer.getLong(offset + JournalSegment.HAND_OFFSET);
+        this.tableId = buffer.getInt(offset + JournalSegment.TABLE_OFFSET);
+        this.type = buffer.getShort(offset + JournalSegment.TYPE_OFFSET);
+        this.payloadOffset = offset + JournalSegment.RECORD_HEADER;
+    }
+
+    /**
+     * Returns the number of cards of a shuffle or draw record.
+     *
+     * @return the card count
+     * @throws IllegalStateException if the record is not a shuffle or draw
+     */
+    public int getCardCount() {
+        requireType(JournalRecordType.SHUFFLE, JournalRecordType.DRAW);
+        return payloadLength;
+    }
+
+    /**
+     * Returns a card ID of a shuffle or draw record.
+     *
+     * @param index the index of the card, from 0 (top card for shuffles)
+     * @return the card ID
+     * @throws IllegalStateException     if the record is not a shuffle or draw
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getCardId(int index) {
+        requireType(JournalRecordType.SHUFFLE, JournalRecordType.DRAW);
+        Objects.checkIndex(index, payloadLength);
+        return buffer.get(payloadOffset + index);
+    }
+
+    /**
+     * Returns the cards of a shuffle or draw record.
+     *
+     * @return a new list of the cards, in recorded order
+     * @throws IllegalStateException if the record is not a shuffle or draw
+     */
+    public List<PlayingCard> getCards() {
+        int count = getCardCount();
+        List<PlayingCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(PlayingCard.getById(buffer.get(payloadOffset + i)));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the cut-card position of a cut or snapshot record.
+     *
+     * @return the cut-card position
+     * @throws IllegalStateException if the record is not a cut or snapshot
+     */
+    public int getCutCardPosition() {
+        requireType(JournalRecordType.CUT, JournalRecordType.SNAPSHOT);
+        return buffer.getInt(payloadOffset);
+    }
+
+    /**
+     * Returns the number of cards left in the shoe of a snapshot record.
+     *
+     * @return the shoe card count
+     * @throws IllegalStateException if the record is not a snapshot
+     */
+    public int getShoeCardCount() {
+        requireType(JournalRecordType.SNAPSHOT, JournalRecordType.SNAPSHOT);
+        return Short.toUnsignedInt(buffer.getShort(payloadOffset + Integer.BYTES));
+    }
+
+    /**
+     * Returns a card ID of the shoe of a snapshot record.
+     *
+     * @param index the index of the card, from 0 for the top card
+     * @return the card ID
+     * @throws IllegalStateException     if the record is not a snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getShoeCardId(int index) {
+        Objects.checkIndex(index, getShoeCardCount());
+        return buffer.get(payloadOffset + SHOE_HEADER + index);
+    }
+
+    /**
+     * Returns the sequence number a checkpoint record refers to.
+     *
+     * @return the sequence number from which a replay restores every live table
+     * @throws IllegalStateException if the record is not a checkpoint
+     */
+    public long getCheckpointSequence() {
+        requireType(JournalRecordType.CHECKPOINT, JournalRecordType.CHECKPOINT);
+        return buffer.getLong(payloadOffset);
+    }
+
+    /**
+     * Returns the number of recipients of a deal record, or of holders of a snapshot record.
+     *
+     * @return the recipient count
+     * @throws IllegalStateException if the record is not a deal or snapshot
+     */
+    public int getRecipientCount() {
+        return Byte.toUnsignedInt(buffer.get(entriesOffset()));
+    }
+
+    /**
+     * Returns the ID of a recipient of a deal or snapshot record.
+     *
+     * @param recipient the index of the recipient
+     * @return the recipient ID given when the record was appended
+     * @throws IllegalStateException     if the record is not a deal or snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getRecipientId(int recipient) {
+        return buffer.getInt(recipientOffset(recipient));
+    }
+
+    /**
+     * Copies the card IDs dealt to a recipient of a deal record, or held by a holder of a snapshot record.
+     *
+     * @param recipient the index of the recipient
+     * @param dest      the array receiving the card IDs
+     * @return the number of cards
+     * @throws NullPointerException      if dest is null
+     * @throws IllegalStateException     if the record is not a deal or snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range or dest is too small
+     */
+    public int getRecipientCardIds(int recipient, @NonNull int[] dest) {
+        int offset = recipientOffset(recipient);
+        int count = Byte.toUnsignedInt(buffer.get(offset + Integer.BYTES));
+        Objects.checkFromIndexSize(0, count, dest.length);
+        for (int i = 0; i < count; i++) {
+            dest[i] = buffer.get(offset + RECIPIENT_HEADER + i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the cards dealt to a recipient of a deal record, or held by a holder of a snapshot record.
+     *
+     * @param recipient the index of the recipient
+     * @return a new list of the cards, in recorded order
+     * @throws IllegalStateException     if the record is not a deal or snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public List<PlayingCard> getRecipientCards(int recipient) {
+        int offset = recipientOffset(recipient);
+        int count = Byte.toUnsignedInt(buffer.get(offset + Integer.BYTES));
+        List<PlayingCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(PlayingCard.getById(buffer.get(offset + RECIPIENT_HEADER + i)));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the number of cards dealt to a recipient of a deal record, or held by a holder of a snapshot record.
+     *
+     * @param recipient the index of the recipient
+     * @return the number of cards
+     * @throws IllegalStateException     if the record is not a deal or snapshot
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getRecipientCardCount(int recipient) {
+        return Byte.toUnsignedInt(buffer.get(recipientOffset(recipient) + Integer.BYTES));
+    }
+
+    @Override
+    public String toString() {
+        return "JournalRecord(sequence=" + sequence + ", tableId=" + tableId + ", handId=" + handId
+                + ", type=" + JournalRecordType.name(type) + ", payloadLength=" + payloadLength + ")";
+    }
+
+    // Offset of the recipient count that starts the recipient entries of deals and snapshots
+    private int entriesOffset() {
+        requireType(JournalRecordType.DEAL, JournalRecordType.SNAPSHOT);
+        return type == JournalRecordType.DEAL ? payloadOffset : payloadOffset + SHOE_HEADER + getShoeCardCount();
+    }
+
+    private int recipientOffset(int recipient) {
+        int entries = entriesOffset();
+        Objects.checkIndex(recipient, Byte.toUnsignedInt(buffer.get(entries)));
+        int offset = entries + 1;
+        for (int i = 0; i < recipient; i++) {
+            offset += RECIPIENT_HEADER + Byte.toUnsignedInt(buffer.get(offset + Integer.BYTES));
+        }
+        return offset;
+    }
+
+    private void requireType(int first, int second) {
+        Validate.validState(type == first || type == second, "Not available for %s records",
+                JournalRecordType.name(type));
+    }
+}
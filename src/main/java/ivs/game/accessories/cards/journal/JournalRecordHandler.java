@@ -0,0 +1,18 @@
+package ivs.game.accessories.cards.journal;
+
+/**
+ * Receives records read from a journal.
+ *
+ * @see JournalReader
+ */
+@FunctionalInterface
+public interface JournalRecordHandler {
+
+    /**
+     * Receives one record. The record object is reused for the next record, so it is only valid
+     * during this call.
+     *
+     * @param record the record
+     */
+    void onRecord(JournalRecord record);
+}
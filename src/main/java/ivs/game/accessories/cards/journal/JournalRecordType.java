@@ -0,0 +1,49 @@
+package ivs.game.accessories.cards.journal;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * A utility class that contains the record types of the hand-history journal.
+ * <p>
+ * Payload layouts, all big-endian:
+ * <ul>
+ *     <li>{@link #SHUFFLE}, {@link #DRAW}: one byte per card ID, in order (top card first for shuffles)</li>
+ *     <li>{@link #CUT}: the cut-card position as an int</li>
+ *     <li>{@link #DEAL}: the recipient count as a byte, then for every recipient its ID as an int,
+ *     its card count as a byte and one byte per card ID</li>
+ * </ul>
+ */
+@UtilityClass
+public final class JournalRecordType {
+
+    /** The order of a deck or shoe after a shuffle */
+    public static final int SHUFFLE = 1;
+    /** The cut-card position of a shoe */
+    public static final int CUT = 2;
+    /** The cards dealt to every recipient */
+    public static final int DEAL = 3;
+    /** Cards drawn from a deck or shoe */
+    public static final int DRAW = 4;
+    /** The complete state of a table: shoe, cut-card position and holders */
+    public static final int SNAPSHOT = 5;
+    /** Marks that every live table has a snapshot at or after a given sequence number */
+    public static final int CHECKPOINT = 6;
+
+    /**
+     * Returns a readable name of a record type, for logging.
+     *
+     * @param type the record type
+     * @return the name of the type, or {@code "UNKNOWN(type)"} for unknown types
+     */
+    public static String name(int type) {
+        return switch (type) {
+            case SHUFFLE -> "SHUFFLE";
+            case CUT -> "CUT";
+            case DEAL -> "DEAL";
+            case DRAW -> "DRAW";
+            case SNAPSHOT -> "SNAPSHOT";
+            case CHECKPOINT -> "CHECKPOINT";
+            default -> "UNKNOWN(" + type + ")";
+        };
+    }
+}
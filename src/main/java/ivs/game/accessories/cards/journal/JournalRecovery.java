@@ -0,0 +1,139 @@
+package ivs.game.accessories.cards.journal;
+
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Rebuilds the state of every table from a journal after a restart.
+ * <p>
+ * Recovery starts at the last checkpoint, see {@link JournalWriter#appendCheckpoint(long)}, or at the first
+ * record if there is none. Writing a snapshot of every live table and then a checkpoint at regular intervals
+ * therefore bounds recovery time by the interval rather than by the length of the journal.
+ * <p>
+ * The segments after the starting point are replayed in parallel on a {@link ForkJoinPool}: each task rebuilds
+ * the effect of its segment on every table it mentions, and the results are combined in sequence order.
+ * <p>
+ * Thread safety: Instances are stateless apart from the pool and can be used from several threads.
+ *
+ * @see TableState
+ */
+public final class JournalRecovery {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a recovery running on the common pool.
+     */
+    public JournalRecovery() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a recovery running on the given pool.
+     *
+     * @param pool the pool replaying segments in parallel
+     * @throws NullPointerException if pool is null
+     */
+    public JournalRecovery(@NonNull ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Rebuilds every table from the last checkpoint on.
+     *
+     * @param reader the journal
+     * @return the table states, by table ID
+     * @throws NullPointerException if reader is null
+     */
+    public Map<Integer, TableState> recover(@NonNull JournalReader reader) {
+        return recover(reader, findCheckpoint(reader));
+    }
+
+    /**
+     * Rebuilds every table from the records at or after the given sequence number.
+     *
+     * @param reader       the journal
+     * @param fromSequence the sequence number of the first record to replay
+     * @return the table states, by table ID
+     * @throws NullPointerException     if reader is null
+     * @throws IllegalArgumentException if fromSequence is negative
+     */
+    public Map<Integer, TableState> recover(@NonNull JournalReader reader, long fromSequence) {
+        Validate.isTrue(fromSequence >= 0, "Sequence cannot be negative");
+        List<ReplayTask> tasks = new ArrayList<>();
+        for (JournalSegment segment : reader.segments()) {
+            if (segment.getRecordCount() > 0 && segment.getLastSequence() >= fromSequence) {
+                tasks.add(new ReplayTask(segment, fromSequence));
+            }
+        }
+        List<ReplayTask> done = pool.invoke(new RecursiveTask<>() {
+            @Override
+            protected List<ReplayTask> compute() {
+                return new ArrayList<>(ForkJoinTask.invokeAll(tasks));
+            }
+        });
+        Map<Integer, TableState> tables = new HashMap<>();
+        for (ReplayTask task : done) {
+            task.join().forEach((tableId, later) -> tables.merge(tableId, later, (earlier, state) -> {
+                earlier.append(state);
+                return earlier;
+            }));
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the sequence number recovery starts at: that of the last checkpoint, found by reading the
+     * segments from the newest on.
+     *
+     * @param reader the journal
+     * @return the sequence number of the last checkpoint, or 0 if there is none
+     * @throws NullPointerException if reader is null
+     */
+    public long findCheckpoint(@NonNull JournalReader reader) {
+        List<JournalSegment> segments = reader.segments();
+        long[] checkpoint = {-1};
+        JournalRecord record = new JournalRecord();
+        for (int i = segments.size() - 1; i >= 0 && checkpoint[0] < 0; i--) {
+            segments.get(i).forEach(record, current -> {
+                if (current.getType() == JournalRecordType.CHECKPOINT) {
+                    checkpoint[0] = current.getCheckpointSequence();
+                }
+            });
+        }
+        return Math.max(0, checkpoint[0]);
+    }
+
+    /**
+     * Replays the records of one segment into partial table states.
+     */
+    @SuppressWarnings("serial") // Never serialized; only run in a ForkJoinPool
+    private static final class ReplayTask extends RecursiveTask<Map<Integer, TableState>> {
+        private final JournalSegment segment;
+        private final long fromSequence;
+
+        ReplayTask(JournalSegment segment, long fromSequence) {
+            this.segment = segment;
+            this.fromSequence = fromSequence;
+        }
+
+        @Override
+        protected Map<Integer, TableState> compute() {
+            Map<Integer, TableState> tables = new HashMap<>();
+            segment.forEach(new JournalRecord(), record -> {
+                if (record.getSequence() >= fromSequence && record.getTableId() != JournalWriter.NO_TABLE) {
+                    tables.computeIfAbsent(record.getTableId(), TableState::new).apply(record);
+                }
+            });
+            return tables;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package ivs.game.accessories.cards.journal;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * One segment file of a journal, mapped read-only, with the hand index of its records.
+ * <p>
+ * Segment layout: a header of magic, version and the sequence of the first record, followed by records.
+ * Every record starts with its total length, the CRC32C of the rest of the record, the sequence, the hand ID,
+ * the table ID and the record type; the payload follows. Unused space is zero-filled, so a zero length ends
+ * the segment. Reading stops at the first record whose length or CRC is wrong, which drops a record torn
+ * by a crash.
+ * <p>
+ * The index file next to a segment holds the end of the valid records, the last sequence and, for every hand,
+ * the offsets of its first and last record in the segment. Segments without a valid index file, such as
+ * the segment being written when the process died, are indexed by scanning.
+ * <p>
+ * Thread safety: Instances are immutable; the mapped buffer is only read with absolute gets or through
+ * private duplicates.
+ */
+final class JournalSegment {
+
+    static final int MAGIC = 0x444D4A31;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER = 16;
+    static final int FIRST_SEQUENCE_OFFSET = 8;
+
+    static final int LENGTH_OFFSET = 0;
+    static final int CRC_OFFSET = 4;
+    static final int SEQUENCE_OFFSET = 8;
+    static final int HAND_OFFSET = 16;
+    static final int TABLE_OFFSET = 24;
+    static final int TYPE_OFFSET = 28;
+    static final int RECORD_HEADER = 32;
+
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final String INDEX_SUFFIX = ".index";
+    private static final int INDEX_MAGIC = 0x444D4931;
+    private static final int INDEX_HEADER = 24;
+    private static final int INDEX_ENTRY = Long.BYTES + 2 * Integer.BYTES;
+
+    @Getter
+    private final Path path;
+    @Getter
+    private final long firstSequence;
+    @Getter
+    private final long lastSequence;
+    // End of the last valid record
+    @Getter
+    private final int end;
+    private final ByteBuffer buffer;
+    private final Index index;
+
+    private JournalSegment(Path path, ByteBuffer buffer, long firstSequence, Index index) {
+        this.path = path;
+        this.buffer = buffer;
+        this.firstSequence = firstSequence;
+        this.lastSequence = index.lastSequence;
+        this.end = index.end;
+        this.index = index;
+    }
+
+    static JournalSegment open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < SEGMENT_HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            return new JournalSegment(path, buffer, 0, new Index(SEGMENT_HEADER, -1));
+        }
+        long firstSequence = buffer.getLong(FIRST_SEQUENCE_OFFSET);
+        Path indexPath = indexPath(path);
+        Index index = Files.exists(indexPath) ? Index.read(indexPath, buffer.capacity()) : null;
+        return new JournalSegment(path, buffer, firstSequence, index != null ? index : scan(buffer, firstSequence));
+    }
+
+    // Segment files of the directory, ordered by the sequence of their first record
+    static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+    }
+
+    static Path indexPath(Path segmentPath) {
+        String name = segmentPath.getFileName().toString();
+        return segmentPath.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    boolean hasIndexFile() {
+        return Files.exists(indexPath(path));
+    }
+
+    void writeIndex() throws IOException {
+        index.write(indexPath(path));
+    }
+
+    int getRecordCount() {
+        return (int) (lastSequence - firstSequence + 1);
+    }
+
+    int forEach(JournalRecord record, JournalRecordHandler handler) {
+        ByteBuffer view = buffer.duplicate();
+        CRC32C crc = new CRC32C();
+        int count = 0;
+        for (int offset = SEGMENT_HEADER, length; offset < end && (length = validLength(view, offset, crc)) > 0;
+             offset += length) {
+            record.set(buffer, offset);
+            handler.onRecord(record);
+            count++;
+        }
+        return count;
+    }
+
+    int forEachOfHand(long handId, JournalRecord record, JournalRecordHandler handler) {
+        int[] offsets = index.offsets.get(handId);
+        if (offsets == null) {
+            return 0;
+        }
+        ByteBuffer view = buffer.duplicate();
+        CRC32C crc = new CRC32C();
+        int count = 0;
+        for (int offset = offsets[0], length; offset <= offsets[1] && (length = validLength(view, offset, crc)) > 0;
+             offset += length) {
+            if (buffer.getLong(offset + HAND_OFFSET) == handId) {
+                record.set(buffer, offset);
+                handler.onRecord(record);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Length of the record at the offset if it is complete and intact, otherwise 0
+    static int validLength(ByteBuffer view, int offset, CRC32C crc) {
+        if (offset + RECORD_HEADER > view.capacity()) {
+            return 0;
+        }
+        int length = view.getInt(offset + LENGTH_OFFSET);
+        if (length < RECORD_HEADER || length > view.capacity() - offset) {
+            return 0;
+        }
+        return checksum(view, offset, length, crc) == view.getInt(offset + CRC_OFFSET) ? length : 0;
+    }
+
+    // CRC32C of the record after its length and CRC fields; moves the position and limit of the view
+    static int checksum(ByteBuffer view, int offset, int length, CRC32C crc) {
+        crc.reset();
+        view.limit(offset + length).position(offset + SEQUENCE_OFFSET);
+        crc.update(view);
+        view.limit(view.capacity());
+        return (int) crc.getValue();
+    }
+
+    private static Index scan(ByteBuffer buffer, long firstSequence) {
+        ByteBuffer view = buffer.duplicate();
+        CRC32C crc = new CRC32C();
+        Index index = new Index();
+        long sequence = firstSequence;
+        int offset = SEGMENT_HEADER;
+        for (int length; (length = validLength(view, offset, crc)) > 0
+                && buffer.getLong(offset + SEQUENCE_OFFSET) == sequence; offset += length, sequence++) {
+            index.add(buffer.getLong(offset + HAND_OFFSET), offset);
+        }
+        index.finish(offset, sequence - 1);
+        return index;
+    }
+
+    /**
+     * The end, last sequence and hand offsets of a segment, built while writing or scanning.
+     * <p>
+     * Thread safety: This implementation is not thread-safe; a finished index is only read.
+     */
+    static final class Index {
+        private final Map<Long, int[]> offsets = new HashMap<>();
+        private long lastHand;
+        private int[] lastEntry;
+        private int end;
+        private long lastSequence;
+
+        Index() {
+        }
+
+        private Index(int end, long lastSequence) {
+            this.end = end;
+            this.lastSequence = lastSequence;
+        }
+
+        void add(long handId, int offset) {
+            if (lastEntry == null || lastHand != handId) {
+                lastHand = handId;
+                lastEntry = offsets.computeIfAbsent(handId, hand -> new int[]{offset, offset});
+            }
+            lastEntry[1] = offset;
+        }
+
+        void finish(int end, long lastSequence) {
+            this.end = end;
+            this.lastSequence = lastSequence;
+        }
+
+        void write(Path indexPath) throws IOException {
+            List<Map.Entry<Long, int[]>> entries = new ArrayList<>(offsets.entrySet());
+            entries.sort(Map.Entry.comparingByKey());
+            ByteBuffer bytes = ByteBuffer.allocate(INDEX_HEADER + entries.size() * INDEX_ENTRY);
+            bytes.putInt(INDEX_MAGIC).putInt(entries.size()).putInt(end).putInt(0).putLong(lastSequence);
+            for (Map.Entry<Long, int[]> entry : entries) {
+                bytes.putLong(entry.getKey()).putInt(entry.getValue()[0]).putInt(entry.getValue()[1]);
+            }
+            Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(bytes.flip());
+                channel.force(true);
+            }
+            Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        // Loads an index file, or returns null if it is damaged or does not fit the segment
+        private static Index read(Path indexPath, int capacity) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+            if (bytes.capacity() < INDEX_HEADER || bytes.getInt(0) != INDEX_MAGIC) {
+                return null;
+            }
+            int count = bytes.getInt(Integer.BYTES);
+            int end = bytes.getInt(2 * Integer.BYTES);
+            if (count < 0 || bytes.capacity() != INDEX_HEADER + (long) count * INDEX_ENTRY
+                    || end < SEGMENT_HEADER || end > capacity) {
+                return null;
+            }
+            Index index = new Index(end, bytes.getLong(4 * Integer.BYTES));
+            for (int i = 0; i < count; i++) {
+                int position = INDEX_HEADER + i * INDEX_ENTRY;
+                int first = bytes.getInt(position + Long.BYTES);
+                int last = bytes.getInt(position + Long.BYTES + Integer.BYTES);
+                if (first < SEGMENT_HEADER || last < first || last >= end) {
+                    return null;
+                }
+                index.offsets.put(bytes.getLong(position), new int[]{first, last});
+            }
+            return index;
+        }
+    }
+}
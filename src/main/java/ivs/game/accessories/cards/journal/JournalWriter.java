@@ -0,0 +1,428 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.cardholder.CardViewer;
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.dealer.DealResult;
+import ivs.game.accessories.cards.gamedeck.dealer.Recipient;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Appends hand-history records to an append-only journal of memory-mapped segment files.
+ * <p>
+ * Every record carries a journal-wide sequence number, the table and hand it belongs to, and a fixed-layout
+ * binary payload, see {@link JournalRecordType}. Records are written straight into the mapped segment, so an
+ * append is a few memory stores and a CRC32C computation, with no system call; the segment is forced to disk
+ * in batches as set by the {@link JournalConfig}. When a record does not fit, the segment is forced, its hand
+ * index is written next to it and a new segment starts.
+ * <p>
+ * Opening a writer on a directory that already holds segments continues the sequence after the last intact
+ * record, indexes any segment left without an index by a crash, and starts a new segment.
+ * <p>
+ * Appends fail with {@link UncheckedIOException} if a new segment cannot be created.
+ * <p>
+ * Thread safety: Thread-safe; appends from different threads are serialized on the writer.
+ *
+ * @see JournalReader
+ */
+public final class JournalWriter implements Closeable {
+
+    /** Table ID of records that do not belong to a table */
+    public static final int NO_TABLE = -1;
+
+    /** Hand ID of records that do not belong to a hand */
+    public static final long NO_HAND = -1;
+
+    @Getter
+    private final Path directory;
+    private final int segmentSize;
+    private final int syncBatchSize;
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private ByteBuffer view;
+    private JournalSegment.Index index;
+    private int position;
+    private int syncedPosition;
+    private int unsynced;
+    private long nextSequence;
+    private boolean closed;
+
+    private JournalWriter(JournalConfig config, long nextSequence) throws IOException {
+        this.directory = config.getDirectory();
+        this.segmentSize = config.getSegmentSize();
+        this.syncBatchSize = config.getSyncBatchSize();
+        this.nextSequence = nextSequence;
+        startSegment();
+    }
+
+    /**
+     * Opens a writer on the configured directory.
+     *
+     * @param config the journal settings
+     * @return the writer, positioned at a new segment
+     * @throws NullPointerException if config is null
+     * @throws IOException          if the directory or a segment cannot be read or written
+     */
+    public static JournalWriter open(@NonNull JournalConfig config) throws IOException {
+        Files.createDirectories(config.getDirectory());
+        long nextSequence = 0;
+        for (Path path : JournalSegment.list(config.getDirectory())) {
+            JournalSegment segment = JournalSegment.open(path);
+            if (segment.getRecordCount() > 0 && !segment.hasIndexFile()) {
+                segment.writeIndex();
+            }
+            nextSequence = Math.max(nextSequence, segment.getLastSequence() + 1);
+        }
+        return new JournalWriter(config, nextSequence);
+    }
+
+    /**
+     * Appends the order of a deck or shoe after a shuffle.
+     *
+     * @param tableId the table ID
+     * @param handId  the hand ID
+     * @param cardIds the card IDs, top card first
+     * @param count   the number of cards to record
+     * @return the sequence number of the record
+     * @throws NullPointerException      if cardIds is null
+     * @throws IllegalArgumentException  if a card ID is invalid or the record does not fit in a segment
+     * @throws IndexOutOfBoundsException if count exceeds the array length
+     * @throws IllegalStateException     if the writer is closed
+     */
+    public synchronized long appendShuffle(int tableId, long handId, @NonNull int[] cardIds, int count) {
+        return appendCards(tableId, handId, JournalRecordType.SHUFFLE, cardIds, count);
+    }
+
+    /**
+     * Appends the order of a deck or shoe after a shuffle.
+     *
+     * @param tableId the table ID
+     * @param handId  the hand ID
+     * @param cards   the cards, top card first
+     * @return the sequence number of the record
+     * @throws NullPointerException     if cards or an element is null
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendShuffle(int tableId, long handId, @NonNull List<? extends PlayingCard> cards) {
+        return appendCards(tableId, handId, JournalRecordType.SHUFFLE, cards);
+    }
+
+    /**
+     * Appends the cut-card position of a shoe.
+     *
+     * @param tableId         the table ID
+     * @param handId          the hand ID
+     * @param cutCardPosition the cut-card position
+     * @return the sequence number of the record
+     * @throws IllegalStateException if the writer is closed
+     */
+    public synchronized long appendCut(int tableId, long handId, int cutCardPosition) {
+        int payload = begin(tableId, handId, JournalRecordType.CUT, Integer.BYTES);
+        buffer.putInt(payload, cutCardPosition);
+        return commit(handId, JournalSegment.RECORD_HEADER + Integer.BYTES);
+    }
+
+    /**
+     * Appends the cards dealt to every recipient.
+     *
+     * @param tableId      the table ID
+     * @param handId       the hand ID
+     * @param result       the deal result
+     * @param recipientIds maps every recipient to the ID stored in the journal
+     * @param <R>          the type of recipient
+     * @return the sequence number of the record
+     * @throws NullPointerException     if result or recipientIds is null
+     * @throws IllegalArgumentException if there are more than 255 recipients or a recipient got more than
+     *                                  255 cards
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized <R extends Recipient> long appendDeal(int tableId, long handId, @NonNull DealResult<R> result,
+                                                              @NonNull ToIntFunction<? super R> recipientIds) {
+        Map<R, List<PlayingCard>> allocations = result.getAllocations();
+        Validate.isTrue(allocations.size() <= 0xFF, "Too many recipients: %d", allocations.size());
+        int length = 1;
+        for (List<PlayingCard> cards : allocations.values()) {
+            Validate.isTrue(cards.size() <= 0xFF, "Too many cards for one recipient: %d", cards.size());
+            length += Integer.BYTES + 1 + cards.size();
+        }
+        int offset = begin(tableId, handId, JournalRecordType.DEAL, length);
+        buffer.put(offset++, (byte) allocations.size());
+        for (Map.Entry<R, List<PlayingCard>> allocation : allocations.entrySet()) {
+            offset = putEntry(offset, recipientIds.applyAsInt(allocation.getKey()), allocation.getValue(),
+                    allocation.getValue().size());
+        }
+        return commit(handId, JournalSegment.RECORD_HEADER + length);
+    }
+
+    /**
+     * Appends a single card dealt to one recipient, such as a hit in blackjack.
+     *
+     * @param tableId     the table ID
+     * @param handId      the hand ID
+     * @param recipientId the recipient ID
+     * @param cardId      the card ID
+     * @return the sequence number of the record
+     * @throws IllegalArgumentException if the card ID is invalid
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendDeal(int tableId, long handId, int recipientId, int cardId) {
+        validateCardId(cardId);
+        int length = 1 + Integer.BYTES + 1 + 1;
+        int offset = begin(tableId, handId, JournalRecordType.DEAL, length);
+        buffer.put(offset, (byte) 1);
+        buffer.putInt(offset + 1, recipientId);
+        buffer.put(offset + 1 + Integer.BYTES, (byte) 1);
+        buffer.put(offset + 1 + Integer.BYTES + 1, (byte) cardId);
+        return commit(handId, JournalSegment.RECORD_HEADER + length);
+    }
+
+    /**
+     * Appends a card drawn from a deck or shoe.
+     *
+     * @param tableId the table ID
+     * @param handId  the hand ID
+     * @param cardId  the card ID
+     * @return the sequence number of the record
+     * @throws IllegalArgumentException if the card ID is invalid
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendDraw(int tableId, long handId, int cardId) {
+        validateCardId(cardId);
+        int payload = begin(tableId, handId, JournalRecordType.DRAW, 1);
+        buffer.put(payload, (byte) cardId);
+        return commit(handId, JournalSegment.RECORD_HEADER + 1);
+    }
+
+    /**
+     * Appends cards drawn together from a deck or shoe.
+     *
+     * @param tableId the table ID
+     * @param handId  the hand ID
+     * @param cards   the cards, in drawing order
+     * @return the sequence number of the record
+     * @throws NullPointerException     if cards or an element is null
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendDraw(int tableId, long handId, @NonNull List<? extends PlayingCard> cards) {
+        return appendCards(tableId, handId, JournalRecordType.DRAW, cards);
+    }
+
+    /**
+     * Appends the complete state of a table, after which a replay no longer needs the table's earlier records.
+     *
+     * @param tableId         the table ID
+     * @param handId          the hand ID
+     * @param shoeCards       the cards left in the shoe, top card first
+     * @param cutCardPosition the cut-card position of the shoe
+     * @param holders         the holders at the table, by recipient ID
+     * @return the sequence number of the record
+     * @throws NullPointerException     if shoeCards, holders or a card is null
+     * @throws IllegalArgumentException if there are more than 255 holders, a holder has more than 255 cards,
+     *                                  or the record does not fit in a segment
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendSnapshot(int tableId, long handId, @NonNull List<? extends PlayingCard> shoeCards,
+                                            int cutCardPosition,
+                                            @NonNull Map<Integer, ? extends CardViewer> holders) {
+        Validate.isTrue(shoeCards.size() <= 0xFFFF, "Too many shoe cards: %d", shoeCards.size());
+        Validate.isTrue(holders.size() <= 0xFF, "Too many holders: %d", holders.size());
+        int length = Integer.BYTES + Short.BYTES + shoeCards.size() + 1;
+        for (CardViewer cards : holders.values()) {
+            Validate.isTrue(cards.size() <= 0xFF, "Too many cards in one holder: %d", cards.size());
+            length += Integer.BYTES + 1 + cards.size();
+        }
+        int offset = begin(tableId, handId, JournalRecordType.SNAPSHOT, length);
+        buffer.putInt(offset, cutCardPosition);
+        buffer.putShort(offset + Integer.BYTES, (short) shoeCards.size());
+        offset += Integer.BYTES + Short.BYTES;
+        for (PlayingCard card : shoeCards) {
+            buffer.put(offset++, (byte) card.getId());
+        }
+        buffer.put(offset++, (byte) holders.size());
+        for (Map.Entry<Integer, ? extends CardViewer> holder : holders.entrySet()) {
+            offset = putEntry(offset, holder.getKey(), holder.getValue(), holder.getValue().size());
+        }
+        return commit(handId, JournalSegment.RECORD_HEADER + length);
+    }
+
+    /**
+     * Appends a checkpoint: a replay starting at the given sequence number restores every live table, because
+     * each of them has a snapshot at or after it. Written after a round of {@link #appendSnapshot} calls,
+     * it lets recovery skip all older records.
+     *
+     * @param fromSequence the sequence number of the first snapshot of the round
+     * @return the sequence number of the record
+     * @throws IllegalArgumentException if fromSequence is not an already appended sequence number
+     * @throws IllegalStateException    if the writer is closed
+     */
+    public synchronized long appendCheckpoint(long fromSequence) {
+        Validate.isTrue(fromSequence >= 0 && fromSequence < nextSequence, "Invalid checkpoint sequence: %d",
+                fromSequence);
+        int payload = begin(NO_TABLE, NO_HAND, JournalRecordType.CHECKPOINT, Long.BYTES);
+        buffer.putLong(payload, fromSequence);
+        return commit(NO_HAND, JournalSegment.RECORD_HEADER + Long.BYTES);
+    }
+
+    /**
+     * Returns the sequence number the next record will get.
+     *
+     * @return the next sequence number
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Forces all records appended so far to disk.
+     *
+     * @throws IllegalStateException if the writer is closed
+     */
+    public synchronized void sync() {
+        Validate.validState(!closed, "Journal writer is closed");
+        force();
+    }
+
+    /**
+     * Forces all records to disk, writes the index of the current segment and releases the file.
+     * Further calls have no effect.
+     *
+     * @throws IOException if the segment or its index cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            finishSegment();
+        }
+    }
+
+    private long appendCards(int tableId, long handId, int type, int[] cardIds, int count) {
+        Objects.checkFromIndexSize(0, count, cardIds.length);
+        for (int i = 0; i < count; i++) {
+            validateCardId(cardIds[i]);
+        }
+        int payload = begin(tableId, handId, type, count);
+        for (int i = 0; i < count; i++) {
+            buffer.put(payload + i, (byte) cardIds[i]);
+        }
+        return commit(handId, JournalSegment.RECORD_HEADER + count);
+    }
+
+    private long appendCards(int tableId, long handId, int type, List<? extends PlayingCard> cards) {
+        Validate.noNullElements(cards, "Cards cannot contain null elements");
+        int payload = begin(tableId, handId, type, cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            buffer.put(payload + i, (byte) cards.get(i).getId());
+        }
+        return commit(handId, JournalSegment.RECORD_HEADER + cards.size());
+    }
+
+    // Writes a recipient entry of a deal or snapshot; returns the offset after it
+    private int putEntry(int offset, int recipientId, Iterable<? extends PlayingCard> cards, int count) {
+        buffer.putInt(offset, recipientId);
+        buffer.put(offset + Integer.BYTES, (byte) count);
+        int position = offset + Integer.BYTES + 1;
+        for (PlayingCard card : cards) {
+            buffer.put(position++, (byte) card.getId());
+        }
+        return position;
+    }
+
+    // Writes the header of a new record, rolling the segment if needed; returns the payload offset
+    private int begin(int tableId, long handId, int type, int payloadLength) {
+        Validate.validState(!closed, "Journal writer is closed");
+        int length = JournalSegment.RECORD_HEADER + payloadLength;
+        Validate.isTrue(length <= segmentSize - JournalSegment.SEGMENT_HEADER,
+                "Record of %d bytes does not fit in a segment", length);
+        if (length > segmentSize - position) {
+            try {
+                finishSegment();
+                startSegment();
+            } catch (IOException e) {
+                closed = true;
+                throw new UncheckedIOException("Cannot roll journal segment", e);
+            }
+        }
+        buffer.putLong(position + JournalSegment.SEQUENCE_OFFSET, nextSequence);
+        buffer.putLong(position + JournalSegment.HAND_OFFSET, handId);
+        buffer.putInt(position + JournalSegment.TABLE_OFFSET, tableId);
+        buffer.putShort(position + JournalSegment.TYPE_OFFSET, (short) type);
+        return position + JournalSegment.RECORD_HEADER;
+    }
+
+    // Completes the record started at the current position; the length is written last
+    private long commit(long handId, int length) {
+        buffer.putInt(position + JournalSegment.CRC_OFFSET, JournalSegment.checksum(view, position, length, crc));
+        buffer.putInt(position + JournalSegment.LENGTH_OFFSET, length);
+        index.add(handId, position);
+        position += length;
+        if (syncBatchSize != JournalConfig.NO_SYNC_BATCH && ++unsynced >= syncBatchSize) {
+            force();
+        }
+        return nextSequence++;
+    }
+
+    private void force() {
+        if (position > syncedPosition) {
+            buffer.force(syncedPosition, position - syncedPosition);
+            syncedPosition = position;
+        }
+        unsynced = 0;
+    }
+
+    private void startSegment() throws IOException {
+        Path path = JournalSegment.segmentPath(directory, nextSequence);
+        // A segment with this name holds no records; it was created just before a crash
+        Files.deleteIfExists(JournalSegment.indexPath(path));
+        Files.deleteIfExists(path);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        view = buffer.duplicate();
+        buffer.putInt(0, JournalSegment.MAGIC);
+        buffer.putInt(Integer.BYTES, JournalSegment.VERSION);
+        buffer.putLong(JournalSegment.FIRST_SEQUENCE_OFFSET, nextSequence);
+        index = new JournalSegment.Index();
+        position = JournalSegment.SEGMENT_HEADER;
+        syncedPosition = 0;
+        unsynced = 0;
+    }
+
+    private void finishSegment() throws IOException {
+        force();
+        index.finish(position, nextSequence - 1);
+        try (FileChannel segment = channel) {
+            index.write(JournalSegment.indexPath(JournalSegment.segmentPath(directory, firstSequence())));
+            segment.truncate(position);
+        }
+    }
+
+    private long firstSequence() {
+        return buffer.getLong(JournalSegment.FIRST_SEQUENCE_OFFSET);
+    }
+
+    private static void validateCardId(int cardId) {
+        Validate.isTrue(cardId >= 0 && cardId < CardId.ID_SPACE_SIZE, "Invalid card ID: %d", cardId);
+    }
+}
@@ -0,0 +1,210 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.cardholder.StandardCardHolder;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.StandardGameDeck;
+import ivs.game.accessories.cards.gamedeck.cardshoe.StandardCardShoe;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state of one table rebuilt from the journal by {@link JournalRecovery}: the cards left in its shoe,
+ * the cut-card position and the cards of every holder in the current hand.
+ * <p>
+ * Replay rules: a shuffle or snapshot sets the shoe order; deals and draws take cards from the top of the shoe;
+ * a deal adds the cards to the holder of each recipient; a cut or snapshot sets the cut-card position; and the
+ * holders are emptied when a record of a new hand arrives, or replaced by a snapshot.
+ * <p>
+ * Recovery replays segments independently, so a state can also describe the effect of a run of records on an
+ * unknown earlier state; such partial states are then combined in sequence order.
+ * <p>
+ * Thread safety: This implementation is not thread-safe.
+ */
+public final class TableState {
+
+    @Getter
+    private final int tableId;
+    @Getter
+    private long handId;
+    @Getter
+    private long lastSequence = -1;
+    @Getter
+    private int cutCardPosition = StandardCardShoe.NO_CUT_CARD;
+
+    // Order of the shoe after the last shuffle or snapshot, and the number of cards taken since
+    private int[] shoe = new int[0];
+    private int drawn;
+    private final Map<Integer, List<PlayingCard>> holders = new LinkedHashMap<>();
+
+    // Which parts this state sets outright rather than changing an earlier state
+    private boolean shoeKnown;
+    private boolean cutKnown;
+    private boolean holdersKnown;
+    private long firstHandId;
+
+    TableState(int tableId) {
+        this.tableId = tableId;
+    }
+
+    /**
+     * Checks whether the journal held a shuffle or snapshot of this table's shoe.
+     *
+     * @return true if the shoe cards are known
+     */
+    public boolean isShoeKnown() {
+        return shoeKnown;
+    }
+
+    /**
+     * Returns the cards left in the shoe.
+     *
+     * @return a new list of the cards, top card first; empty if the shoe is not known
+     */
+    public List<PlayingCard> getShoeCards() {
+        List<PlayingCard> cards = new ArrayList<>(Math.max(0, shoe.length - drawn));
+        for (int i = drawn; i < shoe.length; i++) {
+            cards.add(PlayingCard.getById(shoe[i]));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the IDs of the recipients holding cards in the current hand.
+     *
+     * @return an unmodifiable view of the recipient IDs
+     */
+    public Set<Integer> getRecipientIds() {
+        return Collections.unmodifiableSet(holders.keySet());
+    }
+
+    /**
+     * Returns the cards of a recipient in the current hand.
+     *
+     * @param recipientId the recipient ID
+     * @return an unmodifiable list of the cards in the order received, empty for unknown recipients
+     */
+    public List<PlayingCard> getHolderCards(int recipientId) {
+        return List.copyOf(holders.getOrDefault(recipientId, List.of()));
+    }
+
+    /**
+     * Creates a shoe holding the cards left in the shoe, with the recovered cut-card position.
+     *
+     * @return a new shoe
+     */
+    public StandardCardShoe<PlayingCard> toShoe() {
+        return new StandardCardShoe<>(getShoeCards(), cutCardPosition);
+    }
+
+    /**
+     * Creates a deck holding the cards left in the shoe.
+     *
+     * @return a new deck, top card first
+     */
+    public StandardGameDeck<PlayingCard> toDeck() {
+        return new StandardGameDeck<>(getShoeCards());
+    }
+
+    /**
+     * Creates a holder with the cards of a recipient in the current hand.
+     *
+     * @param recipientId    the recipient ID
+     * @param cardComparator the comparator of the new holder
+     * @return a new holder
+     * @throws NullPointerException if cardComparator is null
+     */
+    public StandardCardHolder toHolder(int recipientId, @NonNull Comparator<PlayingCard> cardComparator) {
+        StandardCardHolder holder = new StandardCardHolder(cardComparator);
+        holder.addAll(holders.getOrDefault(recipientId, List.of()));
+        return holder;
+    }
+
+    void apply(JournalRecord record) {
+        if (lastSequence < 0) {
+            firstHandId = record.getHandId();
+            handId = firstHandId;
+        } else if (record.getHandId() != handId) {
+            handId = record.getHandId();
+            holders.clear();
+            holdersKnown = true;
+        }
+        lastSequence = record.getSequence();
+        switch (record.getType()) {
+            case JournalRecordType.SHUFFLE -> {
+                shoe = new int[record.getCardCount()];
+                for (int i = 0; i < shoe.length; i++) {
+                    shoe[i] = record.getCardId(i);
+                }
+                drawn = 0;
+                shoeKnown = true;
+            }
+            case JournalRecordType.CUT -> {
+                cutCardPosition = record.getCutCardPosition();
+                cutKnown = true;
+            }
+            case JournalRecordType.DEAL -> addHolders(record, true);
+            case JournalRecordType.DRAW -> drawn += record.getCardCount();
+            case JournalRecordType.SNAPSHOT -> {
+                shoe = new int[record.getShoeCardCount()];
+                for (int i = 0; i < shoe.length; i++) {
+                    shoe[i] = record.getShoeCardId(i);
+                }
+                drawn = 0;
+                cutCardPosition = record.getCutCardPosition();
+                holders.clear();
+                addHolders(record, false);
+                shoeKnown = true;
+                cutKnown = true;
+                holdersKnown = true;
+            }
+            default -> {
+                // Other record types do not change the table
+            }
+        }
+    }
+
+    /**
+     * Applies the changes described by a state of later records of the same table.
+     *
+     * @param later the state rebuilt from records following this state's records
+     */
+    void append(TableState later) {
+        if (later.shoeKnown) {
+            shoe = later.shoe;
+            drawn = later.drawn;
+        } else {
+            drawn += later.drawn;
+        }
+        if (later.cutKnown) {
+            cutCardPosition = later.cutCardPosition;
+        }
+        if (later.holdersKnown || later.firstHandId != handId) {
+            holders.clear();
+            holdersKnown = true;
+        }
+        later.holders.forEach((recipient, cards) ->
+                holders.computeIfAbsent(recipient, id -> new ArrayList<>()).addAll(cards));
+        shoeKnown |= later.shoeKnown;
+        cutKnown |= later.cutKnown;
+        handId = later.handId;
+        lastSequence = later.lastSequence;
+    }
+
+    private void addHolders(JournalRecord record, boolean fromShoe) {
+        for (int i = 0; i < record.getRecipientCount(); i++) {
+            List<PlayingCard> cards = record.getRecipientCards(i);
+            holders.computeIfAbsent(record.getRecipientId(i), id -> new ArrayList<>()).addAll(cards);
+            if (fromShoe) {
+                drawn += cards.size();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ivs.game.accessories.cards.metrics;
+
+/**
+ * Receives measurements from the hot paths of decks, shoes, shufflers, dealers and solver tables.
+ * <p>
+ * This is the service interface of the metrics layer: the library reports to the single instance returned by
+ * {@link Metrics#get()}, which is loaded once through {@link java.util.ServiceLoader}. Without a registered
+ * provider it is {@link #NO_OP}; because the instance is a constant, the JIT compiler inlines the empty calls
+ * and removes the timing they guard, so disabled metrics cost nothing.
+ * <p>
+ * Every method has an empty default, so providers override only what they record. Methods are called on
+ * the thread that performs the operation and must be fast and non-blocking.
+ *
+ * @see StandardCardMetrics
+ */
+public interface CardMetrics {
+
+    /**
+     * Metrics that ignore every measurement.
+     */
+    CardMetrics NO_OP = new CardMetrics() {
+    };
+
+    /**
+     * Checks whether latencies are recorded. Callers read the clock only when this returns {@code true}.
+     *
+     * @return true if {@link #onShuffle(long)} and {@link #onDeal(long)} record their values
+     */
+    default boolean isTimed() {
+        return false;
+    }
+
+    /**
+     * Records cards drawn from a deck or shoe.
+     *
+     * @param count the number of cards drawn
+     */
+    default void onDraw(int count) {
+    }
+
+    /**
+     * Records a {@link ivs.game.accessories.cards.gamedeck.GameDeckException} thrown by a draw or peek.
+     *
+     * @param cause the cause
+     */
+    default void onDeckFailure(DeckFailureCause cause) {
+    }
+
+    /**
+     * Records the duration of a shuffle.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    default void onShuffle(long nanos) {
+    }
+
+    /**
+     * Records the duration of a deal.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    default void onDeal(long nanos) {
+    }
+
+    /**
+     * Records a shoe returning all its cards and shuffling them again.
+     */
+    default void onReshuffle() {
+    }
+
+    /**
+     * Records the lookups in a shared table of precomputed results, such as a solver's transposition table.
+     * Callers count lookups locally and report them once per operation, for example once per solve.
+     *
+     * @param lookups the number of lookups
+     * @param hits    the number of lookups that found an entry
+     */
+    default void onTableLookups(long lookups, long hits) {
+    }
+}
@@ -0,0 +1,129 @@
+package ivs.game.accessories.cards.metrics;
+
+import lombok.NonNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Publishes {@link StandardCardMetrics} as a JMX MXBean, so that JConsole, JDK Mission Control or a JMX exporter
+ * can read them. Attributes are computed from the metrics when read; publishing adds no cost to recording.
+ * <p>
+ * Thread safety: Thread-safe.
+ */
+public final class CardMetricsJmx implements CardMetricsMXBean {
+
+    /** Object name used by {@link #register(StandardCardMetrics)} */
+    public static final String DEFAULT_NAME = "ivs.game.accessories.cards:type=CardMetrics";
+
+    private static final double P99 = 99.0;
+
+    private final StandardCardMetrics metrics;
+
+    private CardMetricsJmx(StandardCardMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under {@link #DEFAULT_NAME}.
+     *
+     * @param metrics the metrics to publish
+     * @return the object name of the registered bean
+     * @throws NullPointerException  if metrics is null
+     * @throws IllegalStateException if registration fails, for example because the name is taken
+     */
+    public static ObjectName register(@NonNull StandardCardMetrics metrics) {
+        return register(metrics, ManagementFactory.getPlatformMBeanServer(), DEFAULT_NAME);
+    }
+
+    /**
+     * Registers the metrics with an MBean server.
+     *
+     * @param metrics the metrics to publish
+     * @param server  the MBean server
+     * @param name    the object name
+     * @return the object name of the registered bean
+     * @throws NullPointerException  if any argument is null
+     * @throws IllegalStateException if the name is malformed or registration fails
+     */
+    public static ObjectName register(@NonNull StandardCardMetrics metrics, @NonNull MBeanServer server,
+                                      @NonNull String name) {
+        try {
+            return server.registerMBean(new CardMetricsJmx(metrics), new ObjectName(name)).getObjectName();
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register card metrics as " + name, e);
+        }
+    }
+
+    @Override
+    public long getDrawCount() {
+        return metrics.getDrawCount();
+    }
+
+    @Override
+    public double getDrawsPerSecond() {
+        return metrics.getDrawsPerSecond();
+    }
+
+    @Override
+    public long getEmptyFailureCount() {
+        return metrics.getFailureCount(DeckFailureCause.EMPTY);
+    }
+
+    @Override
+    public long getNotEnoughCardsFailureCount() {
+        return metrics.getFailureCount(DeckFailureCause.NOT_ENOUGH_CARDS);
+    }
+
+    @Override
+    public long getReshuffleCount() {
+        return metrics.getReshuffleCount();
+    }
+
+    @Override
+    public long getShuffleCount() {
+        return metrics.getShuffleLatency().getCount();
+    }
+
+    @Override
+    public double getShuffleMeanNanos() {
+        return metrics.getShuffleLatency().getMean();
+    }
+
+    @Override
+    public long getShuffleP99Nanos() {
+        return metrics.getShuffleLatency().getValueAtPercentile(P99);
+    }
+
+    @Override
+    public long getShuffleMaxNanos() {
+        return metrics.getShuffleLatency().getMax();
+    }
+
+    @Override
+    public long getDealCount() {
+        return metrics.getDealLatency().getCount();
+    }
+
+    @Override
+    public double getDealMeanNanos() {
+        return metrics.getDealLatency().getMean();
+    }
+
+    @Override
+    public long getDealP99Nanos() {
+        return metrics.getDealLatency().getValueAtPercentile(P99);
+    }
+
+    @Override
+    public long getDealMaxNanos() {
+        return metrics.getDealLatency().getMax();
+    }
+
+    @Override
+    public double getTableHitRate() {
+        return metrics.getTableHitRate();
+    }
+}
@@ -0,0 +1,35 @@
+package ivs.game.accessories.cards.metrics;
+
+/**
+ * Management interface of the attributes published by {@link CardMetricsJmx}. Latencies are in nanoseconds.
+ */
+public interface CardMetricsMXBean {
+
+    long getDrawCount();
+
+    double getDrawsPerSecond();
+
+    long getEmptyFailureCount();
+
+    long getNotEnoughCardsFailureCount();
+
+    long getReshuffleCount();
+
+    long getShuffleCount();
+
+    double getShuffleMeanNanos();
+
+    long getShuffleP99Nanos();
+
+    long getShuffleMaxNanos();
+
+    long getDealCount();
+
+    double getDealMeanNanos();
+
+    long getDealP99Nanos();
+
+    long getDealMaxNanos();
+
+    double getTableHitRate();
+}
@@ -0,0 +1,18 @@
+package ivs.game.accessories.cards.metrics;
+
+/**
+ * Cause of a {@link ivs.game.accessories.cards.gamedeck.GameDeckException} reported to
+ * {@link CardMetrics#onDeckFailure(DeckFailureCause)}.
+ */
+public enum DeckFailureCause {
+
+    /**
+     * A card was drawn or looked at in an empty deck or shoe.
+     */
+    EMPTY,
+
+    /**
+     * More cards were drawn than the deck or shoe held.
+     */
+    NOT_ENOUGH_CARDS
+}
@@ -0,0 +1,137 @@
+package ivs.game.accessories.cards.metrics;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values with a fixed relative precision, in the style of HdrHistogram.
+ * <p>
+ * Values below {@code 2^precision} have a bucket each; above that, every power of two is split into
+ * {@code 2^precision} buckets of equal width, so a bucket covers at most a {@code 2^-precision} fraction of its
+ * values. The whole range of {@code long} fits in {@code (64 - precision) * 2^precision} counters, and recording
+ * a value is one array increment after a leading-zero count, without allocation or locks.
+ * <p>
+ * Thread safety: Thread-safe. A reading taken during concurrent recording may miss the latest values.
+ */
+public final class LatencyHistogram {
+
+    /** Precision used by {@link StandardCardMetrics}: buckets are at most about 3% wide */
+    public static final int DEFAULT_PRECISION = 5;
+
+    private final int precision;
+    private final AtomicLongArray counts;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param precision the number of bits of each value kept exactly, from 1 to 10
+     * @throws IllegalArgumentException if precision is out of range
+     */
+    public LatencyHistogram(int precision) {
+        Validate.inclusiveBetween(1, 10, precision, "Precision must be between 1 and 10");
+        this.precision = precision;
+        this.counts = new AtomicLongArray((Long.SIZE - precision) << precision);
+    }
+
+    /**
+     * Records one value; negative values are recorded as zero.
+     *
+     * @param value the value
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.getAndIncrement(index(clamped));
+        total.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the maximum, or 0 if the histogram is empty
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or 0 if the histogram is empty
+     */
+    public double getMean() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns a value that at least the given percentage of recorded values do not exceed: the upper end of the
+     * bucket holding that percentile, capped at the maximum.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at the percentile, or 0 if the histogram is empty
+     * @throws IllegalArgumentException if percentile is out of range
+     */
+    public long getValueAtPercentile(double percentile) {
+        Validate.inclusiveBetween(0.0, 100.0, percentile, "Percentile must be between 0 and 100");
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValue(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes all recorded values. Values recorded concurrently may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    int index(long value) {
+        if (value < 1L << precision) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - precision;
+        return ((shift + 1) << precision) + (int) (value >>> shift) - (1 << precision);
+    }
+
+    // Largest value that falls into the bucket
+    long highestValue(int index) {
+        if (index < 1 << precision) {
+            return index;
+        }
+        int shift = (index >>> precision) - 1;
+        long lowest = ((long) (index & ((1 << precision) - 1)) + (1L << precision)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,30 @@
+package ivs.game.accessories.cards.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ServiceLoader;
+
+/**
+ * A utility class that holds the {@link CardMetrics} the library reports to.
+ * <p>
+ * The instance is the first provider found by {@link ServiceLoader} when this class is initialized, or
+ * {@link CardMetrics#NO_OP} if there is none. To enable metrics, list a provider such as
+ * {@link StandardCardMetrics} in {@code META-INF/services/ivs.game.accessories.cards.metrics.CardMetrics}.
+ * The instance never changes afterwards, which lets the JIT compiler treat it as a constant.
+ */
+@UtilityClass
+public final class Metrics {
+
+    private static final CardMetrics INSTANCE = ServiceLoader.load(CardMetrics.class)
+            .findFirst()
+            .orElse(CardMetrics.NO_OP);
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return the metrics provider, or {@link CardMetrics#NO_OP} if none is installed
+     */
+    public static CardMetrics get() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,143 @@
+package ivs.game.accessories.cards.metrics;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CardMetrics} that keeps counters in {@link LongAdder}s and latencies in {@link LatencyHistogram}s.
+ * <p>
+ * Counters only grow; monitoring tools derive rates from successive readings. {@link #getDrawsPerSecond()}
+ * gives the average rate since creation for quick inspection. Install this class as the metrics provider by
+ * listing it in {@code META-INF/services/ivs.game.accessories.cards.metrics.CardMetrics}, then read it through
+ * {@link Metrics#get()} or publish it with {@link CardMetricsJmx}.
+ * <p>
+ * Thread safety: Thread-safe. Recording does not allocate or lock; concurrent updates are striped by the adders.
+ */
+public class StandardCardMetrics implements CardMetrics {
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder reshuffles = new LongAdder();
+    private final LongAdder tableHits = new LongAdder();
+    private final LongAdder tableMisses = new LongAdder();
+    private final LongAdder[] failures = new LongAdder[DeckFailureCause.values().length];
+    @Getter
+    private final LatencyHistogram shuffleLatency = new LatencyHistogram(LatencyHistogram.DEFAULT_PRECISION);
+    @Getter
+    private final LatencyHistogram dealLatency = new LatencyHistogram(LatencyHistogram.DEFAULT_PRECISION);
+
+    /**
+     * Creates metrics with all counters at zero.
+     */
+    public StandardCardMetrics() {
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public boolean isTimed() {
+        return true;
+    }
+
+    @Override
+    public void onDraw(int count) {
+        draws.add(count);
+    }
+
+    @Override
+    public void onDeckFailure(@NonNull DeckFailureCause cause) {
+        failures[cause.ordinal()].increment();
+    }
+
+    @Override
+    public void onShuffle(long nanos) {
+        shuffleLatency.record(nanos);
+    }
+
+    @Override
+    public void onDeal(long nanos) {
+        dealLatency.record(nanos);
+    }
+
+    @Override
+    public void onReshuffle() {
+        reshuffles.increment();
+    }
+
+    @Override
+    public void onTableLookups(long lookups, long hits) {
+        tableHits.add(hits);
+        tableMisses.add(lookups - hits);
+    }
+
+    /**
+     * Returns the number of cards drawn.
+     *
+     * @return the draw count
+     */
+    public long getDrawCount() {
+        return draws.sum();
+    }
+
+    /**
+     * Returns the average number of cards drawn per second since these metrics were created.
+     *
+     * @return the draw rate
+     */
+    public double getDrawsPerSecond() {
+        long nanos = Math.max(1, System.nanoTime() - startNanos);
+        return draws.sum() * 1e9 / nanos;
+    }
+
+    /**
+     * Returns the number of deck failures of a cause.
+     *
+     * @param cause the cause
+     * @return the failure count
+     * @throws NullPointerException if cause is null
+     */
+    public long getFailureCount(@NonNull DeckFailureCause cause) {
+        return failures[cause.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of shoe reshuffles.
+     *
+     * @return the reshuffle count
+     */
+    public long getReshuffleCount() {
+        return reshuffles.sum();
+    }
+
+    /**
+     * Returns the number of table lookups that found an entry.
+     *
+     * @return the hit count
+     */
+    public long getTableHitCount() {
+        return tableHits.sum();
+    }
+
+    /**
+     * Returns the number of table lookups that found no entry.
+     *
+     * @return the miss count
+     */
+    public long getTableMissCount() {
+        return tableMisses.sum();
+    }
+
+    /**
+     * Returns the fraction of table lookups that found an entry.
+     *
+     * @return the hit rate from 0 to 1, or 0 if there were no lookups
+     */
+    public double getTableHitRate() {
+        long hits = tableHits.sum();
+        long lookups = hits + tableMisses.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,167 @@
+package ivs.game.accessories.cards.ordering;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * Sorts card IDs and cards in linear time using the sort keys of a {@link CompiledCardComparator}.
+ * <p>
+ * Sorting is a counting sort over the (at most 56) distinct keys: one pass counts the keys, one pass moves
+ * every card to its final position in a scratch buffer, and the result is copied back. The sort is stable,
+ * so cards that compare equal keep their relative order, and duplicate cards of multi-deck hands are
+ * handled like any other cards.
+ * <p>
+ * The range methods taking a scratch buffer do not allocate. The scratch buffer must be at least as long
+ * as the sorted range; its contents are overwritten.
+ * <p>
+ * Thread safety: A sorter keeps its key counters between calls and is not thread-safe.
+ * Use one sorter per thread; creating a sorter is cheap.
+ *
+ * <pre>
+ * Example usage:
+ *   CardSorter sorter = new CardSorter(cardComparator.compile());
+ *   sorter.sort(handIds, 0, handSize, scratch);
+ * </pre>
+ */
+public final class CardSorter {
+
+    // Sort key per card ID, copied from the comparator
+    private final int[] keys;
+    // Key counters; counts[k + 1] counts key k, then counts[k] holds the first position of key k
+    private final int[] counts;
+
+    /**
+     * Creates a sorter ordering cards like the given compiled comparator.
+     *
+     * @param comparator the compiled comparator providing the sort keys
+     * @throws NullPointerException if comparator is null
+     */
+    public CardSorter(@NonNull CompiledCardComparator comparator) {
+        this.keys = comparator.exportKeys();
+        this.counts = new int[comparator.getKeyCount() + 1];
+    }
+
+    /**
+     * Sorts the given card IDs in place.
+     *
+     * @param ids the card IDs to sort
+     * @throws NullPointerException     if ids is null
+     * @throws IllegalArgumentException if an ID is outside the card ID space or not supported by the comparator
+     */
+    public void sort(@NonNull int[] ids) {
+        sort(ids, 0, ids.length, new int[ids.length]);
+    }
+
+    /**
+     * Sorts a range of the given card IDs in place without allocating.
+     *
+     * @param ids     the card IDs to sort
+     * @param from    the first index of the range (inclusive)
+     * @param to      the last index of the range (exclusive)
+     * @param scratch a buffer of at least {@code to - from} elements
+     * @throws NullPointerException      if ids or scratch is null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException  if the scratch buffer is too small, or an ID is outside the card ID
+     *                                   space or not supported by the comparator
+     */
+    public void sort(@NonNull int[] ids, int from, int to, @NonNull int[] scratch) {
+        int length = validateRange(ids.length, from, to, scratch.length);
+
+        Arrays.fill(counts, 0);
+        for (int i = from; i < to; i++) {
+            counts[key(ids[i]) + 1]++;
+        }
+        accumulateCounts();
+        for (int i = from; i < to; i++) {
+            scratch[counts[key(ids[i])]++] = ids[i];
+        }
+        System.arraycopy(scratch, 0, ids, from, length);
+    }
+
+    /**
+     * Sorts the given cards in place.
+     *
+     * @param cards the cards to sort
+     * @param <C>   the type of the playing card
+     * @throws NullPointerException     if cards is null or contains null elements
+     * @throws IllegalArgumentException if a card is not supported by the comparator
+     */
+    public <C extends PlayingCard> void sort(@NonNull C[] cards) {
+        sort(cards, 0, cards.length, Arrays.copyOf(cards, cards.length));
+    }
+
+    /**
+     * Sorts a range of the given cards in place without allocating.
+     *
+     * @param cards   the cards to sort
+     * @param from    the first index of the range (inclusive)
+     * @param to      the last index of the range (exclusive)
+     * @param scratch a buffer of at least {@code to - from} elements
+     * @param <C>     the type of the playing card
+     * @throws NullPointerException      if cards or scratch is null, or the range contains null elements
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException  if the scratch buffer is too small or a card is not supported
+     *                                   by the comparator
+     */
+    public <C extends PlayingCard> void sort(@NonNull C[] cards, int from, int to, @NonNull C[] scratch) {
+        int length = validateRange(cards.length, from, to, scratch.length);
+
+        Arrays.fill(counts, 0);
+        for (int i = from; i < to; i++) {
+            counts[key(cards[i].getId()) + 1]++;
+        }
+        accumulateCounts();
+        for (int i = from; i < to; i++) {
+            scratch[counts[key(cards[i].getId())]++] = cards[i];
+        }
+        System.arraycopy(scratch, 0, cards, from, length);
+    }
+
+    /**
+     * Sorts the given list of cards in place.
+     *
+     * @param cards the cards to sort; the list must support {@link ListIterator#set(Object)}
+     * @param <C>   the type of the playing card
+     * @throws NullPointerException     if cards is null or contains null elements
+     * @throws IllegalArgumentException if a card is not supported by the comparator
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends PlayingCard> void sort(@NonNull List<C> cards) {
+        PlayingCard[] array = cards.toArray(new PlayingCard[0]);
+        sort(array, 0, array.length, new PlayingCard[array.length]);
+
+        ListIterator<C> iterator = cards.listIterator();
+        for (PlayingCard card : array) {
+            iterator.next();
+            iterator.set((C) card);
+        }
+    }
+
+    // Turns the key counts into the first output position of every key
+    private void accumulateCounts() {
+        for (int key = 1; key < counts.length; key++) {
+            counts[key] += counts[key - 1];
+        }
+    }
+
+    private int key(int id) {
+        Validate.isTrue(id >= 0 && id < keys.length, "Card ID out of range: %d", id);
+        int key = keys[id];
+        Validate.isTrue(key != CompiledCardComparator.NO_KEY, "Unsupported card ID: %d", id);
+        return key;
+    }
+
+    private static int validateRange(int arrayLength, int from, int to, int scratchLength) {
+        Objects.checkFromToIndex(from, to, arrayLength);
+        int length = to - from;
+        Validate.isTrue(scratchLength >= length, "Scratch buffer too small (required: %d, available: %d)",
+                length, scratchLength);
+        return length;
+    }
+}
@@ -0,0 +1,122 @@
+package ivs.game.accessories.cards.ordering;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Comparator;
+
+/**
+ * Comparator for {@link PlayingCard} backed by a dense table of integer sort keys indexed by card ID.
+ * <p>
+ * Created by {@link PlayingCardComparator#compile()}, which evaluates the suit, rank and joker ordering once
+ * for every card ID. Comparing two cards is then two array lookups and an integer comparison, instead of
+ * nested comparator calls and weight map lookups.
+ * <p>
+ * Cards that the source comparator does not support have no key; comparisons involving such cards are
+ * delegated to the source comparator, so they fail with the same exception as before compilation.
+ * <p>
+ * Instances are immutable and thread-safe, provided the source comparator is.
+ *
+ * <pre>
+ * Example usage:
+ *   CompiledCardComparator comparator =
+ *         new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.naturalOrder()).compile();
+ *   cards.sort(comparator);
+ * </pre>
+ */
+public final class CompiledCardComparator implements Comparator<PlayingCard> {
+
+    /**
+     * Key of a card not supported by the comparator.
+     */
+    public static final int NO_KEY = -1;
+
+    // Sort key per card ID, or NO_KEY
+    private final int[] keys;
+    private final int keyCount;
+    // Comparator the keys were compiled from, used for unsupported cards
+    private final Comparator<PlayingCard> source;
+
+    CompiledCardComparator(int[] keys, Comparator<PlayingCard> source) {
+        int max = NO_KEY;
+        for (int key : keys) {
+            max = Math.max(max, key);
+        }
+        this.keys = keys;
+        this.keyCount = max + 1;
+        this.source = source;
+    }
+
+    @Override
+    public int compare(PlayingCard card1, PlayingCard card2) {
+        if (card1 == null || card2 == null) {
+            throw new NullPointerException("Null card");
+        }
+        int key1 = keys[card1.getId()];
+        int key2 = keys[card2.getId()];
+        if (key1 == NO_KEY || key2 == NO_KEY) {
+            return source.compare(card1, card2);
+        }
+        return Integer.compare(key1, key2);
+    }
+
+    /**
+     * Compares two cards given by their IDs.
+     *
+     * @param id1 the ID of the first card
+     * @param id2 the ID of the second card
+     * @return the comparison result (per the {@link Comparator} contract)
+     * @throws IllegalArgumentException if an ID is outside the card ID space
+     */
+    public int compareIds(int id1, int id2) {
+        int key1 = getKey(id1);
+        int key2 = getKey(id2);
+        if (key1 == NO_KEY || key2 == NO_KEY) {
+            return source.compare(PlayingCard.getById(id1), PlayingCard.getById(id2));
+        }
+        return Integer.compare(key1, key2);
+    }
+
+    /**
+     * Returns the sort key of a card. Keys are dense: they start at zero, and cards that compare equal share a key.
+     *
+     * @param id the card ID
+     * @return the sort key, or {@link #NO_KEY} if the card is not supported
+     * @throws IllegalArgumentException if the ID is outside the card ID space
+     */
+    public int getKey(int id) {
+        Validate.isTrue(id >= 0 && id < keys.length, "Card ID out of range: %d", id);
+        return keys[id];
+    }
+
+    /**
+     * Returns the sort key of a card.
+     *
+     * @param card the card
+     * @return the sort key, or {@link #NO_KEY} if the card is not supported
+     * @throws NullPointerException if card is null
+     */
+    public int getKey(@NonNull PlayingCard card) {
+        return keys[card.getId()];
+    }
+
+    /**
+     * Returns the number of distinct sort keys, i.e. one more than the highest key.
+     *
+     * @return the number of distinct keys
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns a copy of the key table, indexed by card ID.
+     *
+     * @return an array of {@link CardId#ID_SPACE_SIZE} keys
+     */
+    public int[] exportKeys() {
+        return keys.clone();
+    }
+}
@@ -0,0 +1,70 @@
+package ivs.game.accessories.cards.ordering;
+
+import ivs.game.accessories.cards.core.type.Suit;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Placement of joker cards in the ordering of a {@link PlayingCardComparator}.
+ * <p>
+ * Jokers are always ordered among themselves by their IDs ({@code JOKER_1} lowest). The policy decides
+ * where the jokers are placed relative to standard cards:
+ * <ul>
+ *     <li>{@link #UNSUPPORTED} - comparisons involving jokers are rejected (the default)</li>
+ *     <li>{@link #HIGH} - jokers rank above every standard card</li>
+ *     <li>{@link #LOW} - jokers rank below every standard card</li>
+ *     <li>{@link #aboveSuit(Suit)} - jokers rank directly above the highest card of the given suit,
+ *     e.g. as the top trumps</li>
+ * </ul>
+ * When the comparator is compiled, jokers receive keys in the same table as standard cards, so comparing
+ * mixed hands costs the same as comparing standard cards.
+ */
+@Value
+public class JokerPolicy {
+
+    /**
+     * Placement of jokers relative to standard cards.
+     */
+    public enum Placement {
+        UNSUPPORTED,
+        HIGH,
+        LOW,
+        ABOVE_SUIT
+    }
+
+    /**
+     * Comparisons involving jokers throw {@link UnsupportedOperationException}.
+     */
+    public static final JokerPolicy UNSUPPORTED = new JokerPolicy(Placement.UNSUPPORTED, null);
+
+    /**
+     * Jokers rank above every standard card.
+     */
+    public static final JokerPolicy HIGH = new JokerPolicy(Placement.HIGH, null);
+
+    /**
+     * Jokers rank below every standard card.
+     */
+    public static final JokerPolicy LOW = new JokerPolicy(Placement.LOW, null);
+
+    Placement placement;
+    // Suit the jokers are placed above, or null
+    Suit suit;
+
+    private JokerPolicy(Placement placement, Suit suit) {
+        this.placement = placement;
+        this.suit = suit;
+    }
+
+    /**
+     * Returns a policy placing jokers directly above the highest card of the given suit,
+     * and below the cards of every suit that ranks higher.
+     *
+     * @param suit the suit to place the jokers above, typically the trump suit
+     * @return a joker policy
+     * @throws NullPointerException if suit is null
+     */
+    public static JokerPolicy aboveSuit(@NonNull Suit suit) {
+        return new JokerPolicy(Placement.ABOVE_SUIT, suit);
+    }
+}
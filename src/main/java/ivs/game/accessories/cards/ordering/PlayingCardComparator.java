@@ -1,17 +1,23 @@
 package ivs.game.accessories.cards.ordering;
 
+import ivs.game.accessories.cards.core.id.CardId;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.core.type.Rank;
 import ivs.game.accessories.cards.core.type.Suit;
+import lombok.Getter;
 import lombok.NonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Comparator for {@link PlayingCard}, using supplied comparators for suit and rank.
  * <p>
  * First compares suits using {@code suitComparator}. If suits are equal,
- * compares card ranks using {@code rankComparator}.
+ * compares card ranks using {@code rankComparator}. Jokers are placed according to a {@link JokerPolicy};
+ * by default comparisons involving jokers are not supported.
  *
  * <pre>
  * Example usage:
@@ -19,6 +25,9 @@ import java.util.Comparator;
  *         new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator());
  *   cards.sort(cardComparator);
  * </pre>
+ * <p>
+ * For sorting many cards, {@link #compile()} turns the comparator into a {@link CompiledCardComparator}
+ * that compares precomputed integer keys.
  *
  * @see SuitWeightComparator
  * @see RankWeightComparator
@@ -27,17 +36,33 @@ public class PlayingCardComparator implements Comparator<PlayingCard> {
 
     private final Comparator<Suit> suitComparator;
     private final Comparator<Rank> rankComparator;
+    @Getter
+    private final JokerPolicy jokerPolicy;
 
     /**
-     * Constructs a card comparator from suit and rank comparators.
+     * Constructs a card comparator from suit and rank comparators. Comparisons involving jokers are not supported.
      *
      * @param suitComparator comparator for suits
      * @param rankComparator comparator for ranks
      */
     public PlayingCardComparator(@NonNull Comparator<Suit> suitComparator,
                                  @NonNull Comparator<Rank> rankComparator) {
+        this(suitComparator, rankComparator, JokerPolicy.UNSUPPORTED);
+    }
+
+    /**
+     * Constructs a card comparator from suit and rank comparators and a joker placement policy.
+     *
+     * @param suitComparator comparator for suits
+     * @param rankComparator comparator for ranks
+     * @param jokerPolicy    placement of jokers relative to standard cards
+     */
+    public PlayingCardComparator(@NonNull Comparator<Suit> suitComparator,
+                                 @NonNull Comparator<Rank> rankComparator,
+                                 @NonNull JokerPolicy jokerPolicy) {
         this.suitComparator = suitComparator;
         this.rankComparator = rankComparator;
+        this.jokerPolicy = jokerPolicy;
     }
 
     @Override
@@ -54,23 +79,81 @@ public class PlayingCardComparator implements Comparator<PlayingCard> {
     }
 
     /**
-     * This method is intended to be overridden in subclasses if you need to ordering joker cards.
+     * Compiles this comparator into a table of integer sort keys, one per card ID.
      * <p>
-     * By default, throws {@link UnsupportedOperationException} because joker card comparison is not supported
-     * in the base implementation.
+     * The order of every pair of supported cards is evaluated once with {@link #compare(PlayingCard, PlayingCard)},
+     * including any joker ordering defined by {@link #compareWithJoker(PlayingCard, PlayingCard)}. A card is
+     * supported if it can be compared with itself without an exception. The comparator must be a consistent
+     * total preorder on the supported cards, and the suit and rank comparators must not change afterwards.
+     *
+     * @return a compiled comparator with the same ordering as this comparator
+     */
+    public CompiledCardComparator compile() {
+        List<PlayingCard> supported = new ArrayList<>(CardId.ID_SPACE_SIZE);
+        for (int id = 0; id < CardId.ID_SPACE_SIZE; id++) {
+            PlayingCard card = PlayingCard.getById(id);
+            if (isSupported(card)) {
+                supported.add(card);
+            }
+        }
+        supported.sort(this);
+
+        int[] keys = new int[CardId.ID_SPACE_SIZE];
+        Arrays.fill(keys, CompiledCardComparator.NO_KEY);
+        int key = -1;
+        PlayingCard previous = null;
+        for (PlayingCard card : supported) {
+            if (previous == null || compare(previous, card) != 0) {
+                key++;
+            }
+            keys[card.getId()] = key;
+            previous = card;
+        }
+        return new CompiledCardComparator(keys, this);
+    }
+
+    // Returns true if the card can be ordered by this comparator
+    private boolean isSupported(PlayingCard card) {
+        try {
+            compare(card, card);
+            return true;
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compares two cards of which at least one is a joker, according to the {@link JokerPolicy}.
+     * <p>
+     * Jokers are ordered among themselves by ID. With {@link JokerPolicy#UNSUPPORTED} (the default),
+     * throws {@link UnsupportedOperationException}.
      * <p>
-     * Override this method if your game requires special logic for comparing jokers (for example,
-     * comparing two different jokers or comparing a joker to a standard card).
+     * Override this method if your game requires joker ordering that no policy provides.
      *
      * @param card1 the first card (at least one card is expected to be a joker)
      * @param card2 the second card
      * @return the comparison result for cards involving jokers (per the {@link Comparator} contract)
-     * @throws UnsupportedOperationException if joker comparison is not implemented
+     * @throws UnsupportedOperationException if the joker policy is {@link JokerPolicy#UNSUPPORTED}
      */
-    @SuppressWarnings("unused")
     protected int compareWithJoker(PlayingCard card1, PlayingCard card2) {
-        throw new UnsupportedOperationException(
-                "Comparison involving joker cards is not supported. " +
-                        "If joker support is required, override this method in a subclass.");
+        if (jokerPolicy.getPlacement() == JokerPolicy.Placement.UNSUPPORTED) {
+            throw new UnsupportedOperationException(
+                    "Comparison involving joker cards is not supported. " +
+                            "If joker support is required, use a JokerPolicy or override this method in a subclass.");
+        }
+        if (card1.isJoker() && card2.isJoker()) {
+            return Integer.compare(card1.getId(), card2.getId());
+        }
+        return card1.isJoker() ? jokerVersus(card2) : -jokerVersus(card1);
+    }
+
+    // Compares a joker with a standard card
+    private int jokerVersus(PlayingCard card) {
+        return switch (jokerPolicy.getPlacement()) {
+            case HIGH -> 1;
+            case LOW -> -1;
+            case ABOVE_SUIT -> suitComparator.compare(card.getSuit(), jokerPolicy.getSuit()) > 0 ? -1 : 1;
+            case UNSUPPORTED -> throw new IllegalStateException("Unexpected joker placement");
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,384 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples the hidden hands of opponents uniformly among all deals consistent with what has been observed,
+ * for determinization in imperfect-information search.
+ * <p>
+ * The unseen cards are the cards of a {@link DeckTemplate} minus the cards known to the observer. Each opponent
+ * holds a fixed number of them and may be excluded from holding some cards, for example a suit the opponent
+ * showed out of. Unseen cards left over after the opponents' hands form the stock, which has no constraints.
+ * <p>
+ * Cards allowed to exactly the same hands are interchangeable, so the unseen cards are grouped into classes by
+ * that set of hands. When the sampler is built, a dynamic program over the classes counts the consistent deals
+ * for every vector of still unfilled hand sizes. Sampling walks the classes, draws how many cards of the class
+ * every hand gets in proportion to the number of completions, and then picks which cards at random. Every draw
+ * yields a consistent deal, with no rejection, and every consistent deal is equally likely.
+ * <p>
+ * Thread safety: Instances are immutable and {@link #sample} does not allocate, so one sampler can serve many
+ * threads as long as every thread passes its own {@link RandomGenerator}, for example one obtained from
+ * {@link java.util.SplittableRandom#split()}.
+ */
+public final class DeterminizationSampler {
+
+    /** Maximum number of opponents */
+    public static final int MAX_OPPONENTS = 8;
+
+    /** Maximum number of precomputed deal counts */
+    public static final int MAX_TABLE_SIZE = 1 << 22;
+
+    // Binomial coefficients up to the size of the largest deck, jokers included
+    private static final double[][] BINOMIAL = new double[CardId.ID_SPACE_SIZE + 1][CardId.ID_SPACE_SIZE + 1];
+
+    static {
+        for (int n = 0; n <= CardId.ID_SPACE_SIZE; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    @Getter
+    private final long unseen;
+    private final int[] handSizes;
+    private final int stockHand;
+    // Mixed-radix encoding of the unfilled sizes of the opponents' hands
+    private final int[] radix;
+    private final int[] stride;
+    private final int rootState;
+
+    private final long[] classMasks;
+    private final int[] classSizes;
+    // Hands allowed to hold the cards of every class, stock last
+    private final int[][] classHands;
+    // Consistent deals of classes j.. for every state, indexed by class j
+    private final double[][] counts;
+    // Completions within a class from its hand a on, indexed by class, hand position, state * (size + 1) + cards left
+    private final double[][][] partials;
+
+    private DeterminizationSampler(Builder builder) {
+        this.unseen = builder.unseen;
+        int opponents = builder.handSizes.size();
+        this.handSizes = new int[opponents];
+        long[] allowed = new long[opponents + 1];
+        int dealt = 0;
+        for (int hand = 0; hand < opponents; hand++) {
+            handSizes[hand] = builder.handSizes.get(hand);
+            allowed[hand] = unseen & ~builder.exclusions.get(hand);
+            dealt += handSizes[hand];
+        }
+        int unseenCount = Long.bitCount(unseen);
+        Validate.isTrue(dealt <= unseenCount, "Hands need %d cards, only %d unseen", dealt, unseenCount);
+        this.stockHand = opponents;
+        allowed[stockHand] = dealt < unseenCount ? unseen : CardMask.EMPTY;
+
+        this.radix = new int[opponents];
+        this.stride = new int[opponents];
+        long states = 1;
+        int root = 0;
+        for (int hand = 0; hand < opponents; hand++) {
+            radix[hand] = handSizes[hand] + 1;
+            stride[hand] = (int) states;
+            root += handSizes[hand] * stride[hand];
+            states *= radix[hand];
+            Validate.isTrue(states <= MAX_TABLE_SIZE, "Too many hand size combinations");
+        }
+        this.rootState = root;
+
+        // Group the unseen cards by the set of hands allowed to hold them
+        long[] bySignature = new long[1 << (opponents + 1)];
+        for (long remaining = unseen; remaining != 0; remaining &= remaining - 1) {
+            long bit = Long.lowestOneBit(remaining);
+            int signature = 0;
+            for (int hand = 0; hand <= opponents; hand++) {
+                if ((allowed[hand] & bit) != 0) {
+                    signature |= 1 << hand;
+                }
+            }
+            Validate.isTrue(signature != 0, "No hand can hold card %d", Long.numberOfTrailingZeros(bit));
+            bySignature[signature] |= bit;
+        }
+        int classCount = (int) Arrays.stream(bySignature).filter(mask -> mask != 0).count();
+        this.classMasks = new long[classCount];
+        this.classSizes = new int[classCount];
+        this.classHands = new int[classCount][];
+        int j = 0;
+        long tableSize = 0;
+        for (int signature = 1; signature < bySignature.length; signature++) {
+            if (bySignature[signature] != 0) {
+                classMasks[j] = bySignature[signature];
+                classSizes[j] = Long.bitCount(bySignature[signature]);
+                classHands[j] = CardMask.toIds(signature);
+                tableSize += states * (classSizes[j] + 1) * Math.max(0, classHands[j].length - 2);
+                j++;
+            }
+        }
+        Validate.isTrue(tableSize <= MAX_TABLE_SIZE, "Too many constraint combinations");
+
+        int stateCount = (int) states;
+        this.counts = new double[classCount + 1][stateCount];
+        this.partials = new double[classCount][][];
+        counts[classCount][0] = 1;
+        for (j = classCount - 1; j >= 0; j--) {
+            int size = classSizes[j];
+            int last = classHands[j].length - 1;
+            partials[j] = new double[Math.max(1, last)][];
+            for (int a = last - 1; a >= 1; a--) {
+                double[] partial = new double[stateCount * (size + 1)];
+                for (int state = 0; state < stateCount; state++) {
+                    for (int left = 0; left <= size; left++) {
+                        partial[state * (size + 1) + left] = completions(j, a, state, left);
+                    }
+                }
+                partials[j][a] = partial;
+            }
+            for (int state = 0; state < stateCount; state++) {
+                counts[j][state] = last == 0 ? weight(j, 0, state, size) : completions(j, 0, state, size);
+            }
+        }
+        Validate.isTrue(counts[0][rootState] > 0, "No deal satisfies the constraints");
+    }
+
+    /**
+     * Creates a builder for the given deck.
+     *
+     * @param template the deck the cards come from
+     * @return a new builder
+     * @throws NullPointerException if template is null
+     */
+    public static Builder builder(@NonNull DeckTemplate template) {
+        return new Builder(template);
+    }
+
+    /**
+     * Returns the number of opponents.
+     *
+     * @return the opponent count
+     */
+    public int getOpponentCount() {
+        return handSizes.length;
+    }
+
+    /**
+     * Returns the hand size of an opponent.
+     *
+     * @param opponent the opponent index
+     * @return the number of cards the opponent holds
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range
+     */
+    public int getHandSize(int opponent) {
+        return handSizes[opponent];
+    }
+
+    /**
+     * Returns the number of consistent deals, each equally likely to be sampled.
+     *
+     * @return the deal count, exact while below {@code 2^53}
+     */
+    public double getDealCount() {
+        return counts[0][rootState];
+    }
+
+    /**
+     * Samples one consistent deal.
+     *
+     * @param random the generator of the calling thread
+     * @param hands  the array receiving the opponents' hands as card masks, indexed by opponent
+     * @return the mask of unseen cards left in the stock
+     * @throws NullPointerException     if random or hands is null
+     * @throws IllegalArgumentException if hands is shorter than the opponent count
+     */
+    public long sample(@NonNull RandomGenerator random, @NonNull long[] hands) {
+        Validate.isTrue(hands.length >= handSizes.length, "Hands array must hold %d opponents", handSizes.length);
+        Arrays.fill(hands, 0, handSizes.length, CardMask.EMPTY);
+        long stock = CardMask.EMPTY;
+        int state = rootState;
+        for (int j = 0; j < classMasks.length; j++) {
+            long cards = classMasks[j];
+            int left = classSizes[j];
+            int last = classHands[j].length - 1;
+            for (int a = 0; a < last; a++) {
+                int hand = classHands[j][a];
+                int taken = choose(j, a, state, left, random);
+                long chosen = pick(cards, left, taken, random);
+                hands[hand] |= chosen;
+                cards &= ~chosen;
+                left -= taken;
+                state -= taken * stride[hand];
+            }
+            int hand = classHands[j][last];
+            if (hand == stockHand) {
+                stock |= cards;
+            } else {
+                hands[hand] |= cards;
+                state -= left * stride[hand];
+            }
+        }
+        return stock;
+    }
+
+    // Number of cards of class j for hand position a, drawn in proportion to the completions
+    private int choose(int j, int a, int state, int left, RandomGenerator random) {
+        int hand = classHands[j][a];
+        int max = Math.min(left, need(state, hand));
+        double target = random.nextDouble() * weight(j, a, state, left);
+        double sum = 0;
+        int chosen = 0;
+        for (int taken = 0; taken <= max; taken++) {
+            double w = BINOMIAL[left][taken] * weight(j, a + 1, state - taken * stride[hand], left - taken);
+            if (w > 0) {
+                sum += w;
+                chosen = taken;
+                if (target < sum) {
+                    break;
+                }
+            }
+        }
+        return chosen;
+    }
+
+    // Completions of class j from hand position a on, with 'left' of its cards still to place
+    private double weight(int j, int a, int state, int left) {
+        int[] allowedHands = classHands[j];
+        if (a == allowedHands.length - 1) {
+            int hand = allowedHands[a];
+            if (hand == stockHand) {
+                return counts[j + 1][state];
+            }
+            return left <= need(state, hand) ? counts[j + 1][state - left * stride[hand]] : 0;
+        }
+        if (a == 0) {
+            return counts[j][state];
+        }
+        return partials[j][a][state * (classSizes[j] + 1) + left];
+    }
+
+    private double completions(int j, int a, int state, int left) {
+        int hand = classHands[j][a];
+        int max = Math.min(left, need(state, hand));
+        double sum = 0;
+        for (int taken = 0; taken <= max; taken++) {
+            sum += BINOMIAL[left][taken] * weight(j, a + 1, state - taken * stride[hand], left - taken);
+        }
+        return sum;
+    }
+
+    private int need(int state, int hand) {
+        return state / stride[hand] % radix[hand];
+    }
+
+    // Uniformly random subset of 'count' cards out of the 'size' cards of the mask
+    private static long pick(long cards, int size, int count, RandomGenerator random) {
+        if (count == size) {
+            return cards;
+        }
+        if (count > size / 2) {
+            return cards & ~pick(cards, size, size - count, random);
+        }
+        long chosen = CardMask.EMPTY;
+        long remaining = cards;
+        for (int i = 0; i < count; i++) {
+            long rest = remaining;
+            for (int skip = random.nextInt(size - i); skip > 0; skip--) {
+                rest &= rest - 1;
+            }
+            long bit = Long.lowestOneBit(rest);
+            chosen |= bit;
+            remaining &= ~bit;
+        }
+        return chosen;
+    }
+
+    /**
+     * Builder for {@link DeterminizationSampler}.
+     * <p>
+     * Opponents are numbered in the order they are added. By default all cards of the deck are unseen.
+     */
+    public static final class Builder {
+        private long unseen;
+        private final List<Integer> handSizes = new ArrayList<>();
+        private final List<Long> exclusions = new ArrayList<>();
+
+        private Builder(DeckTemplate template) {
+            this.unseen = template.getMask();
+        }
+
+        /**
+         * Removes cards known to the observer, such as its own hand and cards already played.
+         *
+         * @param cards the mask of known cards
+         * @return this builder
+         */
+        public Builder known(long cards) {
+            unseen &= ~cards;
+            return this;
+        }
+
+        /**
+         * Adds an opponent with a hidden hand.
+         *
+         * @param handSize the number of cards the opponent holds
+         * @return this builder
+         * @throws IllegalArgumentException if the hand size is negative or there are too many opponents
+         */
+        public Builder opponent(int handSize) {
+            Validate.isTrue(handSize >= 0, "Hand size cannot be negative");
+            Validate.isTrue(handSizes.size() < MAX_OPPONENTS, "At most %d opponents are supported", MAX_OPPONENTS);
+            handSizes.add(handSize);
+            exclusions.add(CardMask.EMPTY);
+            return this;
+        }
+
+        /**
+         * Excludes cards from an opponent's hand.
+         *
+         * @param opponent the opponent index
+         * @param cards    the mask of cards the opponent cannot hold
+         * @return this builder
+         * @throws IllegalArgumentException if the opponent index is out of range
+         */
+        public Builder exclude(int opponent, long cards) {
+            Validate.isTrue(opponent >= 0 && opponent < handSizes.size(), "Invalid opponent: %d", opponent);
+            exclusions.set(opponent, exclusions.get(opponent) | cards);
+            return this;
+        }
+
+        /**
+         * Records that an opponent holds no card of a suit.
+         *
+         * @param opponent the opponent index
+         * @param suitId   the suit ID
+         * @return this builder
+         * @throws IllegalArgumentException if the opponent index or suit ID is invalid
+         */
+        public Builder voidIn(int opponent, int suitId) {
+            SuitId.validate(suitId);
+            return exclude(opponent, CardMask.suit(suitId));
+        }
+
+        /**
+         * Builds the sampler and precomputes its deal counts.
+         *
+         * @return the sampler
+         * @throws IllegalArgumentException if there is no opponent, the hands need more cards than are unseen,
+         *                                  no deal satisfies the constraints, or the tables would be too large
+         */
+        public DeterminizationSampler build() {
+            Validate.isTrue(!handSizes.isEmpty(), "At least one opponent is required");
+            return new DeterminizationSampler(this);
+        }
+    }
+}
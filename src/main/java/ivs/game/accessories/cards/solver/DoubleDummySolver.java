@@ -0,0 +1,349 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.metrics.Metrics;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the exact number of tricks a side takes in a {@link TrickDeal} when every player sees all hands
+ * and plays perfectly.
+ * <p>
+ * Players must follow the suit led if they can, and must trump when void in it if the deal has the must-trump
+ * rule (see {@link TrickDeal#isMustTrump()}); a trick is won by the highest trump played, or by the highest
+ * card of the suit led if no trump was played, with Ace high. The winner leads to the next trick.
+ * <p>
+ * The search works on card masks only. It answers "can the side take at least {@code t} tricks" with an
+ * AND-OR search and finds the exact count by binary search over {@code t}. Cards in one hand that are adjacent
+ * among the cards still in play are equivalent, so only one of them is tried. Bounds found at the start of
+ * every trick are kept in a {@link TranspositionTable} keyed by the cards still in play, the leader, the
+ * side and the trump suit; as the owners of all cards are known, this key identifies the position.
+ * <p>
+ * {@link #tricksByDeclarer} and {@link #tricksTable} solve their positions in parallel on a {@link ForkJoinPool};
+ * all tasks of one call share a single table.
+ * <p>
+ * Thread safety: Instances are stateless apart from the pool and can be used from several threads.
+ */
+public final class DoubleDummySolver {
+
+    /** Strain value for play without a trump suit */
+    public static final int NO_TRUMP = SuitId.SUIT_COUNT;
+
+    /** Default base-2 logarithm of the transposition table size */
+    public static final int DEFAULT_TABLE_BITS = 20;
+
+    private static final long[] SUIT_MASKS = new long[SuitId.SUIT_COUNT];
+
+    static {
+        for (int suitId = SuitId.MIN_SUIT; suitId <= SuitId.MAX_SUIT; suitId++) {
+            SUIT_MASKS[suitId] = CardMask.suit(suitId);
+        }
+    }
+
+    // Key layout: cards in play in bits 0-51, side in bits 52-55, leader in bits 56-57, strain in bits 59-61
+    private static final int SIDE_SHIFT = 52;
+    private static final int LEADER_SHIFT = 56;
+    private static final int STRAIN_SHIFT = 59;
+    private static final int UPPER_SHIFT = 8;
+    private static final long BOUND_MASK = 0xFF;
+
+    private final ForkJoinPool pool;
+    private final int tableBits;
+
+    /**
+     * Creates a solver running on the common pool with a table of {@code 2^}{@value #DEFAULT_TABLE_BITS} slots.
+     */
+    public DoubleDummySolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * Creates a solver running on the given pool.
+     *
+     * @param pool      the pool solving positions in parallel
+     * @param tableBits the base-2 logarithm of the transposition table size of every call
+     * @throws NullPointerException     if pool is null
+     * @throws IllegalArgumentException if tableBits is out of the range accepted by {@link TranspositionTable}
+     */
+    public DoubleDummySolver(@NonNull ForkJoinPool pool, int tableBits) {
+        Validate.inclusiveBetween(4, 28, tableBits, "Table bits must be between 4 and 28");
+        this.pool = pool;
+        this.tableBits = tableBits;
+    }
+
+    /**
+     * Returns the number of tricks taken by the side of the given player.
+     *
+     * @param deal   the deal
+     * @param strain the trump suit ID, or {@link #NO_TRUMP}
+     * @param leader the player leading to the first trick
+     * @param player a player of the side whose tricks are counted
+     * @return the number of tricks, from 0 to the hand size
+     * @throws NullPointerException     if deal is null
+     * @throws IllegalArgumentException if the strain or a player index is out of range
+     */
+    public int solve(@NonNull TrickDeal deal, int strain, int leader, int player) {
+        validateStrain(strain);
+        validatePlayer(deal, leader);
+        validatePlayer(deal, player);
+        return new Search(deal, strain, new TranspositionTable(tableBits)).solve(leader, deal.sideOf(player));
+    }
+
+    /**
+     * Returns the tricks taken by every possible declarer, where the player after the declarer leads.
+     *
+     * @param deal   the deal
+     * @param strain the trump suit ID, or {@link #NO_TRUMP}
+     * @return the tricks of the declarer's side, indexed by declarer
+     * @throws NullPointerException     if deal is null
+     * @throws IllegalArgumentException if the strain is out of range
+     */
+    public int[] tricksByDeclarer(@NonNull TrickDeal deal, int strain) {
+        validateStrain(strain);
+        TranspositionTable table = new TranspositionTable(tableBits);
+        List<SolveTask> tasks = new ArrayList<>();
+        for (int declarer = 0; declarer < deal.getPlayerCount(); declarer++) {
+            tasks.add(new SolveTask(deal, strain, declarer, table));
+        }
+        int[] tricks = new int[deal.getPlayerCount()];
+        for (SolveTask task : invokeAll(tasks)) {
+            tricks[task.declarer] = task.join();
+        }
+        return tricks;
+    }
+
+    /**
+     * Returns the tricks taken by every declarer in every strain.
+     *
+     * @param deal the deal
+     * @return the tricks of the declarer's side, indexed by strain (suit IDs, then {@link #NO_TRUMP}) and declarer
+     * @throws NullPointerException if deal is null
+     */
+    public int[][] tricksTable(@NonNull TrickDeal deal) {
+        TranspositionTable table = new TranspositionTable(tableBits);
+        List<SolveTask> tasks = new ArrayList<>();
+        for (int strain = SuitId.MIN_SUIT; strain <= NO_TRUMP; strain++) {
+            for (int declarer = 0; declarer < deal.getPlayerCount(); declarer++) {
+                tasks.add(new SolveTask(deal, strain, declarer, table));
+            }
+        }
+        int[][] tricks = new int[NO_TRUMP + 1][deal.getPlayerCount()];
+        for (SolveTask task : invokeAll(tasks)) {
+            tricks[task.strain][task.declarer] = task.join();
+        }
+        return tricks;
+    }
+
+    private List<SolveTask> invokeAll(List<SolveTask> tasks) {
+        return pool.invoke(new RecursiveTask<>() {
+            @Override
+            protected List<SolveTask> compute() {
+                return new ArrayList<>(ForkJoinTask.invokeAll(tasks));
+            }
+        });
+    }
+
+    private static void validateStrain(int strain) {
+        Validate.inclusiveBetween(SuitId.MIN_SUIT, NO_TRUMP, strain, "Strain must be a suit ID or NO_TRUMP");
+    }
+
+    private static void validatePlayer(TrickDeal deal, int player) {
+        Validate.isTrue(player >= 0 && player < deal.getPlayerCount(), "Invalid player: %d", player);
+    }
+
+    /**
+     * Solves one declarer and strain with its own search state.
+     */
+    @SuppressWarnings("serial") // Never serialized; only run in a ForkJoinPool
+    private static final class SolveTask extends RecursiveTask<Integer> {
+        private final TrickDeal deal;
+        private final int strain;
+        private final int declarer;
+        private final TranspositionTable table;
+
+        SolveTask(TrickDeal deal, int strain, int declarer, TranspositionTable table) {
+            this.deal = deal;
+            this.strain = strain;
+            this.declarer = declarer;
+            this.table = table;
+        }
+
+        @Override
+        protected Integer compute() {
+            int leader = (declarer + 1) % deal.getPlayerCount();
+            return new Search(deal, strain, table).solve(leader, deal.sideOf(declarer));
+        }
+    }
+
+    /**
+     * Mutable search state of one thread.
+     */
+    private static final class Search {
+        private final long[] hands;
+        private final int players;
+        private final int strain;
+        private final long trumpMask;
+        private final boolean mustTrump;
+        private final TranspositionTable table;
+        private final int trickCount;
+        // Cards played to every trick, in playing order, indexed by trick number
+        private final int[][] tricks;
+
+        private long inPlay;
+        private int side;
+        // Table lookups of this search, reported to the metrics once per solve
+        private long lookups;
+        private long hits;
+
+        Search(TrickDeal deal, int strain, TranspositionTable table) {
+            this.hands = deal.hands();
+            this.players = deal.getPlayerCount();
+            this.strain = strain;
+            this.trumpMask = strain == NO_TRUMP ? CardMask.EMPTY : SUIT_MASKS[strain];
+            this.mustTrump = deal.isMustTrump();
+            this.table = table;
+            this.trickCount = deal.getHandSize();
+            this.tricks = new int[trickCount][players];
+            for (long hand : hands) {
+                inPlay |= hand;
+            }
+        }
+
+        int solve(int leader, int side) {
+            this.side = side;
+            // Largest target the side can make; make(0) always holds
+            int low = 0;
+            int high = trickCount;
+            while (low < high) {
+                int target = (low + high + 1) >>> 1;
+                if (make(leader, target, trickCount)) {
+                    low = target;
+                } else {
+                    high = target - 1;
+                }
+            }
+            Metrics.get().onTableLookups(lookups, hits);
+            return low;
+        }
+
+        // Whether the side can take at least 'target' of the remaining tricks, with 'leader' to lead
+        private boolean make(int leader, int target, int tricksLeft) {
+            if (target <= 0) {
+                return true;
+            }
+            if (target > tricksLeft) {
+                return false;
+            }
+            long key = inPlay
+                    | (long) side << SIDE_SHIFT
+                    | (long) leader << LEADER_SHIFT
+                    | (long) strain << STRAIN_SHIFT;
+            int lower = 0;
+            int upper = tricksLeft;
+            long entry = table.probe(key);
+            lookups++;
+            if (entry != TranspositionTable.MISS) {
+                hits++;
+                lower = (int) (entry & BOUND_MASK);
+                upper = (int) (entry >>> UPPER_SHIFT & BOUND_MASK);
+                if (lower >= target) {
+                    return true;
+                }
+                if (upper < target) {
+                    return false;
+                }
+            }
+            boolean result = play(leader, leader, 0, CardMask.EMPTY, target, tricksLeft);
+            if (result) {
+                lower = target;
+            } else {
+                upper = target - 1;
+            }
+            table.store(key, lower | (long) upper << UPPER_SHIFT);
+            return result;
+        }
+
+        private boolean play(int leader, int seat, int index, long onTable, int target, int tricksLeft) {
+            int[] trick = tricks[trickCount - tricksLeft];
+            if (index == players) {
+                int winner = trickWinner(trick, leader);
+                boolean won = (side & (1 << winner)) != 0;
+                return make(winner, won ? target - 1 : target, tricksLeft - 1);
+            }
+            long hand = hands[seat];
+            long legal = hand;
+            if (index > 0) {
+                long led = SUIT_MASKS[CardId.getSuitId(trick[0])];
+                if ((hand & led) != 0) {
+                    legal = hand & led;
+                } else if (mustTrump && (hand & trumpMask) != 0) {
+                    legal = hand & trumpMask;
+                }
+            }
+            boolean maximizing = (side & (1 << seat)) != 0;
+            long live = inPlay | onTable;
+            long candidates = legal;
+            while (candidates != 0) {
+                int card = 63 - Long.numberOfLeadingZeros(candidates);
+                long bit = 1L << card;
+                candidates &= ~bit;
+                candidates &= ~equivalentBelow(card, hand, live);
+
+                hands[seat] = hand & ~bit;
+                inPlay &= ~bit;
+                trick[index] = card;
+                boolean result = play(leader, (seat + 1) % players, index + 1, onTable | bit, target, tricksLeft);
+                inPlay |= bit;
+                hands[seat] = hand;
+
+                if (result == maximizing) {
+                    return result;
+                }
+            }
+            return !maximizing;
+        }
+
+        // Cards of the hand directly below the card, with no other live card of the suit in between
+        private static long equivalentBelow(int card, long hand, long live) {
+            long suit = SUIT_MASKS[CardId.getSuitId(card)];
+            long below = live & suit & ((1L << card) - 1);
+            long equivalent = CardMask.EMPTY;
+            while (below != 0) {
+                long next = Long.highestOneBit(below);
+                if ((hand & next) == 0) {
+                    break;
+                }
+                equivalent |= next;
+                below &= ~next;
+            }
+            return equivalent;
+        }
+
+        private int trickWinner(int[] trick, int leader) {
+            int best = 0;
+            for (int i = 1; i < players; i++) {
+                if (beats(trick[i], trick[best])) {
+                    best = i;
+                }
+            }
+            return (leader + best) % players;
+        }
+
+        private boolean beats(int card, int current) {
+            boolean cardTrump = (trumpMask & (1L << card)) != 0;
+            boolean currentTrump = (trumpMask & (1L << current)) != 0;
+            if (cardTrump != currentTrump) {
+                return cardTrump;
+            }
+            return CardId.getSuitId(card) == CardId.getSuitId(current) && card > current;
+        }
+    }
+}
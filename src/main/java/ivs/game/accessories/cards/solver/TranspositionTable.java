@@ -0,0 +1,71 @@
+package ivs.game.accessories.cards.solver;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size hash table of trick bounds that many search threads can read and write without locks.
+ * <p>
+ * Each slot holds two words: the entry data and the key XOR the data. Both words are written and read
+ * atomically, but not together, so a reader may see words of two different writes; it then fails the
+ * {@code key == first ^ second} check and treats the slot as empty. New entries always replace old ones.
+ * <p>
+ * Thread safety: Thread-safe and lock-free.
+ */
+public final class TranspositionTable {
+
+    static final long MISS = -1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * Creates a table with {@code 2^bits} slots.
+     *
+     * @param bits the base-2 logarithm of the slot count, from 4 to 28
+     * @throws IllegalArgumentException if bits is out of range
+     */
+    public TranspositionTable(int bits) {
+        Validate.inclusiveBetween(4, 28, bits, "Table bits must be between 4 and 28");
+        this.slots = new AtomicLongArray(2 << bits);
+        this.mask = (1 << bits) - 1;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Removes all entries. Must not run concurrently with a search using this table.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setPlain(i, 0);
+        }
+    }
+
+    // Data stored for the key, or MISS; keys must be non-zero and data non-negative
+    long probe(long key) {
+        int slot = index(key);
+        long data = slots.getOpaque(slot + 1);
+        long check = slots.getOpaque(slot);
+        return (check ^ data) == key ? data : MISS;
+    }
+
+    void store(long key, long data) {
+        int slot = index(key);
+        slots.setOpaque(slot, key ^ data);
+        slots.setOpaque(slot + 1, data);
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return ((int) (hash >>> 32) & mask) << 1;
+    }
+}
@@ -0,0 +1,137 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A fully known deal of a trick-taking game: three or four hands of equal size given as {@link CardMask} masks.
+ * <p>
+ * Players are numbered in playing order, so player {@code (p + 1) % playerCount} plays after player {@code p}.
+ * With four players, players {@code p} and {@code p + 2} are partners; with three players, every player
+ * plays alone against the other two, as the declarer does in Preferans.
+ * <p>
+ * Players must follow the suit led if they can. Under the must-trump rule of Preferans deals, a player who
+ * cannot follow suit must also play a trump if they hold one; otherwise any card may be played.
+ * <p>
+ * Thread safety: Instances are immutable.
+ *
+ * @see DoubleDummySolver
+ */
+public final class TrickDeal {
+
+    /** Minimum number of players */
+    public static final int MIN_PLAYERS = 3;
+
+    /** Maximum number of players */
+    public static final int MAX_PLAYERS = 4;
+
+    private static final long BRIDGE_DECK = DeckTemplate.FULL.getMask();
+    private static final long PREFERANS_DECK = DeckTemplate.SMALL.getMask();
+
+    private final long[] hands;
+    @Getter
+    private final int handSize;
+    /**
+     * Whether a player void in the suit led must play a trump if they hold one.
+     */
+    @Getter
+    private final boolean mustTrump;
+
+    private TrickDeal(long[] hands, boolean mustTrump) {
+        this.hands = hands;
+        this.handSize = Long.bitCount(hands[0]);
+        this.mustTrump = mustTrump;
+    }
+
+    /**
+     * Creates a deal from the given hands, without the must-trump rule.
+     *
+     * @param hands the hands in playing order
+     * @return the deal
+     * @throws NullPointerException     if hands is null
+     * @throws IllegalArgumentException if there are not 3 or 4 hands, a hand holds a joker, the hands overlap,
+     *                                  or the hands differ in size
+     */
+    public static TrickDeal of(@NonNull long... hands) {
+        Validate.isTrue(hands.length >= MIN_PLAYERS && hands.length <= MAX_PLAYERS,
+                "Player count must be between %d and %d", MIN_PLAYERS, MAX_PLAYERS);
+        long seen = CardMask.EMPTY;
+        int size = Long.bitCount(hands[0]);
+        for (long hand : hands) {
+            Validate.isTrue((hand & ~CardMask.ALL_CARDS) == 0, "Hands cannot contain jokers");
+            Validate.isTrue((hand & seen) == 0, "Hands cannot share cards");
+            Validate.isTrue(Long.bitCount(hand) == size, "All hands must have the same size");
+            seen |= hand;
+        }
+        return new TrickDeal(hands.clone(), false);
+    }
+
+    /**
+     * Creates a bridge deal of four hands from the {@link DeckTemplate#FULL} deck.
+     *
+     * @param north the first hand
+     * @param east  the second hand
+     * @param south the third hand
+     * @param west  the fourth hand
+     * @return the deal
+     * @throws IllegalArgumentException if the hands are not a valid deal
+     */
+    public static TrickDeal bridge(long north, long east, long south, long west) {
+        Validate.isTrue(((north | east | south | west) & ~BRIDGE_DECK) == 0, "Bridge hands must come from the full deck");
+        return of(north, east, south, west);
+    }
+
+    /**
+     * Creates a Preferans deal of three hands from the {@link DeckTemplate#SMALL} deck, with the must-trump rule.
+     * The talon is not part of the deal.
+     *
+     * @param first  the first hand
+     * @param second the second hand
+     * @param third  the third hand
+     * @return the deal
+     * @throws IllegalArgumentException if the hands are not a valid deal or hold cards below Seven
+     */
+    public static TrickDeal preferans(long first, long second, long third) {
+        Validate.isTrue(((first | second | third) & ~PREFERANS_DECK) == 0, "Preferans hands must come from the small deck");
+        return new TrickDeal(of(first, second, third).hands, true);
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return 3 or 4
+     */
+    public int getPlayerCount() {
+        return hands.length;
+    }
+
+    /**
+     * Returns the hand of a player.
+     *
+     * @param player the player index
+     * @return the hand as a card mask
+     * @throws IndexOutOfBoundsException if the player index is out of range
+     */
+    public long getHand(int player) {
+        return hands[player];
+    }
+
+    /**
+     * Returns the players on the same side as the given player, as a bit per player.
+     *
+     * @param player the player index
+     * @return the side mask
+     */
+    int sideOf(int player) {
+        return hands.length == MAX_PLAYERS
+                ? (1 << player) | (1 << ((player + 2) % MAX_PLAYERS))
+                : 1 << player;
+    }
+
+    long[] hands() {
+        return hands.clone();
+    }
+}
@@ -0,0 +1,80 @@
+package ivs.game.accessories.cards.blackjack;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BasicStrategyTest {
+
+    @ParameterizedTest(name = "hard {0} vs {1} -> {2}")
+    @CsvSource({
+            "8, 6, HIT",
+            "9, 3, DOUBLE_OR_HIT",
+            "11, 11, HIT",
+            "12, 3, HIT",
+            "12, 4, STAND",
+            "15, 10, SURRENDER_OR_HIT",
+            "16, 7, HIT",
+            "17, 11, STAND"
+    })
+    @DisplayName("Standard chart should match hard totals")
+    void standardHardTotals(int total, int upcard, BlackjackAction expected) {
+        assertEquals(expected, BasicStrategy.standard().hard(total, upcard), "Hard action mismatch");
+    }
+
+    @ParameterizedTest(name = "soft {0} vs {1} -> {2}")
+    @CsvSource({
+            "13, 5, DOUBLE_OR_HIT",
+            "17, 2, HIT",
+            "18, 2, STAND",
+            "18, 6, DOUBLE_OR_STAND",
+            "18, 10, HIT",
+            "19, 6, STAND"
+    })
+    @DisplayName("Standard chart should match soft totals")
+    void standardSoftTotals(int total, int upcard, BlackjackAction expected) {
+        assertEquals(expected, BasicStrategy.standard().soft(total, upcard), "Soft action mismatch");
+    }
+
+    @Test
+    @DisplayName("Standard chart should split the usual pairs")
+    void standardSplits() {
+        BasicStrategy strategy = BasicStrategy.standard();
+        assertTrue(strategy.split(BasicStrategy.ACE, 10), "Aces must be split");
+        assertTrue(strategy.split(8, BasicStrategy.ACE), "Eights must be split");
+        assertFalse(strategy.split(10, 6), "Tens must not be split");
+        assertFalse(strategy.split(9, 7), "Nines must not be split against seven");
+        assertFalse(strategy.split(5, 5), "Fives must not be split");
+    }
+
+    @Test
+    @DisplayName("toBuilder() should copy the chart without changing the original")
+    void toBuilderCopies() {
+        BasicStrategy modified = BasicStrategy.standard().toBuilder()
+                .hard(16, 16, 10, 10, BlackjackAction.STAND)
+                .split(10, 10, 5, 6, true)
+                .build();
+
+        assertEquals(BlackjackAction.STAND, modified.hard(16, 10), "Override must apply");
+        assertTrue(modified.split(10, 6), "Split override must apply");
+        assertEquals(BlackjackAction.HIT, modified.hard(16, 7), "Other entries must be kept");
+        assertEquals(BlackjackAction.SURRENDER_OR_HIT, BasicStrategy.standard().hard(16, 10), "Original must not change");
+    }
+
+    @Test
+    @DisplayName("Invalid totals and ranges should be rejected")
+    void invalidInputRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BasicStrategy.standard().hard(3, 5), "Hard total below 4 must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> BasicStrategy.standard().soft(11, 5), "Soft total below 12 must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> BasicStrategy.standard().split(1, 5), "Pair value below 2 must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> BasicStrategy.standard().hard(12, 12), "Upcard above 11 must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> BasicStrategy.builder().hard(15, 12, 2, 11, BlackjackAction.HIT), "Inverted range must be rejected");
+    }
+}
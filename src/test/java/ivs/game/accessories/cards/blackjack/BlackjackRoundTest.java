@@ -0,0 +1,85 @@
+package ivs.game.accessories.cards.blackjack;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BlackjackRoundTest {
+
+    private static final int A = BasicStrategy.ACE;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "player blackjack,   11, 9, 10, 7, 1.5",
+            "both blackjack,     11, 11, 10, 10, 0",
+            "dealer blackjack,   9, 11, 9, 10, -1"
+    })
+    @DisplayName("Blackjacks should settle the round immediately")
+    void blackjacksSettleImmediately(String name, int first, int upcard, int second, int hole, double expected) {
+        assertEquals(expected, play(BlackjackRules.defaults(), first, upcard, second, hole), "Net mismatch for " + name);
+    }
+
+    @Test
+    @DisplayName("Eleven against a six should be doubled")
+    void doubleEleven() {
+        BlackjackRound round = new BlackjackRound(BlackjackRules.defaults(), BasicStrategy.standard());
+        double net = round.play(cards(6, 6, 5, 10, 10, 10));
+
+        assertEquals(2, net, "Doubled hand must win two units");
+        assertEquals(2, round.getWagered(), "Double must add one unit to the wager");
+    }
+
+    @Test
+    @DisplayName("Split eights should play two hands, doubling after the split")
+    void splitEights() {
+        BlackjackRound round = new BlackjackRound(BlackjackRules.defaults(), BasicStrategy.standard());
+        double net = round.play(cards(8, 10, 8, 7, 3, 10, 10));
+
+        assertEquals(3, net, "Doubled 21 and 18 must both beat 17");
+        assertEquals(3, round.getWagered(), "Split and double must each add one unit");
+    }
+
+    @Test
+    @DisplayName("Split aces should receive one card each and 21 should not count as blackjack")
+    void splitAces() {
+        BlackjackRound round = new BlackjackRound(BlackjackRules.defaults(), BasicStrategy.standard());
+        assertEquals(2, round.play(cards(A, 6, A, 10, 9, 10, 10)), "Both split aces must win one unit");
+    }
+
+    @Test
+    @DisplayName("Late surrender should lose half the bet only when offered")
+    void lateSurrender() {
+        int[] deal = {10, 10, 6, 7, 5};
+        assertEquals(-0.5, play(BlackjackRules.builder().lateSurrender(true).build(), deal), "Sixteen against ten must surrender");
+        assertEquals(1, play(BlackjackRules.defaults(), deal), "Without surrender sixteen must hit to 21");
+    }
+
+    @Test
+    @DisplayName("The dealer should hit soft 17 only under the H17 rule")
+    void dealerSoft17() {
+        int[] deal = {10, A, 10, 6, 4};
+        assertEquals(1, play(BlackjackRules.defaults(), deal), "S17 dealer must stand on soft 17");
+        assertEquals(-1, play(BlackjackRules.builder().dealerHitsSoft17(true).build(), deal), "H17 dealer must draw to 21");
+    }
+
+    @Test
+    @DisplayName("Busted hands should lose without the dealer drawing")
+    void bustedHandLoses() {
+        BlackjackRound round = new BlackjackRound(BlackjackRules.defaults(), BasicStrategy.standard());
+        assertEquals(-1, round.play(cards(10, 10, 2, 7, 10)), "Busted twelve must lose");
+    }
+
+    private static double play(BlackjackRules rules, int... cards) {
+        return new BlackjackRound(rules, BasicStrategy.standard()).play(cards(cards));
+    }
+
+    private static IntSupplier cards(int... values) {
+        int[] next = {0};
+        return () -> values[next[0]++];
+    }
+}
@@ -0,0 +1,93 @@
+package ivs.game.accessories.cards.blackjack;
+
+import ivs.game.accessories.cards.gamedeck.cardshoe.CutCardCalculator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlackjackSimulatorTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Basic strategy on a six-deck S17 game should have a small house edge")
+    void standardGameHouseEdge() {
+        BlackjackSimulator simulator = new BlackjackSimulator(BlackjackRules.defaults(), BasicStrategy.standard(), pool);
+        SimulationResult result = simulator.simulate(1_000_000, 41);
+
+        assertEquals(1_000_000, result.getRounds(), "All rounds must be played");
+        assertTrue(result.getHouseEdge() > -0.005 && result.getHouseEdge() < 0.015, "House edge out of range: " + result);
+        assertTrue(result.getStandardDeviation() > 1.0 && result.getStandardDeviation() < 1.3, "Deviation out of range: " + result);
+        assertTrue(result.getWagered() > result.getRounds(), "Doubles and splits must add to the wager");
+        assertTrue(result.getHouseEdgeLow() < result.getHouseEdge() && result.getHouseEdge() < result.getHouseEdgeHigh(),
+                "Confidence interval must contain the estimate");
+    }
+
+    @Test
+    @DisplayName("Default rules should deal about 80% of the shoe before reshuffling")
+    void defaultPenetration() {
+        BlackjackRules rules = BlackjackRules.defaults();
+        SimulationResult result = new BlackjackSimulator(rules, BasicStrategy.standard(), pool).simulate(200_000, 3);
+
+        int capacity = rules.getDeckCount() * 52;
+        double penetration = result.getCardsPerShoe() / capacity;
+        assertTrue(result.getShoes() > 0, "Shoes must be reshuffled: " + result);
+        assertTrue(penetration > 0.76 && penetration < 0.86, "Penetration out of range: " + penetration);
+    }
+
+    @Test
+    @DisplayName("A 6:5 blackjack payout should raise the house edge by about 1.4%")
+    void sixToFivePayout() {
+        BlackjackRules sixToFive = BlackjackRules.builder().blackjackPayout(1.2).build();
+        SimulationResult standard = new BlackjackSimulator(BlackjackRules.defaults(), BasicStrategy.standard(), pool)
+                .simulate(1_000_000, 5);
+        SimulationResult reduced = new BlackjackSimulator(sixToFive, BasicStrategy.standard(), pool)
+                .simulate(1_000_000, 5);
+
+        double difference = reduced.getHouseEdge() - standard.getHouseEdge();
+        assertTrue(difference > 0.012 && difference < 0.016, "Edge difference out of range: " + difference);
+    }
+
+    @Test
+    @DisplayName("The same seed should reproduce the same result")
+    void seedIsReproducible() {
+        BlackjackRules rules = BlackjackRules.builder()
+                .deckCount(2)
+                .cutCardCalculator(new CutCardCalculator(0.5, 0.1))
+                .build();
+        BlackjackSimulator simulator = new BlackjackSimulator(rules, BasicStrategy.standard(), pool);
+        SimulationResult first = simulator.simulate(50_000, 9);
+        SimulationResult second = simulator.simulate(50_000, 9);
+
+        assertEquals(first.getNet(), second.getNet(), "Net result must be reproducible");
+        assertEquals(first.getWagered(), second.getWagered(), "Wager must be reproducible");
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void invalidArgumentsRejected() {
+        BlackjackSimulator simulator = new BlackjackSimulator(BlackjackRules.defaults(), BasicStrategy.standard(), pool);
+        assertThrows(IllegalArgumentException.class, () -> simulator.simulate(-1, 0), "Negative rounds must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> BlackjackRules.builder().deckCount(0), "Zero decks must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> BlackjackRules.builder().maxSplitHands(0), "Zero hands must be rejected");
+        assertThrows(NullPointerException.class,
+                () -> new BlackjackSimulator(null, BasicStrategy.standard(), pool), "Null rules must be rejected");
+    }
+}
@@ -0,0 +1,86 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.event.CardEventOp;
+import ivs.game.accessories.cards.event.CardEventSink;
+import ivs.game.accessories.cards.ordering.PlayingCardComparator;
+import ivs.game.accessories.cards.ordering.RankWeightComparator;
+import ivs.game.accessories.cards.ordering.SuitWeightComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCardHolderTest {
+
+    private static final Comparator<PlayingCard> COMPARATOR =
+            new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator());
+
+    @Test
+    @DisplayName("Every modification should be reported with the holder's source ID")
+    void modificationsAreReported() {
+        List<String> events = new ArrayList<>();
+        CardEventSink sink = (source, op, cardId) -> events.add(source + ":" + CardEventOp.name(op) + ":" + cardId);
+        EventCardHolder holder = new EventCardHolder(new StandardCardHolder(COMPARATOR), 4, sink);
+
+        holder.add(StandardCard.ACE_SPADES);
+        holder.addAll(List.of(StandardCard.TWO_SPADES, StandardCard.ACE_SPADES));
+        holder.remove(StandardCard.TWO_SPADES);
+        holder.remove(StandardCard.KING_HEARTS);
+        holder.removeAll(List.of(StandardCard.ACE_SPADES));
+        holder.clear();
+
+        int ace = StandardCard.ACE_SPADES.getId();
+        int two = StandardCard.TWO_SPADES.getId();
+        assertEquals(List.of("4:ADD:" + ace, "4:ADD:" + two, "4:ADD:" + ace, "4:REMOVE:" + two,
+                "4:REMOVE:" + ace, "4:REMOVE:" + ace, "4:CLEAR:-1"), events, "Events must mirror the modifications");
+        assertTrue(holder.isEmpty(), "Holder must be empty");
+    }
+
+    @Test
+    @DisplayName("Replacing the sink with NO_OP should stop reporting")
+    void noOpSinkDisablesEvents() {
+        List<Integer> events = new ArrayList<>();
+        EventCardHolder holder = new EventCardHolder(new StandardCardHolder(COMPARATOR), 1, (source, op, cardId) -> events.add(op));
+        holder.setSink(CardEventSink.NO_OP);
+        holder.add(StandardCard.ACE_SPADES);
+
+        assertEquals(List.of(), events, "Disabled sink must receive nothing");
+        assertEquals(1, holder.countCards(StandardCard.ACE_SPADES), "Reads must be delegated");
+    }
+
+    @Test
+    @DisplayName("addAll() should report only the cards the wrapped holder took in")
+    void addAllReportsAcceptedCardsOnly() {
+        StandardCardHolder firstCardOnly = new StandardCardHolder(COMPARATOR) {
+            @Override
+            public boolean addAll(Collection<? extends PlayingCard> cards) {
+                return add(cards.iterator().next());
+            }
+        };
+        List<Integer> added = new ArrayList<>();
+        EventCardHolder holder = new EventCardHolder(firstCardOnly, 2, (source, op, cardId) -> added.add(cardId));
+
+        assertTrue(holder.addAll(List.of(StandardCard.KING_HEARTS, StandardCard.TWO_SPADES)), "Holder must change");
+        assertEquals(List.of(StandardCard.KING_HEARTS.getId()), added, "Only the accepted card must be reported");
+    }
+
+    @Test
+    @DisplayName("Bulk operations with the NO_OP sink should only delegate")
+    void noOpSinkBulkOperationsDelegate() {
+        EventCardHolder holder = new EventCardHolder(new StandardCardHolder(COMPARATOR), 1, CardEventSink.NO_OP);
+
+        assertTrue(holder.addAll(List.of(StandardCard.ACE_SPADES, StandardCard.ACE_SPADES)), "addAll must be delegated");
+        assertTrue(holder.removeAll(List.of(StandardCard.ACE_SPADES)), "removeAll must be delegated");
+        assertTrue(holder.isEmpty(), "Every copy must be removed");
+        assertFalse(holder.removeAll(List.of(StandardCard.ACE_SPADES)), "Nothing left to remove");
+    }
+}
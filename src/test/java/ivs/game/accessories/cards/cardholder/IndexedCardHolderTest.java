@@ -0,0 +1,97 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.ordering.CompiledCardComparator;
+import ivs.game.accessories.cards.ordering.PlayingCardComparator;
+import ivs.game.accessories.cards.ordering.RankWeightComparator;
+import ivs.game.accessories.cards.ordering.SuitWeightComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedCardHolderTest {
+
+    private static final PlayingCardComparator ACE_LOW =
+            new PlayingCardComparator(SuitWeightComparator.ofOrderSDCH(), RankWeightComparator.aceLowOrder());
+
+    @Test
+    @DisplayName("Queries should match StandardCardHolder after random additions and removals")
+    void queriesMatchStandardHolder() {
+        IndexedCardHolder indexed = new IndexedCardHolder(ACE_LOW.compile());
+        StandardCardHolder standard = new StandardCardHolder(ACE_LOW);
+        Random random = new Random(17);
+        StandardCard[] all = StandardCard.values();
+
+        for (int step = 0; step < 2_000; step++) {
+            PlayingCard card = random.nextInt(20) == 0 ? JokerCard.JOKER_2 : all[random.nextInt(all.length)];
+            if (random.nextInt(3) == 0) {
+                assertEquals(standard.remove(card), indexed.remove(card), "remove() results must match");
+            } else {
+                assertEquals(standard.add(card), indexed.add(card), "add() results must match");
+            }
+
+            StandardCard reference = all[random.nextInt(all.length)];
+            Suit suit = reference.getSuit();
+            assertEquals(standard.size(), indexed.size(), "Sizes must match");
+            assertEquals(standard.findMin(suit), indexed.findMin(suit), "findMin must match");
+            assertEquals(standard.findMax(suit), indexed.findMax(suit), "findMax must match");
+            assertEquals(standard.findClosestLower(reference), indexed.findClosestLower(reference), "findClosestLower must match");
+            assertEquals(standard.findClosestHigher(reference), indexed.findClosestHigher(reference), "findClosestHigher must match");
+            assertEquals(standard.getAllLowerOfSuit(reference), indexed.getAllLowerOfSuit(reference), "getAllLowerOfSuit must match");
+            assertEquals(standard.getAllHigherOfSuit(reference), indexed.getAllHigherOfSuit(reference), "getAllHigherOfSuit must match");
+            assertEquals(standard.countCards(reference), indexed.countCards(reference), "countCards must match");
+            assertEquals(standard.countSuit(suit), indexed.countSuit(suit), "countSuit must match");
+            assertEquals(standard.countRank(reference.getRank()), indexed.countRank(reference.getRank()), "countRank must match");
+            assertEquals(standard.countJoker(), indexed.countJoker(), "countJoker must match");
+        }
+        assertEquals(standard.stream().toList(), indexed.stream().toList(), "Insertion order must be kept");
+    }
+
+    @Test
+    @DisplayName("Removing through the iterator or removeAll() should update the index")
+    void iteratorRemovalUpdatesIndex() {
+        IndexedCardHolder holder = new IndexedCardHolder(ACE_LOW.compile());
+        holder.addAll(List.of(StandardCard.ACE_HEARTS, StandardCard.KING_HEARTS, StandardCard.TWO_SPADES, JokerCard.JOKER_1));
+
+        Iterator<PlayingCard> iterator = holder.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(StandardCard.KING_HEARTS, holder.findMin(Suit.HEARTS).orElseThrow(), "Removed ace must leave the index");
+
+        assertTrue(holder.removeAll(List.of(StandardCard.TWO_SPADES, JokerCard.JOKER_1, StandardCard.TEN_CLUBS)), "Holder must change");
+        assertFalse(holder.containsSuit(Suit.SPADES), "Spades must be gone");
+        assertFalse(holder.containsJoker(), "Joker must be gone");
+        assertEquals(1, holder.size(), "Only the king must remain");
+
+        holder.clear();
+        assertTrue(holder.findMax(Suit.HEARTS).isEmpty(), "Cleared holder must have no cards");
+    }
+
+    @Test
+    @DisplayName("Cards not supported by the comparator should be rejected")
+    void unsupportedCardsRejected() {
+        CompiledCardComparator sixToAce = new PlayingCardComparator(new SuitWeightComparator(),
+                RankWeightComparator.ofOrder(Rank.SIX, Rank.SEVEN, Rank.EIGHT, Rank.NINE, Rank.TEN,
+                        Rank.JACK, Rank.QUEEN, Rank.KING, Rank.ACE)).compile();
+        IndexedCardHolder holder = new IndexedCardHolder(sixToAce);
+
+        assertThrows(IllegalArgumentException.class, () -> holder.add(StandardCard.TWO_SPADES), "Unsupported rank must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> holder.findClosestLower(StandardCard.FIVE_SPADES),
+                "Unsupported reference must be rejected");
+        assertThrows(NullPointerException.class, () -> new IndexedCardHolder(null), "Null comparator must be rejected");
+        assertTrue(holder.add(JokerCard.JOKER_3), "Jokers are held outside the suit index");
+        assertEquals(0, holder.countSuit(Suit.SPADES), "Joker must not count towards a suit");
+    }
+}
@@ -0,0 +1,116 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.ordering.PlayingCardComparator;
+import ivs.game.accessories.cards.ordering.RankWeightComparator;
+import ivs.game.accessories.cards.ordering.SuitWeightComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultisetCardHolderTest {
+
+    private static final Comparator<PlayingCard> COMPARATOR =
+            new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.naturalOrder());
+
+    @Test
+    @DisplayName("Counts and queries should match StandardCardHolder for a multi-deck pile")
+    void queriesMatchStandardHolder() {
+        MultisetCardHolder multiset = new MultisetCardHolder(COMPARATOR);
+        StandardCardHolder standard = new StandardCardHolder(COMPARATOR);
+        Random random = new Random(23);
+        StandardCard[] all = StandardCard.values();
+
+        for (int step = 0; step < 3_000; step++) {
+            PlayingCard card = random.nextInt(25) == 0 ? JokerCard.JOKER_4 : all[random.nextInt(all.length)];
+            if (random.nextInt(4) == 0) {
+                assertEquals(standard.remove(card), multiset.remove(card), "remove() results must match");
+            } else {
+                assertEquals(standard.add(card), multiset.add(card), "add() results must match");
+            }
+        }
+        for (StandardCard reference : all) {
+            Suit suit = reference.getSuit();
+            assertEquals(standard.countCards(reference), multiset.countCards(reference), "countCards must match");
+            assertEquals(standard.contains(reference), multiset.contains(reference), "contains must match");
+            assertEquals(standard.findMin(suit), multiset.findMin(suit), "findMin must match");
+            assertEquals(standard.findClosestLower(reference), multiset.findClosestLower(reference), "findClosestLower must match");
+            assertEquals(standard.findClosestHigher(reference), multiset.findClosestHigher(reference), "findClosestHigher must match");
+            assertEquals(standard.getAllHigherOfSuit(reference), multiset.getAllHigherOfSuit(reference), "getAllHigherOfSuit must match");
+            assertEquals(standard.getAllLowerOfSuit(reference), multiset.getAllLowerOfSuit(reference), "getAllLowerOfSuit must match");
+        }
+        assertEquals(standard.size(), multiset.size(), "Sizes must match");
+        assertEquals(standard.countJoker(), multiset.countJoker(), "Joker counts must match");
+        assertEquals(standard.size(), multiset.stream().count(), "Iteration must return every copy");
+        assertEquals(standard.getSummary().getTotalQty(), multiset.getSummary().getTotalQty(), "Summaries must match");
+    }
+
+    @Test
+    @DisplayName("Default iteration should return cards in ID order with every copy")
+    void iteratesInIdOrder() {
+        MultisetCardHolder holder = new MultisetCardHolder(COMPARATOR);
+        holder.addAll(List.of(StandardCard.ACE_HEARTS, JokerCard.JOKER_1, StandardCard.TWO_SPADES, StandardCard.ACE_HEARTS));
+        holder.add(StandardCard.THREE_SPADES, 2);
+
+        assertFalse(holder.isInsertionOrdered(), "Default holder must not keep the insertion order");
+        assertEquals(List.of(StandardCard.TWO_SPADES, StandardCard.THREE_SPADES, StandardCard.THREE_SPADES,
+                        StandardCard.ACE_HEARTS, StandardCard.ACE_HEARTS, JokerCard.JOKER_1),
+                holder.stream().toList(), "Cards must be iterated in ID order");
+    }
+
+    @Test
+    @DisplayName("Insertion-ordered holder should iterate in insertion order")
+    void iteratesInInsertionOrder() {
+        MultisetCardHolder holder = MultisetCardHolder.insertionOrdered(COMPARATOR);
+        List<PlayingCard> cards = List.of(StandardCard.ACE_HEARTS, JokerCard.JOKER_1, StandardCard.TWO_SPADES, StandardCard.ACE_HEARTS);
+        holder.addAll(cards);
+
+        assertTrue(holder.isInsertionOrdered(), "Holder must keep the insertion order");
+        assertEquals(cards, holder.stream().toList(), "Cards must be iterated in insertion order");
+        holder.remove(StandardCard.ACE_HEARTS);
+        assertEquals(List.of(JokerCard.JOKER_1, StandardCard.TWO_SPADES, StandardCard.ACE_HEARTS), holder.stream().toList(),
+                "First copy must be removed");
+        assertTrue(holder.removeAll(List.of(StandardCard.ACE_HEARTS)), "Holder must change");
+        assertEquals(List.of(JokerCard.JOKER_1, StandardCard.TWO_SPADES), holder.stream().toList(), "All copies must be removed");
+    }
+
+    @Test
+    @DisplayName("Iterator removal should update counts and detect concurrent modification")
+    void iteratorRemoval() {
+        MultisetCardHolder holder = new MultisetCardHolder(COMPARATOR);
+        holder.add(StandardCard.KING_CLUBS, 3);
+        holder.add(StandardCard.FIVE_CLUBS);
+
+        Iterator<PlayingCard> iterator = holder.iterator();
+        List<PlayingCard> seen = new ArrayList<>();
+        while (iterator.hasNext()) {
+            PlayingCard card = iterator.next();
+            seen.add(card);
+            if (card == StandardCard.KING_CLUBS) {
+                iterator.remove();
+            }
+        }
+        assertEquals(4, seen.size(), "Every copy must be visited");
+        assertEquals(1, holder.size(), "Kings must be removed");
+        assertEquals(1, holder.countSuit(Suit.CLUBS), "Suit count must be updated");
+
+        Iterator<PlayingCard> stale = holder.iterator();
+        holder.add(StandardCard.TWO_CLUBS);
+        assertThrows(ConcurrentModificationException.class, stale::next, "Modification must be detected");
+        assertThrows(IllegalArgumentException.class, () -> holder.add(StandardCard.TWO_CLUBS, -1), "Negative copies must be rejected");
+    }
+}
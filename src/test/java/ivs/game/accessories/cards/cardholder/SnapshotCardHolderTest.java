@@ -0,0 +1,119 @@
+package ivs.game.accessories.cards.cardholder;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.core.type.Suit;
+import ivs.game.accessories.cards.ordering.PlayingCardComparator;
+import ivs.game.accessories.cards.ordering.RankWeightComparator;
+import ivs.game.accessories.cards.ordering.SuitWeightComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotCardHolderTest {
+
+    private static final Comparator<PlayingCard> COMPARATOR =
+            new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.naturalOrder());
+
+    @Test
+    @DisplayName("Queries should match StandardCardHolder, including duplicates")
+    void queriesMatchStandardHolder() {
+        SnapshotCardHolder snapshotHolder = new SnapshotCardHolder(COMPARATOR);
+        StandardCardHolder standard = new StandardCardHolder(COMPARATOR);
+        Random random = new Random(31);
+        StandardCard[] all = StandardCard.values();
+
+        for (int step = 0; step < 500; step++) {
+            PlayingCard card = random.nextInt(20) == 0 ? JokerCard.JOKER_2 : all[random.nextInt(all.length)];
+            if (random.nextInt(3) == 0) {
+                assertEquals(standard.remove(card), snapshotHolder.remove(card), "remove() results must match");
+            } else {
+                assertEquals(standard.add(card), snapshotHolder.add(card), "add() results must match");
+            }
+            StandardCard reference = all[random.nextInt(all.length)];
+            Suit suit = reference.getSuit();
+            assertEquals(standard.stream().toList(), snapshotHolder.stream().toList(), "Cards must match in order");
+            assertEquals(standard.countSuit(suit), snapshotHolder.countSuit(suit), "countSuit must match");
+            assertEquals(standard.countCards(reference), snapshotHolder.countCards(reference), "countCards must match");
+            assertEquals(standard.countJoker(), snapshotHolder.countJoker(), "countJoker must match");
+            assertEquals(standard.containsRank(reference.getRank()), snapshotHolder.containsRank(reference.getRank()), "containsRank must match");
+            assertEquals(standard.findMax(suit), snapshotHolder.findMax(suit), "findMax must match");
+            assertEquals(standard.findClosestHigher(reference), snapshotHolder.findClosestHigher(reference), "findClosestHigher must match");
+            assertEquals(standard.getAllLowerOfSuit(reference), snapshotHolder.getAllLowerOfSuit(reference), "getAllLowerOfSuit must match");
+        }
+        assertEquals(standard.removeAll(List.of(all)), snapshotHolder.removeAll(List.of(all)), "removeAll() results must match");
+        assertEquals(standard.size(), snapshotHolder.size(), "Only jokers must remain");
+    }
+
+    @Test
+    @DisplayName("A snapshot should not change when the holder is modified")
+    void snapshotsAreImmutable() {
+        SnapshotCardHolder holder = new SnapshotCardHolder(COMPARATOR);
+        holder.addAll(List.of(StandardCard.ACE_SPADES, StandardCard.KING_SPADES));
+        CardSnapshot snapshot = holder.getSnapshot();
+        Iterator<PlayingCard> iterator = holder.iterator();
+
+        holder.clear();
+        assertEquals(2, snapshot.size(), "Snapshot must keep its cards");
+        assertEquals(CardMask.of(StandardCard.ACE_SPADES.getId(), StandardCard.KING_SPADES.getId()), snapshot.getMask(),
+                "Snapshot mask must keep its cards");
+        assertTrue(holder.getSnapshot().getVersion() > snapshot.getVersion(), "Version must increase on modification");
+        assertEquals(StandardCard.ACE_SPADES, iterator.next(), "Iterator must read the old snapshot");
+        assertThrows(UnsupportedOperationException.class, iterator::remove, "Snapshot iterator must not support removal");
+
+        int[] ids = new int[2];
+        snapshot.copyIds(ids);
+        assertEquals(StandardCard.KING_SPADES.getId(), ids[1], "copyIds must copy in insertion order");
+        assertThrows(IllegalArgumentException.class, () -> snapshot.copyIds(new int[1]), "Small destination must be rejected");
+        assertFalse(holder.contains(StandardCard.ACE_SPADES), "Holder must be cleared");
+    }
+
+    @Test
+    @DisplayName("Readers should always see consistent snapshots while a writer modifies the holder")
+    void readersSeeConsistentSnapshots() throws InterruptedException {
+        SnapshotCardHolder holder = new SnapshotCardHolder(COMPARATOR);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            long lastVersion = -1;
+            while (running.get()) {
+                CardSnapshot snapshot = holder.getSnapshot();
+                if (snapshot.getVersion() < lastVersion) {
+                    failure.set("Version went backwards");
+                }
+                lastVersion = snapshot.getVersion();
+                // The writer always adds and removes spade/heart pairs
+                if (snapshot.countSuit(Suit.SPADES) != snapshot.countSuit(Suit.HEARTS)) {
+                    failure.set("Partially applied modification observed");
+                }
+            }
+        });
+        reader.start();
+        StandardCard[] spades = {StandardCard.TWO_SPADES, StandardCard.FIVE_SPADES, StandardCard.KING_SPADES};
+        StandardCard[] hearts = {StandardCard.TWO_HEARTS, StandardCard.FIVE_HEARTS, StandardCard.KING_HEARTS};
+        for (int i = 0; i < 20_000; i++) {
+            holder.addAll(List.of(spades[i % 3], hearts[i % 3]));
+            if (holder.size() > 20) {
+                holder.removeAll(List.of(spades[i % 3], hearts[i % 3]));
+            }
+        }
+        running.set(false);
+        reader.join();
+        assertNull(failure.get(), "Reader must only see complete snapshots");
+    }
+}
@@ -260,4 +260,19 @@ class StandardCardHolderComparatorTest {
                 "Should return all (and only) strictly higher cards of the same suit, sorted"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getAllLowerOfSuit/getAllHigherOfSuit give the same result with a compiled comparator")
+    void compiledComparatorGivesSameOrder() {
+        StandardCardHolder compiledHolder = new StandardCardHolder(((PlayingCardComparator) CARD_COMPARATOR).compile());
+        List<PlayingCard> cards = List.of(StandardCard.KING_CLUBS, StandardCard.ACE_CLUBS, StandardCard.FOUR_CLUBS,
+                StandardCard.SEVEN_CLUBS, StandardCard.FOUR_CLUBS, StandardCard.FIVE_SPADES, JokerCard.JOKER_1);
+        cardHolder.addAll(cards);
+        compiledHolder.addAll(cards);
+
+        assertEquals(cardHolder.getAllLowerOfSuit(StandardCard.SEVEN_CLUBS), compiledHolder.getAllLowerOfSuit(StandardCard.SEVEN_CLUBS),
+                "Lower cards must be sorted identically");
+        assertEquals(cardHolder.getAllHigherOfSuit(StandardCard.FOUR_CLUBS), compiledHolder.getAllHigherOfSuit(StandardCard.FOUR_CLUBS),
+                "Higher cards must be sorted identically");
+    }
+}
@@ -0,0 +1,59 @@
+package ivs.game.accessories.cards.core.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardMaskTest {
+
+    @Test
+    @DisplayName("Constant masks should cover the expected IDs")
+    void constantMasks() {
+        assertEquals(52, CardMask.size(CardMask.ALL_CARDS), "ALL_CARDS must hold 52 cards");
+        assertEquals(4, CardMask.size(CardMask.ALL_JOKERS), "ALL_JOKERS must hold 4 jokers");
+        assertEquals(CardId.ID_SPACE_SIZE, CardMask.size(CardMask.ALL), "ALL must cover the ID space");
+        assertTrue(CardMask.contains(CardMask.ALL_JOKERS, JokerId.JOKER_1), "Jokers must be in ALL_JOKERS");
+        assertFalse(CardMask.contains(CardMask.ALL_CARDS, JokerId.JOKER_1), "Jokers must not be in ALL_CARDS");
+    }
+
+    @Test
+    @DisplayName("of() and toIds() should round-trip")
+    void ofAndToIdsRoundTrip() {
+        int[] ids = {0, 13, 51, 52, 55};
+        long mask = CardMask.of(55, 0, 13, 51, 52, 13);
+
+        assertArrayEquals(ids, CardMask.toIds(mask), "IDs must be returned in ascending order without duplicates");
+        assertEquals(0, CardMask.first(mask), "First must be the lowest ID");
+        assertEquals(-1, CardMask.first(CardMask.EMPTY), "Empty mask has no first ID");
+    }
+
+    @ParameterizedTest(name = "suitId={0}")
+    @ValueSource(ints = {0, 1, 2, 3})
+    @DisplayName("Suit masks should contain the 13 cards of the suit")
+    void suitMasks(int suitId) {
+        long suit = CardMask.suit(suitId);
+        assertEquals(13, CardMask.size(suit), "Suit must hold 13 cards");
+        for (int rankId = RankId.MIN_RANK; rankId <= RankId.MAX_RANK; rankId++) {
+            int id = CardId.getCardId(rankId, suitId);
+            assertTrue(CardMask.contains(suit, id), "Suit mask must contain card " + id);
+            assertTrue(CardMask.contains(CardMask.rank(rankId), id), "Rank mask must contain card " + id);
+            assertEquals(1 << rankId, CardMask.suitRanks(CardMask.of(id), suitId), "Suit ranks must be indexed by rank ID");
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid IDs should be rejected")
+    void invalidIdsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CardMask.of(-1), "Negative ID must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> CardMask.of(CardId.ID_SPACE_SIZE), "ID beyond the space must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> CardMask.suit(4), "Invalid suit must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> CardMask.rank(13), "Invalid rank must be rejected");
+    }
+}
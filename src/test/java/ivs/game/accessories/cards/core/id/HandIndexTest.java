@@ -0,0 +1,125 @@
+package ivs.game.accessories.cards.core.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandIndexTest {
+
+    @Test
+    @DisplayName("Deck sizes and combination counts should match the decks")
+    void deckSizes() {
+        assertEquals(52, HandIndex.STANDARD_52.getDeckSize(), "Standard deck must hold 52 cards");
+        assertEquals(36, HandIndex.SHORT_36.getDeckSize(), "Short deck must hold 36 cards");
+        assertEquals(CardMask.ALL_CARDS, HandIndex.STANDARD_52.getDeckMask(), "Standard deck must cover all cards");
+        assertEquals(2_598_960L, HandIndex.STANDARD_52.combinations(5), "C(52, 5) mismatch");
+        assertEquals(133_784_560L, HandIndex.STANDARD_52.combinations(7), "C(52, 7) mismatch");
+        assertEquals(376_992L, HandIndex.SHORT_36.combinations(5), "C(36, 5) mismatch");
+        assertEquals(0, HandIndex.SHORT_36.combinations(37), "Too many cards must give zero combinations");
+        assertSame(HandIndex.SHORT_36, HandIndex.ofRankRange(RankId.SIX, RankId.ACE), "Known decks must be shared");
+        assertFalse(HandIndex.SHORT_36.inDeck(CardId.getCardId(RankId.FIVE, SuitId.SPADES)), "Five must not be in the short deck");
+    }
+
+    @ParameterizedTest(name = "k={0}")
+    @ValueSource(ints = {0, 1, 2, 3})
+    @DisplayName("Indexes of all k-card sets should be a bijection onto 0..C(n,k)-1")
+    void indexIsDenseBijection(int k) {
+        HandIndex handIndex = HandIndex.SHORT_36;
+        int total = (int) handIndex.combinations(k);
+        boolean[] seen = new boolean[total];
+        int[] ids = new int[k];
+        for (long index = 0; index < total; index++) {
+            long mask = handIndex.unrankMask(index, k);
+            assertEquals(k, CardMask.size(mask), "Unranked set must hold k cards");
+            assertEquals(index, handIndex.index(mask), "Mask index must round-trip");
+            handIndex.unrank(index, k, ids);
+            assertArrayEquals(CardMask.toIds(mask), ids, "Unranked IDs must match the mask");
+            assertEquals(index, handIndex.index(ids), "ID index must round-trip");
+            assertFalse(seen[(int) index], "Index must be unique");
+            seen[(int) index] = true;
+        }
+    }
+
+    @Test
+    @DisplayName("Random 7-card hands should round-trip through the index")
+    void randomHandsRoundTrip() {
+        Random random = new Random(38);
+        HandIndex handIndex = HandIndex.STANDARD_52;
+        for (int i = 0; i < 10_000; i++) {
+            long index = Math.floorMod(random.nextLong(), handIndex.combinations(7));
+            long mask = handIndex.unrankMask(index, 7);
+            assertEquals(index, handIndex.index(mask), "Index must round-trip");
+        }
+    }
+
+    @Test
+    @DisplayName("Colex order should rank sets by their highest card first")
+    void colexOrder() {
+        HandIndex handIndex = HandIndex.STANDARD_52;
+        assertEquals(0, handIndex.index(0, 1), "Lowest pair of cards must have index 0");
+        assertEquals(1, handIndex.index(0, 2), "Next set must have index 1");
+        assertEquals(2, handIndex.index(1, 2), "Next set must have index 2");
+        assertEquals(3, handIndex.index(0, 3), "Next set must have index 3");
+        assertEquals(handIndex.combinations(2) - 1, handIndex.index(50, 51), "Highest set must have the last index");
+    }
+
+    @Test
+    @DisplayName("Suit permutations should share the canonical index")
+    void canonicalIndexCollapsesSuits() {
+        HandIndex handIndex = HandIndex.STANDARD_52;
+        long hand = CardMask.of(
+                CardId.getCardId(RankId.ACE, SuitId.HEARTS),
+                CardId.getCardId(RankId.KING, SuitId.HEARTS),
+                CardId.getCardId(RankId.TWO, SuitId.CLUBS));
+        long permuted = CardMask.of(
+                CardId.getCardId(RankId.ACE, SuitId.SPADES),
+                CardId.getCardId(RankId.KING, SuitId.SPADES),
+                CardId.getCardId(RankId.TWO, SuitId.DIAMONDS));
+        long different = CardMask.of(
+                CardId.getCardId(RankId.ACE, SuitId.HEARTS),
+                CardId.getCardId(RankId.KING, SuitId.CLUBS),
+                CardId.getCardId(RankId.TWO, SuitId.CLUBS));
+
+        assertEquals(handIndex.canonicalIndex(hand), handIndex.canonicalIndex(permuted), "Permuted hands must share the index");
+        assertTrue(handIndex.canonicalIndex(hand) != handIndex.canonicalIndex(different), "Different hands must not share the index");
+        assertTrue(handIndex.isCanonical(handIndex.canonicalMask(different)), "Canonical mask must be canonical");
+        assertEquals(3, CardMask.size(handIndex.canonicalMask(hand)), "Canonical mask must keep the card count");
+    }
+
+    @Test
+    @DisplayName("Canonical classes of 2-card hands should number 169")
+    void startingHandClasses() {
+        HandIndex handIndex = HandIndex.STANDARD_52;
+        Set<Long> classes = new HashSet<>();
+        for (long index = 0; index < handIndex.combinations(2); index++) {
+            classes.add(handIndex.canonicalIndex(handIndex.unrankMask(index, 2)));
+        }
+        assertEquals(169, classes.size(), "Two-card hands must collapse into 169 classes");
+    }
+
+    @Test
+    @DisplayName("Invalid input should be rejected")
+    void invalidInputRejected() {
+        HandIndex handIndex = HandIndex.SHORT_36;
+        int five = CardId.getCardId(RankId.FIVE, SuitId.SPADES);
+        assertThrows(IllegalArgumentException.class, () -> handIndex.index(CardMask.of(five)), "Cards outside the deck must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> handIndex.index(20, 10), "Unsorted IDs must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> handIndex.index(10, 10), "Duplicate IDs must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> handIndex.index(JokerId.JOKER_1), "Jokers must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> handIndex.unrankMask(handIndex.combinations(3), 3), "Index beyond range must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> handIndex.unrank(0, 3, new int[2]), "Small destination must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandIndex.ofRankRange(RankId.ACE, RankId.TWO), "Inverted rank range must be rejected");
+    }
+}
@@ -0,0 +1,32 @@
+package ivs.game.accessories.cards.core.type;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlayingCardTest {
+
+    @Test
+    @DisplayName("getById should resolve every ID of the shared card and joker ID space")
+    void getByIdResolvesWholeIdSpace() {
+        for (int id = 0; id < CardId.ID_SPACE_SIZE; id++) {
+            assertEquals(id, PlayingCard.getById(id).getId(), "Card returned for ID " + id + " must have that ID");
+        }
+        assertSame(StandardCard.ACE_HEARTS, PlayingCard.getById(51), "ID 51 must be the Ace of Hearts");
+        assertSame(JokerCard.JOKER_1, PlayingCard.getById(52), "ID 52 must be the first joker");
+    }
+
+    @ParameterizedTest(name = "getById should throw IllegalArgumentException for ID {0}")
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 56, 100, Integer.MAX_VALUE})
+    @DisplayName("getById should throw IllegalArgumentException for invalid IDs")
+    void getByIdThrowsForInvalidIds(int id) {
+        assertThrows(IllegalArgumentException.class, () -> PlayingCard.getById(id),
+                "Should throw IllegalArgumentException for invalid ID: " + id);
+    }
+}
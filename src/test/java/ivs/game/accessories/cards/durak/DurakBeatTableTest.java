@@ -0,0 +1,85 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurakBeatTableTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {SuitId.SPADES, SuitId.CLUBS, SuitId.DIAMONDS, SuitId.HEARTS})
+    @DisplayName("Beating should match the Durak rule for every pair of cards")
+    void matchesNaiveRule(int trump) {
+        DurakBeatTable table = DurakBeatTable.forTrump(trump);
+        for (int attack : CardMask.toIds(DurakBeatTable.DECK)) {
+            for (int defense : CardMask.toIds(DurakBeatTable.DECK)) {
+                assertEquals(naiveBeats(attack, defense, trump), table.canBeat(attack, defense),
+                        "Wrong result for " + attack + " beaten by " + defense + " with trump " + trump);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Tables should be shared per trump suit")
+    void sharedTables() {
+        assertSame(DurakBeatTable.forTrump(SuitId.HEARTS), DurakBeatTable.forTrump(SuitId.HEARTS),
+                "Same trump must return the same table");
+        assertEquals(9, Long.bitCount(DurakBeatTable.forTrump(SuitId.HEARTS).getTrumpMask()),
+                "Trump suit must have nine cards");
+    }
+
+    @Test
+    @DisplayName("Minimal beater should prefer a higher card of the same suit over a trump")
+    void minimalBeaterPrefersSuit() {
+        DurakBeatTable table = DurakBeatTable.forTrump(SuitId.HEARTS);
+        int attack = CardId.getCardId(RankId.SEVEN, SuitId.SPADES);
+        int spadeKing = CardId.getCardId(RankId.KING, SuitId.SPADES);
+        int spadeNine = CardId.getCardId(RankId.NINE, SuitId.SPADES);
+        int heartSix = CardId.getCardId(RankId.SIX, SuitId.HEARTS);
+        assertEquals(spadeNine, table.minimalBeater(attack, CardMask.of(spadeKing, spadeNine, heartSix)),
+                "Lowest higher spade must be chosen");
+        assertEquals(heartSix, table.minimalBeater(attack, CardMask.of(heartSix,
+                CardId.getCardId(RankId.ACE, SuitId.HEARTS))), "Lowest trump must be chosen without a higher spade");
+    }
+
+    @Test
+    @DisplayName("Minimal beater should return NO_CARD when the hand cannot beat")
+    void minimalBeaterNone() {
+        DurakBeatTable table = DurakBeatTable.forTrump(SuitId.HEARTS);
+        int attack = CardId.getCardId(RankId.ACE, SuitId.HEARTS);
+        long hand = CardMask.of(CardId.getCardId(RankId.KING, SuitId.HEARTS), CardId.getCardId(RankId.ACE, SuitId.SPADES));
+        assertEquals(DurakBeatTable.NO_CARD, table.minimalBeater(attack, hand), "Trump ace cannot be beaten");
+        assertFalse(table.canBeat(attack, hand), "Hand must not beat the trump ace");
+        assertTrue(table.isTrump(attack), "Heart must be a trump");
+    }
+
+    @Test
+    @DisplayName("Cards outside the 36-card deck should be rejected")
+    void rejectsShortDeckOutsiders() {
+        DurakBeatTable table = DurakBeatTable.forTrump(SuitId.SPADES);
+        int five = CardId.getCardId(RankId.FIVE, SuitId.CLUBS);
+        assertThrows(IllegalArgumentException.class, () -> table.beaters(five), "Five must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> table.beaters(-1), "Negative ID must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> DurakBeatTable.forTrump(4), "Invalid suit must be rejected");
+    }
+
+    private static boolean naiveBeats(int attack, int defense, int trump) {
+        int attackSuit = CardId.getSuitId(attack);
+        int defenseSuit = CardId.getSuitId(defense);
+        if (attackSuit == defenseSuit) {
+            return CardId.getRankId(defense) > CardId.getRankId(attack);
+        }
+        return defenseSuit == trump;
+    }
+}
@@ -0,0 +1,137 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurakMoveGeneratorTest {
+
+    private static final int SPADE_SEVEN = CardId.getCardId(RankId.SEVEN, SuitId.SPADES);
+    private static final int CLUB_SEVEN = CardId.getCardId(RankId.SEVEN, SuitId.CLUBS);
+    private static final int DIAMOND_SEVEN = CardId.getCardId(RankId.SEVEN, SuitId.DIAMONDS);
+    private static final int SPADE_TEN = CardId.getCardId(RankId.TEN, SuitId.SPADES);
+    private static final int CLUB_KING = CardId.getCardId(RankId.KING, SuitId.CLUBS);
+    private static final int HEART_SIX = CardId.getCardId(RankId.SIX, SuitId.HEARTS);
+
+    private final DurakMoveGenerator generator = new DurakMoveGenerator(SuitId.HEARTS, true);
+
+    @Test
+    @DisplayName("Any card should open a bout")
+    void openingAttack() {
+        long hand = CardMask.of(SPADE_SEVEN, CLUB_KING, HEART_SIX);
+        assertEquals(hand, generator.attackMask(hand, new DurakTable(), 6), "Every card must be playable");
+    }
+
+    @Test
+    @DisplayName("Later attacks should match ranks on the table")
+    void followUpAttack() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        table.defend(0, SPADE_TEN);
+        long hand = CardMask.of(CLUB_SEVEN, CLUB_KING, CardId.getCardId(RankId.TEN, SuitId.DIAMONDS));
+
+        long expected = CardMask.of(CLUB_SEVEN, CardId.getCardId(RankId.TEN, SuitId.DIAMONDS));
+        assertEquals(expected, generator.attackMask(hand, table, 6), "Only sevens and tens must be playable");
+        int[] out = new int[6];
+        assertEquals(2, generator.attacks(hand, table, 6, out), "Two attacks must be written");
+    }
+
+    @Test
+    @DisplayName("Attacks should be limited by the defender's hand size")
+    void attackLimitedByDefender() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        assertEquals(CardMask.EMPTY, generator.attackMask(CardMask.of(CLUB_SEVEN), table, 1),
+                "Open attacks must not exceed the defender's cards");
+    }
+
+    @Test
+    @DisplayName("Defenses should list beating cards in ascending order")
+    void defenses() {
+        long hand = CardMask.of(SPADE_TEN, CLUB_KING, HEART_SIX);
+        int[] out = new int[4];
+        int count = generator.defenses(hand, SPADE_SEVEN, out);
+        assertEquals(2, count, "Ten of spades and six of hearts must beat");
+        int[] expected = CardMask.toIds(CardMask.of(SPADE_TEN, HEART_SIX));
+        assertArrayEquals(expected, Arrays.copyOf(out, count), "Defenses mismatch");
+    }
+
+    @Test
+    @DisplayName("Transfers should require a single uncovered rank")
+    void transfers() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        long hand = CardMask.of(CLUB_SEVEN, DIAMOND_SEVEN, CLUB_KING);
+
+        assertEquals(CardMask.of(CLUB_SEVEN, DIAMOND_SEVEN), generator.transferMask(hand, table, 6),
+                "Sevens must transfer");
+        assertEquals(CardMask.EMPTY, generator.transferMask(hand, table, 1),
+                "Next player must hold enough cards");
+        assertEquals(CardMask.EMPTY, new DurakMoveGenerator(SuitId.HEARTS, false).transferMask(hand, table, 6),
+                "Transfers must be disabled");
+
+        table.defend(0, SPADE_TEN);
+        assertEquals(CardMask.EMPTY, generator.transferMask(hand, table, 6), "Covered bout must not transfer");
+    }
+
+    @Test
+    @DisplayName("Buffers too small should be rejected")
+    void smallBuffer() {
+        long hand = CardMask.of(SPADE_SEVEN, CLUB_KING);
+        assertThrows(IllegalArgumentException.class, () -> generator.attacks(hand, new DurakTable(), 6, new int[1]),
+                "Small buffer must be rejected");
+    }
+
+    @Test
+    @DisplayName("Beating all attacks should assign distinct cards")
+    void canBeatAll() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        table.attack(CLUB_SEVEN);
+        assertTrue(generator.canBeatAll(CardMask.of(SPADE_TEN, HEART_SIX), table),
+                "Ten beats the spade and the trump beats the club");
+        assertFalse(generator.canBeatAll(CardMask.of(HEART_SIX), table), "One trump cannot beat two cards");
+    }
+
+    @Test
+    @DisplayName("Generated attacks should match a naive rank check")
+    void randomAttacksMatchNaive() {
+        SplittableRandom random = new SplittableRandom(43);
+        int[] deck = CardMask.toIds(DurakBeatTable.DECK);
+        for (int round = 0; round < 1_000; round++) {
+            DurakTable table = new DurakTable();
+            long hand = CardMask.EMPTY;
+            int attacks = random.nextInt(DurakTable.MAX_PAIRS);
+            for (int i = 0; i < attacks + 6; i++) {
+                int card = deck[random.nextInt(deck.length)];
+                if ((table.getCardMask() & (1L << card)) != 0 || (hand & (1L << card)) != 0) {
+                    continue;
+                }
+                if (i < attacks) {
+                    table.attack(card);
+                } else {
+                    hand |= 1L << card;
+                }
+            }
+            long expected = CardMask.EMPTY;
+            for (int card : CardMask.toIds(hand)) {
+                if (table.isEmpty() || (table.getRankMask() & (1 << CardId.getRankId(card))) != 0) {
+                    expected |= 1L << card;
+                }
+            }
+            assertEquals(expected, generator.attackMask(hand, table, 6), "Attacks mismatch in round " + round);
+        }
+    }
+}
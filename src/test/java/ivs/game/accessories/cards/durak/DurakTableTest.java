@@ -0,0 +1,72 @@
+package ivs.game.accessories.cards.durak;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurakTableTest {
+
+    private static final int SPADE_SEVEN = CardId.getCardId(RankId.SEVEN, SuitId.SPADES);
+    private static final int CLUB_SEVEN = CardId.getCardId(RankId.SEVEN, SuitId.CLUBS);
+    private static final int SPADE_TEN = CardId.getCardId(RankId.TEN, SuitId.SPADES);
+
+    @Test
+    @DisplayName("Attacks and defenses should update counts and masks")
+    void tracksPairs() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        table.attack(CLUB_SEVEN);
+        table.defend(0, SPADE_TEN);
+
+        assertEquals(2, table.getAttackCount(), "Two attacks must be counted");
+        assertEquals(1, table.getOpenCount(), "One attack must remain open");
+        assertEquals(SPADE_TEN, table.getDefense(0), "Defense must be stored");
+        assertEquals(DurakBeatTable.NO_CARD, table.getDefense(1), "Open attack must have no defense");
+        assertEquals(CardMask.of(SPADE_SEVEN, CLUB_SEVEN, SPADE_TEN), table.getCardMask(), "Card mask mismatch");
+        assertEquals(1 << RankId.SEVEN | 1 << RankId.TEN, table.getRankMask(), "Rank mask mismatch");
+        assertFalse(table.isAllBeaten(), "Table must not be all beaten");
+    }
+
+    @Test
+    @DisplayName("Clear should empty the table")
+    void clear() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        table.clear();
+        assertTrue(table.isEmpty(), "Table must be empty");
+        assertEquals(CardMask.EMPTY, table.getCardMask(), "Card mask must be empty");
+        assertEquals(0, table.getRankMask(), "Rank mask must be empty");
+    }
+
+    @Test
+    @DisplayName("Invalid moves should be rejected")
+    void rejectsInvalidMoves() {
+        DurakTable table = new DurakTable();
+        table.attack(SPADE_SEVEN);
+        assertThrows(IllegalArgumentException.class, () -> table.attack(SPADE_SEVEN), "Duplicate card must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> table.defend(1, SPADE_TEN), "Bad pair must be rejected");
+        table.defend(0, SPADE_TEN);
+        assertThrows(IllegalArgumentException.class, () -> table.defend(0, CLUB_SEVEN), "Covered pair must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> table.transfer(CLUB_SEVEN),
+                "Transfer after a defense must be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getAttack(1), "Index out of range must be rejected");
+    }
+
+    @Test
+    @DisplayName("Table should hold at most six attacks")
+    void maxPairs() {
+        DurakTable table = new DurakTable();
+        for (int i = 0; i < DurakTable.MAX_PAIRS; i++) {
+            table.attack(CardId.getCardId(RankId.SIX + i, SuitId.DIAMONDS));
+        }
+        assertThrows(IllegalArgumentException.class, () -> table.attack(SPADE_SEVEN), "Seventh attack must be rejected");
+    }
+}
@@ -0,0 +1,169 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EquityCalculatorTest {
+
+    private static ForkJoinPool pool;
+    private static EquityCalculator calculator;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        calculator = new EquityCalculator(pool);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("A complete board should give a single showdown")
+    void completeBoard() {
+        long board = CardMask.of(card(RankId.TWO, SuitId.CLUBS), card(RankId.SEVEN, SuitId.DIAMONDS),
+                card(RankId.NINE, SuitId.HEARTS), card(RankId.JACK, SuitId.SPADES), card(RankId.THREE, SuitId.CLUBS));
+        EquityResult result = calculator.exhaustive(List.of(aces(), kings()), board, CardMask.EMPTY);
+
+        assertEquals(1, result.getTrials(), "Complete board must give one showdown");
+        assertEquals(1.0, result.getEquity(0), "Aces must win");
+        assertEquals(0.0, result.getEquity(1), "Kings must lose");
+        assertTrue(result.isExhaustive(), "Result must be exhaustive");
+    }
+
+    @Test
+    @DisplayName("Exhaustive turn equity should match a direct enumeration of the river")
+    void turnMatchesDirectEnumeration() {
+        long board = CardMask.of(card(RankId.KING, SuitId.DIAMONDS), card(RankId.EIGHT, SuitId.SPADES),
+                card(RankId.FOUR, SuitId.SPADES), card(RankId.TWO, SuitId.HEARTS));
+        HandRange flushDraw = HandRange.exact(card(RankId.ACE, SuitId.SPADES), card(RankId.QUEEN, SuitId.SPADES));
+        EquityResult result = calculator.exhaustive(List.of(kings(), flushDraw), board, CardMask.EMPTY);
+
+        long used = board | kings().get(0) | flushDraw.get(0);
+        double equity = 0;
+        int rivers = 0;
+        for (int river = CardId.MIN_CARD; river <= CardId.MAX_CARD; river++) {
+            if ((used & (1L << river)) != 0) {
+                continue;
+            }
+            long full = board | (1L << river);
+            int first = PokerHandEvaluator.evaluate(kings().get(0) | full);
+            int second = PokerHandEvaluator.evaluate(flushDraw.get(0) | full);
+            equity += first > second ? 1 : first == second ? 0.5 : 0;
+            rivers++;
+        }
+        assertEquals(rivers, result.getTrials(), "Every river must be dealt once");
+        assertEquals(equity / rivers, result.getEquity(0), 1e-12, "Equity must match the direct enumeration");
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-12, "Equities must add up to one");
+    }
+
+    @Test
+    @DisplayName("Exhaustive preflop equity of aces against kings should be about 82%")
+    void preflopAcesAgainstKings() {
+        AtomicLong lastCompleted = new AtomicLong();
+        AtomicLong lastTotal = new AtomicLong();
+        EquityResult result = calculator.exhaustive(List.of(aces(), kings()), CardMask.EMPTY, CardMask.EMPTY,
+                (completed, total) -> {
+                    lastCompleted.accumulateAndGet(completed, Math::max);
+                    lastTotal.set(total);
+                });
+
+        assertEquals(1_712_304, result.getTrials(), "Every board of the remaining 48 cards must be dealt");
+        assertTrue(result.getEquity(0) > 0.81 && result.getEquity(0) < 0.83, "Aces equity out of range: " + result);
+        assertTrue(result.getTieRate(0) > 0, "Some boards must split the pot");
+        assertEquals(lastTotal.get(), lastCompleted.get(), "Progress must reach the total");
+    }
+
+    @Test
+    @DisplayName("Ranges should enumerate every non-overlapping hand combination")
+    void rangesEnumerateCombinations() {
+        long board = CardMask.of(card(RankId.TWO, SuitId.CLUBS), card(RankId.SEVEN, SuitId.DIAMONDS),
+                card(RankId.NINE, SuitId.HEARTS), card(RankId.JACK, SuitId.SPADES), card(RankId.THREE, SuitId.CLUBS));
+        HandRange anyAces = HandRange.allOf(CardMask.rank(RankId.ACE));
+        EquityResult result = calculator.exhaustive(List.of(anyAces, anyAces), board, CardMask.EMPTY);
+
+        assertEquals(6, result.getTrials(), "Two players can hold aces in 6 x 1 ordered ways");
+        assertEquals(0.5, result.getEquity(0), 1e-12, "Same hands must split the pot");
+        assertEquals(1.0, result.getTieRate(0), 1e-12, "Every showdown must be a tie");
+    }
+
+    @Test
+    @DisplayName("Sampling should converge to the exhaustive equity")
+    void samplingConverges() {
+        long flop = CardMask.of(card(RankId.KING, SuitId.DIAMONDS), card(RankId.EIGHT, SuitId.SPADES),
+                card(RankId.FOUR, SuitId.SPADES));
+        HandRange flushDraw = HandRange.exact(card(RankId.ACE, SuitId.SPADES), card(RankId.QUEEN, SuitId.SPADES));
+        List<HandRange> ranges = List.of(kings(), flushDraw);
+        EquityResult exact = calculator.exhaustive(ranges, flop, CardMask.EMPTY);
+        EquityResult sampled = calculator.sample(ranges, flop, CardMask.EMPTY,
+                SamplingOptions.builder().maxTrials(200_000).seed(40).build());
+
+        assertEquals(200_000, sampled.getTrials(), "All trials must run without a target margin");
+        assertEquals(exact.getEquity(0), sampled.getEquity(0), 5 * sampled.getStandardError(0),
+                "Estimate must be within five standard errors");
+    }
+
+    @Test
+    @DisplayName("Sampling should stop early at the target margin and be reproducible")
+    void samplingStopsEarly() {
+        SamplingOptions options = SamplingOptions.builder()
+                .maxTrials(10_000_000)
+                .batchSize(10_000)
+                .targetMargin(0.01)
+                .seed(7)
+                .build();
+        List<HandRange> ranges = List.of(aces(), HandRange.allOf(CardMask.ALL_CARDS));
+        EquityResult first = calculator.sample(ranges, CardMask.EMPTY, CardMask.EMPTY, options);
+        EquityResult second = calculator.sample(ranges, CardMask.EMPTY, CardMask.EMPTY, options);
+
+        assertTrue(first.getTrials() < 10_000_000, "Sampling must stop before the maximum");
+        assertTrue(1.96 * first.getStandardError(0) <= 0.01, "Margin must be reached");
+        assertEquals(first.getEquity(0), second.getEquity(0), "Same seed must give the same result");
+        assertEquals(first.getTrials(), second.getTrials(), "Same seed must run the same number of trials");
+    }
+
+    @Test
+    @DisplayName("Invalid queries should be rejected")
+    void invalidQueriesRejected() {
+        long aceOfSpades = CardMask.of(card(RankId.ACE, SuitId.SPADES));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.exhaustive(List.of(aces()), CardMask.EMPTY, CardMask.EMPTY), "One player must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.exhaustive(List.of(aces(), kings()), aceOfSpades, aceOfSpades), "Overlapping board and dead cards must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.exhaustive(List.of(aces(), kings()), CardMask.EMPTY, aceOfSpades), "Fully blocked range must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.sample(List.of(aces(), aces()), CardMask.EMPTY, CardMask.EMPTY, SamplingOptions.defaults()),
+                "Conflicting exact hands must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.exhaustive(List.of(aces(), aces()), CardMask.EMPTY, CardMask.EMPTY),
+                "Conflicting exact hands must be rejected by enumeration");
+    }
+
+    private static HandRange aces() {
+        return HandRange.exact(card(RankId.ACE, SuitId.SPADES), card(RankId.ACE, SuitId.HEARTS));
+    }
+
+    private static HandRange kings() {
+        return HandRange.exact(card(RankId.KING, SuitId.CLUBS), card(RankId.KING, SuitId.HEARTS));
+    }
+
+    private static int card(int rankId, int suitId) {
+        return CardId.getCardId(rankId, suitId);
+    }
+}
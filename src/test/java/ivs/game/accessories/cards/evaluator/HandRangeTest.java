@@ -0,0 +1,55 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.JokerId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandRangeTest {
+
+    @Test
+    @DisplayName("of() should keep distinct hands")
+    void ofKeepsDistinctHands() {
+        HandRange range = HandRange.of(CardMask.of(0, 1), CardMask.of(1, 0), CardMask.of(2, 3));
+        assertEquals(2, range.size(), "Duplicate hands must be kept once");
+        assertEquals(CardMask.of(0, 1), range.get(0), "Hand order must be preserved");
+    }
+
+    @Test
+    @DisplayName("exact() should create a single-hand range")
+    void exactCreatesSingleHand() {
+        HandRange range = HandRange.exact(PlayingCard.getById(12), PlayingCard.getById(25));
+        assertEquals(1, range.size(), "Exact range must hold one hand");
+        assertEquals(CardMask.of(12, 25), range.get(0), "Hand must hold both cards");
+    }
+
+    @Test
+    @DisplayName("allOf() should create every two-card subset")
+    void allOfCreatesEverySubset() {
+        assertEquals(6, HandRange.allOf(CardMask.rank(0)).size(), "Four cards make six hands");
+        assertEquals(1326, HandRange.allOf(CardMask.ALL_CARDS).size(), "The full deck makes 1326 hands");
+    }
+
+    @Test
+    @DisplayName("without() should drop blocked hands")
+    void withoutDropsBlockedHands() {
+        HandRange range = HandRange.allOf(CardMask.rank(0));
+        assertSame(range, range.without(CardMask.of(51)), "Unblocked range must be returned unchanged");
+        assertEquals(3, range.without(CardMask.of(0)).size(), "Hands with the blocked card must be dropped");
+    }
+
+    @Test
+    @DisplayName("Invalid hands should be rejected")
+    void invalidHandsRejected() {
+        assertThrows(IllegalArgumentException.class, HandRange::of, "Empty range must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandRange.of(CardMask.of(0, 1, 2)), "Three cards must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandRange.of(CardMask.of(0, JokerId.JOKER_1)), "Jokers must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandRange.exact(5, 5), "Duplicate cards must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandRange.allOf(CardMask.of(7)), "A single card must be rejected");
+    }
+}
@@ -0,0 +1,219 @@
+package ivs.game.accessories.cards.evaluator;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.JokerId;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PokerHandEvaluatorTest {
+
+    private static final int S = SuitId.SPADES;
+    private static final int C = SuitId.CLUBS;
+    private static final int D = SuitId.DIAMONDS;
+    private static final int H = SuitId.HEARTS;
+
+    @Test
+    @DisplayName("Every 5-card hand should match the naive evaluator")
+    void allFiveCardHandsMatchNaive() {
+        Map<HandCategory, Integer> frequencies = new EnumMap<>(HandCategory.class);
+        int[] hand = new int[5];
+        for (hand[0] = 0; hand[0] < 52; hand[0]++) {
+            for (hand[1] = hand[0] + 1; hand[1] < 52; hand[1]++) {
+                for (hand[2] = hand[1] + 1; hand[2] < 52; hand[2]++) {
+                    for (hand[3] = hand[2] + 1; hand[3] < 52; hand[3]++) {
+                        for (hand[4] = hand[3] + 1; hand[4] < 52; hand[4]++) {
+                            int value = PokerHandEvaluator.evaluate(CardMask.of(hand));
+                            int expected = naiveFive(hand);
+                            if (value != expected) {
+                                assertEquals(expected, value, "Value mismatch for " + Arrays.toString(hand));
+                            }
+                            frequencies.merge(HandCategory.of(value), 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(1_302_540, frequencies.get(HandCategory.HIGH_CARD), "High card count mismatch");
+        assertEquals(1_098_240, frequencies.get(HandCategory.ONE_PAIR), "One pair count mismatch");
+        assertEquals(123_552, frequencies.get(HandCategory.TWO_PAIR), "Two pair count mismatch");
+        assertEquals(54_912, frequencies.get(HandCategory.THREE_OF_A_KIND), "Three of a kind count mismatch");
+        assertEquals(10_200, frequencies.get(HandCategory.STRAIGHT), "Straight count mismatch");
+        assertEquals(5_108, frequencies.get(HandCategory.FLUSH), "Flush count mismatch");
+        assertEquals(3_744, frequencies.get(HandCategory.FULL_HOUSE), "Full house count mismatch");
+        assertEquals(624, frequencies.get(HandCategory.FOUR_OF_A_KIND), "Four of a kind count mismatch");
+        assertEquals(40, frequencies.get(HandCategory.STRAIGHT_FLUSH), "Straight flush count mismatch");
+    }
+
+    @ParameterizedTest(name = "cards={0}")
+    @ValueSource(ints = {6, 7})
+    @DisplayName("Random 6- and 7-card hands should match the best naive 5-card subset")
+    void largerHandsMatchBestSubset(int size) {
+        Random random = new Random(39 + size);
+        int[] deck = CardId.getAllCardIds();
+        for (int i = 0; i < 20_000; i++) {
+            for (int j = 0; j < size; j++) {
+                int k = j + random.nextInt(deck.length - j);
+                int swap = deck[j];
+                deck[j] = deck[k];
+                deck[k] = swap;
+            }
+            int[] hand = Arrays.copyOf(deck, size);
+            assertEquals(naiveBest(hand), PokerHandEvaluator.evaluate(hand), "Value mismatch for " + Arrays.toString(hand));
+        }
+    }
+
+    @Test
+    @DisplayName("Known hands should be ordered by strength")
+    void knownHandsOrdered() {
+        int royalFlush = PokerHandEvaluator.evaluate(card(RankId.ACE, H), card(RankId.KING, H), card(RankId.QUEEN, H),
+                card(RankId.JACK, H), card(RankId.TEN, H), card(RankId.TWO, S), card(RankId.TWO, C));
+        int wheelFlush = PokerHandEvaluator.evaluate(card(RankId.ACE, S), card(RankId.TWO, S), card(RankId.THREE, S),
+                card(RankId.FOUR, S), card(RankId.FIVE, S));
+        int quads = PokerHandEvaluator.evaluate(card(RankId.TWO, S), card(RankId.TWO, C), card(RankId.TWO, D),
+                card(RankId.TWO, H), card(RankId.THREE, S));
+        int fullHouseFromTwoTrips = PokerHandEvaluator.evaluate(card(RankId.KING, S), card(RankId.KING, C),
+                card(RankId.KING, D), card(RankId.NINE, S), card(RankId.NINE, C), card(RankId.NINE, D), card(RankId.TWO, H));
+        int wheel = PokerHandEvaluator.evaluate(card(RankId.ACE, S), card(RankId.TWO, C), card(RankId.THREE, D),
+                card(RankId.FOUR, H), card(RankId.FIVE, S));
+        int sixHighStraight = PokerHandEvaluator.evaluate(card(RankId.SIX, S), card(RankId.TWO, C), card(RankId.THREE, D),
+                card(RankId.FOUR, H), card(RankId.FIVE, S));
+
+        assertEquals(HandCategory.STRAIGHT_FLUSH, PokerHandEvaluator.category(royalFlush), "Royal flush category mismatch");
+        assertEquals(HandCategory.STRAIGHT_FLUSH, PokerHandEvaluator.category(wheelFlush), "Steel wheel category mismatch");
+        assertTrue(royalFlush > wheelFlush, "Royal flush must beat the steel wheel");
+        assertTrue(wheelFlush > quads, "Straight flush must beat four of a kind");
+        assertEquals(HandCategory.FULL_HOUSE, PokerHandEvaluator.category(fullHouseFromTwoTrips), "Two trips must make a full house");
+        assertEquals(HandCategory.FULL_HOUSE.ordinal() << PokerHandEvaluator.CATEGORY_SHIFT | RankId.KING << 16 | RankId.NINE << 12,
+                fullHouseFromTwoTrips, "Full house must be kings full of nines");
+        assertTrue(sixHighStraight > wheel, "Six-high straight must beat the wheel");
+    }
+
+    @Test
+    @DisplayName("Mask, ID and card inputs should give the same value")
+    void inputFormsAgree() {
+        int[] ids = {card(RankId.ACE, S), card(RankId.ACE, D), card(RankId.SEVEN, C), card(RankId.SEVEN, H), card(RankId.FOUR, D), card(RankId.TEN, S)};
+        List<PlayingCard> cards = new ArrayList<>();
+        for (int id : ids) {
+            cards.add(PlayingCard.getById(id));
+        }
+        int value = PokerHandEvaluator.evaluate(ids);
+        assertEquals(value, PokerHandEvaluator.evaluate(CardMask.of(ids)), "Mask input must match ID input");
+        assertEquals(value, PokerHandEvaluator.evaluate(cards), "Card input must match ID input");
+        assertEquals(HandCategory.TWO_PAIR, HandCategory.of(value), "Hand must be two pair");
+    }
+
+    @Test
+    @DisplayName("Invalid hands should be rejected")
+    void invalidHandsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3), "Four cards must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, 4, 5, 6, 7), "Eight cards must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, 3), "Duplicates must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(0, 1, 2, 3, JokerId.JOKER_1), "Jokers must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PokerHandEvaluator.evaluate(CardMask.of(0, 1, 2, 3, JokerId.JOKER_1)), "Joker mask must be rejected");
+        assertThrows(NullPointerException.class, () -> PokerHandEvaluator.evaluate((int[]) null), "Null IDs must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> HandCategory.of(-1), "Negative value must be rejected");
+    }
+
+    private static int card(int rankId, int suitId) {
+        return CardId.getCardId(rankId, suitId);
+    }
+
+    // Best value among all 5-card subsets
+    private static int naiveBest(int[] hand) {
+        int best = -1;
+        int[] five = new int[5];
+        for (int a = 0; a < hand.length; a++) {
+            for (int b = a + 1; b < hand.length; b++) {
+                for (int c = b + 1; c < hand.length; c++) {
+                    for (int d = c + 1; d < hand.length; d++) {
+                        for (int e = d + 1; e < hand.length; e++) {
+                            five[0] = hand[a];
+                            five[1] = hand[b];
+                            five[2] = hand[c];
+                            five[3] = hand[d];
+                            five[4] = hand[e];
+                            best = Math.max(best, naiveFive(five));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // Textbook evaluation of exactly five cards: group ranks by count, then check flush and straight
+    private static int naiveFive(int[] hand) {
+        int[] counts = new int[RankId.RANK_COUNT];
+        boolean flush = true;
+        for (int id : hand) {
+            counts[CardId.getRankId(id)]++;
+            flush &= CardId.getSuitId(id) == CardId.getSuitId(hand[0]);
+        }
+        List<int[]> groups = new ArrayList<>();
+        for (int rankId = RankId.MAX_RANK; rankId >= RankId.MIN_RANK; rankId--) {
+            if (counts[rankId] > 0) {
+                groups.add(new int[]{counts[rankId], rankId});
+            }
+        }
+        groups.sort((x, y) -> x[0] != y[0] ? Integer.compare(y[0], x[0]) : Integer.compare(y[1], x[1]));
+
+        int straightTop = -1;
+        if (groups.size() == 5) {
+            if (groups.get(0)[1] - groups.get(4)[1] == 4) {
+                straightTop = groups.get(0)[1];
+            } else if (groups.get(0)[1] == RankId.ACE && groups.get(1)[1] == RankId.FIVE) {
+                straightTop = RankId.FIVE;
+            }
+        }
+
+        HandCategory category;
+        int[] tieBreak;
+        if (straightTop >= 0) {
+            category = flush ? HandCategory.STRAIGHT_FLUSH : HandCategory.STRAIGHT;
+            tieBreak = new int[]{straightTop};
+        } else {
+            tieBreak = groups.stream().mapToInt(group -> group[1]).toArray();
+            int top = groups.get(0)[0];
+            int second = groups.size() > 1 ? groups.get(1)[0] : 0;
+            if (flush) {
+                category = HandCategory.FLUSH;
+            } else if (top == 4) {
+                category = HandCategory.FOUR_OF_A_KIND;
+            } else if (top == 3 && second == 2) {
+                category = HandCategory.FULL_HOUSE;
+            } else if (top == 3) {
+                category = HandCategory.THREE_OF_A_KIND;
+            } else if (top == 2 && second == 2) {
+                category = HandCategory.TWO_PAIR;
+            } else if (top == 2) {
+                category = HandCategory.ONE_PAIR;
+            } else {
+                category = HandCategory.HIGH_CARD;
+            }
+        }
+
+        int value = category.ordinal() << PokerHandEvaluator.CATEGORY_SHIFT;
+        for (int i = 0; i < tieBreak.length; i++) {
+            value |= tieBreak[i] << (16 - 4 * i);
+        }
+        return value;
+    }
+}
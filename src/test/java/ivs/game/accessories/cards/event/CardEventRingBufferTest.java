@@ -0,0 +1,87 @@
+package ivs.game.accessories.cards.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CardEventRingBufferTest {
+
+    private record Event(long sequence, int source, int op, int cardId) {
+    }
+
+    @Test
+    @DisplayName("Drained events should match the emitted events in order")
+    void drainReturnsEmittedEvents() {
+        CardEventRingBuffer buffer = new CardEventRingBuffer(8);
+        buffer.accept(7, CardEventOp.ADD, 51);
+        buffer.accept(-3, CardEventOp.CLEAR, CardEventOp.NO_CARD);
+        buffer.accept(Integer.MAX_VALUE, CardEventOp.DRAW, 55);
+
+        List<Event> events = new ArrayList<>();
+        assertEquals(3, buffer.size(), "Three events must be pending");
+        assertEquals(3, buffer.drain((seq, source, op, card) -> events.add(new Event(seq, source, op, card)), 10),
+                "All events must be drained");
+        assertEquals(List.of(
+                new Event(0, 7, CardEventOp.ADD, 51),
+                new Event(1, -3, CardEventOp.CLEAR, CardEventOp.NO_CARD),
+                new Event(2, Integer.MAX_VALUE, CardEventOp.DRAW, 55)), events, "Events must survive packing");
+        assertEquals(0, buffer.size(), "Buffer must be empty after draining");
+    }
+
+    @Test
+    @DisplayName("A full buffer should drop new events and leave a sequence gap")
+    void fullBufferDropsEvents() {
+        CardEventRingBuffer buffer = new CardEventRingBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.accept(0, CardEventOp.ADD, i);
+        }
+        assertEquals(2, buffer.getDroppedCount(), "Two events must be dropped");
+        assertEquals(2, buffer.drain((seq, source, op, card) -> { }, 2), "Batch must be limited to maxEvents");
+
+        buffer.accept(0, CardEventOp.REMOVE, 9);
+        List<Long> sequences = new ArrayList<>();
+        buffer.drain((seq, source, op, card) -> sequences.add(seq), 10);
+        assertEquals(List.of(2L, 3L, 6L), sequences, "Dropped events must leave a gap in the sequence");
+    }
+
+    @Test
+    @DisplayName("Events should be delivered across threads without loss when the consumer keeps up")
+    void producerConsumerAcrossThreads() throws InterruptedException {
+        CardEventRingBuffer buffer = new CardEventRingBuffer(1024);
+        int total = 200_000;
+        long[] expected = {0};
+        boolean[] ordered = {true};
+
+        Thread consumer = new Thread(() -> {
+            while (expected[0] + buffer.getDroppedCount() < total) {
+                buffer.drain((seq, source, op, card) -> {
+                    if (card != (int) (seq % 52)) {
+                        ordered[0] = false;
+                    }
+                    expected[0]++;
+                }, 256);
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < total; i++) {
+            buffer.accept(1, CardEventOp.DRAW, i % 52);
+        }
+        consumer.join();
+        assertEquals(total, expected[0] + buffer.getDroppedCount(), "Every event must be delivered or counted as dropped");
+        assertEquals(true, ordered[0], "Payloads must match their sequence numbers");
+    }
+
+    @ParameterizedTest(name = "capacity={0}")
+    @ValueSource(ints = {0, -1, 3, 100})
+    @DisplayName("Capacity must be a positive power of two")
+    void invalidCapacityRejected(int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new CardEventRingBuffer(capacity), "Invalid capacity must be rejected");
+    }
+}
@@ -1,5 +1,6 @@
 package ivs.game.accessories.cards.gamedeck;
 
+import ivs.game.accessories.cards.core.id.CardMask;
 import ivs.game.accessories.cards.core.type.JokerCard;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.core.type.Rank;
@@ -8,14 +9,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -404,4 +410,80 @@ class DeckTemplateTest {
         assertThrows(NullPointerException.class, () -> DeckTemplate.DOUBLE_EXTENDED.containsCard(null),
                 "containsCard(null) should throw NullPointerException");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("getMask() should hold exactly the cards of get()")
+    @EnumSource(DeckTemplate.class)
+    void getMaskShouldMatchCards(DeckTemplate deckTemplate) {
+        long expected = CardMask.EMPTY;
+        for (PlayingCard card : deckTemplate.get()) {
+            expected |= 1L << card.getId();
+        }
+        assertEquals(expected, deckTemplate.getMask(), () -> deckTemplate + ": mask should hold the deck cards");
+        assertEquals(deckTemplate.getSize(), Long.bitCount(deckTemplate.getMask()),
+                () -> deckTemplate + ": mask should have one bit per card");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @DisplayName("getCards(), get(), toIdArray() and forEachId() should list the cards in ascending ID order")
+    @EnumSource(DeckTemplate.class)
+    void cardsShouldBeInAscendingIdOrder(DeckTemplate deckTemplate) {
+        int[] ids = deckTemplate.toIdArray();
+        assertEquals(deckTemplate.getSize(), ids.length, () -> deckTemplate + ": one ID per card");
+        for (int i = 1; i < ids.length; i++) {
+            assertTrue(ids[i - 1] < ids[i], () -> deckTemplate + ": IDs should be ascending");
+        }
+        assertEquals(deckTemplate.getCards(), new ArrayList<>(deckTemplate.get()),
+                () -> deckTemplate + ": get() should iterate in the order of getCards()");
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], deckTemplate.getCards().get(i).getId(),
+                    () -> deckTemplate + ": getCards() should follow the ID order");
+        }
+
+        List<Integer> visited = new ArrayList<>();
+        deckTemplate.forEachId(visited::add);
+        assertArrayEquals(ids, visited.stream().mapToInt(Integer::intValue).toArray(),
+                () -> deckTemplate + ": forEachId() should visit the IDs in ascending order");
+    }
+
+    @Test
+    @DisplayName("getCards() should be unmodifiable and get() should return an independent copy")
+    void cardsShouldNotBeModifiable() {
+        List<PlayingCard> cards = DeckTemplate.FULL.getCards();
+        assertThrows(UnsupportedOperationException.class, () -> cards.remove(0),
+                "getCards() should be unmodifiable");
+
+        Set<PlayingCard> copy = DeckTemplate.FULL.get();
+        copy.clear();
+        assertEquals(DeckTemplate.FULL.getSize(), DeckTemplate.FULL.get().size(),
+                "Clearing the result of get() should not change the template");
+    }
+
+    @Test
+    @DisplayName("toIdArray() should return a new array on each call")
+    void toIdArrayShouldReturnCopy() {
+        int[] ids = DeckTemplate.SHORT.toIdArray();
+        ids[0] = -1;
+        assertEquals(StandardCard.SIX_SPADES.getId(), DeckTemplate.SHORT.toIdArray()[0],
+                "Changing the returned array should not change the template");
+    }
+
+    @Test
+    @DisplayName("containsId() should match containsCard() and reject IDs outside the ID space")
+    void containsIdShouldMatchContainsCard() {
+        for (PlayingCard card : DeckTemplate.DOUBLE_EXTENDED.get()) {
+            assertEquals(DeckTemplate.EXTENDED.containsCard(card), DeckTemplate.EXTENDED.containsId(card.getId()),
+                    () -> "containsId() should agree with containsCard() for " + card);
+        }
+        assertFalse(DeckTemplate.DOUBLE_EXTENDED.containsId(-1), "Negative IDs are not in any deck");
+        assertFalse(DeckTemplate.DOUBLE_EXTENDED.containsId(64), "IDs past the ID space are not in any deck");
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("forEachId(null) should throw NullPointerException")
+    void forEachIdWithNullThrows() {
+        assertThrows(NullPointerException.class, () -> DeckTemplate.FULL.forEachId(null),
+                "forEachId(null) should throw NullPointerException");
+    }
+}
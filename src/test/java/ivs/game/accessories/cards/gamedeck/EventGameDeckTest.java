@@ -0,0 +1,57 @@
+package ivs.game.accessories.cards.gamedeck;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.event.CardEventOp;
+import ivs.game.accessories.cards.event.CardEventRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventGameDeckTest {
+
+    @Test
+    @DisplayName("Draws and peeks should be recorded in the ring buffer")
+    void drawsAndPeeksAreRecorded() {
+        CardEventRingBuffer buffer = new CardEventRingBuffer(16);
+        EventGameDeck<StandardCard> deck = new EventGameDeck<>(new StandardGameDeck<>(
+                List.of(StandardCard.ACE_SPADES, StandardCard.KING_SPADES, StandardCard.QUEEN_SPADES)), 2, buffer);
+
+        deck.peekTop();
+        deck.peekBottom();
+        deck.draw();
+        deck.draw(2);
+        assertThrows(GameDeckException.class, deck::draw, "Empty deck must still throw");
+
+        List<String> events = new ArrayList<>();
+        buffer.drain((seq, source, op, cardId) -> events.add(seq + ":" + source + ":" + CardEventOp.name(op) + ":" + cardId), 16);
+        assertEquals(List.of(
+                "0:2:PEEK:" + StandardCard.ACE_SPADES.getId(),
+                "1:2:PEEK_BOTTOM:" + StandardCard.QUEEN_SPADES.getId(),
+                "2:2:DRAW:" + StandardCard.ACE_SPADES.getId(),
+                "3:2:DRAW:" + StandardCard.KING_SPADES.getId(),
+                "4:2:DRAW:" + StandardCard.QUEEN_SPADES.getId()), events, "Failed draw must not be recorded");
+    }
+
+    @Test
+    @DisplayName("Non-throwing draws should emit an event per drawn card")
+    void nonThrowingDrawsEmitEvents() {
+        CardEventRingBuffer buffer = new CardEventRingBuffer(16);
+        EventGameDeck<StandardCard> deck = new EventGameDeck<>(new StandardGameDeck<>(
+                List.of(StandardCard.ACE_SPADES, StandardCard.KING_SPADES, StandardCard.QUEEN_SPADES)), 1, buffer);
+
+        deck.tryDrawId();
+        deck.drawUpTo(5, new ArrayList<>());
+        assertEquals(CardId.NO_CARD, deck.tryDrawId(), "Empty deck must return NO_CARD");
+
+        List<Integer> drawn = new ArrayList<>();
+        buffer.drain((seq, source, op, cardId) -> drawn.add(cardId), 16);
+        assertEquals(List.of(StandardCard.ACE_SPADES.getId(), StandardCard.KING_SPADES.getId(),
+                StandardCard.QUEEN_SPADES.getId()), drawn, "Every drawn card must be reported once");
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -117,4 +118,33 @@ class GameDeckExceptionTest {
             assertDoesNotThrow(() -> GameDeckException.validateDeckSize(deck, 0));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Stackless mode")
+    class StacklessModeTests {
+
+        @Test
+        @DisplayName("throws shared exceptions without stack traces while enabled")
+        void throwsPreallocatedExceptions() {
+            StandardGameDeck<StandardCard> deck = new StandardGameDeck<>(List.of(StandardCard.ACE_SPADES));
+            StandardGameDeck<StandardCard> empty = new StandardGameDeck<>(Collections.emptyList());
+            boolean previous = GameDeckException.isStackless();
+            GameDeckException.setStackless(true);
+            try {
+                GameDeckException first = assertThrows(GameDeckException.class, empty::draw);
+                GameDeckException second = assertThrows(GameDeckException.class, () -> empty.draw(1));
+                GameDeckException notEnough = assertThrows(GameDeckException.class, () -> deck.draw(2));
+
+                assertSame(first, second, "Empty-deck failures must share one instance");
+                assertEquals(0, first.getStackTrace().length, "Stackless exceptions must not have a stack trace");
+                assertEquals("Not enough cards in deck", notEnough.getMessage(), "Message must not include counts");
+                first.addSuppressed(new IllegalStateException());
+                assertEquals(0, first.getSuppressed().length, "Shared exceptions must not keep suppressed exceptions");
+            } finally {
+                GameDeckException.setStackless(previous);
+            }
+            GameDeckException ex = assertThrows(GameDeckException.class, empty::draw);
+            assertTrue(ex.getStackTrace().length > 0, "Disabled mode must fill in stack traces");
+        }
+    }
+}
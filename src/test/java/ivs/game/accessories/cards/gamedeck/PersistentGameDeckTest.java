@@ -0,0 +1,143 @@
+package ivs.game.accessories.cards.gamedeck;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentGameDeckTest {
+
+    private static final List<StandardCard> CARDS = Arrays.asList(StandardCard.values());
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("Constructor should reject null collections and null elements")
+    void constructorValidatesCards() {
+        assertThrows(NullPointerException.class, () -> new PersistentGameDeck<>((List<PlayingCard>) null),
+                "Null collection must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PersistentGameDeck<>(Arrays.asList(StandardCard.ACE_SPADES, null)),
+                "Null elements must be rejected");
+    }
+
+    @Test
+    @DisplayName("Deck should deal cards in collection order")
+    void drawFollowsCollectionOrder() {
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(CARDS);
+
+        assertEquals(CARDS.get(0), deck.peekTop(), "First element must be the top card");
+        assertEquals(CARDS.get(CARDS.size() - 1), deck.peekBottom(), "Last element must be the bottom card");
+        assertEquals(CARDS.get(0), deck.draw(), "draw() must return the top card");
+        assertEquals(CARDS.subList(1, 4), deck.draw(3), "draw(count) must return the next cards in order");
+        assertEquals(CARDS.size() - 4, deck.size(), "Size must decrease by the drawn cards");
+        assertEquals(CARDS.subList(4, CARDS.size()), deck.exportCards(), "Export must list the remaining cards");
+    }
+
+    @Test
+    @DisplayName("Empty deck should throw GameDeckException")
+    void emptyDeckThrows() {
+        PersistentGameDeck<PlayingCard> deck = new PersistentGameDeck<>(Collections.emptyList());
+
+        assertTrue(deck.isEmpty(), "Deck must be empty");
+        assertThrows(GameDeckException.class, deck::draw, "draw() on empty deck must throw");
+        assertThrows(GameDeckException.class, deck::peekTop, "peekTop() on empty deck must throw");
+        assertThrows(GameDeckException.class, () -> deck.draw(1), "draw(1) on empty deck must throw");
+        assertThrows(IllegalArgumentException.class, () -> deck.draw(-1), "Negative count must be rejected");
+    }
+
+    @Test
+    @DisplayName("Forks should be independent of each other")
+    void forksAreIndependent() {
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(CARDS);
+        deck.draw(2);
+        PersistentGameDeck<StandardCard> fork = deck.fork();
+
+        assertEquals(deck.exportCards(), fork.exportCards(), "Fork must hold the same cards");
+        fork.draw(5);
+        assertEquals(50, deck.size(), "Drawing from the fork must not affect the original");
+
+        fork.shuffle(new SplittableRandom(1));
+        assertEquals(CARDS.subList(2, CARDS.size()), deck.exportCards(), "Shuffling the fork must not reorder the original");
+
+        deck.shuffle(new SplittableRandom(2));
+        assertEquals(45, fork.size(), "Shuffling the original must not affect the fork");
+        assertNotEquals(CARDS.subList(2, CARDS.size()), deck.exportCards(), "Original must be shuffled");
+    }
+
+    @Test
+    @DisplayName("restore() should rewind a deck to an earlier fork")
+    void restoreRewindsDeck() {
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(CARDS);
+        PersistentGameDeck<StandardCard> snapshot = deck.fork();
+
+        List<StandardCard> firstDeal = deck.draw(10);
+        deck.restore(snapshot);
+        assertEquals(52, deck.size(), "Restored deck must be full");
+        assertEquals(firstDeal, deck.draw(10), "Restored deck must deal the same cards again");
+
+        deck.restore(snapshot);
+        deck.shuffle(new SplittableRandom(3));
+        assertEquals(CARDS, snapshot.exportCards(), "Shuffling a restored deck must not affect the snapshot");
+    }
+
+    @Test
+    @DisplayName("restore() from a deck owning its array should copy it and leave that deck usable")
+    void restoreFromOwningDeckCopiesCards() {
+        PersistentGameDeck<StandardCard> source = new PersistentGameDeck<>(CARDS);
+        source.draw(2);
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(List.of(StandardCard.ACE_SPADES));
+        deck.restore(source);
+
+        source.shuffle(new SplittableRandom(5));
+        source.cut(7);
+        assertEquals(CARDS.subList(2, CARDS.size()), deck.exportCards(), "Reordering the source must not affect the deck");
+        deck.cut(3);
+        assertEquals(50, source.size(), "Reordering the deck must not affect the source");
+    }
+
+    @Test
+    @DisplayName("cut() should move the top cards to the bottom without affecting forks")
+    void cutMovesTopToBottom() {
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(CARDS);
+        PersistentGameDeck<StandardCard> fork = deck.fork();
+        deck.cut(10);
+
+        assertEquals(CARDS.get(10), deck.peekTop(), "Eleventh card must become the top");
+        assertEquals(CARDS.get(9), deck.peekBottom(), "Tenth card must become the bottom");
+        assertEquals(CARDS, fork.exportCards(), "Cut must not affect the fork");
+        assertThrows(IllegalArgumentException.class, () -> deck.cut(53), "Cut beyond the deck must be rejected");
+        deck.draw(2);
+        deck.cut(40);
+        assertEquals(CARDS.get(0), deck.peekTop(), "Second cut must rotate the remaining cards in place");
+        assertEquals(CARDS.get(51), deck.peekBottom(), "Second cut must move the cut cards to the bottom");
+        assertFalse(deck.isEmpty(), "Cut must not remove cards");
+    }
+
+    @Test
+    @DisplayName("Non-throwing draws should stop at the end of the deck without affecting forks")
+    void nonThrowingDraws() {
+        PersistentGameDeck<StandardCard> deck = new PersistentGameDeck<>(CARDS);
+        PersistentGameDeck<StandardCard> fork = deck.fork();
+        List<PlayingCard> dest = new ArrayList<>();
+
+        assertEquals(CARDS.get(0).getId(), deck.tryDrawId(), "tryDrawId() must return the top card ID");
+        assertEquals(CARDS.size() - 1, deck.drawUpTo(100, dest), "drawUpTo() must draw the remaining cards");
+        assertEquals(CARDS.subList(1, CARDS.size()), dest, "Cards must be added top first");
+        assertEquals(CardId.NO_CARD, deck.tryDrawId(), "tryDrawId() on an empty deck must return NO_CARD");
+        assertEquals(0, deck.drawUpTo(1, dest), "drawUpTo() on an empty deck must draw nothing");
+        assertEquals(CARDS.size(), fork.size(), "Fork must keep its cards");
+    }
+}
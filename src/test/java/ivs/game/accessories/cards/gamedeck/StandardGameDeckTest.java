@@ -1,5 +1,6 @@
 package ivs.game.accessories.cards.gamedeck;
 
+import ivs.game.accessories.cards.core.id.CardId;
 import ivs.game.accessories.cards.core.type.PlayingCard;
 import ivs.game.accessories.cards.core.type.StandardCard;
 import org.junit.jupiter.api.DisplayName;
@@ -266,4 +267,29 @@ class StandardGameDeckTest {
                 "peekBottom on empty deck should throw GameDeckException"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("tryDrawId() should draw the top card, then return NO_CARD without throwing")
+    void tryDrawIdReturnsSentinelWhenEmpty() {
+        StandardGameDeck<StandardCard> deck = new StandardGameDeck<>(List.of(StandardCard.ACE_SPADES));
+
+        assertEquals(StandardCard.ACE_SPADES.getId(), deck.tryDrawId(), "tryDrawId() must return the top card ID");
+        assertEquals(CardId.NO_CARD, deck.tryDrawId(), "tryDrawId() must return NO_CARD for an empty deck");
+        assertTrue(deck.isEmpty(), "Deck must stay empty");
+    }
+
+    @Test
+    @DisplayName("drawUpTo() should draw at most the available cards in order")
+    void drawUpToStopsAtEmptyDeck() {
+        StandardGameDeck<StandardCard> deck = new StandardGameDeck<>(
+                List.of(StandardCard.ACE_SPADES, StandardCard.KING_HEARTS, StandardCard.TWO_CLUBS));
+        List<PlayingCard> dest = new ArrayList<>();
+
+        assertEquals(2, deck.drawUpTo(2, dest), "drawUpTo() must draw the requested cards");
+        assertEquals(1, deck.drawUpTo(5, dest), "drawUpTo() must draw only the remaining card");
+        assertEquals(0, deck.drawUpTo(5, dest), "drawUpTo() on an empty deck must draw nothing");
+        assertEquals(List.of(StandardCard.ACE_SPADES, StandardCard.KING_HEARTS, StandardCard.TWO_CLUBS), dest,
+                "Cards must be added top first");
+        assertThrows(IllegalArgumentException.class, () -> deck.drawUpTo(-1, dest), "Negative count must be rejected");
+    }
+}
@@ -0,0 +1,157 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContinuousShufflingShoeTest {
+
+    @Test
+    @DisplayName("A new machine should hold every card of every deck")
+    void newMachineHoldsAllCards() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 6).build();
+
+        assertEquals(312, csm.size(), "Six full decks contain 312 cards");
+        assertEquals(312, csm.exportCards().size(), "Export must list every card in the machine");
+        assertEquals(0, csm.getOutstandingCount(), "No cards are dealt yet");
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            assertEquals(6, csm.getRemainingCount(id), "Every card must be loaded six times");
+        }
+    }
+
+    @ParameterizedTest(name = "policy={0}")
+    @EnumSource(ReinsertionPolicy.class)
+    @DisplayName("Drawing and discarding should keep the card population constant")
+    void discardsReturnToMachine(ReinsertionPolicy policy) {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 2)
+                .shelfCount(10)
+                .reinsertionPolicy(policy)
+                .random(new SplittableRandom(11))
+                .build();
+
+        for (int round = 0; round < 1_000; round++) {
+            List<PlayingCard> dealt = csm.draw(12);
+            assertEquals(92, csm.size(), "Machine must hold the undealt cards");
+            assertEquals(12, csm.getOutstandingCount(), "Dealt cards must be outstanding");
+            csm.discardAll(dealt);
+        }
+        assertEquals(104, csm.size(), "All cards must be back in the machine");
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            assertEquals(2, csm.getRemainingCount(id), "Card population must not change");
+        }
+    }
+
+    @Test
+    @DisplayName("The machine can be dealt out completely and refilled")
+    void machineCanBeEmptiedAndRefilled() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.TINY, 1).shelfCount(4).build();
+        List<PlayingCard> all = csm.draw(24);
+
+        assertTrue(csm.isEmpty(), "Machine must be empty");
+        assertThrows(GameDeckException.class, csm::draw, "draw() on empty machine must throw");
+        assertThrows(GameDeckException.class, csm::peekId, "peekId() on empty machine must throw");
+
+        csm.discardAll(all);
+        assertEquals(24, csm.size(), "All cards must be back");
+    }
+
+    @Test
+    @DisplayName("peek() should return the card delivered by the next draw()")
+    void peekReturnsNextCard() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.SHORT, 1).build();
+        for (int i = 0; i < 36; i++) {
+            PlayingCard next = csm.peek();
+            assertEquals(next, csm.draw(), "draw() must deliver the peeked card");
+        }
+    }
+
+    @Test
+    @DisplayName("Only cards dealt from the machine can be discarded")
+    void discardRejectsForeignCards() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.SHORT, 1).build();
+
+        assertThrows(IllegalArgumentException.class, () -> csm.discard(StandardCard.ACE_SPADES),
+                "Card still in the machine cannot be discarded");
+        assertThrows(IllegalArgumentException.class, () -> csm.discard(StandardCard.TWO_SPADES),
+                "Card outside the template cannot be discarded");
+        PlayingCard card = csm.draw();
+        csm.discard(card);
+        assertThrows(IllegalArgumentException.class, () -> csm.discard(card), "Card cannot be discarded twice");
+    }
+
+    @Test
+    @DisplayName("Cut card is never out in a continuous shuffling machine")
+    void cutCardIsNeverOut() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.TINY, 1).build();
+        csm.draw(24);
+        assertFalse(csm.isCutCardOut(), "CSM has no cut card");
+    }
+
+    @Test
+    @DisplayName("Builder should reject shelves that cannot hold the shoe")
+    void builderRejectsInsufficientShelves() {
+        ContinuousShufflingShoe.Builder builder = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 1)
+                .shelfCount(5)
+                .shelfCapacity(10);
+        assertThrows(IllegalArgumentException.class, builder::build, "50 slots cannot hold 52 cards");
+        assertThrows(IllegalArgumentException.class, () -> builder.shelfCount(0), "Zero shelves must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> builder.shelfCapacity(0), "Zero capacity must be rejected");
+    }
+
+    @Test
+    @DisplayName("Machines with equally seeded generators should deliver identical sequences")
+    void seededMachinesAreReproducible() {
+        ContinuousShufflingShoe first = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 4).random(new SplittableRandom(3)).build();
+        ContinuousShufflingShoe second = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 4).random(new SplittableRandom(3)).build();
+
+        for (int round = 0; round < 100; round++) {
+            List<PlayingCard> a = first.draw(8);
+            assertEquals(a, second.draw(8), "Delivery sequences must match");
+            first.discardAll(a);
+            second.discardAll(a);
+        }
+    }
+
+    @Test
+    @DisplayName("Returning cards should revert their running count contribution")
+    void discardRevertsRunningCount() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 1)
+                .countTags(CountTags.HI_LO)
+                .build();
+        List<PlayingCard> dealt = csm.draw(26);
+
+        assertEquals(0.5, csm.getComposition().getPenetration(), 1e-12, "Half of the cards are dealt");
+        csm.discardAll(dealt);
+        assertEquals(0, csm.getComposition().getRunningCount(0), "All tags must be reverted");
+        assertEquals(0.0, csm.getComposition().getPenetration(), 1e-12, "All cards are back");
+    }
+
+    @Test
+    @DisplayName("Non-throwing draws should stop when the machine is empty")
+    void nonThrowingDraws() {
+        ContinuousShufflingShoe csm = ContinuousShufflingShoe.builder(DeckTemplate.FULL, 1)
+                .random(new SplittableRandom(49))
+                .build();
+        int[] ids = new int[CardId.CARD_COUNT];
+
+        assertEquals(CardId.CARD_COUNT, csm.drawUpTo(100, ids), "drawUpTo() must draw every card");
+        assertEquals(CardId.NO_CARD, csm.tryDrawId(), "tryDrawId() on an empty machine must return NO_CARD");
+        csm.discardId(ids[7]);
+        assertEquals(ids[7], csm.tryDrawId(), "tryDrawId() must deliver the returned card");
+        assertEquals(0, csm.drawUpTo(1, ids), "drawUpTo() on an empty machine must draw nothing");
+    }
+}
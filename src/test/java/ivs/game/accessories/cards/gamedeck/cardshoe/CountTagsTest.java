@@ -0,0 +1,67 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.JokerId;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CountTagsTest {
+
+    @ParameterizedTest(name = "{0} should sum to {1} over a full deck")
+    @MethodSource("systemsAndDeckSums")
+    @DisplayName("Predefined systems should have their well-known full-deck sums")
+    void predefinedSystemsHaveExpectedDeckSum(CountTags tags, int expectedSum) {
+        int sum = 0;
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            sum += tags.getTag(id);
+        }
+        assertEquals(expectedSum, sum, "Full deck sum of " + tags);
+    }
+
+    static Stream<Arguments> systemsAndDeckSums() {
+        return Stream.of(
+                Arguments.of(CountTags.HI_LO, 0),
+                Arguments.of(CountTags.KO, 4),
+                Arguments.of(CountTags.HI_OPT_I, 0),
+                Arguments.of(CountTags.OMEGA_II, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Rank tags should apply to every suit and give jokers a zero tag")
+    void rankTagsApplyToAllSuits() {
+        assertEquals(1, CountTags.HI_LO.getTag(StandardCard.SIX_HEARTS.getId()), "Six counts +1");
+        assertEquals(-1, CountTags.HI_LO.getTag(StandardCard.ACE_CLUBS.getId()), "Ace counts -1");
+        assertEquals(0, CountTags.HI_LO.getTag(JokerId.JOKER_1), "Jokers count 0");
+    }
+
+    @Test
+    @DisplayName("Card tags should be copied and padded for jokers")
+    void cardTagsAreCopied() {
+        int[] cardTags = new int[CardId.CARD_COUNT];
+        cardTags[5] = 3;
+        CountTags tags = CountTags.ofCardTags("custom", cardTags);
+        cardTags[5] = 0;
+
+        assertEquals(3, tags.getTag(5), "Tags must be copied on creation");
+        assertEquals(0, tags.getTag(JokerId.JOKER_4), "Jokers must be padded with zero");
+        assertEquals("custom", tags.toString(), "toString must return the name");
+    }
+
+    @Test
+    @DisplayName("Factories should reject tag arrays of unexpected length")
+    void factoriesValidateLength() {
+        assertThrows(IllegalArgumentException.class, () -> CountTags.ofRankTags("short", 1, 2, 3), "Too few rank tags");
+        assertThrows(IllegalArgumentException.class, () -> CountTags.ofCardTags("short", new int[10]), "Too few card tags");
+        assertThrows(NullPointerException.class, () -> CountTags.ofRankTags(null, new int[13]), "Null name");
+    }
+}
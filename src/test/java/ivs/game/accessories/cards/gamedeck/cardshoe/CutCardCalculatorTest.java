@@ -6,8 +6,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.SplittableRandom;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -107,4 +109,70 @@ class CutCardCalculatorTest {
                 Arguments.of(Integer.MIN_VALUE)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Calculators with the same seed should produce the same positions")
+    void seededCalculatorsAreReproducible() {
+        CutCardCalculator first = new CutCardCalculator(0.8, 0.1, CutCardDistribution.TRIANGULAR, 17L);
+        CutCardCalculator second = new CutCardCalculator(0.8, 0.1, CutCardDistribution.TRIANGULAR, 17L);
+        int[] a = new int[100];
+        int[] b = new int[100];
+
+        first.calculatePositions(416, a);
+        second.calculatePositions(416, b);
+        assertArrayEquals(a, b, "Seeded calculators must replay the same positions");
+    }
+
+    @ParameterizedTest(name = "distribution={0}")
+    @MethodSource("distributions")
+    @DisplayName("Batch positions should stay within the deviation range for every distribution")
+    void batchPositionsStayInRange(CutCardDistribution distribution) {
+        CutCardCalculator calc = new CutCardCalculator(0.75, 0.05, distribution, new SplittableRandom(1));
+        int[] positions = new int[10_000];
+        calc.calculatePositions(200, positions);
+
+        for (int position : positions) {
+            assertTrue(position >= 140 && position <= 160, "Position out of range: " + position);
+        }
+    }
+
+    static Stream<Arguments> distributions() {
+        return Stream.of(
+                Arguments.of(CutCardDistribution.UNIFORM),
+                Arguments.of(CutCardDistribution.TRIANGULAR),
+                Arguments.of(CutCardDistribution.TRUNCATED_NORMAL)
+        );
+    }
+
+    @Test
+    @DisplayName("Triangular and truncated normal distributions should favour the base position")
+    void peakedDistributionsFavourBase() {
+        int uniformCentre = countCentreHits(CutCardDistribution.UNIFORM);
+        assertTrue(countCentreHits(CutCardDistribution.TRIANGULAR) > uniformCentre * 1.5,
+                "Triangular distribution must concentrate around the base");
+        assertTrue(countCentreHits(CutCardDistribution.TRUNCATED_NORMAL) > uniformCentre * 1.5,
+                "Truncated normal distribution must concentrate around the base");
+    }
+
+    private static int countCentreHits(CutCardDistribution distribution) {
+        CutCardSampler sampler = new CutCardCalculator(0.5, 0.2, distribution, 99L).forShoeSize(100);
+        int hits = 0;
+        for (int i = 0; i < 50_000; i++) {
+            int position = sampler.nextPosition();
+            if (position >= 47 && position <= 53) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Test
+    @DisplayName("forShoeSize should precompute the integer position bounds")
+    void samplerHasPrecomputedBounds() {
+        CutCardSampler sampler = new CutCardCalculator(0.8, 0.04).forShoeSize(416);
+        assertEquals(416, sampler.getShoeSize(), "Sampler must remember the shoe size");
+        assertEquals(316, sampler.getMinPosition(), "Minimum position is round(332.8) - round(16.64)");
+        assertEquals(350, sampler.getMaxPosition(), "Maximum position is round(332.8) + round(16.64)");
+        assertThrows(IllegalArgumentException.class, () -> new CutCardCalculator().forShoeSize(0), "Zero size must be rejected");
+    }
+}
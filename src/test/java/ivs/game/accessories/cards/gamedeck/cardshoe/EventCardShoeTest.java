@@ -0,0 +1,32 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.event.CardEventOp;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventCardShoeTest {
+
+    @Test
+    @DisplayName("Every card drawn from the shoe should be reported once")
+    void drawsAreReported() {
+        List<Integer> drawnIds = new ArrayList<>();
+        List<Integer> peekedIds = new ArrayList<>();
+        EventCardShoe<PlayingCard> shoe = new EventCardShoe<>(MultiDeckCardShoe.builder(DeckTemplate.FULL, 2).build(), 0,
+                (source, op, cardId) -> (op == CardEventOp.DRAW ? drawnIds : peekedIds).add(cardId));
+
+        PlayingCard peeked = shoe.peek();
+        List<PlayingCard> drawn = new ArrayList<>(shoe.draw(10));
+        drawn.add(shoe.draw());
+
+        assertEquals(List.of(peeked.getId()), peekedIds, "Peek must be reported");
+        assertEquals(drawn.stream().map(PlayingCard::getId).toList(), drawnIds, "Draws must be reported in order");
+        assertEquals(93, shoe.size(), "Size must be delegated");
+    }
+}
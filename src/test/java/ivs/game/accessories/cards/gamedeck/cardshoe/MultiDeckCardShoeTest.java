@@ -0,0 +1,243 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.JokerId;
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiDeckCardShoeTest {
+
+    @ParameterizedTest(name = "deckCount={0}")
+    @ValueSource(ints = {1, 2, 6, 8})
+    @DisplayName("Shoe should contain deckCount copies of every template card")
+    void shoeContainsAllTemplateCopies(int deckCount) {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, deckCount).build();
+
+        assertEquals(52 * deckCount, shoe.size(), "Shoe size must be template size times deck count");
+        assertEquals(52 * deckCount, shoe.getCapacity(), "Capacity must equal the initial size");
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            assertEquals(deckCount, shoe.getRemainingCount(id), "Each card must be present deckCount times");
+        }
+        for (int id = JokerId.MIN_JOKER; id <= JokerId.MAX_JOKER; id++) {
+            assertEquals(0, shoe.getRemainingCount(id), "FULL template contains no jokers");
+        }
+    }
+
+    @Test
+    @DisplayName("Unshuffled shoe should list the template cards in ascending ID order, deck after deck")
+    void unshuffledShoeIsOrdered() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.EXTENDED, 2).shuffled(false).build();
+        List<PlayingCard> cards = shoe.exportCards();
+
+        assertEquals(108, cards.size(), "Two extended decks contain 108 cards");
+        assertEquals(StandardCard.TWO_SPADES, cards.get(0), "First card must be the lowest ID");
+        assertEquals(JokerCard.JOKER_2, cards.get(53), "Last card of the first deck must be the second joker");
+        assertEquals(StandardCard.TWO_SPADES, cards.get(54), "Second deck must start over");
+    }
+
+    @Test
+    @DisplayName("draw() should decrement remaining counts and size")
+    void drawUpdatesRemainingCounts() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.SHORT, 4).build();
+        PlayingCard top = shoe.peek();
+        int before = shoe.getRemainingCount(top);
+
+        assertEquals(top, shoe.draw(), "draw() must return the peeked card");
+        assertEquals(before - 1, shoe.getRemainingCount(top), "Remaining count must decrease by one");
+        assertEquals(36 * 4 - 1, shoe.size(), "Size must decrease by one");
+    }
+
+    @Test
+    @DisplayName("draw(count) should return cards in order and throw when not enough cards remain")
+    void drawCountReturnsTopCards() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.TINY, 1).build();
+        List<PlayingCard> expected = shoe.exportCards().subList(0, 5);
+
+        assertEquals(expected, shoe.draw(5), "draw(5) must return the five top cards");
+        assertThrows(IllegalArgumentException.class, () -> shoe.draw(-1), "Negative count must be rejected");
+        assertThrows(GameDeckException.class, () -> shoe.draw(20), "Drawing more than available must fail");
+    }
+
+    @Test
+    @DisplayName("Drawing every card should empty the shoe and zero all counts")
+    void drawingAllCardsEmptiesShoe() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.DOUBLE_EXTENDED, 2).build();
+        while (!shoe.isEmpty()) {
+            shoe.drawId();
+        }
+        for (int id = 0; id < CardId.ID_SPACE_SIZE; id++) {
+            assertEquals(0, shoe.getRemainingCount(id), "No cards must remain for ID " + id);
+        }
+        assertThrows(GameDeckException.class, shoe::drawId, "drawId() on empty shoe must throw");
+        assertThrows(GameDeckException.class, shoe::peek, "peek() on empty shoe must throw");
+    }
+
+    @Test
+    @DisplayName("reshuffle() should restore all cards and counts")
+    void reshuffleRestoresShoe() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 8).build();
+        shoe.draw(300);
+        shoe.reshuffle();
+
+        assertEquals(416, shoe.size(), "Reshuffled shoe must be full");
+        for (int id = CardId.MIN_CARD; id <= CardId.MAX_CARD; id++) {
+            assertEquals(8, shoe.getRemainingCount(id), "Each card must be back in the shoe");
+        }
+    }
+
+    @Test
+    @DisplayName("Shoes built with equally seeded generators should be dealt identically")
+    void seededShoesAreReproducible() {
+        MultiDeckCardShoe first = MultiDeckCardShoe.builder(DeckTemplate.FULL, 6).random(new SplittableRandom(7)).build();
+        MultiDeckCardShoe second = MultiDeckCardShoe.builder(DeckTemplate.FULL, 6).random(new SplittableRandom(7)).build();
+        MultiDeckCardShoe unshuffled = MultiDeckCardShoe.builder(DeckTemplate.FULL, 6).shuffled(false).build();
+
+        assertEquals(first.exportCards(), second.exportCards(), "Same seed must give the same order");
+        assertNotEquals(unshuffled.exportCards(), first.exportCards(), "Shuffled shoe must differ from the ordered one");
+    }
+
+    @Test
+    @DisplayName("Cut card should be placed from the top of the shoe when a calculator is configured")
+    void cutCardCalculatorPlacesCutFromTop() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 2)
+                .cutCardCalculator(new CutCardCalculator(0.75, 0.0))
+                .build();
+
+        assertEquals(26, shoe.getCutCardPosition(), "75% penetration of 104 cards leaves 26 cards");
+        shoe.draw(78);
+        assertFalse(shoe.isCutCardOut(), "Cut card must not be out at exactly the cut position");
+        shoe.draw();
+        assertTrue(shoe.isCutCardOut(), "Cut card must be out once fewer cards remain");
+    }
+
+    @Test
+    @DisplayName("MultiDeckCardShoe and StandardCardShoe should report the cut card at the same remaining count")
+    void cutCardMatchesStandardCardShoe() {
+        int position = new CutCardCalculator(0.6, 0.0).calculatePosition(104);
+        MultiDeckCardShoe multi = MultiDeckCardShoe.builder(DeckTemplate.FULL, 2)
+                .cutCardCalculator(new CutCardCalculator(0.6, 0.0))
+                .build();
+        StandardCardShoe<PlayingCard> standard = new StandardCardShoe<>(multi.exportCards(), 104 - position);
+
+        assertEquals(standard.getCutCardPosition(), multi.getCutCardPosition(), "Both shoes must use the same position");
+        while (!multi.isEmpty()) {
+            assertEquals(standard.isCutCardOut(), multi.isCutCardOut(),
+                    "Cut card state must agree with " + multi.size() + " cards left");
+            multi.draw();
+            standard.draw();
+        }
+        assertEquals(standard.isCutCardOut(), multi.isCutCardOut(), "Cut card state must agree on an empty shoe");
+    }
+
+    @Test
+    @DisplayName("Builder should validate its arguments")
+    void builderValidatesArguments() {
+        assertThrows(NullPointerException.class, () -> MultiDeckCardShoe.builder(null, 1), "Null template must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> MultiDeckCardShoe.builder(DeckTemplate.FULL, 0), "Zero decks must be rejected");
+        MultiDeckCardShoe.Builder builder = MultiDeckCardShoe.builder(DeckTemplate.FULL, 1);
+        assertThrows(IllegalArgumentException.class, () -> builder.cutCardPosition(-1), "Negative cut position must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> builder.build().getRemainingCount(56), "Out of range ID must be rejected");
+    }
+
+    @Test
+    @DisplayName("Composition view should track ranks, suits, penetration and running counts")
+    void compositionTracksDraws() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 2)
+                .countTags(CountTags.HI_LO)
+                .random(new SplittableRandom(5))
+                .build();
+        ShoeComposition composition = shoe.getComposition();
+
+        int expectedRunningCount = 0;
+        for (int i = 0; i < 52; i++) {
+            expectedRunningCount += CountTags.HI_LO.getTag(shoe.drawId());
+        }
+        assertEquals(0.5, composition.getPenetration(), 1e-12, "Half of the shoe is dealt");
+        assertEquals(1.0, composition.getDecksRemaining(), 1e-12, "One deck remains");
+        assertEquals(expectedRunningCount, composition.getRunningCount(0), "Running count must sum the drawn tags");
+
+        int rankSum = 0;
+        for (int rankId = 0; rankId < 13; rankId++) {
+            rankSum += composition.getRemainingRankCount(rankId);
+        }
+        assertEquals(52, rankSum, "Rank counts must sum to the remaining size");
+
+        shoe.reshuffle();
+        assertEquals(0, composition.getRunningCount(0), "Reshuffle must reset the running count");
+        assertEquals(26, composition.getRemainingSuitCount(0), "Suit counts must be restored");
+    }
+
+    @Test
+    @DisplayName("fork() should copy the remaining cards and composition independently")
+    void forkIsIndependent() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 4)
+                .countTags(CountTags.HI_LO)
+                .random(new SplittableRandom(13))
+                .build();
+        shoe.draw(40);
+        MultiDeckCardShoe fork = shoe.fork();
+
+        assertEquals(shoe.exportCards(), fork.exportCards(), "Fork must hold the same remaining cards");
+        assertEquals(shoe.getCutCardPosition(), fork.getCutCardPosition(), "Fork must keep the cut card");
+        assertEquals(shoe.getComposition().getRunningCount(0), fork.getComposition().getRunningCount(0),
+                "Fork must keep the running count");
+
+        List<PlayingCard> remaining = shoe.exportCards();
+        fork.draw(10);
+        fork.reshuffle();
+        assertEquals(remaining, shoe.exportCards(), "Changes to the fork must not affect the original");
+        assertEquals(168, shoe.size(), "Original must keep its size");
+        assertEquals(208, fork.size(), "Reshuffled fork must be full");
+
+        shoe.reshuffle();
+        assertEquals(208, fork.size(), "Changes to the original must not affect the fork");
+        assertEquals(0, fork.getComposition().getRunningCount(0), "Fork composition must be independent");
+    }
+
+    @Test
+    @DisplayName("Non-throwing draws should track composition and stop at the end of the shoe")
+    void nonThrowingDraws() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.TINY, 2).shuffled(false).build();
+        int capacity = shoe.getCapacity();
+        List<PlayingCard> expected = shoe.exportCards();
+
+        int first = shoe.tryDrawId();
+        int[] ids = new int[capacity];
+        int drawn = shoe.drawUpTo(5, ids);
+        List<PlayingCard> rest = new ArrayList<>();
+        int restCount = shoe.drawUpTo(capacity, rest);
+
+        assertEquals(expected.get(0).getId(), first, "tryDrawId() must return the top card ID");
+        assertEquals(5, drawn, "drawUpTo() must fill the requested IDs");
+        for (int i = 0; i < drawn; i++) {
+            assertEquals(expected.get(1 + i).getId(), ids[i], "ID mismatch at " + i);
+        }
+        assertEquals(capacity - 6, restCount, "drawUpTo() must draw only the remaining cards");
+        assertEquals(expected.subList(6, capacity), rest, "Remaining cards must be added top first");
+        assertEquals(0, shoe.getRemainingCount(first), "Composition must track non-throwing draws");
+        assertEquals(CardId.NO_CARD, shoe.tryDrawId(), "tryDrawId() on an empty shoe must return NO_CARD");
+        assertEquals(0, shoe.drawUpTo(3, ids), "drawUpTo() on an empty shoe must draw nothing");
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            shoe.reshuffle();
+            shoe.drawUpTo(2, new int[1]);
+        }, "Short buffers must be rejected");
+        assertEquals(capacity, shoe.size(), "Rejected drawUpTo() must not draw");
+    }
+}
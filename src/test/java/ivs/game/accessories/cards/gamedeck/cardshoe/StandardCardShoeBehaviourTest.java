@@ -1,10 +1,12 @@
 package ivs.game.accessories.cards.gamedeck.cardshoe;
 
+import ivs.game.accessories.cards.core.id.CardId;
 import ivs.game.accessories.cards.core.type.StandardCard;
 import ivs.game.accessories.cards.gamedeck.GameDeckException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static ivs.game.accessories.cards.core.type.StandardCard.ACE_SPADES;
@@ -190,4 +192,16 @@ class StandardCardShoeBehaviourTest {
                 "peek() on an empty shoe should throw GameDeckException"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("tryDrawId() and drawUpTo() should not throw when the shoe runs out")
+    void nonThrowingDraws() {
+        StandardCardShoe<StandardCard> shoe = new StandardCardShoe<>(List.of(ACE_SPADES, KING_HEARTS, TEN_SPADES), NO_CUT_CARD);
+        List<StandardCard> dest = new ArrayList<>();
+
+        assertEquals(ACE_SPADES.getId(), shoe.tryDrawId(), "tryDrawId() must return the top card ID");
+        assertEquals(2, shoe.drawUpTo(3, dest), "drawUpTo() must draw only the remaining cards");
+        assertEquals(List.of(KING_HEARTS, TEN_SPADES), dest, "Cards must be added top first");
+        assertEquals(CardId.NO_CARD, shoe.tryDrawId(), "tryDrawId() on an empty shoe must return NO_CARD");
+    }
+}
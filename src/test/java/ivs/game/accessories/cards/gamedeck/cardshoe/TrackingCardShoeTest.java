@@ -0,0 +1,87 @@
+package ivs.game.accessories.cards.gamedeck.cardshoe;
+
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static ivs.game.accessories.cards.core.type.StandardCard.ACE_SPADES;
+import static ivs.game.accessories.cards.core.type.StandardCard.FIVE_HEARTS;
+import static ivs.game.accessories.cards.core.type.StandardCard.KING_HEARTS;
+import static ivs.game.accessories.cards.core.type.StandardCard.SEVEN_CLUBS;
+import static ivs.game.accessories.cards.core.type.StandardCard.TWO_DIAMONDS;
+import static ivs.game.accessories.cards.gamedeck.cardshoe.StandardCardShoe.NO_CUT_CARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrackingCardShoeTest {
+
+    private static final List<StandardCard> CARDS = List.of(
+            FIVE_HEARTS, KING_HEARTS, SEVEN_CLUBS, ACE_SPADES, TWO_DIAMONDS, FIVE_HEARTS
+    );
+
+    @Test
+    @DisplayName("Composition should reflect the wrapped shoe on construction")
+    void compositionReflectsWrappedShoe() {
+        TrackingCardShoe<StandardCard> shoe =
+                new TrackingCardShoe<>(new StandardCardShoe<>(CARDS, NO_CUT_CARD), CountTags.HI_LO);
+        ShoeComposition composition = shoe.getComposition();
+
+        assertEquals(6, composition.size(), "Composition must count all cards");
+        assertEquals(6, composition.getCapacity(), "Capacity must be the initial size");
+        assertEquals(2, composition.getRemainingCount(FIVE_HEARTS.getId()), "Duplicate cards must be counted");
+        assertEquals(3, composition.getRemainingSuitCount(SuitId.HEARTS), "Three hearts in the shoe");
+        assertEquals(2, composition.getRemainingRankCount(RankId.FIVE), "Two fives in the shoe");
+        assertEquals(0.0, composition.getPenetration(), 1e-12, "Nothing dealt yet");
+        assertEquals(0, composition.getRunningCount(0), "Running count starts at zero");
+        assertSame(composition, shoe.getComposition(), "The same view must be returned every time");
+    }
+
+    @Test
+    @DisplayName("Draws through the decorator should update counts, penetration and running counts")
+    void drawsUpdateComposition() {
+        TrackingCardShoe<StandardCard> shoe = new TrackingCardShoe<>(
+                new StandardCardShoe<>(CARDS, NO_CUT_CARD), CountTags.HI_LO, CountTags.KO);
+        ShoeComposition composition = shoe.getComposition();
+
+        assertEquals(FIVE_HEARTS, shoe.draw(), "Top card must be drawn first");
+        assertEquals(List.of(KING_HEARTS, SEVEN_CLUBS), shoe.draw(2), "Next cards must follow in order");
+
+        assertEquals(3, composition.size(), "Three cards remain");
+        assertEquals(0.5, composition.getPenetration(), 1e-12, "Half of the shoe is dealt");
+        assertEquals(1, composition.getRemainingSuitCount(SuitId.HEARTS), "One heart remains");
+        assertEquals(0, composition.getRunningCount(0), "Hi-Lo: +1 (5) -1 (K) +0 (7)");
+        assertEquals(1, composition.getRunningCount(1), "KO: +1 (5) -1 (K) +1 (7)");
+        assertEquals(0.0, composition.getTrueCount(0), 1e-12, "Zero running count gives zero true count");
+        assertEquals(52.0 / 3, composition.getTrueCount(1), 1e-9, "True count divides by decks remaining");
+    }
+
+    @Test
+    @DisplayName("Exceptions of the wrapped shoe should propagate without changing the composition")
+    void failedDrawDoesNotChangeComposition() {
+        TrackingCardShoe<StandardCard> shoe =
+                new TrackingCardShoe<>(new StandardCardShoe<>(List.of(ACE_SPADES), NO_CUT_CARD), CountTags.HI_LO);
+        shoe.draw();
+
+        assertThrows(GameDeckException.class, shoe::draw, "Empty shoe must throw");
+        assertThrows(GameDeckException.class, () -> shoe.draw(2), "Empty shoe must throw on draw(count)");
+        assertEquals(0, shoe.getComposition().size(), "Composition must stay empty");
+        assertEquals(-1, shoe.getComposition().getRunningCount(0), "Ace counts -1 in Hi-Lo");
+        assertTrue(shoe.isEmpty(), "Decorator must report the wrapped shoe state");
+    }
+
+    @Test
+    @DisplayName("Constructor should validate its arguments")
+    void constructorValidatesArguments() {
+        StandardCardShoe<StandardCard> wrapped = new StandardCardShoe<>(CARDS, NO_CUT_CARD);
+        assertThrows(NullPointerException.class, () -> new TrackingCardShoe<>(null, CountTags.HI_LO), "Null shoe must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new TrackingCardShoe<>(wrapped, 0), "Zero deck size must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new TrackingCardShoe<>(wrapped, (CountTags) null), "Null tags must be rejected");
+    }
+}
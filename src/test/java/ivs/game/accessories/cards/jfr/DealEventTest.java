@@ -0,0 +1,44 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.StandardGameDeck;
+import ivs.game.accessories.cards.gamedeck.dealer.DealRequest;
+import ivs.game.accessories.cards.gamedeck.dealer.Recipient;
+import ivs.game.accessories.cards.gamedeck.dealer.impl.StandardCardDealer;
+import ivs.game.accessories.cards.gamedeck.dealer.impl.StandardDealRequest;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DealEventTest {
+
+    private record Seat(int number) implements Recipient {
+    }
+
+    @Test
+    @DisplayName("Deals should record the recipient and card counts")
+    void dealsRecorded() {
+        List<DealRequest<Seat>> requests = List.of(new StandardDealRequest<>(new Seat(1), 2, true),
+                new StandardDealRequest<>(new Seat(2), 3, true),
+                new StandardDealRequest<>(new Seat(1), 1, true));
+        List<RecordedEvent> events = EventCapture.capture(DealEvent.NAME, () ->
+                new StandardCardDealer<StandardGameDeck<PlayingCard>, Seat>()
+                        .deal(new StandardGameDeck<>(List.copyOf(DeckTemplate.FULL.get())), requests));
+
+        assertEquals(1, events.size(), "One deal must be recorded");
+        assertEquals(2, events.get(0).getInt("recipientCount"), "Recipient count mismatch");
+        assertEquals(6, events.get(0).getInt("cardCount"), "Card count mismatch");
+    }
+
+    @Test
+    @DisplayName("Default settings should match the event annotations")
+    void defaultSettings() {
+        assertEquals("20 us", EventCapture.defaultSetting(DealEvent.class, "threshold"), "Threshold mismatch");
+        assertEquals("false", EventCapture.defaultSetting(DealEvent.class, "stackTrace"), "Stack trace setting mismatch");
+    }
+}
@@ -0,0 +1,41 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import ivs.game.accessories.cards.gamedeck.StandardGameDeck;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeckFailureEventTest {
+
+    @Test
+    @DisplayName("Deck failures should record the cause and card counts")
+    void failuresRecorded() {
+        StandardGameDeck<PlayingCard> deck = new StandardGameDeck<>(List.copyOf(DeckTemplate.TINY.get()));
+        List<RecordedEvent> events = EventCapture.capture(DeckFailureEvent.NAME, () -> {
+            assertThrows(GameDeckException.class, () -> deck.draw(100), "Overdraw must fail");
+            deck.draw(deck.size());
+            assertThrows(GameDeckException.class, deck::draw, "Empty deck must fail");
+        });
+
+        assertEquals(2, events.size(), "Both failures must be recorded");
+        assertEquals("NOT_ENOUGH_CARDS", events.get(0).getString("cause"), "Cause mismatch");
+        assertEquals(100, events.get(0).getInt("requested"), "Requested count mismatch");
+        assertEquals(DeckTemplate.TINY.get().size(), events.get(0).getInt("available"), "Available count mismatch");
+        assertEquals("EMPTY", events.get(1).getString("cause"), "Cause mismatch");
+    }
+
+    @Test
+    @DisplayName("Default settings should match the event annotations")
+    void defaultSettings() {
+        assertEquals("0 ms", EventCapture.defaultSetting(DeckFailureEvent.class, "threshold"), "Threshold mismatch");
+        assertEquals("true", EventCapture.defaultSetting(DeckFailureEvent.class, "stackTrace"), "Stack trace setting mismatch");
+    }
+}
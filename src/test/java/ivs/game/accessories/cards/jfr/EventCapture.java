@@ -0,0 +1,61 @@
+package ivs.game.accessories.cards.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.SettingDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+// Test helper for JFR events
+final class EventCapture {
+
+    private EventCapture() {
+    }
+
+    // Records one event type with a zero threshold while an action runs, and returns the events the action raised.
+    // Dumps may hold other event types and events of earlier recordings, so events are matched by name and by
+    // this method's frame in their stack.
+    static List<RecordedEvent> capture(String eventName, Runnable action) {
+        Path file = null;
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            file = Files.createTempFile("cards", ".jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .filter(EventCapture::raisedByAction)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+        }
+    }
+
+    // Default value of a setting declared by the event's annotations, such as "threshold" or "stackTrace"
+    static String defaultSetting(Class<? extends jdk.jfr.Event> eventClass, String setting) {
+        return EventType.getEventType(eventClass).getSettingDescriptors().stream()
+                .filter(descriptor -> descriptor.getName().equals(setting))
+                .map(SettingDescriptor::getDefaultValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static boolean raisedByAction(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().equals(EventCapture.class.getName())
+                        && frame.getMethod().getName().equals("capture"));
+    }
+}
@@ -0,0 +1,41 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.ContinuousShufflingShoe;
+import ivs.game.accessories.cards.gamedeck.cardshoe.MultiDeckCardShoe;
+import ivs.game.accessories.cards.gamedeck.cardshoe.StandardCardShoe;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShoeCreatedEventTest {
+
+    @Test
+    @DisplayName("Shoe creation should record the shoe type, size and cut card")
+    void creationRecorded() {
+        List<RecordedEvent> events = EventCapture.capture(ShoeCreatedEvent.NAME, () -> {
+            new StandardCardShoe<>(List.copyOf(DeckTemplate.FULL.get()), 10);
+            MultiDeckCardShoe.builder(DeckTemplate.FULL, 6).cutCardPosition(78).build();
+            ContinuousShufflingShoe.builder(DeckTemplate.FULL, 4).build();
+        });
+
+        assertEquals(3, events.size(), "Every shoe must be recorded");
+        assertEquals(StandardCardShoe.class.getName(), events.get(0).getString("shoeType"), "Type mismatch");
+        assertEquals(52, events.get(0).getInt("cardCount"), "Card count mismatch");
+        assertEquals(10, events.get(0).getInt("cutCardPosition"), "Cut-card mismatch");
+        assertEquals(312, events.get(1).getInt("cardCount"), "Multi-deck card count mismatch");
+        assertEquals(78, events.get(1).getInt("cutCardPosition"), "Multi-deck cut-card mismatch");
+        assertEquals(ContinuousShufflingShoe.class.getName(), events.get(2).getString("shoeType"), "Type mismatch");
+    }
+
+    @Test
+    @DisplayName("Default settings should match the event annotations")
+    void defaultSettings() {
+        assertEquals("0 ms", EventCapture.defaultSetting(ShoeCreatedEvent.class, "threshold"), "Threshold mismatch");
+        assertEquals("true", EventCapture.defaultSetting(ShoeCreatedEvent.class, "stackTrace"), "Stack trace setting mismatch");
+    }
+}
@@ -0,0 +1,39 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.MultiDeckCardShoe;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShoeReshuffleEventTest {
+
+    @Test
+    @DisplayName("Reshuffles should record the penetration reached before them")
+    void reshuffleRecorded() {
+        MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 2).cutCardPosition(26).build();
+        List<RecordedEvent> events = EventCapture.capture(ShoeReshuffleEvent.NAME, () -> {
+            shoe.draw(78);
+            shoe.reshuffle();
+            shoe.reshuffle();
+        });
+
+        assertEquals(2, events.size(), "Every reshuffle must be recorded");
+        assertEquals(104, events.get(0).getInt("capacity"), "Capacity mismatch");
+        assertEquals(78, events.get(0).getInt("cardsDealt"), "Dealt count mismatch");
+        assertEquals(26, events.get(0).getInt("cutCardPosition"), "Cut-card mismatch");
+        assertEquals(0.75, events.get(0).getDouble("penetration"), 1e-9, "Penetration mismatch");
+        assertEquals(0.0, events.get(1).getDouble("penetration"), 1e-9, "Fresh shoe must have no penetration");
+    }
+
+    @Test
+    @DisplayName("Default settings should match the event annotations")
+    void defaultSettings() {
+        assertEquals("0 ms", EventCapture.defaultSetting(ShoeReshuffleEvent.class, "threshold"), "Threshold mismatch");
+        assertEquals("false", EventCapture.defaultSetting(ShoeReshuffleEvent.class, "stackTrace"), "Stack trace setting mismatch");
+    }
+}
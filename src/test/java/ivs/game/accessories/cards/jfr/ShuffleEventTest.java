@@ -0,0 +1,40 @@
+package ivs.game.accessories.cards.jfr;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.MultiDeckCardShoe;
+import ivs.game.accessories.cards.gamedeck.shuffler.ShufflerFactory;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShuffleEventTest {
+
+    @Test
+    @DisplayName("Shuffles should record the deck size and generator")
+    void shufflesRecorded() {
+        List<RecordedEvent> events = EventCapture.capture(ShuffleEvent.NAME, () -> {
+            List<PlayingCard> cards = new ArrayList<>(DeckTemplate.SHORT.get());
+            ShufflerFactory.<PlayingCard>getInPlaceShuffler().shuffleInPlace(cards);
+            MultiDeckCardShoe.builder(DeckTemplate.FULL, 2).random(new SplittableRandom(48)).build();
+        });
+
+        assertEquals(2, events.size(), "Both shuffles must be recorded");
+        assertEquals(36, events.get(0).getInt("deckSize"), "List size mismatch");
+        assertEquals(104, events.get(1).getInt("deckSize"), "Shoe size mismatch");
+        assertEquals(SplittableRandom.class.getName(), events.get(1).getString("generator"), "Generator mismatch");
+    }
+
+    @Test
+    @DisplayName("Default settings should match the event annotations")
+    void defaultSettings() {
+        assertEquals("20 us", EventCapture.defaultSetting(ShuffleEvent.class, "threshold"), "Threshold mismatch");
+        assertEquals("false", EventCapture.defaultSetting(ShuffleEvent.class, "stackTrace"), "Stack trace setting mismatch");
+    }
+}
@@ -0,0 +1,77 @@
+package ivs.game.accessories.cards.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JournalReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records of one hand should be found across interleaved tables and segments")
+    void forEachOfHand() throws IOException {
+        JournalConfig config = JournalConfig.builder(directory).segmentSize(JournalConfig.MIN_SEGMENT_SIZE).build();
+        try (JournalWriter writer = JournalWriter.open(config)) {
+            for (int round = 0; round < 100; round++) {
+                for (int table = 0; table < 10; table++) {
+                    writer.appendDraw(table, table * 1000L + round / 20, round % 52);
+                }
+            }
+        }
+        JournalReader reader = JournalReader.open(directory);
+        List<Long> sequences = new ArrayList<>();
+        int count = reader.forEachOfHand(3002, record -> {
+            assertEquals(3, record.getTableId(), "Record of another table");
+            sequences.add(record.getSequence());
+        });
+        assertEquals(20, count, "Hand must have 20 records");
+        for (int i = 0; i < sequences.size(); i++) {
+            assertEquals((40 + i) * 10L + 3, sequences.get(i), "Sequence mismatch at " + i);
+        }
+        assertEquals(0, reader.forEachOfHand(42, record -> {
+        }), "Unknown hand must have no records");
+    }
+
+    @Test
+    @DisplayName("Hands should be found in a segment left without an index")
+    void unindexedSegment() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build())) {
+            writer.appendCut(1, 5, 10);
+            writer.appendCut(1, 6, 20);
+        }
+        Files.delete(JournalSegment.indexPath(JournalSegment.list(directory).get(0)));
+        int[] cut = new int[1];
+        assertEquals(1, JournalReader.open(directory).forEachOfHand(6, record -> cut[0] = record.getCutCardPosition()),
+                "Hand must be found by scanning");
+        assertEquals(20, cut[0], "Cut position mismatch");
+    }
+
+    @Test
+    @DisplayName("An empty directory should hold no records")
+    void emptyJournal() throws IOException {
+        JournalReader reader = JournalReader.open(directory);
+        assertEquals(0, reader.getSegmentCount(), "No segments expected");
+        assertEquals(-1, reader.getLastSequence(), "Empty journal must have no last sequence");
+    }
+
+    @Test
+    @DisplayName("Payload accessors should reject records of other types")
+    void wrongTypeAccess() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build())) {
+            writer.appendCut(1, 1, 10);
+        }
+        JournalReader.open(directory).forEach(record ->
+                assertThrows(IllegalStateException.class, record::getCardCount, "Cut has no cards"));
+    }
+}
@@ -0,0 +1,144 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.cardholder.StandardCardHolder;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.cardshoe.StandardCardShoe;
+import ivs.game.accessories.cards.ordering.PlayingCardComparator;
+import ivs.game.accessories.cards.ordering.RankWeightComparator;
+import ivs.game.accessories.cards.ordering.SuitWeightComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalRecoveryTest {
+
+    private static final Comparator<PlayingCard> COMPARATOR =
+            new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.naturalOrder());
+    private static final int TABLES = 20;
+    private static final int SEATS = 3;
+
+    @TempDir
+    Path directory;
+
+    private final Random random = new Random(46);
+    private final List<StandardCardShoe<PlayingCard>> shoes = new ArrayList<>();
+    private final List<Map<Integer, StandardCardHolder>> holders = new ArrayList<>();
+    private final long[] hands = new long[TABLES];
+
+    @Test
+    @DisplayName("Recovery should rebuild shoes and holders across many segments")
+    void recoversTables() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(smallSegments())) {
+            for (int table = 0; table < TABLES; table++) {
+                newShoe(writer, table);
+            }
+            playRounds(writer, 30);
+        }
+        JournalReader reader = JournalReader.open(directory);
+        assertTrue(reader.getSegmentCount() > 3, "Records must span several segments");
+        Map<Integer, TableState> tables = new JournalRecovery(new ForkJoinPool(4)).recover(reader);
+        assertTables(tables);
+    }
+
+    @Test
+    @DisplayName("Recovery should start at the last checkpoint and give the same result as a full replay")
+    void recoversFromCheckpoint() throws IOException {
+        long checkpoint;
+        try (JournalWriter writer = JournalWriter.open(smallSegments())) {
+            for (int table = 0; table < TABLES; table++) {
+                newShoe(writer, table);
+            }
+            playRounds(writer, 20);
+            checkpoint = writer.getNextSequence();
+            for (int table = 0; table < TABLES; table++) {
+                writer.appendSnapshot(table, hands[table], shoes.get(table).exportCards(),
+                        shoes.get(table).getCutCardPosition(), holders.get(table));
+            }
+            writer.appendCheckpoint(checkpoint);
+            playRounds(writer, 10);
+        }
+        JournalReader reader = JournalReader.open(directory);
+        JournalRecovery recovery = new JournalRecovery();
+        assertEquals(checkpoint, recovery.findCheckpoint(reader), "Checkpoint sequence mismatch");
+        assertTables(recovery.recover(reader));
+        assertTables(recovery.recover(reader, 0));
+    }
+
+    private JournalConfig smallSegments() {
+        return JournalConfig.builder(directory).segmentSize(8192).syncBatchSize(JournalConfig.NO_SYNC_BATCH).build();
+    }
+
+    private void newShoe(JournalWriter writer, int table) {
+        List<PlayingCard> cards = new ArrayList<>(DeckTemplate.FULL.get());
+        cards.sort(COMPARATOR);
+        Collections.shuffle(cards, random);
+        StandardCardShoe<PlayingCard> shoe = new StandardCardShoe<>(cards, 15);
+        writer.appendShuffle(table, hands[table], cards);
+        writer.appendCut(table, hands[table], shoe.getCutCardPosition());
+        if (shoes.size() > table) {
+            shoes.set(table, shoe);
+        } else {
+            shoes.add(shoe);
+            holders.add(new HashMap<>());
+        }
+    }
+
+    // Every round starts a new hand at every table: two cards per seat, a burn card and one hit
+    private void playRounds(JournalWriter writer, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            for (int table = 0; table < TABLES; table++) {
+                hands[table]++;
+                if (shoes.get(table).size() < 2 * SEATS + 2) {
+                    newShoe(writer, table);
+                }
+                StandardCardShoe<PlayingCard> shoe = shoes.get(table);
+                Map<Integer, StandardCardHolder> seats = holders.get(table);
+                seats.clear();
+                for (int seat = 0; seat < SEATS; seat++) {
+                    seats.put(seat, new StandardCardHolder(COMPARATOR));
+                }
+                for (int seat = 0; seat < SEATS; seat++) {
+                    for (PlayingCard card : shoe.draw(2)) {
+                        seats.get(seat).add(card);
+                        writer.appendDeal(table, hands[table], seat, card.getId());
+                    }
+                }
+                writer.appendDraw(table, hands[table], shoe.draw().getId());
+                PlayingCard hit = shoe.draw();
+                seats.get(round % SEATS).add(hit);
+                writer.appendDeal(table, hands[table], round % SEATS, hit.getId());
+            }
+        }
+    }
+
+    private void assertTables(Map<Integer, TableState> tables) {
+        assertEquals(TABLES, tables.size(), "Every table must be recovered");
+        for (int table = 0; table < TABLES; table++) {
+            TableState state = tables.get(table);
+            assertEquals(hands[table], state.getHandId(), "Hand mismatch at table " + table);
+            assertEquals(shoes.get(table).exportCards(), state.getShoeCards(), "Shoe mismatch at table " + table);
+            assertEquals(15, state.toShoe().getCutCardPosition(), "Cut position mismatch at table " + table);
+            for (int seat = 0; seat < SEATS; seat++) {
+                StandardCardHolder expected = holders.get(table).get(seat);
+                StandardCardHolder actual = state.toHolder(seat, COMPARATOR);
+                assertEquals(expected.stream().toList(), actual.stream().toList(),
+                        "Holder mismatch at table " + table + ", seat " + seat);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import ivs.game.accessories.cards.gamedeck.dealer.Recipient;
+import ivs.game.accessories.cards.gamedeck.dealer.impl.StandardDealResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records should be read back with their header and payload")
+    void roundTrip() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build())) {
+            assertEquals(0, writer.appendShuffle(7, 100, new int[]{5, 0, 51, 52}, 4), "First sequence must be 0");
+            writer.appendCut(7, 100, 60);
+            writer.appendDeal(7, 100, new StandardDealResult<>(Map.of(new Seat(3),
+                    List.<PlayingCard>of(StandardCard.ACE_SPADES, StandardCard.TWO_HEARTS))), Seat::number);
+            assertEquals(3, writer.appendDraw(7, 100, 12), "Draw must get sequence 3");
+        }
+
+        List<String> records = new ArrayList<>();
+        long count = JournalReader.open(directory).forEach(record -> {
+            assertEquals(7, record.getTableId(), "Table ID mismatch");
+            assertEquals(100, record.getHandId(), "Hand ID mismatch");
+            records.add(switch (record.getType()) {
+                case JournalRecordType.SHUFFLE -> "shuffle " + record.getCardCount() + " " + record.getCardId(2);
+                case JournalRecordType.CUT -> "cut " + record.getCutCardPosition();
+                case JournalRecordType.DEAL -> {
+                    int[] cards = new int[2];
+                    record.getRecipientCardIds(0, cards);
+                    yield "deal " + record.getRecipientId(0) + " " + cards[0] + " " + cards[1];
+                }
+                default -> "draw " + record.getCardId(0) + " at " + record.getSequence();
+            });
+        });
+        assertEquals(4, count, "All records must be read");
+        assertEquals(List.of("shuffle 4 51", "cut 60",
+                "deal 3 " + StandardCard.ACE_SPADES.getId() + " " + StandardCard.TWO_HEARTS.getId(),
+                "draw 12 at 3"), records, "Records mismatch");
+    }
+
+    @Test
+    @DisplayName("Segments should roll when full and the sequence should continue after reopening")
+    void rollingAndReopen() throws IOException {
+        JournalConfig config = JournalConfig.builder(directory)
+                .segmentSize(JournalConfig.MIN_SEGMENT_SIZE)
+                .syncBatchSize(16)
+                .build();
+        int[] deck = new int[52];
+        for (int i = 0; i < deck.length; i++) {
+            deck[i] = i;
+        }
+        try (JournalWriter writer = JournalWriter.open(config)) {
+            for (int hand = 0; hand < 200; hand++) {
+                writer.appendShuffle(1, hand, deck, deck.length);
+            }
+        }
+        try (JournalWriter writer = JournalWriter.open(config)) {
+            assertEquals(200, writer.getNextSequence(), "Sequence must continue after reopening");
+            writer.appendDraw(1, 200, 0);
+        }
+
+        JournalReader reader = JournalReader.open(directory);
+        assertTrue(reader.getSegmentCount() > 4, "Records must span several segments");
+        assertEquals(200, reader.getLastSequence(), "Last sequence mismatch");
+        long[] expected = {0};
+        reader.forEach(record -> assertEquals(expected[0]++, record.getSequence(), "Sequences must be contiguous"));
+        assertEquals(201, expected[0], "All records must be read");
+    }
+
+    @Test
+    @DisplayName("A torn record and everything after it should be ignored")
+    void tornRecord() throws IOException {
+        JournalConfig config = JournalConfig.builder(directory).build();
+        try (JournalWriter writer = JournalWriter.open(config)) {
+            for (int i = 0; i < 3; i++) {
+                writer.appendDraw(1, 1, i);
+            }
+        }
+        Path segment = JournalSegment.list(directory).get(0);
+        Files.delete(JournalSegment.indexPath(segment));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Corrupt the payload of the second record
+            int second = JournalSegment.SEGMENT_HEADER + JournalSegment.RECORD_HEADER + 1;
+            channel.write(ByteBuffer.wrap(new byte[]{9}), second + JournalSegment.RECORD_HEADER);
+        }
+
+        assertEquals(1, JournalReader.open(directory).forEach(record -> {
+        }), "Only the first record must be read");
+        try (JournalWriter writer = JournalWriter.open(config)) {
+            assertEquals(1, writer.getNextSequence(), "Writer must continue after the last intact record");
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid arguments and closed writers should be rejected")
+    void rejectsInvalidUse() throws IOException {
+        JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build());
+        assertThrows(IllegalArgumentException.class, () -> writer.appendDraw(1, 1, 56), "Invalid card must be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> writer.appendShuffle(1, 1, new int[2], 3),
+                "Count beyond the array must be rejected");
+        writer.close();
+        assertThrows(IllegalStateException.class, () -> writer.appendCut(1, 1, 0), "Closed writer must reject appends");
+        assertThrows(IllegalArgumentException.class, () -> JournalConfig.builder(directory).segmentSize(100),
+                "Tiny segments must be rejected");
+    }
+
+    @Test
+    @DisplayName("Explicit sync should be accepted at any time")
+    void sync() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory)
+                .syncBatchSize(JournalConfig.NO_SYNC_BATCH).build())) {
+            writer.sync();
+            writer.appendShuffle(1, 1, List.of(StandardCard.ACE_SPADES));
+            writer.sync();
+        }
+        List<PlayingCard> cards = new ArrayList<>();
+        JournalReader.open(directory).forEach(record -> cards.addAll(record.getCards()));
+        assertArrayEquals(new Object[]{StandardCard.ACE_SPADES}, cards.toArray(), "Cards mismatch");
+    }
+
+    private record Seat(int number) implements Recipient {
+    }
+}
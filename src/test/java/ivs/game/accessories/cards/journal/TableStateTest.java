@@ -0,0 +1,65 @@
+package ivs.game.accessories.cards.journal;
+
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableStateTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Appending partial states should equal replaying all records in one state")
+    void appendMatchesReplay() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build())) {
+            writer.appendShuffle(1, 1, new int[]{0, 1, 2, 3, 4, 5, 6, 7}, 8);
+            writer.appendCut(1, 1, 2);
+            writer.appendDeal(1, 1, 10, 0);
+            writer.appendDraw(1, 1, 1);
+            writer.appendDeal(1, 2, 10, 2);
+            writer.appendDeal(1, 2, 11, 3);
+            writer.appendDraw(1, 2, 4);
+        }
+        JournalReader reader = JournalReader.open(directory);
+        for (int split = 0; split <= 7; split++) {
+            TableState first = new TableState(1);
+            TableState second = new TableState(1);
+            int index = split;
+            long[] position = {0};
+            reader.forEach(record -> (position[0]++ < index ? first : second).apply(record));
+            TableState combined = split == 0 ? second : first;
+            if (split > 0 && split < 7) {
+                first.append(second);
+            }
+            assertEquals(List.of(PlayingCard.getById(5), PlayingCard.getById(6), PlayingCard.getById(7)),
+                    combined.getShoeCards(), "Shoe mismatch for split " + split);
+            assertEquals(2, combined.getHandId(), "Hand mismatch for split " + split);
+            assertEquals(List.of(PlayingCard.getById(2)), combined.getHolderCards(10),
+                    "Holder of the previous hand must be emptied for split " + split);
+            assertEquals(List.of(PlayingCard.getById(3)), combined.getHolderCards(11), "Holder mismatch");
+            assertEquals(2, combined.getCutCardPosition(), "Cut mismatch for split " + split);
+        }
+    }
+
+    @Test
+    @DisplayName("Draws without a known shoe should leave the shoe unknown")
+    void unknownShoe() throws IOException {
+        try (JournalWriter writer = JournalWriter.open(JournalConfig.builder(directory).build())) {
+            writer.appendDraw(1, 1, 0);
+        }
+        TableState state = new TableState(1);
+        JournalReader.open(directory).forEach(state::apply);
+        assertFalse(state.isShoeKnown(), "Shoe must be unknown");
+        assertTrue(state.getShoeCards().isEmpty(), "Unknown shoe must have no cards");
+    }
+}
@@ -0,0 +1,49 @@
+package ivs.game.accessories.cards.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CardMetricsJmxTest {
+
+    @Test
+    @DisplayName("Registered metrics should be readable as MXBean attributes")
+    void attributesReadable() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        StandardCardMetrics metrics = new StandardCardMetrics();
+        ObjectName name = CardMetricsJmx.register(metrics, server, CardMetricsJmx.DEFAULT_NAME);
+
+        metrics.onDraw(3);
+        metrics.onDeckFailure(DeckFailureCause.NOT_ENOUGH_CARDS);
+        metrics.onShuffle(100);
+        metrics.onDeal(50);
+        metrics.onTableLookups(2, 2);
+
+        assertEquals(3L, server.getAttribute(name, "DrawCount"), "Draw count mismatch");
+        assertEquals(0L, server.getAttribute(name, "EmptyFailureCount"), "Empty failure count mismatch");
+        assertEquals(1L, server.getAttribute(name, "NotEnoughCardsFailureCount"), "Failure count mismatch");
+        assertEquals(1L, server.getAttribute(name, "ShuffleCount"), "Shuffle count mismatch");
+        assertEquals(100L, server.getAttribute(name, "ShuffleMaxNanos"), "Shuffle max mismatch");
+        assertEquals(50L, server.getAttribute(name, "DealP99Nanos"), "Deal percentile mismatch");
+        assertEquals(1.0, server.getAttribute(name, "TableHitRate"), "Hit rate mismatch");
+    }
+
+    @Test
+    @DisplayName("Registering twice under one name should fail")
+    void duplicateRejected() {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        CardMetricsJmx.register(new StandardCardMetrics(), server, CardMetricsJmx.DEFAULT_NAME);
+        assertThrows(IllegalStateException.class,
+                () -> CardMetricsJmx.register(new StandardCardMetrics(), server, CardMetricsJmx.DEFAULT_NAME),
+                "Duplicate registration must be rejected");
+        assertThrows(IllegalStateException.class,
+                () -> CardMetricsJmx.register(new StandardCardMetrics(), server, "not a name"),
+                "Malformed names must be rejected");
+    }
+}
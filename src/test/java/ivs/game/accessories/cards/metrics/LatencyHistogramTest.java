@@ -0,0 +1,73 @@
+package ivs.game.accessories.cards.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Every value should fall into a bucket within the relative precision")
+    void bucketsKeepPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram(5);
+        Random random = new Random(47);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            int index = histogram.index(value);
+            long highest = histogram.highestValue(index);
+            assertTrue(highest >= value, "Bucket must contain " + value);
+            assertTrue(index == 0 || histogram.highestValue(index - 1) < value, "Buckets must be ordered for " + value);
+            assertTrue(highest - value <= value / 32, "Bucket of " + value + " is too wide");
+        }
+        assertEquals(Long.MAX_VALUE, histogram.highestValue(histogram.index(Long.MAX_VALUE)), "Top bucket mismatch");
+    }
+
+    @Test
+    @DisplayName("Percentiles, mean and maximum should match the recorded values")
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram(LatencyHistogram.DEFAULT_PRECISION);
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10_000, histogram.getCount(), "Count mismatch");
+        assertEquals(5000.5, histogram.getMean(), 1e-9, "Mean mismatch");
+        assertEquals(10_000, histogram.getMax(), "Max mismatch");
+        assertEquals(1, histogram.getValueAtPercentile(0), "Minimum mismatch");
+        assertEquals(10_000, histogram.getValueAtPercentile(100), "Maximum percentile must be capped at the max");
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 5000 && median <= 5000 * 33 / 32, "Median out of precision: " + median);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 9900 && p99 <= 9900 * 33 / 32, "P99 out of precision: " + p99);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset must clear the count");
+        assertEquals(0, histogram.getValueAtPercentile(50), "Empty histogram must report zero");
+    }
+
+    @Test
+    @DisplayName("Concurrent recording should keep every value")
+    void concurrentRecording() {
+        LatencyHistogram histogram = new LatencyHistogram(3);
+        IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+        assertEquals(100_000, histogram.getCount(), "Values must not be lost");
+        assertEquals(99_999, histogram.getMax(), "Max mismatch");
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected and negative values clamped")
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(0), "Zero precision must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(11), "Large precision must be rejected");
+        LatencyHistogram histogram = new LatencyHistogram(2);
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax(), "Negative values must be recorded as zero");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101),
+                "Percentiles above 100 must be rejected");
+    }
+}
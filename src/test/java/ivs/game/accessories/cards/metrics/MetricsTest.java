@@ -0,0 +1,212 @@
+package ivs.game.accessories.cards.metrics;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import ivs.game.accessories.cards.gamedeck.GameDeckException;
+import ivs.game.accessories.cards.gamedeck.StandardGameDeck;
+import ivs.game.accessories.cards.gamedeck.cardshoe.MultiDeckCardShoe;
+import ivs.game.accessories.cards.gamedeck.dealer.DealRequest;
+import ivs.game.accessories.cards.gamedeck.dealer.Recipient;
+import ivs.game.accessories.cards.gamedeck.dealer.impl.StandardCardDealer;
+import ivs.game.accessories.cards.gamedeck.dealer.impl.StandardDealRequest;
+import ivs.game.accessories.cards.gamedeck.shuffler.ShufflerFactory;
+import ivs.game.accessories.cards.solver.DoubleDummySolver;
+import ivs.game.accessories.cards.solver.TrickDeal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The test classpath installs no provider. Instrumented scenarios run in a class loader of their own that lists
+// StandardCardMetrics in META-INF/services, so every scenario starts from fresh counters.
+class MetricsTest {
+
+    @TempDir
+    Path services;
+
+    @Test
+    @DisplayName("Without a registered provider the metrics should be NO_OP")
+    void defaultIsNoOp() {
+        assertSame(CardMetrics.NO_OP, Metrics.get(), "No provider must give the NO_OP metrics");
+        assertFalse(Metrics.get().isTimed(), "NO_OP metrics must not be timed");
+    }
+
+    @Test
+    @DisplayName("A provider listed in META-INF/services should be installed")
+    void providerInstalled() throws Exception {
+        Map<String, Long> counts = runInstrumented(ProviderScenario.class);
+
+        assertEquals(1L, counts.get("standard"), "StandardCardMetrics must be the installed provider");
+    }
+
+    @Test
+    @DisplayName("Draws and deck failures should be counted by cause")
+    void drawsAndFailures() throws Exception {
+        Map<String, Long> counts = runInstrumented(DrawScenario.class);
+
+        assertEquals((long) DeckTemplate.TINY.getSize(), counts.get("draws"), "Every drawn card must be counted");
+        assertEquals(1L, counts.get("empty"), "Empty failure must be counted");
+        assertEquals(1L, counts.get("notEnough"), "Overdraw failure must be counted");
+    }
+
+    @Test
+    @DisplayName("Shuffles, reshuffles and deals should be timed and counted")
+    void shufflesAndDeals() throws Exception {
+        Map<String, Long> counts = runInstrumented(ShuffleScenario.class);
+
+        assertEquals(3L, counts.get("shuffles"), "Every shuffle must be timed");
+        assertEquals(1L, counts.get("reshuffles"), "Reshuffle must be counted");
+        assertEquals(1L, counts.get("deals"), "Deal must be timed");
+    }
+
+    @Test
+    @DisplayName("Transposition table lookups should be counted")
+    void tableLookups() throws Exception {
+        Map<String, Long> counts = runInstrumented(TableScenario.class);
+
+        assertTrue(counts.get("hits") + counts.get("misses") > 0, "Lookups must be counted");
+        assertTrue(counts.get("misses") > 0, "A fresh table must miss");
+    }
+
+    // Runs the scenario with this package's classes loaded again, with StandardCardMetrics as the provider
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> runInstrumented(Class<? extends Callable<Map<String, Long>>> scenario) throws Exception {
+        Path file = services.resolve("META-INF/services/" + CardMetrics.class.getName());
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, StandardCardMetrics.class.getName());
+
+        URL[] urls = {
+                CardMetrics.class.getProtectionDomain().getCodeSource().getLocation(),
+                MetricsTest.class.getProtectionDomain().getCodeSource().getLocation(),
+                services.toUri().toURL()
+        };
+        Thread thread = Thread.currentThread();
+        ClassLoader context = thread.getContextClassLoader();
+        try (IsolatedClassLoader loader = new IsolatedClassLoader(urls, MetricsTest.class.getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            var constructor = loader.loadClass(scenario.getName()).getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return ((Callable<Map<String, Long>>) constructor.newInstance()).call();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            thread.setContextClassLoader(context);
+        }
+    }
+
+    /**
+     * Loads the library and test classes itself instead of asking the parent, so they get their own statics.
+     */
+    private static final class IsolatedClassLoader extends URLClassLoader {
+        private static final String LIBRARY_PACKAGE = "ivs.game.accessories.cards.";
+
+        IsolatedClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(LIBRARY_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+
+    private record Seat(int number) implements Recipient {
+    }
+
+    private static final class ProviderScenario implements Callable<Map<String, Long>> {
+        @Override
+        public Map<String, Long> call() {
+            return Map.of("standard", Metrics.get() instanceof StandardCardMetrics ? 1L : 0L);
+        }
+    }
+
+    private static final class DrawScenario implements Callable<Map<String, Long>> {
+        @Override
+        public Map<String, Long> call() {
+            StandardGameDeck<PlayingCard> deck = new StandardGameDeck<>(DeckTemplate.TINY.getCards());
+            deck.draw();
+            deck.draw(3);
+            expectFailure(() -> deck.draw(deck.size() + 1));
+            deck.draw(deck.size());
+            expectFailure(deck::draw);
+
+            StandardCardMetrics metrics = (StandardCardMetrics) Metrics.get();
+            return Map.of("draws", metrics.getDrawCount(),
+                    "empty", metrics.getFailureCount(DeckFailureCause.EMPTY),
+                    "notEnough", metrics.getFailureCount(DeckFailureCause.NOT_ENOUGH_CARDS));
+        }
+
+        private static void expectFailure(Runnable draw) {
+            try {
+                draw.run();
+                throw new AssertionError("Draw must fail");
+            } catch (GameDeckException expected) {
+                // Counted by the metrics
+            }
+        }
+    }
+
+    private static final class ShuffleScenario implements Callable<Map<String, Long>> {
+        @Override
+        public Map<String, Long> call() {
+            MultiDeckCardShoe shoe = MultiDeckCardShoe.builder(DeckTemplate.FULL, 2).build();
+            shoe.reshuffle();
+            List<PlayingCard> cards = new ArrayList<>(DeckTemplate.FULL.getCards());
+            ShufflerFactory.<PlayingCard>getInPlaceShuffler().shuffleInPlace(cards);
+            List<DealRequest<Seat>> requests = List.of(new StandardDealRequest<>(new Seat(1), 2, true),
+                    new StandardDealRequest<>(new Seat(2), 2, true));
+            new StandardCardDealer<StandardGameDeck<PlayingCard>, Seat>().deal(new StandardGameDeck<>(cards), requests);
+
+            StandardCardMetrics metrics = (StandardCardMetrics) Metrics.get();
+            return Map.of("shuffles", metrics.getShuffleLatency().getCount(),
+                    "reshuffles", metrics.getReshuffleCount(),
+                    "deals", metrics.getDealLatency().getCount());
+        }
+    }
+
+    private static final class TableScenario implements Callable<Map<String, Long>> {
+        @Override
+        public Map<String, Long> call() {
+            TrickDeal deal = TrickDeal.bridge(CardMask.suit(SuitId.SPADES), CardMask.suit(SuitId.HEARTS),
+                    CardMask.suit(SuitId.DIAMONDS), CardMask.suit(SuitId.CLUBS));
+            ForkJoinPool pool = new ForkJoinPool(1);
+            try {
+                new DoubleDummySolver(pool, 12).solve(deal, SuitId.SPADES, 1, 0);
+            } finally {
+                pool.shutdown();
+            }
+
+            StandardCardMetrics metrics = (StandardCardMetrics) Metrics.get();
+            return Map.of("hits", metrics.getTableHitCount(), "misses", metrics.getTableMissCount());
+        }
+    }
+}
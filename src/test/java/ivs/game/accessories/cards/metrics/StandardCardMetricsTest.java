@@ -0,0 +1,49 @@
+package ivs.game.accessories.cards.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StandardCardMetricsTest {
+
+    @SuppressWarnings("DataFlowIssue")
+    @Test
+    @DisplayName("Counters should add up the reported events")
+    void countersAddUp() {
+        StandardCardMetrics metrics = new StandardCardMetrics();
+        metrics.onDraw(1);
+        metrics.onDraw(5);
+        metrics.onDeckFailure(DeckFailureCause.EMPTY);
+        metrics.onDeckFailure(DeckFailureCause.NOT_ENOUGH_CARDS);
+        metrics.onDeckFailure(DeckFailureCause.NOT_ENOUGH_CARDS);
+        metrics.onReshuffle();
+        metrics.onShuffle(1000);
+        metrics.onDeal(2000);
+        metrics.onDeal(4000);
+
+        assertTrue(metrics.isTimed(), "Standard metrics must record latencies");
+        assertEquals(6, metrics.getDrawCount(), "Draw count mismatch");
+        assertTrue(metrics.getDrawsPerSecond() > 0, "Draw rate must be positive");
+        assertEquals(1, metrics.getFailureCount(DeckFailureCause.EMPTY), "Empty failure count mismatch");
+        assertEquals(2, metrics.getFailureCount(DeckFailureCause.NOT_ENOUGH_CARDS), "Not-enough failure count mismatch");
+        assertEquals(1, metrics.getReshuffleCount(), "Reshuffle count mismatch");
+        assertEquals(1, metrics.getShuffleLatency().getCount(), "Shuffle count mismatch");
+        assertEquals(3000, metrics.getDealLatency().getMean(), 1e-9, "Deal mean mismatch");
+        assertThrows(NullPointerException.class, () -> metrics.getFailureCount(null), "Null cause must be rejected");
+    }
+
+    @Test
+    @DisplayName("Hit rate should be the fraction of lookups that found an entry")
+    void hitRate() {
+        StandardCardMetrics metrics = new StandardCardMetrics();
+        assertEquals(0, metrics.getTableHitRate(), "Hit rate without lookups must be zero");
+        metrics.onTableLookups(3, 1);
+        metrics.onTableLookups(5, 3);
+        assertEquals(4, metrics.getTableHitCount(), "Hit count mismatch");
+        assertEquals(4, metrics.getTableMissCount(), "Miss count mismatch");
+        assertEquals(0.5, metrics.getTableHitRate(), 1e-9, "Hit rate mismatch");
+    }
+}
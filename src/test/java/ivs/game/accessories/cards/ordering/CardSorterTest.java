@@ -0,0 +1,87 @@
+package ivs.game.accessories.cards.ordering;
+
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CardSorterTest {
+
+    private static final PlayingCardComparator SCDH_ACE_LOW =
+            new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.aceLowOrder());
+
+    @Test
+    @DisplayName("Sorting a multi-deck hand should match a comparison sort")
+    void sortMatchesComparisonSort() {
+        CardSorter sorter = new CardSorter(SCDH_ACE_LOW.compile());
+        List<PlayingCard> cards = new ArrayList<>();
+        for (int deck = 0; deck < 3; deck++) {
+            cards.addAll(Arrays.asList(StandardCard.values()));
+        }
+        Collections.shuffle(cards, new Random(5));
+        List<PlayingCard> expected = new ArrayList<>(cards);
+        expected.sort(SCDH_ACE_LOW);
+
+        sorter.sort(cards);
+        assertEquals(expected, cards, "Counting sort must order cards like the comparator");
+    }
+
+    @Test
+    @DisplayName("Sorting should be stable for cards with equal keys")
+    void sortIsStable() {
+        CardSorter bySuit = new CardSorter(new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), (r1, r2) -> 0).compile());
+        PlayingCard[] cards = {
+                StandardCard.KING_HEARTS, StandardCard.TWO_SPADES, StandardCard.ACE_HEARTS,
+                StandardCard.FIVE_SPADES, StandardCard.THREE_HEARTS, StandardCard.FOUR_SPADES
+        };
+
+        bySuit.sort(cards);
+        assertArrayEquals(new PlayingCard[]{
+                StandardCard.TWO_SPADES, StandardCard.FIVE_SPADES, StandardCard.FOUR_SPADES,
+                StandardCard.KING_HEARTS, StandardCard.ACE_HEARTS, StandardCard.THREE_HEARTS
+        }, cards, "Cards of the same suit must keep their input order");
+    }
+
+    @Test
+    @DisplayName("Sorting a range of IDs should leave the rest of the array untouched")
+    void sortIdRange() {
+        CardSorter sorter = new CardSorter(new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator()).compile());
+        int[] ids = {51, 40, 3, 3, 27, 0, 12, 50};
+        int[] scratch = new int[6];
+
+        sorter.sort(ids, 1, 7, scratch);
+        assertArrayEquals(new int[]{51, 0, 3, 3, 12, 27, 40, 50}, ids, "Only the range must be sorted");
+
+        int[] all = {5, 4, 3, 2, 1, 0};
+        sorter.sort(all);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, all, "Whole array must be sorted");
+    }
+
+    @Test
+    @DisplayName("Sorter should reject invalid ranges, small buffers and unsupported cards")
+    void sortValidatesArguments() {
+        CardSorter sorter = new CardSorter(new PlayingCardComparator(
+                SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.ofOrder(Rank.TEN, Rank.ACE)).compile());
+        int[] ids = new int[4];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(ids, 2, 5, new int[4]), "Range beyond the array must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(ids, 0, 4, new int[3]), "Small scratch buffer must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[]{StandardCard.TWO_SPADES.getId()}),
+                "Unsupported rank must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new PlayingCard[]{JokerCard.JOKER_1}),
+                "Unsupported joker must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(new int[]{56}), "Out of range ID must be rejected");
+    }
+}
@@ -0,0 +1,109 @@
+package ivs.game.accessories.cards.ordering;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.type.JokerCard;
+import ivs.game.accessories.cards.core.type.PlayingCard;
+import ivs.game.accessories.cards.core.type.Rank;
+import ivs.game.accessories.cards.core.type.StandardCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledCardComparatorTest {
+
+    static Stream<Arguments> comparators() {
+        return Stream.of(
+                Arguments.of("default", new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator())),
+                Arguments.of("SCDH ace-low", new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.aceLowOrder())),
+                Arguments.of("SDCH natural", new PlayingCardComparator(SuitWeightComparator.ofOrderSDCH(), RankWeightComparator.naturalOrder())),
+                Arguments.of("suit only", new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), (r1, r2) -> 0))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("comparators")
+    @DisplayName("Compiled comparator should order every pair of standard cards like its source")
+    void compiledOrderMatchesSource(String name, PlayingCardComparator source) {
+        CompiledCardComparator compiled = source.compile();
+        for (StandardCard card1 : StandardCard.values()) {
+            for (StandardCard card2 : StandardCard.values()) {
+                assertEquals(Integer.signum(source.compare(card1, card2)), Integer.signum(compiled.compare(card1, card2)),
+                        name + ": " + card1 + " vs " + card2);
+                assertEquals(Integer.signum(source.compare(card1, card2)), Integer.signum(compiled.compareIds(card1.getId(), card2.getId())),
+                        name + ": " + card1 + " vs " + card2 + " by ID");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sorting with the compiled comparator should give the same order as the source")
+    void sortingMatchesSource() {
+        PlayingCardComparator source = new PlayingCardComparator(SuitWeightComparator.ofOrderSDCH(), RankWeightComparator.aceLowOrder());
+        List<PlayingCard> cards = new ArrayList<>(Arrays.asList(StandardCard.values()));
+        Collections.shuffle(cards, new Random(1));
+        List<PlayingCard> expected = new ArrayList<>(cards);
+
+        expected.sort(source);
+        cards.sort(source.compile());
+        assertEquals(expected, cards, "Compiled comparator must sort like its source");
+    }
+
+    @Test
+    @DisplayName("Keys should be dense and shared by cards that compare equal")
+    void keysAreDense() {
+        CompiledCardComparator bySuit = new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), (r1, r2) -> 0).compile();
+
+        assertEquals(4, bySuit.getKeyCount(), "Four suits must give four keys");
+        assertEquals(bySuit.getKey(StandardCard.TWO_HEARTS), bySuit.getKey(StandardCard.ACE_HEARTS), "Same suit must share a key");
+        assertEquals(52, new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator()).compile().getKeyCount(),
+                "Suit and rank order must give a key per card");
+    }
+
+    @Test
+    @DisplayName("Unsupported cards should have no key and fail like the source comparator")
+    void unsupportedCardsDelegateToSource() {
+        CompiledCardComparator compiled = new PlayingCardComparator(
+                SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.ofOrder(Rank.SIX, Rank.SEVEN, Rank.ACE)).compile();
+
+        assertEquals(CompiledCardComparator.NO_KEY, compiled.getKey(StandardCard.TWO_SPADES), "Rank outside the order must have no key");
+        assertEquals(CompiledCardComparator.NO_KEY, compiled.getKey(JokerCard.JOKER_1), "Jokers are unsupported by default");
+        assertEquals(12, compiled.getKeyCount(), "Three ranks in four suits must give twelve keys");
+        assertThrows(IllegalArgumentException.class, () -> compiled.compare(StandardCard.TWO_SPADES, StandardCard.ACE_SPADES),
+                "Unsupported rank must be rejected");
+        assertThrows(UnsupportedOperationException.class, () -> compiled.compare(JokerCard.JOKER_1, StandardCard.ACE_SPADES),
+                "Joker comparison must fail like the source");
+        assertThrows(NullPointerException.class, () -> compiled.compare(null, StandardCard.ACE_SPADES), "Null card must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> compiled.getKey(CardId.ID_SPACE_SIZE), "Out of range ID must be rejected");
+    }
+
+    @Test
+    @DisplayName("Joker ordering defined by a subclass should be compiled into the keys")
+    void overriddenJokerOrderingIsCompiled() {
+        PlayingCardComparator jokersHigh = new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator()) {
+            @Override
+            protected int compareWithJoker(PlayingCard card1, PlayingCard card2) {
+                return Boolean.compare(card1.isJoker(), card2.isJoker()) != 0
+                        ? Boolean.compare(card1.isJoker(), card2.isJoker())
+                        : Integer.compare(card1.getId(), card2.getId());
+            }
+        };
+        CompiledCardComparator compiled = jokersHigh.compile();
+
+        assertEquals(CardId.ID_SPACE_SIZE, compiled.getKeyCount(), "Every card must have its own key");
+        for (PlayingCard joker : JokerCard.values()) {
+            assertEquals(1, compiled.compare(joker, StandardCard.ACE_HEARTS), "Jokers must rank above standard cards");
+        }
+    }
+}
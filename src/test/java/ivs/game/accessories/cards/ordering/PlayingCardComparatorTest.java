@@ -122,4 +122,69 @@ class PlayingCardComparatorTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("with a joker policy")
+    class JokerPolicyOrdering {
+
+        private PlayingCardComparator comparator(JokerPolicy policy) {
+            return new PlayingCardComparator(SuitWeightComparator.ofOrderSCDH(), RankWeightComparator.naturalOrder(), policy);
+        }
+
+        @Test
+        @DisplayName("HIGH should place jokers above every standard card, ordered by ID")
+        void jokersHigh() {
+            PlayingCardComparator comparator = comparator(JokerPolicy.HIGH);
+            assertEquals(1, Integer.signum(comparator.compare(JokerCard.JOKER_1, StandardCard.ACE_HEARTS)), "Joker must beat the highest card");
+            assertEquals(-1, Integer.signum(comparator.compare(StandardCard.ACE_HEARTS, JokerCard.JOKER_1)), "Comparison must be antisymmetric");
+            assertEquals(-1, Integer.signum(comparator.compare(JokerCard.JOKER_1, JokerCard.JOKER_2)), "Jokers must be ordered by ID");
+            assertEquals(0, comparator.compare(JokerCard.JOKER_3, JokerCard.JOKER_3), "Joker must equal itself");
+        }
+
+        @Test
+        @DisplayName("LOW should place jokers below every standard card")
+        void jokersLow() {
+            PlayingCardComparator comparator = comparator(JokerPolicy.LOW);
+            assertEquals(-1, Integer.signum(comparator.compare(JokerCard.JOKER_4, StandardCard.TWO_SPADES)), "Joker must lose to the lowest card");
+        }
+
+        @Test
+        @DisplayName("aboveSuit() should place jokers between the given suit and the next higher suit")
+        void jokersAboveSuit() {
+            PlayingCardComparator comparator = comparator(JokerPolicy.aboveSuit(Suit.CLUBS));
+            assertEquals(1, Integer.signum(comparator.compare(JokerCard.JOKER_1, StandardCard.ACE_CLUBS)), "Joker must beat the trump ace");
+            assertEquals(1, Integer.signum(comparator.compare(JokerCard.JOKER_1, StandardCard.ACE_SPADES)), "Joker must beat lower suits");
+            assertEquals(-1, Integer.signum(comparator.compare(JokerCard.JOKER_2, StandardCard.TWO_DIAMONDS)), "Joker must lose to higher suits");
+        }
+
+        @ParameterizedTest
+        @MethodSource("policies")
+        @DisplayName("Compiled comparator should order jokers like the policy")
+        void compiledOrderMatchesPolicy(JokerPolicy policy) {
+            PlayingCardComparator comparator = comparator(policy);
+            CompiledCardComparator compiled = comparator.compile();
+            for (int id1 = 0; id1 < 56; id1++) {
+                for (int id2 = 0; id2 < 56; id2++) {
+                    PlayingCard card1 = PlayingCard.getById(id1);
+                    PlayingCard card2 = PlayingCard.getById(id2);
+                    assertEquals(Integer.signum(comparator.compare(card1, card2)), Integer.signum(compiled.compare(card1, card2)),
+                            policy + ": " + card1 + " vs " + card2);
+                }
+            }
+            assertEquals(56, compiled.getKeyCount(), "Every card must have its own key");
+        }
+
+        private static Stream<JokerPolicy> policies() {
+            return Stream.of(JokerPolicy.HIGH, JokerPolicy.LOW, JokerPolicy.aboveSuit(Suit.SPADES), JokerPolicy.aboveSuit(Suit.DIAMONDS));
+        }
+
+        @SuppressWarnings("DataFlowIssue")
+        @Test
+        @DisplayName("Constructor should reject a null joker policy")
+        void nullPolicyRejected() {
+            assertThrows(NullPointerException.class,
+                    () -> new PlayingCardComparator(new SuitWeightComparator(), new RankWeightComparator(), null));
+            assertThrows(NullPointerException.class, () -> JokerPolicy.aboveSuit(null));
+        }
+    }
+}
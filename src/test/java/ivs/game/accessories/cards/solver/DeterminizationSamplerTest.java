@@ -0,0 +1,125 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeterminizationSamplerTest {
+
+    // Only the nines and tens of the 24-card deck are unseen
+    private static final long KNOWN = CardMask.rank(RankId.JACK) | CardMask.rank(RankId.QUEEN)
+            | CardMask.rank(RankId.KING) | CardMask.rank(RankId.ACE);
+
+    @Test
+    @DisplayName("Deal count should match brute-force enumeration")
+    void dealCountMatchesEnumeration() {
+        DeterminizationSampler sampler = constrained();
+        Map<String, Integer> deals = enumerate(sampler.getUnseen());
+        assertEquals(deals.size(), sampler.getDealCount(), 1e-9, "Deal count mismatch");
+    }
+
+    @Test
+    @DisplayName("Samples should respect constraints and be uniform over consistent deals")
+    void uniformSamples() {
+        DeterminizationSampler sampler = constrained();
+        Map<String, Integer> deals = enumerate(sampler.getUnseen());
+        SplittableRandom random = new SplittableRandom(44);
+        long[] hands = new long[2];
+        int samples = 100 * deals.size();
+        for (int i = 0; i < samples; i++) {
+            long stock = sampler.sample(random, hands);
+            String key = hands[0] + ":" + hands[1];
+            assertTrue(deals.containsKey(key), "Sampled deal must be consistent: " + key);
+            assertEquals(sampler.getUnseen(), hands[0] | hands[1] | stock, "All unseen cards must be dealt");
+            deals.merge(key, 1, Integer::sum);
+        }
+        double chiSquare = 0;
+        for (int observed : deals.values()) {
+            double diff = observed - 100;
+            chiSquare += diff * diff / 100;
+        }
+        int freedom = deals.size() - 1;
+        assertTrue(chiSquare < freedom + 5 * Math.sqrt(2.0 * freedom), "Distribution not uniform: " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Full deals without stock should give every unseen card to an opponent")
+    void bridgeDeal() {
+        long south = CardMask.suit(SuitId.SPADES);
+        DeterminizationSampler sampler = DeterminizationSampler.builder(DeckTemplate.FULL)
+                .known(south)
+                .opponent(13).opponent(13).opponent(13)
+                .voidIn(0, SuitId.HEARTS)
+                .voidIn(2, SuitId.CLUBS)
+                .build();
+        SplittableRandom random = new SplittableRandom(7);
+        long[] hands = new long[3];
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(CardMask.EMPTY, sampler.sample(random, hands), "Stock must be empty");
+            assertEquals(0, hands[0] & CardMask.suit(SuitId.HEARTS), "First opponent must be void in hearts");
+            assertEquals(0, hands[2] & CardMask.suit(SuitId.CLUBS), "Third opponent must be void in clubs");
+            for (long hand : hands) {
+                assertEquals(13, Long.bitCount(hand), "Every hand must hold 13 cards");
+            }
+            assertEquals(CardMask.ALL_CARDS & ~south, hands[0] | hands[1] | hands[2], "All cards must be dealt");
+        }
+    }
+
+    @Test
+    @DisplayName("Unsatisfiable constraints should be rejected")
+    void unsatisfiable() {
+        DeterminizationSampler.Builder builder = DeterminizationSampler.builder(DeckTemplate.TINY)
+                .known(KNOWN)
+                .opponent(4)
+                .opponent(4)
+                .exclude(0, CardMask.rank(RankId.NINE))
+                .exclude(1, CardMask.rank(RankId.NINE));
+        assertThrows(IllegalArgumentException.class, builder::build, "Nines cannot be placed");
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterminizationSampler.builder(DeckTemplate.TINY).known(KNOWN).opponent(9).build(),
+                "Hand larger than the unseen cards must be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> DeterminizationSampler.builder(DeckTemplate.TINY).exclude(0, 1), "Unknown opponent must be rejected");
+    }
+
+    private static DeterminizationSampler constrained() {
+        return DeterminizationSampler.builder(DeckTemplate.TINY)
+                .known(KNOWN)
+                .opponent(3)
+                .opponent(2)
+                .voidIn(0, SuitId.SPADES)
+                .exclude(1, CardMask.of(CardId.getCardId(RankId.TEN, SuitId.HEARTS)))
+                .build();
+    }
+
+    // All consistent deals of the constrained sampler, mapped to zero occurrences
+    private static Map<String, Integer> enumerate(long unseen) {
+        Map<String, Integer> deals = new HashMap<>();
+        long first = unseen & ~CardMask.suit(SuitId.SPADES);
+        int heartTen = CardId.getCardId(RankId.TEN, SuitId.HEARTS);
+        for (long a = first; a != 0; a = (a - 1) & first) {
+            if (Long.bitCount(a) != 3) {
+                continue;
+            }
+            long second = unseen & ~a & ~(1L << heartTen);
+            for (long b = second; b != 0; b = (b - 1) & second) {
+                if (Long.bitCount(b) == 2) {
+                    deals.put(a + ":" + b, 0);
+                }
+            }
+        }
+        return deals;
+    }
+}
@@ -0,0 +1,221 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardId;
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.RankId;
+import ivs.game.accessories.cards.core.id.SuitId;
+import ivs.game.accessories.cards.gamedeck.DeckTemplate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DoubleDummySolverTest {
+
+    private static ForkJoinPool pool;
+    private static DoubleDummySolver solver;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        solver = new DoubleDummySolver(pool, 16);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest(name = "players={0}, cards={1}")
+    @CsvSource({"4, 3", "3, 4"})
+    @DisplayName("Random endings should match an exhaustive minimax")
+    void randomEndingsMatchMinimax(int players, int cards) {
+        Random random = new Random(42L * players + cards);
+        for (int deal = 0; deal < 40; deal++) {
+            TrickDeal trickDeal = randomDeal(random, players, cards);
+            for (int strain = SuitId.MIN_SUIT; strain <= DoubleDummySolver.NO_TRUMP; strain++) {
+                for (int leader = 0; leader < players; leader++) {
+                    int expected = minimax(trickDeal.hands(), players, strain, false, leader, trickDeal.sideOf(0), new int[players], 0, leader);
+                    assertEquals(expected, solver.solve(trickDeal, strain, leader, 0),
+                            "Trick count mismatch for deal " + deal + ", strain " + strain + ", leader " + leader);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Random Preferans endings should match an exhaustive minimax with the must-trump rule")
+    void randomPreferansEndingsMatchMinimax() {
+        Random random = new Random(17);
+        for (int deal = 0; deal < 40; deal++) {
+            long[] hands = randomHands(random, DeckTemplate.SMALL.toIdArray(), 3, 4);
+            TrickDeal trickDeal = TrickDeal.preferans(hands[0], hands[1], hands[2]);
+            for (int strain = SuitId.MIN_SUIT; strain <= DoubleDummySolver.NO_TRUMP; strain++) {
+                for (int leader = 0; leader < 3; leader++) {
+                    int expected = minimax(trickDeal.hands(), 3, strain, true, leader, trickDeal.sideOf(0), new int[3], 0, leader);
+                    assertEquals(expected, solver.solve(trickDeal, strain, leader, 0),
+                            "Trick count mismatch for deal " + deal + ", strain " + strain + ", leader " + leader);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Partners should take the tricks the opponents lose")
+    void sidesAreComplementary() {
+        Random random = new Random(7);
+        TrickDeal deal = randomDeal(random, 4, 6);
+        for (int strain = SuitId.MIN_SUIT; strain <= DoubleDummySolver.NO_TRUMP; strain++) {
+            int northSouth = solver.solve(deal, strain, 1, 0);
+            assertEquals(northSouth, solver.solve(deal, strain, 1, 2), "Partners must share the trick count");
+            assertEquals(6 - northSouth, solver.solve(deal, strain, 1, 3), "Opponents must take the rest");
+        }
+    }
+
+    @Test
+    @DisplayName("A hand of thirteen trumps should take every trick")
+    void allTrumpsTakeEveryTrick() {
+        TrickDeal deal = TrickDeal.bridge(CardMask.suit(SuitId.SPADES), CardMask.suit(SuitId.HEARTS),
+                CardMask.suit(SuitId.DIAMONDS), CardMask.suit(SuitId.CLUBS));
+        int[] spades = solver.tricksByDeclarer(deal, SuitId.SPADES);
+
+        assertEquals(13, spades[0], "North must take all tricks in spades");
+        assertEquals(0, spades[1], "East must take no tricks in spades");
+        int[][] table = solver.tricksTable(deal);
+        assertArrayEquals(spades, table[SuitId.SPADES], "Table must match the single strain result");
+        assertEquals(13, table[SuitId.HEARTS][1], "East must take all tricks in hearts");
+    }
+
+    @Test
+    @DisplayName("Parallel tables should match single solves")
+    void tableMatchesSingleSolves() {
+        TrickDeal deal = randomDeal(new Random(11), 4, 7);
+        int[][] table = solver.tricksTable(deal);
+        for (int strain = SuitId.MIN_SUIT; strain <= DoubleDummySolver.NO_TRUMP; strain++) {
+            for (int declarer = 0; declarer < 4; declarer++) {
+                assertEquals(solver.solve(deal, strain, (declarer + 1) % 4, declarer), table[strain][declarer],
+                        "Table entry mismatch for strain " + strain + ", declarer " + declarer);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Preferans deals should be solved on the small deck")
+    void preferansDeal() {
+        long first = suitFrom(SuitId.SPADES, RankId.SEVEN) | suitFrom(SuitId.HEARTS, RankId.KING);
+        long second = suitFrom(SuitId.CLUBS, RankId.SEVEN) | CardMask.of(card(RankId.SEVEN, SuitId.HEARTS), card(RankId.EIGHT, SuitId.HEARTS));
+        long third = suitFrom(SuitId.DIAMONDS, RankId.SEVEN) | CardMask.of(card(RankId.NINE, SuitId.HEARTS), card(RankId.TEN, SuitId.HEARTS));
+        TrickDeal deal = TrickDeal.preferans(first, second, third);
+
+        assertEquals(10, deal.getHandSize(), "Preferans hands must hold ten cards");
+        assertEquals(10, solver.solve(deal, SuitId.SPADES, 0, 0), "Eight trumps and two top hearts must take all tricks");
+        assertThrows(IllegalArgumentException.class,
+                () -> TrickDeal.preferans(CardMask.of(0), CardMask.of(13), CardMask.of(26)), "Twos must be rejected in Preferans");
+    }
+
+    @Test
+    @DisplayName("The must-trump rule of Preferans should force a void player to trump")
+    void preferansMustTrump() {
+        long first = CardMask.of(card(RankId.SEVEN, SuitId.DIAMONDS), card(RankId.QUEEN, SuitId.HEARTS));
+        long second = CardMask.of(card(RankId.EIGHT, SuitId.SPADES), card(RankId.KING, SuitId.DIAMONDS));
+        long third = CardMask.of(card(RankId.JACK, SuitId.HEARTS), card(RankId.ACE, SuitId.HEARTS));
+
+        // Without the rule the second player discards the Eight on the Queen of hearts and later overtrumps;
+        // with it, they must trump at once and then lead the Eight, which the first player trumps
+        assertEquals(0, solver.solve(TrickDeal.of(first, second, third), SuitId.DIAMONDS, 0, 0),
+                "Free discards must leave the first player without a trick");
+        TrickDeal deal = TrickDeal.preferans(first, second, third);
+        assertTrue(deal.isMustTrump(), "Preferans deals must use the must-trump rule");
+        assertEquals(1, solver.solve(deal, SuitId.DIAMONDS, 0, 0), "Forced trumping must give the first player a trick");
+    }
+
+    @Test
+    @DisplayName("Invalid deals and arguments should be rejected")
+    void invalidInputRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TrickDeal.of(CardMask.of(0), CardMask.of(1)), "Two players must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> TrickDeal.of(CardMask.of(0), CardMask.of(0), CardMask.of(1)), "Shared cards must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> TrickDeal.of(CardMask.of(0), CardMask.of(1, 2), CardMask.of(3)), "Uneven hands must be rejected");
+        TrickDeal deal = TrickDeal.of(CardMask.of(0), CardMask.of(1), CardMask.of(2));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(deal, 5, 0, 0), "Invalid strain must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(deal, 0, 3, 0), "Invalid leader must be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(2), "Tiny table must be rejected");
+    }
+
+    private static TrickDeal randomDeal(Random random, int players, int cards) {
+        return TrickDeal.of(randomHands(random, CardId.getAllCardIds(), players, cards));
+    }
+
+    private static long[] randomHands(Random random, int[] deck, int players, int cards) {
+        long[] hands = new long[players];
+        for (int i = 0; i < players * cards; i++) {
+            int j = i + random.nextInt(deck.length - i);
+            int swap = deck[i];
+            deck[i] = deck[j];
+            deck[j] = swap;
+            hands[i % players] |= 1L << deck[i];
+        }
+        return hands;
+    }
+
+    private static long suitFrom(int suitId, int fromRank) {
+        long mask = CardMask.EMPTY;
+        for (int rankId = fromRank; rankId <= RankId.MAX_RANK; rankId++) {
+            mask |= 1L << card(rankId, suitId);
+        }
+        return mask;
+    }
+
+    private static int card(int rankId, int suitId) {
+        return CardId.getCardId(rankId, suitId);
+    }
+
+    // Plain minimax over every legal card, returning the tricks of the side from this point
+    private static int minimax(long[] hands, int players, int strain, boolean mustTrump, int leader, int side,
+                               int[] trick, int index, int seat) {
+        if (index == players) {
+            int best = 0;
+            for (int i = 1; i < players; i++) {
+                int card = trick[i];
+                int current = trick[best];
+                boolean cardTrump = CardId.getSuitId(card) == strain;
+                boolean currentTrump = CardId.getSuitId(current) == strain;
+                if (cardTrump && !currentTrump
+                        || cardTrump == currentTrump && CardId.getSuitId(card) == CardId.getSuitId(current) && card > current) {
+                    best = i;
+                }
+            }
+            int winner = (leader + best) % players;
+            int won = (side & (1 << winner)) != 0 ? 1 : 0;
+            return won + minimax(hands, players, strain, mustTrump, winner, side, new int[players], 0, winner);
+        }
+        if (hands[seat] == 0) {
+            return 0;
+        }
+        long legal = hands[seat];
+        if (index > 0 && (legal & CardMask.suit(CardId.getSuitId(trick[0]))) != 0) {
+            legal &= CardMask.suit(CardId.getSuitId(trick[0]));
+        } else if (index > 0 && mustTrump && strain != DoubleDummySolver.NO_TRUMP && (legal & CardMask.suit(strain)) != 0) {
+            legal &= CardMask.suit(strain);
+        }
+        boolean maximizing = (side & (1 << seat)) != 0;
+        int best = maximizing ? -1 : Integer.MAX_VALUE;
+        for (int card : CardMask.toIds(legal)) {
+            hands[seat] &= ~(1L << card);
+            trick[index] = card;
+            int value = minimax(hands, players, strain, mustTrump, leader, side, trick.clone(), index + 1, (seat + 1) % players);
+            hands[seat] |= 1L << card;
+            best = maximizing ? Math.max(best, value) : Math.min(best, value);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,53 @@
+package ivs.game.accessories.cards.solver;
+
+import ivs.game.accessories.cards.core.id.CardMask;
+import ivs.game.accessories.cards.core.id.JokerId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrickDealTest {
+
+    @Test
+    @DisplayName("Sides should pair partners in four-player deals")
+    void fourPlayerSides() {
+        TrickDeal deal = TrickDeal.of(CardMask.of(0), CardMask.of(1), CardMask.of(2), CardMask.of(3));
+        assertEquals(0b0101, deal.sideOf(0), "North and South must be partners");
+        assertEquals(0b1010, deal.sideOf(3), "East and West must be partners");
+    }
+
+    @Test
+    @DisplayName("Every player should play alone in three-player deals")
+    void threePlayerSides() {
+        TrickDeal deal = TrickDeal.of(CardMask.of(0), CardMask.of(1), CardMask.of(2));
+        assertEquals(0b010, deal.sideOf(1), "Player must be alone on its side");
+        assertEquals(3, deal.getPlayerCount(), "Deal must have three players");
+    }
+
+    @Test
+    @DisplayName("Only Preferans deals should use the must-trump rule")
+    void mustTrumpRule() {
+        assertFalse(TrickDeal.of(CardMask.of(0), CardMask.of(1), CardMask.of(2)).isMustTrump(), "Plain deals must allow any discard");
+        assertTrue(TrickDeal.preferans(CardMask.of(5), CardMask.of(6), CardMask.of(7)).isMustTrump(), "Preferans deals must force trumping");
+    }
+
+    @Test
+    @DisplayName("Hands should be copied on creation")
+    void handsAreCopied() {
+        long[] hands = {CardMask.of(0), CardMask.of(1), CardMask.of(2)};
+        TrickDeal deal = TrickDeal.of(hands);
+        hands[0] = CardMask.of(5);
+        assertEquals(CardMask.of(0), deal.getHand(0), "Deal must not see later changes to the array");
+    }
+
+    @Test
+    @DisplayName("Jokers should be rejected")
+    void jokersRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TrickDeal.of(CardMask.of(JokerId.JOKER_1), CardMask.of(1), CardMask.of(2)), "Jokers must be rejected");
+    }
+}